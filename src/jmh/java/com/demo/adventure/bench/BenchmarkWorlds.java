@@ -0,0 +1,74 @@
+package com.demo.adventure.bench;
+
+import com.demo.adventure.authoring.save.build.GameSaveAssembler;
+import com.demo.adventure.authoring.save.build.WorldBuildResult;
+import com.demo.adventure.authoring.zone.AnchorRole;
+import com.demo.adventure.authoring.zone.AnchorSpec;
+import com.demo.adventure.authoring.zone.MappingDifficulty;
+import com.demo.adventure.authoring.zone.PacingProfile;
+import com.demo.adventure.authoring.zone.TopologyBias;
+import com.demo.adventure.authoring.zone.ZoneBuildResult;
+import com.demo.adventure.authoring.zone.ZoneGraphBuilder;
+import com.demo.adventure.authoring.zone.ZoneSaveCompiler;
+import com.demo.adventure.authoring.zone.ZoneSpec;
+import com.demo.adventure.domain.save.GameSave;
+import com.demo.adventure.engine.cli.RuntimeLoader;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark fixtures: the bundled games by id, plus generated zone worlds named {@code zone-<plots>}.
+ */
+public final class BenchmarkWorlds {
+    public static final long ZONE_SEED = 42L;
+    private static final int ZONE_PLOTS_PER_ANCHOR = 5;
+
+    static {
+        // Evaluation tracing goes to stdout and would dominate every benchmark that touches key expressions.
+        KeyExpressionEvaluator.setDebugOutput(false);
+    }
+
+    private BenchmarkWorlds() {
+    }
+
+    public static String gamePath(String gameId) {
+        return "src/main/resources/games/" + gameId + "/game.yaml";
+    }
+
+    public static GameSave loadSave(String world) throws Exception {
+        if (world.startsWith("zone-")) {
+            return zoneSave(Integer.parseInt(world.substring("zone-".length())));
+        }
+        return RuntimeLoader.loadSave(gamePath(world));
+    }
+
+    public static WorldBuildResult build(String world) throws Exception {
+        return new GameSaveAssembler().apply(loadSave(world));
+    }
+
+    /**
+     * The generator lays a short spine between consecutive anchors, so large zones need one anchor every few plots.
+     */
+    public static GameSave zoneSave(int plots) {
+        List<AnchorSpec> anchors = new ArrayList<>();
+        anchors.add(new AnchorSpec("entry", "Entry", AnchorRole.ENTRY, "Start here."));
+        for (int i = 1; i < Math.max(2, plots / ZONE_PLOTS_PER_ANCHOR) - 1; i++) {
+            AnchorRole role = i % 2 == 0 ? AnchorRole.RESOURCE : AnchorRole.SET_PIECE;
+            anchors.add(new AnchorSpec("anchor-" + i, "Anchor " + i, role, ""));
+        }
+        anchors.add(new AnchorSpec("exit", "Exit", AnchorRole.EXIT, "Finish here."));
+        ZoneSpec spec = new ZoneSpec(
+                "bench-zone-" + plots,
+                "BENCH",
+                plots,
+                MappingDifficulty.MEDIUM,
+                PacingProfile.BALANCED,
+                TopologyBias.BRANCHY,
+                anchors
+        );
+        ZoneBuildResult zone = new ZoneGraphBuilder().generate(spec, ZONE_SEED);
+        return ZoneSaveCompiler.toGameSave(zone, "");
+    }
+}
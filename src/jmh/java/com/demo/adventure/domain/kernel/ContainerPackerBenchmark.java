@@ -0,0 +1,77 @@
+package com.demo.adventure.domain.kernel;
+
+import com.demo.adventure.domain.model.Rectangle2D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Places one more item into a container already holding {@code occupied} items packed from a fixed seed, either
+ * statelessly from the occupied list or through a {@link ContainerPacking} that keeps its free rectangles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContainerPackerBenchmark {
+
+    @Param({"0", "8", "32", "64"})
+    public int occupied;
+
+    private static final UUID PROBE = new UUID(0L, -1L);
+
+    private final List<Rectangle2D> rectangles = new ArrayList<>();
+    private ContainerPacking packing;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7L);
+        int attempts = 0;
+        while (rectangles.size() < occupied && attempts++ < occupied * 100) {
+            double width = 0.02 + random.nextDouble() * 0.12;
+            double height = 0.02 + random.nextDouble() * 0.12;
+            ContainerPacker.place(width, height, rectangles)
+                    .ifPresent(placement -> rectangles.add(placement.asRectangle()));
+        }
+        Map<UUID, Rectangle2D> placements = new LinkedHashMap<>();
+        for (int i = 0; i < rectangles.size(); i++) {
+            placements.put(new UUID(0L, i), rectangles.get(i));
+        }
+        packing = ContainerPacking.of(placements);
+    }
+
+    @Benchmark
+    public Optional<ContainerPacker.Placement> place() {
+        return ContainerPacker.place(0.05, 0.04, rectangles);
+    }
+
+    @Benchmark
+    public Optional<ContainerPacker.Placement> fitIncremental() {
+        return packing.fit(0.05, 0.04);
+    }
+
+    @Benchmark
+    public boolean insertAndRemoveIncremental() {
+        packing.insert(PROBE, 0.05, 0.04);
+        return packing.remove(PROBE);
+    }
+}
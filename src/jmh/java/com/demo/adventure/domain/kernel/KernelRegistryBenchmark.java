@@ -0,0 +1,85 @@
+package com.demo.adventure.domain.kernel;
+
+import com.demo.adventure.bench.BenchmarkWorlds;
+import com.demo.adventure.domain.model.Gate;
+import com.demo.adventure.domain.model.Item;
+import com.demo.adventure.domain.model.ItemBuilder;
+import com.demo.adventure.domain.model.Plot;
+import com.demo.adventure.domain.model.Thing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gate lookups for every gate in the world from both sides, and item moves between plots.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KernelRegistryBenchmark {
+
+    private static final int MOVING_ITEMS = 64;
+
+    @Param({"island", "spy", "zone-250", "zone-1000"})
+    public String world;
+
+    private KernelRegistry registry;
+    private final List<Gate> gates = new ArrayList<>();
+    private final List<Plot> plots = new ArrayList<>();
+    private final List<Item> items = new ArrayList<>();
+    private int round;
+
+    @Setup
+    public void setUp() throws Exception {
+        registry = BenchmarkWorlds.build(world).registry();
+        for (Thing thing : registry.getEverything().values()) {
+            if (thing instanceof Gate gate) {
+                gates.add(gate);
+            } else if (thing instanceof Plot plot) {
+                plots.add(plot);
+            }
+        }
+        for (int i = 0; i < MOVING_ITEMS; i++) {
+            Item item = new ItemBuilder()
+                    .withLabel("Bench Pebble " + i)
+                    .withDescription("")
+                    .withOwnerId(plots.get(i % plots.size()))
+                    .build();
+            registry.register(item);
+            items.add(item);
+        }
+    }
+
+    @Benchmark
+    public void findGates(Blackhole blackhole) {
+        for (Gate gate : gates) {
+            blackhole.consume(registry.findGates(gate.getPlotAId(), gate.getDirection()));
+            blackhole.consume(registry.findGates(gate.getPlotBId(), gate.directionFrom(gate.getPlotBId())));
+        }
+    }
+
+    @Benchmark
+    public void moveOwnership() {
+        int shift = ++round;
+        for (int i = 0; i < items.size(); i++) {
+            Plot target = plots.get((i + shift) % plots.size());
+            registry.moveOwnership(items.get(i).getId(), target.getId());
+        }
+    }
+}
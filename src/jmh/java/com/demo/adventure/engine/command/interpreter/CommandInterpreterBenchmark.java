@@ -0,0 +1,67 @@
+package com.demo.adventure.engine.command.interpreter;
+
+import com.demo.adventure.bench.BenchmarkWorlds;
+import com.demo.adventure.engine.cli.RuntimeLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interprets a fixed mix of player input, with the game's verb aliases installed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandInterpreterBenchmark {
+
+    private static final List<String> INPUTS = List.of(
+            "move north",
+            "go n",
+            "look",
+            "look at the old lamp",
+            "take brass key",
+            "drop the rope",
+            "open chest",
+            "put coin in jar",
+            "use key on door",
+            "craft torch",
+            "attack goblin",
+            "talk to butler",
+            "inventory",
+            "how craft torch",
+            "xyzzy plugh"
+    );
+
+    @Param({"island", "mansion", "spy", "western"})
+    public String game;
+
+    private CommandInterpreter interpreter;
+
+    @Setup
+    public void setUp() {
+        interpreter = new CommandInterpreter();
+        interpreter.setExtraKeywords(RuntimeLoader.loadVerbAliases(BenchmarkWorlds.gamePath(game)));
+    }
+
+    @Benchmark
+    public void interpret(Blackhole blackhole) {
+        for (String input : INPUTS) {
+            blackhole.consume(interpreter.interpret(input));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.demo.adventure.engine.flow.loop;
+
+import com.demo.adventure.authoring.save.build.GameSaveAssembler;
+import com.demo.adventure.authoring.save.build.WorldBuildResult;
+import com.demo.adventure.bench.BenchmarkWorlds;
+import com.demo.adventure.domain.kernel.KernelRegistry;
+import com.demo.adventure.domain.save.GameSave;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loop reset against a full world assembly of the same save, for the bundled games and a generated zone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoopRuntimeBenchmark {
+
+    @Param({"island", "mansion", "spy", "western", "zone-250"})
+    public String world;
+
+    private GameSave save;
+    private LoopRuntime loopRuntime;
+    private KernelRegistry registry;
+    private final GameSaveAssembler assembler = new GameSaveAssembler();
+
+    @Setup
+    public void setUp() throws Exception {
+        save = BenchmarkWorlds.loadSave(world);
+        loopRuntime = new LoopRuntime(save, new LoopConfig(true, Integer.MAX_VALUE, List.of()));
+        registry = loopRuntime.buildWorld().registry();
+    }
+
+    @Benchmark
+    public KernelRegistry reset() throws Exception {
+        registry = loopRuntime.reset(registry, LoopResetReason.TIMEOUT).world().registry();
+        return registry;
+    }
+
+    @Benchmark
+    public WorldBuildResult assemble() throws Exception {
+        return assembler.apply(save);
+    }
+}
@@ -0,0 +1,54 @@
+package com.demo.adventure.engine.integrity;
+
+import com.demo.adventure.bench.BenchmarkWorlds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Capped reachability search (dice=max) from a game's start state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ReachabilityBenchmark {
+
+    @Param({"island", "mansion", "spy", "western"})
+    public String game;
+
+    @Param({"500"})
+    public int maxStates;
+
+    private GameContext context;
+    private GameIntegrityConfig config;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new GameIntegrityCheck().loadGame(BenchmarkWorlds.gamePath(game));
+        config = new GameIntegrityConfig(80, maxStates, 200);
+    }
+
+    @Benchmark
+    public GameIntegritySimulation.ReachabilityResult runReachability() throws Exception {
+        return GameIntegritySimulation.runReachability(
+                context,
+                config,
+                GameIntegritySimulation.DiceMode.MAX,
+                List.of()
+        );
+    }
+}
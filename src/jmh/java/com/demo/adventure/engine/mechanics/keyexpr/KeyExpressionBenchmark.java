@@ -0,0 +1,93 @@
+package com.demo.adventure.engine.mechanics.keyexpr;
+
+import com.demo.adventure.bench.BenchmarkWorlds;
+import com.demo.adventure.domain.model.Thing;
+import com.demo.adventure.engine.cli.RuntimeLoader;
+import com.demo.adventure.engine.flow.trigger.TriggerDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluates every key and visibility key in a game's world plus its trigger keys, from source and precompiled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyExpressionBenchmark {
+
+    @Param({"island", "mansion", "spy", "western"})
+    public String game;
+
+    private final KeyExpressionEvaluator.HasResolver has = label -> label.length() % 2 == 0;
+    private final KeyExpressionEvaluator.SearchResolver search = label -> false;
+    private final KeyExpressionEvaluator.SkillResolver skill = tag -> true;
+
+    private List<String> sources;
+    private List<CompiledKeyExpression> compiled;
+
+    @Setup
+    public void setUp() throws Exception {
+        Set<String> candidates = new LinkedHashSet<>();
+        for (Thing thing : BenchmarkWorlds.build(game).registry().getEverything().values()) {
+            candidates.add(thing.getKey());
+            candidates.add(thing.getVisibilityKey());
+        }
+        for (TriggerDefinition trigger : RuntimeLoader.loadTriggerDefinitions(BenchmarkWorlds.gamePath(game))) {
+            candidates.add(trigger.key());
+        }
+        sources = new ArrayList<>();
+        compiled = new ArrayList<>();
+        for (String candidate : candidates) {
+            if (candidate == null || candidate.isBlank()) {
+                continue;
+            }
+            try {
+                KeyExpressionEvaluator.evaluate(candidate, has, search, skill);
+            } catch (RuntimeException ex) {
+                continue;
+            }
+            sources.add(candidate);
+            compiled.add(CompiledKeyExpression.compile(candidate));
+        }
+    }
+
+    @Benchmark
+    public void evaluateSource(Blackhole blackhole) {
+        for (String source : sources) {
+            blackhole.consume(KeyExpressionEvaluator.evaluate(source, has, search, skill));
+        }
+    }
+
+    @Benchmark
+    public void evaluateCompiled(Blackhole blackhole) {
+        for (CompiledKeyExpression expression : compiled) {
+            blackhole.consume(KeyExpressionEvaluator.evaluate(
+                    expression,
+                    has,
+                    search,
+                    skill,
+                    null,
+                    KeyExpressionEvaluator.AttributeResolutionPolicy.QUERY_STRICT
+            ));
+        }
+    }
+}
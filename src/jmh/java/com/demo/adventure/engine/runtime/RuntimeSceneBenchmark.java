@@ -0,0 +1,77 @@
+package com.demo.adventure.engine.runtime;
+
+import com.demo.adventure.ai.runtime.NarrationService;
+import com.demo.adventure.authoring.save.build.WorldBuildResult;
+import com.demo.adventure.bench.BenchmarkWorlds;
+import com.demo.adventure.domain.kernel.KernelRegistry;
+import com.demo.adventure.domain.model.Item;
+import com.demo.adventure.domain.model.Rectangle2D;
+import com.demo.adventure.engine.cli.RuntimeLoader;
+import com.demo.adventure.engine.flow.loop.LoopRuntime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the scene snapshot for the start plot, the text the narrator sees on every look and move.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuntimeSceneBenchmark {
+
+    @Param({"island", "mansion", "spy", "western"})
+    public String game;
+
+    private GameRuntime runtime;
+
+    @Setup
+    public void setUp() throws Exception {
+        String path = BenchmarkWorlds.gamePath(game);
+        LoopRuntime loopRuntime = new LoopRuntime(RuntimeLoader.loadSave(path), RuntimeLoader.loadLoopConfig(path));
+        WorldBuildResult world = loopRuntime.buildWorld();
+        KernelRegistry registry = world.registry();
+
+        // The scene snapshot is kept by the narrator; emitted text is discarded.
+        runtime = new GameRuntime(new SceneNarrator(new NarrationService(false, null, false)), text -> { }, false);
+        UUID playerId = runtime.findPlayerActor(registry, world.startPlotId());
+        List<Item> inventory = new ArrayList<>(runtime.startingInventory(registry, playerId));
+        Map<UUID, Map<UUID, Rectangle2D>> placements = new HashMap<>();
+        runtime.seedInventoryPlacements(inventory, placements);
+        runtime.configure(
+                registry,
+                world.startPlotId(),
+                playerId,
+                inventory,
+                placements,
+                loopRuntime,
+                null,
+                RuntimeLoader.loadCraftingRecipes(path),
+                RuntimeLoader.loadVerbAliases(path)
+        );
+    }
+
+    @Benchmark
+    public String sceneSnapshot() {
+        runtime.primeScene();
+        return runtime.lastSceneState();
+    }
+}
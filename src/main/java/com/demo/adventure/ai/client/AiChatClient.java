@@ -2,4 +2,17 @@ package com.demo.adventure.ai.client;
 
 public interface AiChatClient {
     AiChatResponse chat(String apiKey, AiChatRequest request) throws Exception;
+
+    /**
+     * Streams the completion to {@code listener} as it is generated and returns everything delivered. Returns only
+     * when the stream finished or the listener declined more; a stream that ends early throws, even after some
+     * fragments were delivered. Clients without a streaming transport deliver the whole completion as one fragment.
+     */
+    default AiChatResponse chatStream(String apiKey, AiChatRequest request, AiChatStreamListener listener) throws Exception {
+        AiChatResponse response = chat(apiKey, request);
+        if (response != null && listener != null && response.content() != null && !response.content().isEmpty()) {
+            listener.onDelta(response.content());
+        }
+        return response;
+    }
 }
@@ -0,0 +1,14 @@
+package com.demo.adventure.ai.client;
+
+/**
+ * Receives a streamed chat completion piece by piece.
+ */
+@FunctionalInterface
+public interface AiChatStreamListener {
+    /**
+     * Called with each content fragment in arrival order.
+     *
+     * @return false to stop the stream; nothing more is read or delivered
+     */
+    boolean onDelta(String text);
+}
@@ -0,0 +1,48 @@
+package com.demo.adventure.ai.client;
+
+import java.time.Duration;
+
+/**
+ * Non-2xx reply from a chat endpoint, with the server's {@code Retry-After} hint when it sent one.
+ */
+public final class AiHttpStatusException extends IllegalStateException {
+    private final int statusCode;
+    private final Duration retryAfter;
+
+    public AiHttpStatusException(int statusCode, Duration retryAfter) {
+        super("status " + statusCode);
+        this.statusCode = statusCode;
+        this.retryAfter = retryAfter;
+    }
+
+    public int statusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Server-requested delay before retrying, or {@code null}.
+     */
+    public Duration retryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * Throttling and server-side failures are worth retrying; other client errors are not.
+     */
+    public boolean isRetryable() {
+        return statusCode == 429 || statusCode >= 500;
+    }
+
+    static Duration parseRetryAfter(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            long seconds = Long.parseLong(header.trim());
+            return seconds < 0 ? null : Duration.ofSeconds(seconds);
+        } catch (NumberFormatException ex) {
+            // HTTP-date form; treat as no hint.
+            return null;
+        }
+    }
+}
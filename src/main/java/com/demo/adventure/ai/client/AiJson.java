@@ -58,6 +58,34 @@ public final class AiJson {
         return sb.toString();
     }
 
+    /**
+     * Content fragment of one streamed chat-completion chunk ({@code choices[0].delta.content}), or {@code null}
+     * when the chunk carries none (role-only deltas, {@code "content": null}, finish chunks).
+     */
+    public static String extractDeltaContent(String chunk) {
+        if (chunk == null) {
+            return null;
+        }
+        int delta = chunk.indexOf("\"delta\"");
+        if (delta < 0) {
+            return null;
+        }
+        String tail = chunk.substring(delta);
+        int keyIndex = tail.indexOf("\"content\"");
+        if (keyIndex < 0) {
+            return null;
+        }
+        int colon = tail.indexOf(':', keyIndex);
+        int value = colon + 1;
+        while (value < tail.length() && Character.isWhitespace(tail.charAt(value))) {
+            value++;
+        }
+        if (colon < 0 || value >= tail.length() || tail.charAt(value) != '"') {
+            return null;
+        }
+        return extractJsonString(tail.substring(keyIndex), "content");
+    }
+
     public static String extractLogprobSnippet(String response) {
         if (response == null) {
             return "";
@@ -0,0 +1,185 @@
+package com.demo.adventure.ai.client;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Content-addressed cache of chat completions, shared by every {@link CachingAiChatClient}.
+ *
+ * Keys are a SHA-256 of everything that shapes the reply (endpoint, model, sampling parameters, response format
+ * and the full message list), so two call sites asking the same question share an entry. Entries live in a
+ * bounded LRU with a per-entry expiry; an optional {@link AiResponseStore} keeps them across restarts and is
+ * consulted on a memory miss. Thread-safe.
+ */
+public final class AiResponseCache {
+    public static final int DEFAULT_CAPACITY = 512;
+
+    public enum Mode {
+        OFF,
+        /** Cache only requests sampled at temperature 0, whose reply is meant to be repeatable. */
+        DETERMINISTIC,
+        ALWAYS;
+
+        public static Mode parse(String value, Mode defaultMode) {
+            if (value == null || value.isBlank()) {
+                return defaultMode;
+            }
+            return switch (value.trim().toLowerCase(Locale.ROOT)) {
+                case "off", "false", "none" -> OFF;
+                case "deterministic" -> DETERMINISTIC;
+                case "always", "true" -> ALWAYS;
+                default -> defaultMode;
+            };
+        }
+    }
+
+    /**
+     * What one call site lets the cache keep, and for how long.
+     */
+    public record Policy(Mode mode, Duration ttl) {
+        public Policy {
+            mode = mode == null ? Mode.OFF : mode;
+            ttl = ttl == null || ttl.isNegative() || ttl.isZero() ? Duration.ofHours(1) : ttl;
+        }
+
+        public static Policy off() {
+            return new Policy(Mode.OFF, null);
+        }
+
+        public boolean allows(AiChatRequest request) {
+            if (request == null) {
+                return false;
+            }
+            return switch (mode) {
+                case OFF -> false;
+                case DETERMINISTIC -> request.temperature() == 0.0;
+                case ALWAYS -> true;
+            };
+        }
+    }
+
+    public record Stats(long hits, long misses, long diskHits, int size, int capacity, int diskEntries) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
+    private record Entry(AiChatResponse response, long expiresAtMillis) {
+    }
+
+    private final int capacity;
+    private final Clock clock;
+    private final AiResponseStore store;
+    private final Map<String, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+
+    public AiResponseCache(int capacity, Clock clock, AiResponseStore store) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.store = store;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > AiResponseCache.this.capacity;
+            }
+        };
+    }
+
+    public static String key(AiChatRequest request) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 unavailable", ex);
+        }
+        update(digest, request.endpoint() == null ? "" : request.endpoint().toString());
+        update(digest, request.model());
+        update(digest, Double.toString(request.temperature()));
+        update(digest, Double.toString(request.topP()));
+        update(digest, request.responseFormat() == null ? "" : request.responseFormat().type());
+        update(digest, request.logprobs() ? "logprobs:" + request.topLogprobs() : "");
+        for (AiChatMessage message : request.messages()) {
+            if (message == null) {
+                continue;
+            }
+            update(digest, message.role().name());
+            update(digest, message.content());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Cached reply for {@code key}, or {@code null}. Counts towards the hit rate.
+     */
+    public AiChatResponse get(String key) {
+        long now = clock.millis();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAtMillis() > now) {
+                    hits.increment();
+                    return entry.response();
+                }
+                entries.remove(key);
+            }
+        }
+        if (store != null) {
+            AiResponseStore.Stored stored = store.get(key, now);
+            if (stored != null) {
+                synchronized (entries) {
+                    entries.put(key, new Entry(stored.response(), stored.expiresAtMillis()));
+                }
+                hits.increment();
+                diskHits.increment();
+                return stored.response();
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(String key, AiChatResponse response, Duration ttl) {
+        if (key == null || response == null || response.content() == null || response.content().isBlank()) {
+            return;
+        }
+        long now = clock.millis();
+        long expiresAt = now + (ttl == null ? Duration.ofHours(1) : ttl).toMillis();
+        synchronized (entries) {
+            entries.put(key, new Entry(response, expiresAt));
+        }
+        if (store != null) {
+            store.put(key, response, expiresAt, now);
+        }
+    }
+
+    public Stats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Stats(hits.sum(), misses.sum(), diskHits.sum(), size, capacity, store == null ? 0 : store.size());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        // Length-prefix every field so ("ab", "c") and ("a", "bc") hash differently.
+        int length = bytes.length;
+        digest.update(new byte[]{(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length});
+        digest.update(bytes);
+    }
+}
@@ -0,0 +1,253 @@
+package com.demo.adventure.ai.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memory-mapped, append-only file of cached chat completions that survives restarts.
+ *
+ * The file is a fixed-size mapping: a header (magic, version, end of data, generation) followed by length-prefixed
+ * records of key, expiry, content and logprob snippet. The newest record for a key wins. When the file is full, live
+ * entries are compacted to the front and the generation bumped; if that still leaves no room the write is dropped,
+ * since the store is only a cache. An unreadable file is discarded and started afresh.
+ *
+ * Several processes may share one file (a common {@code ai.cache.dir}): every read and write holds an exclusive
+ * {@link FileLock} on the file and first catches up with records, or a compaction, another process made since.
+ * Thread-safe; stores in one process that open the same file take turns on a per-file monitor, since file locks
+ * are held per process.
+ */
+public final class AiResponseStore implements Closeable {
+    private static final int MAGIC = 0x41494331; // "AIC1"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int END_OFFSET = 8;
+    private static final int GENERATION_OFFSET = 12;
+    private static final Map<Path, Object> FILE_MONITORS = new ConcurrentHashMap<>();
+
+    record Stored(AiChatResponse response, long expiresAtMillis) {
+    }
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final Object fileMonitor;
+    private final Map<String, Integer> index = new HashMap<>();
+    private int end;
+    private int generation;
+
+    private AiResponseStore(FileChannel channel, MappedByteBuffer buffer, Object fileMonitor) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.fileMonitor = fileMonitor;
+    }
+
+    public static AiResponseStore open(Path file, int maxBytes) throws IOException {
+        if (maxBytes <= HEADER_BYTES) {
+            throw new IllegalArgumentException("maxBytes must exceed " + HEADER_BYTES);
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, maxBytes);
+            Object monitor = FILE_MONITORS.computeIfAbsent(file.toAbsolutePath().normalize(), path -> new Object());
+            AiResponseStore store = new AiResponseStore(channel, buffer, monitor);
+            synchronized (monitor) {
+                try (FileLock ignored = channel.lock()) {
+                    store.load();
+                }
+            }
+            return store;
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    synchronized Stored get(String key, long nowMillis) {
+        synchronized (fileMonitor) {
+            try (FileLock ignored = channel.lock()) {
+                refresh();
+                return lookup(key, nowMillis);
+            } catch (IOException ex) {
+                return null;
+            }
+        }
+    }
+
+    synchronized void put(String key, AiChatResponse response, long expiresAtMillis, long nowMillis) {
+        synchronized (fileMonitor) {
+            try (FileLock ignored = channel.lock()) {
+                refresh();
+                append(new Slot(key, expiresAtMillis, response.content(), response.logprobSnippet()), nowMillis);
+            } catch (IOException ex) {
+                // Best-effort: the entry stays in the in-memory cache only.
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private Stored lookup(String key, long nowMillis) {
+        Integer offset = index.get(key);
+        if (offset == null) {
+            return null;
+        }
+        Slot slot = read(offset);
+        if (slot == null || slot.expiresAtMillis() <= nowMillis) {
+            index.remove(key);
+            return null;
+        }
+        return new Stored(new AiChatResponse(slot.content(), slot.logprobs()), slot.expiresAtMillis());
+    }
+
+    private void append(Slot slot, long nowMillis) {
+        byte[] encoded = slot.encode();
+        if (end + encoded.length > buffer.capacity()) {
+            compact(nowMillis);
+            if (end + encoded.length > buffer.capacity()) {
+                return;
+            }
+        }
+        buffer.put(end, encoded);
+        index.put(slot.key(), end);
+        end += encoded.length;
+        buffer.putInt(END_OFFSET, end);
+    }
+
+    // Picks up what other processes wrote since this store last held the lock.
+    private void refresh() {
+        int recordedEnd = buffer.getInt(END_OFFSET);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(GENERATION_OFFSET) != generation || recordedEnd < end) {
+            load();
+        } else if (recordedEnd > end && recordedEnd <= buffer.capacity()) {
+            end = scan(end, recordedEnd);
+        }
+    }
+
+    private void load() {
+        index.clear();
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            reset();
+            return;
+        }
+        int recordedEnd = buffer.getInt(END_OFFSET);
+        if (recordedEnd < HEADER_BYTES || recordedEnd > buffer.capacity()) {
+            reset();
+            return;
+        }
+        generation = buffer.getInt(GENERATION_OFFSET);
+        end = scan(HEADER_BYTES, recordedEnd);
+        buffer.putInt(END_OFFSET, end);
+    }
+
+    private int scan(int from, int to) {
+        int offset = from;
+        while (offset < to) {
+            Slot slot = read(offset);
+            if (slot == null) {
+                break;
+            }
+            index.put(slot.key(), offset);
+            offset += buffer.getInt(offset);
+        }
+        return offset;
+    }
+
+    private void reset() {
+        index.clear();
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        generation = buffer.getInt(GENERATION_OFFSET) + 1;
+        buffer.putInt(GENERATION_OFFSET, generation);
+        end = HEADER_BYTES;
+        buffer.putInt(END_OFFSET, end);
+    }
+
+    private void compact(long nowMillis) {
+        List<Slot> live = new ArrayList<>();
+        for (Integer offset : index.values()) {
+            Slot slot = read(offset);
+            if (slot != null && slot.expiresAtMillis() > nowMillis) {
+                live.add(slot);
+            }
+        }
+        reset();
+        for (Slot slot : live) {
+            byte[] encoded = slot.encode();
+            buffer.put(end, encoded);
+            index.put(slot.key(), end);
+            end += encoded.length;
+        }
+        buffer.putInt(END_OFFSET, end);
+    }
+
+    private Slot read(int offset) {
+        try {
+            int length = buffer.getInt(offset);
+            if (length <= 4 || offset + length > buffer.capacity()) {
+                return null;
+            }
+            int position = offset + 4;
+            String key = readString(position);
+            position += 4 + buffer.getInt(position);
+            long expiresAt = buffer.getLong(position);
+            position += 8;
+            String content = readString(position);
+            position += 4 + buffer.getInt(position);
+            String logprobs = readString(position);
+            return new Slot(key, expiresAt, content, logprobs);
+        } catch (IndexOutOfBoundsException | BufferUnderflowException | IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private String readString(int position) {
+        int length = buffer.getInt(position);
+        if (length < 0 || position + 4 + length > buffer.capacity()) {
+            throw new IllegalArgumentException("bad length");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(position + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private record Slot(String key, long expiresAtMillis, String content, String logprobs) {
+        byte[] encode() {
+            byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+            byte[] contentBytes = (content == null ? "" : content).getBytes(StandardCharsets.UTF_8);
+            byte[] logprobBytes = (logprobs == null ? "" : logprobs).getBytes(StandardCharsets.UTF_8);
+            int length = 4 + 4 + keyBytes.length + 8 + 4 + contentBytes.length + 4 + logprobBytes.length;
+            ByteBuffer out = ByteBuffer.allocate(length);
+            out.putInt(length);
+            out.putInt(keyBytes.length).put(keyBytes);
+            out.putLong(expiresAtMillis);
+            out.putInt(contentBytes.length).put(contentBytes);
+            out.putInt(logprobBytes.length).put(logprobBytes);
+            return out.array();
+        }
+    }
+}
@@ -0,0 +1,420 @@
+package com.demo.adventure.ai.client;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared, well-behaved path to a chat endpoint for every session in the process.
+ *
+ * Every attempt (first try, retry or hedge) takes an in-flight slot and a rate-limit token, so bursts from many
+ * sessions queue briefly instead of tripping the provider's limits. 429s, 5xx replies and I/O failures are
+ * retried with jittered exponential backoff, honouring {@code Retry-After}. A client obtained with a hedge
+ * percentile sends a second copy of a request that has run past that percentile of the endpoint's recent
+ * latency (time to first fragment, for streams) and keeps whichever answers first; hedges are only sent when a
+ * slot is free. Per-endpoint latency histograms and error counts are available from {@link #metrics()}.
+ */
+public final class AiTransport {
+    private static final AtomicLong THREAD_IDS = new AtomicLong();
+
+    /**
+     * Traffic seen by one endpoint. Latencies are for successful attempts; streams also record time to first
+     * fragment.
+     */
+    public record EndpointMetrics(String endpoint,
+                                  long attempts,
+                                  long errors,
+                                  long retries,
+                                  long hedges,
+                                  double p50Millis,
+                                  double p99Millis,
+                                  double firstFragmentP50Millis) {
+        public double errorRate() {
+            return attempts == 0 ? 0.0 : (double) errors / attempts;
+        }
+    }
+
+    private final AiChatClient delegate;
+    private final AiTransportPolicy policy;
+    private final Semaphore inFlight;
+    private final TokenBucket rateLimit;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final ExecutorService hedgePool = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "ai-transport-" + THREAD_IDS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AiTransport(AiChatClient delegate, AiTransportPolicy policy) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.policy = policy == null ? AiTransportPolicy.defaults() : policy;
+        this.inFlight = new Semaphore(this.policy.maxInFlight(), true);
+        this.rateLimit = this.policy.permitsPerSecond() > 0
+                ? new TokenBucket(this.policy.permitsPerSecond(), this.policy.burst())
+                : null;
+    }
+
+    /**
+     * Client view of this transport.
+     *
+     * @param hedgePercentile latency percentile (0..1) after which a request is hedged; 0 or less never hedges
+     */
+    public AiChatClient client(double hedgePercentile) {
+        return new AiChatClient() {
+            @Override
+            public AiChatResponse chat(String apiKey, AiChatRequest request) throws Exception {
+                return AiTransport.this.chat(apiKey, request, hedgePercentile);
+            }
+
+            @Override
+            public AiChatResponse chatStream(String apiKey, AiChatRequest request, AiChatStreamListener listener) throws Exception {
+                return AiTransport.this.chatStream(apiKey, request, listener, hedgePercentile);
+            }
+        };
+    }
+
+    public List<EndpointMetrics> metrics() {
+        List<EndpointMetrics> out = new ArrayList<>();
+        endpoints.values().forEach(endpoint -> out.add(endpoint.snapshot()));
+        out.sort((a, b) -> a.endpoint().compareTo(b.endpoint()));
+        return out;
+    }
+
+    AiChatResponse chat(String apiKey, AiChatRequest request, double hedgePercentile) throws Exception {
+        Endpoint endpoint = endpoint(request);
+        for (int attempt = 0; ; attempt++) {
+            try {
+                long hedgeAfter = endpoint.hedgeAfterNanos(endpoint.latency, hedgePercentile, policy.hedgeMinSamples());
+                return hedgeAfter < 0
+                        ? chatOnce(apiKey, request, endpoint)
+                        : chatHedged(apiKey, request, endpoint, hedgeAfter);
+            } catch (Exception ex) {
+                if (!retryable(ex) || attempt >= policy.maxRetries()) {
+                    throw ex;
+                }
+                endpoint.retries.increment();
+                backoff(attempt, ex);
+            }
+        }
+    }
+
+    AiChatResponse chatStream(String apiKey,
+                              AiChatRequest request,
+                              AiChatStreamListener listener,
+                              double hedgePercentile) throws Exception {
+        Endpoint endpoint = endpoint(request);
+        Relay relay = new Relay(listener);
+        for (int attempt = 0; ; attempt++) {
+            try {
+                long hedgeAfter = endpoint.hedgeAfterNanos(endpoint.firstFragment, hedgePercentile, policy.hedgeMinSamples());
+                return hedgeAfter < 0
+                        ? streamOnce(apiKey, request, endpoint, relay::deliver)
+                        : streamHedged(apiKey, request, endpoint, relay, hedgeAfter);
+            } catch (Exception ex) {
+                // Once the caller has seen part of a reply, a retry would repeat it.
+                if (relay.delivered || !retryable(ex) || attempt >= policy.maxRetries()) {
+                    throw ex;
+                }
+                endpoint.retries.increment();
+                backoff(attempt, ex);
+            }
+        }
+    }
+
+    private AiChatResponse chatOnce(String apiKey, AiChatRequest request, Endpoint endpoint) throws Exception {
+        acquire();
+        long start = System.nanoTime();
+        try {
+            AiChatResponse response = delegate.chat(apiKey, request);
+            endpoint.success(System.nanoTime() - start);
+            return response;
+        } catch (InterruptedException ex) {
+            // A hedge we no longer need; not the endpoint's fault.
+            throw ex;
+        } catch (Exception ex) {
+            endpoint.failure();
+            throw ex;
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private AiChatResponse streamOnce(String apiKey,
+                                      AiChatRequest request,
+                                      Endpoint endpoint,
+                                      AiChatStreamListener listener) throws Exception {
+        acquire();
+        long start = System.nanoTime();
+        boolean[] first = {true};
+        boolean[] cut = {false};
+        try {
+            AiChatResponse response = delegate.chatStream(apiKey, request, delta -> {
+                if (first[0]) {
+                    first[0] = false;
+                    endpoint.firstFragment.record(System.nanoTime() - start);
+                }
+                boolean more = listener.onDelta(delta);
+                cut[0] |= !more;
+                return more;
+            });
+            if (cut[0]) {
+                // Stopped early by the caller (or lost a hedge race): its duration says nothing about the endpoint.
+                endpoint.attempts.increment();
+            } else {
+                endpoint.success(System.nanoTime() - start);
+            }
+            return response;
+        } catch (InterruptedException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            endpoint.failure();
+            throw ex;
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private AiChatResponse chatHedged(String apiKey, AiChatRequest request, Endpoint endpoint, long hedgeAfter) throws Exception {
+        List<Future<AiChatResponse>> attempts = new ArrayList<>(2);
+        BlockingQueue<Future<AiChatResponse>> done = new LinkedBlockingQueue<>();
+        try {
+            attempts.add(submit(() -> chatOnce(apiKey, request, endpoint), done));
+            Future<AiChatResponse> finished = done.poll(hedgeAfter, TimeUnit.NANOSECONDS);
+            if (finished == null && inFlight.availablePermits() > 0) {
+                endpoint.hedges.increment();
+                attempts.add(submit(() -> chatOnce(apiKey, request, endpoint), done));
+            }
+            Exception failure = null;
+            for (int pending = attempts.size(); pending > 0; pending--) {
+                Future<AiChatResponse> next = finished != null ? finished : done.take();
+                finished = null;
+                try {
+                    return next.get();
+                } catch (ExecutionException ex) {
+                    failure = ex.getCause() instanceof Exception cause ? cause : ex;
+                }
+            }
+            throw failure;
+        } finally {
+            attempts.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Runs the original and (if it is slow to start) a hedge on pool threads, relaying fragments back to the
+     * caller's thread. The first attempt to produce a fragment wins; the other is told to stop.
+     */
+    private AiChatResponse streamHedged(String apiKey,
+                                        AiChatRequest request,
+                                        Endpoint endpoint,
+                                        Relay relay,
+                                        long hedgeAfter) throws Exception {
+        BlockingQueue<StreamEvent> events = new LinkedBlockingQueue<>();
+        AtomicInteger winner = new AtomicInteger(-1);
+        List<Future<?>> attempts = new ArrayList<>(2);
+        try {
+            attempts.add(startStream(0, apiKey, request, endpoint, relay, winner, events));
+            StreamEvent event = events.poll(hedgeAfter, TimeUnit.NANOSECONDS);
+            if (event == null && winner.get() < 0 && inFlight.availablePermits() > 0) {
+                endpoint.hedges.increment();
+                attempts.add(startStream(1, apiKey, request, endpoint, relay, winner, events));
+            }
+            int pending = attempts.size();
+            Exception failure = null;
+            while (true) {
+                if (event == null) {
+                    event = events.take();
+                }
+                if (event.delta() != null) {
+                    relay.deliver(event.delta());
+                } else if (event.error() == null) {
+                    if (winner.get() < 0 || winner.get() == event.attempt()) {
+                        return event.response();
+                    }
+                    pending--;
+                } else {
+                    failure = event.error();
+                    pending--;
+                    if (winner.get() == event.attempt() || pending == 0) {
+                        throw failure;
+                    }
+                }
+                event = null;
+            }
+        } finally {
+            attempts.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private Future<?> startStream(int attempt,
+                                  String apiKey,
+                                  AiChatRequest request,
+                                  Endpoint endpoint,
+                                  Relay relay,
+                                  AtomicInteger winner,
+                                  BlockingQueue<StreamEvent> events) {
+        return hedgePool.submit(() -> {
+            try {
+                AiChatResponse response = streamOnce(apiKey, request, endpoint, delta -> {
+                    if (!winner.compareAndSet(-1, attempt) && winner.get() != attempt) {
+                        return false;
+                    }
+                    if (relay.stopped) {
+                        return false;
+                    }
+                    events.add(new StreamEvent(attempt, delta, null, null));
+                    return true;
+                });
+                events.add(new StreamEvent(attempt, null, response, null));
+            } catch (Exception ex) {
+                events.add(new StreamEvent(attempt, null, null, ex));
+            }
+        });
+    }
+
+    private <T> Future<T> submit(Callable<T> task, BlockingQueue<Future<T>> done) {
+        FutureTask<T> future = new FutureTask<>(task) {
+            @Override
+            protected void done() {
+                done.add(this);
+            }
+        };
+        hedgePool.execute(future);
+        return future;
+    }
+
+    private void acquire() throws Exception {
+        if (!inFlight.tryAcquire(policy.queueTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+            throw new TimeoutException("AI transport busy: no request slot within " + policy.queueTimeout().toMillis() + " ms");
+        }
+        if (rateLimit != null) {
+            try {
+                rateLimit.acquire();
+            } catch (InterruptedException ex) {
+                inFlight.release();
+                throw ex;
+            }
+        }
+    }
+
+    private void backoff(int attempt, Exception cause) throws InterruptedException {
+        long base = policy.baseBackoff().toMillis();
+        long max = policy.maxBackoff().toMillis();
+        long ceiling = Math.min(max, base << Math.min(attempt, 20));
+        // Equal jitter: at least half the exponential delay, so retries still spread out under contention.
+        long delay = ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+        if (cause instanceof AiHttpStatusException status && status.retryAfter() != null) {
+            delay = Math.max(delay, Math.min(max, status.retryAfter().toMillis()));
+        }
+        if (delay > 0) {
+            TimeUnit.MILLISECONDS.sleep(delay);
+        }
+    }
+
+    private static boolean retryable(Exception ex) {
+        if (ex instanceof AiHttpStatusException status) {
+            return status.isRetryable();
+        }
+        if (ex instanceof CancellationException) {
+            return false;
+        }
+        return ex instanceof IOException;
+    }
+
+    private Endpoint endpoint(AiChatRequest request) {
+        String key = (request == null || request.endpoint() == null
+                ? OpenAiChatClient.DEFAULT_ENDPOINT
+                : request.endpoint()).toString();
+        return endpoints.computeIfAbsent(key, Endpoint::new);
+    }
+
+    private record StreamEvent(int attempt, String delta, AiChatResponse response, Exception error) {
+    }
+
+    /**
+     * Hands fragments to the caller's listener and remembers whether any got through or the caller said stop.
+     */
+    private static final class Relay {
+        private final AiChatStreamListener listener;
+        private volatile boolean delivered;
+        private volatile boolean stopped;
+
+        private Relay(AiChatStreamListener listener) {
+            this.listener = listener;
+        }
+
+        private boolean deliver(String delta) {
+            if (stopped) {
+                return false;
+            }
+            delivered = true;
+            if (listener != null && !listener.onDelta(delta)) {
+                stopped = true;
+            }
+            return !stopped;
+        }
+    }
+
+    private static final class Endpoint {
+        private final String name;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LatencyHistogram firstFragment = new LatencyHistogram();
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder hedges = new LongAdder();
+
+        private Endpoint(String name) {
+            this.name = name;
+        }
+
+        private void success(long nanos) {
+            attempts.increment();
+            latency.record(nanos);
+        }
+
+        private void failure() {
+            attempts.increment();
+            errors.increment();
+        }
+
+        private long hedgeAfterNanos(LatencyHistogram histogram, double percentile, int minSamples) {
+            if (percentile <= 0 || histogram.count() < minSamples) {
+                return -1L;
+            }
+            return (long) (histogram.percentileMillis(percentile) * 1_000_000L);
+        }
+
+        private EndpointMetrics snapshot() {
+            return new EndpointMetrics(
+                    name,
+                    attempts.sum(),
+                    errors.sum(),
+                    retries.sum(),
+                    hedges.sum(),
+                    latency.percentileMillis(0.5),
+                    latency.percentileMillis(0.99),
+                    firstFragment.percentileMillis(0.5)
+            );
+        }
+    }
+}
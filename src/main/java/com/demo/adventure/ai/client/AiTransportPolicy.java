@@ -0,0 +1,49 @@
+package com.demo.adventure.ai.client;
+
+import java.time.Duration;
+
+/**
+ * Limits and retry behaviour for an {@link AiTransport}.
+ *
+ * @param maxInFlight      requests allowed on the wire at once, hedges and retries included
+ * @param permitsPerSecond sustained request rate; 0 or less disables rate limiting
+ * @param burst            requests allowed back to back before the rate applies
+ * @param maxRetries       retries after the first attempt for 429, 5xx and I/O failures
+ * @param baseBackoff      first retry delay; doubles per retry, with jitter
+ * @param maxBackoff       cap on a single retry delay, server hints included
+ * @param queueTimeout     longest wait for an in-flight slot before giving up
+ * @param hedgeMinSamples  latency samples an endpoint needs before its percentile is trusted for hedging
+ */
+public record AiTransportPolicy(
+        int maxInFlight,
+        double permitsPerSecond,
+        int burst,
+        int maxRetries,
+        Duration baseBackoff,
+        Duration maxBackoff,
+        Duration queueTimeout,
+        int hedgeMinSamples
+) {
+    public AiTransportPolicy {
+        maxInFlight = Math.max(1, maxInFlight);
+        burst = Math.max(1, burst);
+        maxRetries = Math.max(0, maxRetries);
+        baseBackoff = baseBackoff == null || baseBackoff.isNegative() ? Duration.ofMillis(250) : baseBackoff;
+        maxBackoff = maxBackoff == null || maxBackoff.compareTo(baseBackoff) < 0 ? baseBackoff : maxBackoff;
+        queueTimeout = queueTimeout == null || queueTimeout.isNegative() ? Duration.ofSeconds(30) : queueTimeout;
+        hedgeMinSamples = Math.max(1, hedgeMinSamples);
+    }
+
+    public static AiTransportPolicy defaults() {
+        return new AiTransportPolicy(
+                8,
+                5.0,
+                10,
+                3,
+                Duration.ofMillis(250),
+                Duration.ofSeconds(8),
+                Duration.ofSeconds(30),
+                20
+        );
+    }
+}
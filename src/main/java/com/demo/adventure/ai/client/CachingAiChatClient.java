@@ -0,0 +1,69 @@
+package com.demo.adventure.ai.client;
+
+import java.util.Objects;
+
+/**
+ * {@link AiChatClient} that answers repeated requests from an {@link AiResponseCache}.
+ *
+ * Only requests the call site's {@link AiResponseCache.Policy} allows are looked up or stored; everything else
+ * goes straight to the delegate. Empty replies are never cached, and a stream is cached only once it finished
+ * cleanly: the delegate returned (rather than threw, as it does when the stream ends before its terminator), the
+ * listener took every fragment, and the reply is exactly what was delivered.
+ */
+public final class CachingAiChatClient implements AiChatClient {
+    private final AiChatClient delegate;
+    private final AiResponseCache cache;
+    private final AiResponseCache.Policy policy;
+
+    public CachingAiChatClient(AiChatClient delegate, AiResponseCache cache, AiResponseCache.Policy policy) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.cache = Objects.requireNonNull(cache, "cache");
+        this.policy = policy == null ? AiResponseCache.Policy.off() : policy;
+    }
+
+    @Override
+    public AiChatResponse chat(String apiKey, AiChatRequest request) throws Exception {
+        if (!cacheable(apiKey, request)) {
+            return delegate.chat(apiKey, request);
+        }
+        String key = AiResponseCache.key(request);
+        AiChatResponse cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        AiChatResponse response = delegate.chat(apiKey, request);
+        cache.put(key, response, policy.ttl());
+        return response;
+    }
+
+    @Override
+    public AiChatResponse chatStream(String apiKey, AiChatRequest request, AiChatStreamListener listener) throws Exception {
+        if (!cacheable(apiKey, request)) {
+            return delegate.chatStream(apiKey, request, listener);
+        }
+        String key = AiResponseCache.key(request);
+        AiChatResponse cached = cache.get(key);
+        if (cached != null) {
+            if (listener != null) {
+                listener.onDelta(cached.content());
+            }
+            return cached;
+        }
+        boolean[] stopped = new boolean[1];
+        StringBuilder delivered = new StringBuilder();
+        AiChatResponse response = delegate.chatStream(apiKey, request, delta -> {
+            delivered.append(delta);
+            boolean more = listener == null || listener.onDelta(delta);
+            stopped[0] |= !more;
+            return more;
+        });
+        if (!stopped[0] && response != null && delivered.toString().equals(response.content())) {
+            cache.put(key, response, policy.ttl());
+        }
+        return response;
+    }
+
+    private boolean cacheable(String apiKey, AiChatRequest request) {
+        return apiKey != null && !apiKey.isBlank() && policy.allows(request);
+    }
+}
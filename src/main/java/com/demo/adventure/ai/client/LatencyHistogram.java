@@ -0,0 +1,57 @@
+package com.demo.adventure.ai.client;
+
+/**
+ * Fixed-size latency histogram with logarithmic buckets, so percentiles cost O(buckets) and memory stays
+ * constant however many samples arrive.
+ *
+ * Buckets grow by 10% from 1 ms to roughly ten minutes; a percentile is reported as its bucket's upper bound,
+ * so it is never more than 10% optimistic. Thread-safe.
+ */
+public final class LatencyHistogram {
+    private static final double GROWTH = 1.1;
+    private static final double LOG_GROWTH = Math.log(GROWTH);
+    private static final int BUCKETS = 141;
+
+    private final long[] counts = new long[BUCKETS];
+    private long total;
+
+    public synchronized void record(long nanos) {
+        counts[bucket(nanos / 1_000_000.0)]++;
+        total++;
+    }
+
+    public synchronized long count() {
+        return total;
+    }
+
+    /**
+     * Latency at or below which {@code percentile} (0..1] of samples fall, in milliseconds; 0 when empty.
+     */
+    public synchronized double percentileMillis(double percentile) {
+        if (total == 0) {
+            return 0.0;
+        }
+        double clamped = Math.min(1.0, Math.max(0.0, percentile));
+        long rank = Math.max(1L, (long) Math.ceil(clamped * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    private static int bucket(double millis) {
+        if (millis <= 1.0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(Math.log(millis) / LOG_GROWTH);
+        return Math.min(BUCKETS - 1, index);
+    }
+
+    private static double upperBound(int bucket) {
+        return Math.pow(GROWTH, bucket);
+    }
+}
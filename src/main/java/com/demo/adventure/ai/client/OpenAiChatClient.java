@@ -1,17 +1,20 @@
 package com.demo.adventure.ai.client;
 
+import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 public final class OpenAiChatClient implements AiChatClient {
-    private static final URI DEFAULT_ENDPOINT = URI.create("https://api.openai.com/v1/chat/completions");
+    static final URI DEFAULT_ENDPOINT = URI.create("https://api.openai.com/v1/chat/completions");
     private static final HttpClient HTTP_CLIENT = HttpClient.newHttpClient();
 
     @Override
@@ -22,21 +25,11 @@ public final class OpenAiChatClient implements AiChatClient {
         if (request == null) {
             throw new IllegalArgumentException("request is required");
         }
-        URI endpoint = request.endpoint() == null ? DEFAULT_ENDPOINT : request.endpoint();
-        Duration timeout = request.timeout() == null ? Duration.ofSeconds(30) : request.timeout();
-        String body = buildBody(request);
-
-        HttpRequest httpRequest = HttpRequest.newBuilder()
-                .uri(endpoint)
-                .timeout(timeout)
-                .header("Authorization", "Bearer " + apiKey)
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(body))
-                .build();
+        HttpRequest httpRequest = httpRequest(apiKey, request, buildBody(request));
 
         HttpResponse<String> response = HTTP_CLIENT.send(httpRequest, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
         if (response.statusCode() / 100 != 2) {
-            throw new IllegalStateException("status " + response.statusCode());
+            throw statusError(response);
         }
         String raw = response.body();
         String content = AiJson.extractJsonString(raw, "content");
@@ -44,7 +37,95 @@ public final class OpenAiChatClient implements AiChatClient {
         return new AiChatResponse(content, logprobSnippet);
     }
 
+    /**
+     * Requests a server-sent-event stream and hands each {@code delta.content} fragment to {@code listener} as
+     * its event arrives. Stops at {@code [DONE]} or as soon as the listener returns false (the connection is then
+     * released without reading the rest). A stream that ends before {@code [DONE]} was cut off and fails with an
+     * {@link IOException}, so a truncated reply is never returned as a complete one.
+     */
+    @Override
+    public AiChatResponse chatStream(String apiKey, AiChatRequest request, AiChatStreamListener listener) throws Exception {
+        if (apiKey == null || apiKey.isBlank()) {
+            return new AiChatResponse(null, "");
+        }
+        if (request == null) {
+            throw new IllegalArgumentException("request is required");
+        }
+        HttpRequest httpRequest = httpRequest(apiKey, request, buildBody(request, true));
+        HttpResponse<Stream<String>> response = HTTP_CLIENT.send(httpRequest, HttpResponse.BodyHandlers.ofLines());
+        StringBuilder content = new StringBuilder();
+        try (Stream<String> lines = response.body()) {
+            if (response.statusCode() / 100 != 2) {
+                throw statusError(response);
+            }
+            if (!readEvents(lines.iterator(), content, listener)) {
+                throw new IOException("Chat stream ended before [DONE]");
+            }
+        }
+        return new AiChatResponse(content.toString(), "");
+    }
+
+    /**
+     * @return true once {@code [DONE]} arrives or the listener stops; false if the lines ran out first
+     */
+    private static boolean readEvents(Iterator<String> lines, StringBuilder content, AiChatStreamListener listener) {
+        StringBuilder data = new StringBuilder();
+        while (lines.hasNext()) {
+            String line = lines.next();
+            if (!line.isEmpty()) {
+                // Only data fields matter here; ids, event names, retries and comments are ignored.
+                if (line.startsWith("data:")) {
+                    if (!data.isEmpty()) {
+                        data.append('\n');
+                    }
+                    data.append(line.startsWith("data: ") ? line.substring(6) : line.substring(5));
+                }
+                if (lines.hasNext()) {
+                    continue;
+                }
+            }
+            if (data.isEmpty()) {
+                continue;
+            }
+            String event = data.toString();
+            data.setLength(0);
+            if (event.trim().equals("[DONE]")) {
+                return true;
+            }
+            String delta = AiJson.extractDeltaContent(event);
+            if (delta == null || delta.isEmpty()) {
+                continue;
+            }
+            content.append(delta);
+            if (listener != null && !listener.onDelta(delta)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static AiHttpStatusException statusError(HttpResponse<?> response) {
+        String retryAfter = response.headers().firstValue("Retry-After").orElse(null);
+        return new AiHttpStatusException(response.statusCode(), AiHttpStatusException.parseRetryAfter(retryAfter));
+    }
+
+    private static HttpRequest httpRequest(String apiKey, AiChatRequest request, String body) {
+        URI endpoint = request.endpoint() == null ? DEFAULT_ENDPOINT : request.endpoint();
+        Duration timeout = request.timeout() == null ? Duration.ofSeconds(30) : request.timeout();
+        return HttpRequest.newBuilder()
+                .uri(endpoint)
+                .timeout(timeout)
+                .header("Authorization", "Bearer " + apiKey)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
     private static String buildBody(AiChatRequest request) {
+        return buildBody(request, false);
+    }
+
+    private static String buildBody(AiChatRequest request, boolean stream) {
         StringBuilder sb = new StringBuilder();
         sb.append("{\n");
         sb.append("  \"model\": ").append(AiJson.escape(nullToEmpty(request.model()))).append(",\n");
@@ -79,6 +160,9 @@ public final class OpenAiChatClient implements AiChatClient {
                     .append(AiJson.escape(responseFormat.type()))
                     .append("}");
         }
+        if (stream) {
+            sb.append(",\n  \"stream\": true");
+        }
         sb.append("\n}");
         return sb.toString();
     }
@@ -0,0 +1,39 @@
+package com.demo.adventure.ai.client;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token-bucket rate limiter: refills at {@code permitsPerSecond} up to {@code burst} tokens, and callers wait for a
+ * token rather than being refused. Waiting callers are served roughly in arrival order because each one reserves
+ * its token (possibly driving the balance negative) before it sleeps.
+ */
+final class TokenBucket {
+    private final double permitsPerNano;
+    private final double burst;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(double permitsPerSecond, int burst) {
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = Math.max(1, burst);
+        this.tokens = this.burst;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Takes one token, sleeping until it is available.
+     */
+    void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            tokens = Math.min(burst, tokens + (now - lastRefill) * permitsPerNano);
+            lastRefill = now;
+            tokens -= 1.0;
+            waitNanos = tokens >= 0 ? 0L : (long) Math.ceil(-tokens / permitsPerNano);
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
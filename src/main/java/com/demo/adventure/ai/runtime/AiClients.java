@@ -0,0 +1,83 @@
+package com.demo.adventure.ai.runtime;
+
+import com.demo.adventure.ai.client.AiChatClient;
+import com.demo.adventure.ai.client.AiResponseCache;
+import com.demo.adventure.ai.client.AiResponseStore;
+import com.demo.adventure.ai.client.AiTransport;
+import com.demo.adventure.ai.client.AiTransportPolicy;
+import com.demo.adventure.ai.client.CachingAiChatClient;
+import com.demo.adventure.ai.client.OpenAiChatClient;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Chat clients for the runtime call sites, all sharing one {@link AiResponseCache} in front of one
+ * {@link AiTransport}.
+ *
+ * Each site picks its own cache policy with {@code ai.<site>.cache} ({@code off}, {@code deterministic} or
+ * {@code always}) and may hedge slow requests with {@code ai.<site>.hedge_percentile}. The shared cache is sized by
+ * {@code ai.cache.capacity} and {@code ai.cache.ttl_minutes}, and persists to {@code ai.cache.dir} when that is
+ * set; the transport's limits come from {@code ai.transport.*}.
+ */
+public final class AiClients {
+    private static final AiConfig CONFIG = AiConfig.load();
+    private static final AiResponseCache CACHE = createCache();
+    private static final AiTransport TRANSPORT = new AiTransport(new OpenAiChatClient(), transportPolicy());
+
+    private AiClients() {
+    }
+
+    public static AiChatClient forSite(String site) {
+        AiResponseCache.Mode mode = AiResponseCache.Mode.parse(
+                CONFIG.getString("ai." + site + ".cache", null),
+                AiResponseCache.Mode.DETERMINISTIC
+        );
+        Duration ttl = Duration.ofMinutes(Math.max(1, CONFIG.getInt("ai.cache.ttl_minutes", 60)));
+        double hedgePercentile = CONFIG.getDouble("ai." + site + ".hedge_percentile", 0.0);
+        return new CachingAiChatClient(TRANSPORT.client(hedgePercentile), CACHE, new AiResponseCache.Policy(mode, ttl));
+    }
+
+    public static AiResponseCache.Stats cacheStats() {
+        return CACHE.stats();
+    }
+
+    public static List<AiTransport.EndpointMetrics> transportMetrics() {
+        return TRANSPORT.metrics();
+    }
+
+    private static AiTransportPolicy transportPolicy() {
+        AiTransportPolicy defaults = AiTransportPolicy.defaults();
+        return new AiTransportPolicy(
+                CONFIG.getInt("ai.transport.max_in_flight", defaults.maxInFlight()),
+                CONFIG.getDouble("ai.transport.requests_per_second", defaults.permitsPerSecond()),
+                CONFIG.getInt("ai.transport.burst", defaults.burst()),
+                CONFIG.getInt("ai.transport.max_retries", defaults.maxRetries()),
+                Duration.ofMillis(CONFIG.getInt("ai.transport.backoff_ms", (int) defaults.baseBackoff().toMillis())),
+                Duration.ofMillis(CONFIG.getInt("ai.transport.max_backoff_ms", (int) defaults.maxBackoff().toMillis())),
+                Duration.ofMillis(CONFIG.getInt("ai.transport.queue_timeout_ms", (int) defaults.queueTimeout().toMillis())),
+                CONFIG.getInt("ai.transport.hedge_min_samples", defaults.hedgeMinSamples())
+        );
+    }
+
+    private static AiResponseCache createCache() {
+        int capacity = Math.max(1, CONFIG.getInt("ai.cache.capacity", AiResponseCache.DEFAULT_CAPACITY));
+        return new AiResponseCache(capacity, Clock.systemUTC(), openStore());
+    }
+
+    private static AiResponseStore openStore() {
+        String dir = CONFIG.getString("ai.cache.dir", "");
+        if (dir.isBlank()) {
+            return null;
+        }
+        int maxBytes = Math.max(1, CONFIG.getInt("ai.cache.disk_max_mb", 16)) * 1024 * 1024;
+        try {
+            return AiResponseStore.open(Path.of(dir).resolve("responses.cache"), maxBytes);
+        } catch (Exception ex) {
+            // Best-effort: fall back to the in-memory cache.
+            return null;
+        }
+    }
+}
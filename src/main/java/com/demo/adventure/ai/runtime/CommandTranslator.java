@@ -4,7 +4,6 @@ import com.demo.adventure.ai.client.AiChatClient;
 import com.demo.adventure.ai.client.AiChatMessage;
 import com.demo.adventure.ai.client.AiChatRequest;
 import com.demo.adventure.ai.client.AiChatResponse;
-import com.demo.adventure.ai.client.OpenAiChatClient;
 import com.demo.adventure.buui.BuuiConsole;
 
 import java.time.Duration;
@@ -22,7 +21,7 @@ public final class CommandTranslator extends BuuiConsole {
     private static final double TOP_P = CONFIG.getDouble("ai.translator.top_p", 1.0);
     private static final boolean ENABLE_LOGPROBS = CONFIG.getBoolean("ai.translator.logprobs", false);
     private static final int TOP_LOGPROBS = CONFIG.getInt("ai.translator.top_logprobs", 3);
-    private static final AiChatClient CHAT_CLIENT = new OpenAiChatClient();
+    private static final AiChatClient CHAT_CLIENT = AiClients.forSite("translator");
 
     private CommandTranslator() {}
 
@@ -1,6 +1,8 @@
 package com.demo.adventure.ai.runtime;
 
+import com.demo.adventure.ai.client.AiChatStreamListener;
 import com.demo.adventure.buui.BuuiConsole;
+import com.demo.adventure.buui.StreamingTextWriter;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -14,34 +16,61 @@ public final class NarrationService extends BuuiConsole {
         String rewrite(String apiKey, String prompt, boolean debug) throws Exception;
     }
 
+    @FunctionalInterface
+    public interface NarratorStreamRewriter {
+        String rewrite(String apiKey, String prompt, boolean debug, AiChatStreamListener listener) throws Exception;
+    }
+
     private final boolean aiEnabled;
     private final String apiKey;
     private final boolean debug;
     private final NarratorRewriter rewriter;
     private final NarrationTransport transport;
     private Consumer<String> narrationObserver;
+    private boolean streaming;
 
     public NarrationService(boolean aiEnabled,
                             String apiKey,
                             boolean debug) {
-        this(aiEnabled, apiKey, debug, NarratorService::rewrite);
+        this(aiEnabled, apiKey, debug, NarratorService::rewrite, NarratorService::rewriteStreaming);
     }
 
     NarrationService(boolean aiEnabled,
                      String apiKey,
                      boolean debug,
                      NarratorRewriter rewriter) {
+        this(aiEnabled, apiKey, debug, rewriter, rewriter == null ? null : wholeReply(rewriter));
+    }
+
+    NarrationService(boolean aiEnabled,
+                     String apiKey,
+                     boolean debug,
+                     NarratorRewriter rewriter,
+                     NarratorStreamRewriter streamRewriter) {
         this.aiEnabled = aiEnabled;
         this.apiKey = apiKey;
         this.debug = debug;
         this.rewriter = rewriter == null ? NarratorService::rewrite : rewriter;
-        this.transport = new NarrationTransport(aiEnabled, apiKey, debug, this.rewriter);
+        this.transport = new NarrationTransport(
+                aiEnabled,
+                apiKey,
+                debug,
+                this.rewriter,
+                streamRewriter == null ? NarratorService::rewriteStreaming : streamRewriter
+        );
     }
 
     public void setNarrationObserver(Consumer<String> narrationObserver) {
         this.narrationObserver = narrationObserver;
     }
 
+    /**
+     * Streams engine narration sentence by sentence as the model writes it instead of waiting for the whole reply.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     // Pattern: Orchestration + Trust UX
     // - Passes deterministic engine text into the narrator prompt and falls back to raw output on errors.
     public void narrateEngine(String text,
@@ -91,6 +120,10 @@ public final class NarrationService extends BuuiConsole {
                     recentActions,
                     recentNarrations
             );
+            if (streaming && NarrationStream.supports(raw, mode)) {
+                narrateEngineStreaming(prompt, raw, snapshot, mode, fallback);
+                return;
+            }
             String out = transport.rewrite(prompt);
             if (out != null && !out.isBlank()) {
                 if (NarrationOutputFormatter.isMultiSceneError(out)) {
@@ -204,6 +237,71 @@ public final class NarrationService extends BuuiConsole {
         emitNarration(NarrationOutputFormatter.buildColorFallback(snapshot, colorEvent));
     }
 
+    // Pattern: Trust UX
+    // - Shows each grounded sentence as soon as it is complete, laid out like printNarration; if none makes it, the
+    //   player sees the deterministic narration exactly as the buffered path would have shown it.
+    private void narrateEngineStreaming(String prompt,
+                                        String raw,
+                                        String snapshot,
+                                        NarrationPromptMode mode,
+                                        String fallback) {
+        StreamingTextWriter writer = StreamingTextWriter.narration();
+        NarrationStream stream = new NarrationStream(raw, mode, sentence -> writer.write(sentence + " "), writer::paragraph);
+        String error = null;
+        try {
+            transport.rewriteStreaming(prompt, stream);
+        } catch (Exception ex) {
+            error = ex.getMessage();
+        }
+        stream.finish();
+        writer.finish();
+        if (debug && error != null) {
+            printText("~ narrator error: " + error);
+        }
+        if (debug && stream.isAborted()) {
+            printText("~ narrator stream stopped (" + stream.abortReason() + ")"
+                    + (stream.hasEmitted() ? "; keeping grounded sentences" : "; using deterministic output"));
+        }
+        if (!stream.hasEmitted()) {
+            if (debug && error == null && !stream.isAborted()) {
+                printText("~ narrator returned empty; using deterministic output");
+            }
+            emitNarration(fallback);
+            return;
+        }
+        String tail = streamedTail(raw, snapshot, mode);
+        if (!tail.isBlank()) {
+            printBlank();
+            print(tail);
+        }
+        if (narrationObserver != null) {
+            narrationObserver.accept(tail.isBlank() ? writer.text() : writer.text() + "\n\n" + tail);
+        }
+    }
+
+    /**
+     * The deterministic part of a scene narration that follows the prose: scene lists and the exits line.
+     */
+    private static String streamedTail(String raw, String snapshot, NarrationPromptMode mode) {
+        if (mode != NarrationPromptMode.SCENE) {
+            return "";
+        }
+        String lists = NarrationOutputFormatter.containsExitsLine(raw)
+                ? NarrationOutputFormatter.appendSceneLists("", raw)
+                : "";
+        return NarrationOutputFormatter.attachExits(lists, NarrationOutputFormatter.extractExitsLine(raw, snapshot));
+    }
+
+    private static NarratorStreamRewriter wholeReply(NarratorRewriter rewriter) {
+        return (apiKey, prompt, debug, listener) -> {
+            String text = rewriter.rewrite(apiKey, prompt, debug);
+            if (text != null && listener != null) {
+                listener.onDelta(text);
+            }
+            return text;
+        };
+    }
+
     private void emitNarration(String text) {
         if (text == null) {
             return;
@@ -0,0 +1,166 @@
+package com.demo.adventure.ai.runtime;
+
+import com.demo.adventure.ai.client.AiChatStreamListener;
+
+import java.util.function.Consumer;
+
+/**
+ * Incremental grounding gate for streamed engine narration.
+ *
+ * Fragments are buffered until a sentence (or line) is complete; each complete unit goes through the same
+ * {@link NarrationOutputFormatter} steps {@code normalizeNarratorOutput} applies to a whole reply (empty footers,
+ * exits lines and the leading location sentence are stripped), must pass
+ * {@link NarrationGrounding#isGroundedNarration}, and is then released to the sink. A blank line in the reply is
+ * passed on as a paragraph break. The first unit that fails stops the stream, so nothing ungrounded ever reaches
+ * the player.
+ */
+final class NarrationStream implements AiChatStreamListener {
+    private final String rawEngineOutput;
+    private final NarrationPromptMode mode;
+    private final Consumer<String> sink;
+    private final Runnable paragraphBreak;
+    private final StringBuilder pending = new StringBuilder();
+    private boolean started;
+    private int emitted;
+    private int newlinesSinceEmit;
+    private boolean aborted;
+    private String abortReason = "";
+
+    NarrationStream(String rawEngineOutput, NarrationPromptMode mode, Consumer<String> sink) {
+        this(rawEngineOutput, mode, sink, () -> { });
+    }
+
+    NarrationStream(String rawEngineOutput, NarrationPromptMode mode, Consumer<String> sink, Runnable paragraphBreak) {
+        this.rawEngineOutput = rawEngineOutput;
+        this.mode = mode;
+        this.sink = sink;
+        this.paragraphBreak = paragraphBreak;
+    }
+
+    /**
+     * Engine narration can stream unless its final shape depends on the whole reply: emotes and checks are
+     * rewritten as a unit, and a directional look must mention every direction somewhere.
+     */
+    static boolean supports(String rawEngineOutput, NarrationPromptMode mode) {
+        return mode != NarrationPromptMode.LOOK_DIRECTION
+                && !NarrationOutputFormatter.isEmoteActionResult(rawEngineOutput);
+    }
+
+    @Override
+    public boolean onDelta(String text) {
+        if (aborted) {
+            return false;
+        }
+        if (text != null) {
+            pending.append(text);
+            drain(false);
+        }
+        return !aborted;
+    }
+
+    /**
+     * Releases whatever is left once the stream has ended.
+     */
+    void finish() {
+        if (!aborted) {
+            drain(true);
+        }
+        pending.setLength(0);
+    }
+
+    boolean hasEmitted() {
+        return emitted > 0;
+    }
+
+    boolean isAborted() {
+        return aborted;
+    }
+
+    String abortReason() {
+        return abortReason;
+    }
+
+    private void drain(boolean end) {
+        while (!aborted) {
+            int cut = unitEnd(end);
+            if (cut < 0) {
+                return;
+            }
+            String raw = pending.substring(0, cut);
+            pending.delete(0, cut);
+            String unit = raw.trim();
+            if (unit.isEmpty()) {
+                newlinesSinceEmit += newlines(raw);
+                continue;
+            }
+            accept(unit);
+            if (raw.endsWith("\n") || raw.endsWith("\r")) {
+                newlinesSinceEmit++;
+            }
+        }
+    }
+
+    /**
+     * End of the first complete unit in the buffer: a line break, or sentence punctuation followed by whitespace.
+     */
+    private int unitEnd(boolean end) {
+        for (int i = 0; i < pending.length(); i++) {
+            char c = pending.charAt(i);
+            if (c == '\r' && i + 1 < pending.length() && pending.charAt(i + 1) == '\n') {
+                return i + 2;
+            }
+            if (c == '\n' || c == '\r') {
+                return i + 1;
+            }
+            if ((c == '.' || c == '!' || c == '?')
+                    && i + 1 < pending.length()
+                    && Character.isWhitespace(pending.charAt(i + 1))) {
+                return i + 1;
+            }
+        }
+        return end && !pending.isEmpty() ? pending.length() : -1;
+    }
+
+    private void accept(String unit) {
+        boolean first = !started;
+        started = true;
+        if (first && NarrationOutputFormatter.isMultiSceneError(unit)) {
+            abort("multi-scene error");
+            return;
+        }
+        // The deterministic tail carries footers and exits.
+        String cleaned = NarrationOutputFormatter.stripExitsLines(NarrationOutputFormatter.stripEmptyFooters(unit)).trim();
+        if (emitted == 0) {
+            cleaned = NarrationOutputFormatter.stripLeadingLocationSentence(cleaned).trim();
+        }
+        if (cleaned.isEmpty()) {
+            return;
+        }
+        if (!NarrationGrounding.isGroundedNarration(cleaned, rawEngineOutput, mode)) {
+            abort("not grounded: " + cleaned);
+            return;
+        }
+        if (emitted > 0 && newlinesSinceEmit >= 2) {
+            paragraphBreak.run();
+        }
+        newlinesSinceEmit = 0;
+        emitted++;
+        sink.accept(cleaned);
+    }
+
+    private static int newlines(String text) {
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || (c == '\r' && (i + 1 >= text.length() || text.charAt(i + 1) != '\n'))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void abort(String reason) {
+        aborted = true;
+        abortReason = reason;
+    }
+}
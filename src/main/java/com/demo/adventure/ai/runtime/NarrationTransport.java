@@ -1,16 +1,24 @@
 package com.demo.adventure.ai.runtime;
 
+import com.demo.adventure.ai.client.AiChatStreamListener;
+
 final class NarrationTransport {
     private final boolean aiEnabled;
     private final String apiKey;
     private final boolean debug;
     private final NarrationService.NarratorRewriter rewriter;
+    private final NarrationService.NarratorStreamRewriter streamRewriter;
 
-    NarrationTransport(boolean aiEnabled, String apiKey, boolean debug, NarrationService.NarratorRewriter rewriter) {
+    NarrationTransport(boolean aiEnabled,
+                       String apiKey,
+                       boolean debug,
+                       NarrationService.NarratorRewriter rewriter,
+                       NarrationService.NarratorStreamRewriter streamRewriter) {
         this.aiEnabled = aiEnabled;
         this.apiKey = apiKey;
         this.debug = debug;
         this.rewriter = rewriter;
+        this.streamRewriter = streamRewriter;
     }
 
     boolean isEnabled() {
@@ -27,4 +35,11 @@ final class NarrationTransport {
         }
         return rewriter.rewrite(apiKey, prompt, debug);
     }
+
+    String rewriteStreaming(String prompt, AiChatStreamListener listener) throws Exception {
+        if (!aiEnabled || prompt == null || prompt.isBlank()) {
+            return null;
+        }
+        return streamRewriter.rewrite(apiKey, prompt, debug, listener);
+    }
 }
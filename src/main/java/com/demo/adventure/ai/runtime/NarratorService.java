@@ -4,7 +4,7 @@ import com.demo.adventure.ai.client.AiChatClient;
 import com.demo.adventure.ai.client.AiChatMessage;
 import com.demo.adventure.ai.client.AiChatRequest;
 import com.demo.adventure.ai.client.AiChatResponse;
-import com.demo.adventure.ai.client.OpenAiChatClient;
+import com.demo.adventure.ai.client.AiChatStreamListener;
 import com.demo.adventure.buui.BuuiConsole;
 
 import java.time.Duration;
@@ -22,7 +22,7 @@ public final class NarratorService extends BuuiConsole {
     private static final boolean ENABLE_LOGPROBS = CONFIG.getBoolean("ai.narrator.logprobs", false);
     private static final int TOP_LOGPROBS = CONFIG.getInt("ai.narrator.top_logprobs", 3);
     private static final Duration TIMEOUT = Duration.ofSeconds(40);
-    private static final AiChatClient CHAT_CLIENT = new OpenAiChatClient();
+    private static final AiChatClient CHAT_CLIENT = AiClients.forSite("narrator");
 
     private NarratorService() {}
 
@@ -33,7 +33,32 @@ public final class NarratorService extends BuuiConsole {
             return null;
         }
         AiPromptPrinter.printChatPrompt("narrator", SYSTEM_PROMPT, prompt, debug);
-        AiChatRequest chatRequest = AiChatRequest.builder()
+        AiChatResponse response = CHAT_CLIENT.chat(apiKey, request(prompt));
+        if (response == null) {
+            return null;
+        }
+        String text = response.content();
+        if (debug) {
+            printText("~ narrator response:\n" + (text == null ? "(empty)" : text.trim()));
+        }
+        return text;
+    }
+
+    /**
+     * Same request as {@link #rewrite}, streamed: fragments reach {@code listener} as the model produces them.
+     * The response is not echoed in debug mode because it is already on screen by the time it completes.
+     */
+    public static String rewriteStreaming(String apiKey, String prompt, boolean debug, AiChatStreamListener listener) throws Exception {
+        if (apiKey == null || apiKey.isBlank()) {
+            return null;
+        }
+        AiPromptPrinter.printChatPrompt("narrator", SYSTEM_PROMPT, prompt, debug);
+        AiChatResponse response = CHAT_CLIENT.chatStream(apiKey, request(prompt), listener);
+        return response == null ? null : response.content();
+    }
+
+    private static AiChatRequest request(String prompt) {
+        return AiChatRequest.builder()
                 .model(MODEL)
                 .messages(List.of(
                         AiChatMessage.system(SYSTEM_PROMPT),
@@ -45,14 +70,5 @@ public final class NarratorService extends BuuiConsole {
                 .topLogprobs(ENABLE_LOGPROBS ? TOP_LOGPROBS : null)
                 .timeout(TIMEOUT)
                 .build();
-        AiChatResponse response = CHAT_CLIENT.chat(apiKey, chatRequest);
-        if (response == null) {
-            return null;
-        }
-        String text = response.content();
-        if (debug) {
-            printText("~ narrator response:\n" + (text == null ? "(empty)" : text.trim()));
-        }
-        return text;
     }
 }
@@ -4,7 +4,7 @@ import com.demo.adventure.ai.client.AiChatClient;
 import com.demo.adventure.ai.client.AiChatMessage;
 import com.demo.adventure.ai.client.AiChatRequest;
 import com.demo.adventure.ai.client.AiChatResponse;
-import com.demo.adventure.ai.client.OpenAiChatClient;
+import com.demo.adventure.ai.runtime.AiClients;
 import com.demo.adventure.ai.runtime.AiConfig;
 import com.demo.adventure.ai.runtime.AiPromptPrinter;
 import com.demo.adventure.buui.BuuiConsole;
@@ -20,7 +20,7 @@ public final class SmartActorService extends BuuiConsole {
     private static final boolean ENABLE_LOGPROBS = CONFIG.getBoolean("ai.smart_actor.logprobs", false);
     private static final int TOP_LOGPROBS = CONFIG.getInt("ai.smart_actor.top_logprobs", 3);
     private static final Duration TIMEOUT = Duration.ofSeconds(40);
-    private static final AiChatClient CHAT_CLIENT = new OpenAiChatClient();
+    private static final AiChatClient CHAT_CLIENT = AiClients.forSite("smart_actor");
 
     private SmartActorService() {
     }
@@ -14,6 +14,8 @@ import com.demo.adventure.authoring.save.build.WorldBuildResult;
 import com.demo.adventure.authoring.save.io.GameSaveYamlLoader;
 import com.demo.adventure.authoring.save.io.GameSaveYamlWriter;
 import com.demo.adventure.authoring.save.io.StructuredGameSaveLoader;
+import com.demo.adventure.authoring.save.io.WorldImage;
+import com.demo.adventure.authoring.save.io.WorldImageWriter;
 import com.demo.adventure.domain.save.GameSave;
 
 import java.nio.file.Path;
@@ -21,7 +23,7 @@ import java.util.Locale;
 
 /**
  * Simple CLI utility to load a GameSave YAML or GDL, optionally validate/build it,
- * and emit a deterministic YAML snapshot.
+ * and emit a deterministic YAML snapshot and/or a compiled world image.
  *
  * Usage:
  * mvn -q -Dexec.mainClass=com.demo.adventure.authoring.cli.GameBuilderCli -Dexec.args="input.yaml --out output.yaml" exec:java
@@ -48,6 +50,7 @@ public final class GameBuilderCli extends BuuiConsole {
         boolean showBom = false;
         boolean showReport = false;
         boolean forceGdl = false;
+        boolean writeImage = false;
 
         for (int i = 0; i < args.length; i++) {
             String arg = args[i];
@@ -79,6 +82,9 @@ public final class GameBuilderCli extends BuuiConsole {
                 case "--report":
                     showReport = true;
                     break;
+                case "--image":
+                    writeImage = true;
+                    break;
                 default:
                     if (input == null) {
                         input = Path.of(arg);
@@ -148,6 +154,20 @@ public final class GameBuilderCli extends BuuiConsole {
             printText(WorldBillOfMaterialsFormatter.format(bom));
         }
 
+        if (writeImage) {
+            Path imagePath = WorldImage.imagePathFor(input);
+            try {
+                WorldImageWriter.write(save, input, imagePath);
+                println("Wrote world image to " + imagePath.toAbsolutePath());
+            } catch (Exception ex) {
+                System.err.println("Failed to write world image: " + ex.getMessage());
+                return 1;
+            }
+            if (output == null && !toStdout) {
+                return 0;
+            }
+        }
+
         try {
             if (output != null) {
                 GameSaveYamlWriter.write(save, output);
@@ -170,16 +190,18 @@ public final class GameBuilderCli extends BuuiConsole {
                 Loads a GameSave YAML or GDL, optionally validates/builds it, and writes a deterministic YAML snapshot.
 
                 Usage:
-                  gamebuilder <input.yaml|input.gdl> [--gdl] [--out <file> | --stdout] [--skip-validate] [--bom] [--report]
+                  gamebuilder <input.yaml|input.gdl> [--gdl] [--out <file> | --stdout] [--skip-validate] [--bom] [--report] [--image]
 
                 Options:
                   -h, --help         Show this help.
                   --gdl              Treat input as GDL (required when extension is not .gdl).
                   -o, --out FILE     Write YAML to FILE.
-                  --stdout           Write YAML to stdout (default when no --out is given).
+                  --stdout           Write YAML to stdout (default when neither --out nor --image is given).
                   --skip-validate    Skip world build/validation. Still rewrites YAML deterministically.
                   --bom              Print a bill of materials after a successful build.
                   --report           Print the build/validation report after a successful build.
+                  --image            Write a compiled world image next to the input (<input>.wimg); the game
+                                     runtime loads it instead of parsing while the sources are unchanged.
                 """);
     }
 }
@@ -16,4 +16,16 @@ public interface FixtureDescriptionExpander {
      * @return description patches applied
      */
     List<GardenerDescriptionPatch> expand(KernelRegistry registry);
+
+    /**
+     * Expand descriptions for the world identified by {@code worldFingerprint}, which expanders that checkpoint
+     * their progress use to resume an interrupted run.
+     *
+     * @param registry         populated registry to mutate
+     * @param worldFingerprint {@link WorldFingerprint} of the source save, or null when unknown
+     * @return description patches applied
+     */
+    default List<GardenerDescriptionPatch> expand(KernelRegistry registry, String worldFingerprint) {
+        return expand(registry);
+    }
 }
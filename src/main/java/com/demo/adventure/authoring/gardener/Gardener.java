@@ -55,7 +55,10 @@ public final class Gardener {
         WorldBuildReport combinedReport = new WorldBuildReport(buildResult.report().getProblems());
         combinedReport.addAll(exitReport.getProblems());
 
-        List<GardenerDescriptionPatch> patches = fixtureDescriptionExpander.expand(buildResult.registry());
+        List<GardenerDescriptionPatch> patches = fixtureDescriptionExpander.expand(
+                buildResult.registry(),
+                WorldFingerprint.fingerprint(save)
+        );
 
         return new GardenResult(buildResult.startPlotId(), buildResult.seed(), buildResult.registry(), combinedReport, patches);
     }
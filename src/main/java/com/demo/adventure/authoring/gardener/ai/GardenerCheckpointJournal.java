@@ -0,0 +1,124 @@
+package com.demo.adventure.authoring.gardener.ai;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Append-only record of the descriptions a Gardener run has already received for one world, so an interrupted run
+ * can resume where it stopped.
+ *
+ * There is one file per world fingerprint, {@code <dir>/<fingerprint>.journal}. Each line holds a target key and
+ * its Base64 description and is flushed as soon as it is written. A last line without its newline (a crash
+ * mid-write) is ignored on load. Thread-safe.
+ */
+final class GardenerCheckpointJournal implements Closeable {
+    private static final String HEADER = "# gardener-journal v1";
+
+    private final Path file;
+    private final Map<String, String> completed = new ConcurrentHashMap<>();
+    private final BufferedWriter writer;
+
+    private GardenerCheckpointJournal(Path file, BufferedWriter writer) {
+        this.file = file;
+        this.writer = writer;
+    }
+
+    static GardenerCheckpointJournal open(Path dir, String worldFingerprint) throws IOException {
+        if (worldFingerprint == null || worldFingerprint.isBlank()) {
+            throw new IllegalArgumentException("worldFingerprint is required");
+        }
+        Files.createDirectories(dir);
+        Path file = dir.resolve(worldFingerprint.trim() + ".journal");
+        boolean fresh = !Files.exists(file) || Files.size(file) == 0;
+        List<String> existing = fresh ? List.of() : Files.readAllLines(file, StandardCharsets.UTF_8);
+        boolean torn = !fresh && !endsWithNewline(file);
+        if (torn) {
+            // A crash mid-write leaves the last line without its newline; its description may be cut short.
+            existing = existing.subList(0, existing.size() - 1);
+        }
+        BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        GardenerCheckpointJournal journal = new GardenerCheckpointJournal(file, writer);
+        if (fresh) {
+            writer.write(HEADER);
+            writer.newLine();
+            writer.flush();
+        } else {
+            existing.forEach(journal::load);
+            if (torn) {
+                writer.newLine();
+                writer.flush();
+            }
+        }
+        return journal;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    int size() {
+        return completed.size();
+    }
+
+    /**
+     * Description already received for {@code targetKey}, or null when the target still needs a request.
+     */
+    String completed(String targetKey) {
+        return targetKey == null ? null : completed.get(targetKey);
+    }
+
+    synchronized void append(String targetKey, String description) throws IOException {
+        if (targetKey == null || description == null) {
+            return;
+        }
+        writer.write(targetKey);
+        writer.write('\t');
+        writer.write(Base64.getEncoder().encodeToString(description.getBytes(StandardCharsets.UTF_8)));
+        writer.newLine();
+        writer.flush();
+        completed.put(targetKey, description);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+
+    private static boolean endsWithNewline(Path file) throws IOException {
+        try (var channel = Files.newByteChannel(file, StandardOpenOption.READ)) {
+            if (channel.size() == 0) {
+                return true;
+            }
+            ByteBuffer last = ByteBuffer.allocate(1);
+            channel.position(channel.size() - 1).read(last);
+            return last.get(0) == '\n';
+        }
+    }
+
+    private void load(String line) {
+        if (line.isBlank() || line.startsWith("#")) {
+            return;
+        }
+        int tab = line.indexOf('\t');
+        if (tab <= 0) {
+            return;
+        }
+        try {
+            String description = new String(Base64.getDecoder().decode(line.substring(tab + 1)), StandardCharsets.UTF_8);
+            completed.put(line.substring(0, tab), description);
+        } catch (IllegalArgumentException ex) {
+            // Torn or corrupt line; the target is requested again.
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.demo.adventure.authoring.gardener.ai;
+
+import java.net.URI;
+import java.nio.file.Path;
+
+/**
+ * How {@link OpenAiHttpFixtureDescriptionExpander} sends its requests.
+ *
+ * The defaults reproduce the original behaviour: one target per request, one request at a time, no journal. Any
+ * other setting switches to fan-out mode, where batches go out concurrently through a rate-limited transport and
+ * each received description is checkpointed so a rerun of the same world skips it.
+ *
+ * @param concurrency       requests in flight at once
+ * @param requestsPerSecond sustained request rate; 0 or less means unlimited
+ * @param batchSize         targets packed into one prompt
+ * @param journalDir        directory for per-world checkpoint journals; null disables checkpointing
+ * @param endpoint          chat-completions endpoint; null uses the client's default
+ */
+public record GardenerExpansionOptions(
+        int concurrency,
+        double requestsPerSecond,
+        int batchSize,
+        Path journalDir,
+        URI endpoint
+) {
+    public GardenerExpansionOptions {
+        concurrency = Math.max(1, concurrency);
+        batchSize = Math.max(1, batchSize);
+    }
+
+    public static GardenerExpansionOptions sequential() {
+        return new GardenerExpansionOptions(1, 0.0, 1, null, null);
+    }
+
+    /**
+     * Options from {@code gardener.ai.concurrency}, {@code gardener.ai.requests_per_second},
+     * {@code gardener.ai.batch_size}, {@code gardener.ai.journal.dir} and {@code gardener.ai.endpoint}.
+     */
+    public static GardenerExpansionOptions fromSystemProperties() {
+        String journal = System.getProperty("gardener.ai.journal.dir", "");
+        String endpoint = System.getProperty("gardener.ai.endpoint", "");
+        return new GardenerExpansionOptions(
+                Integer.getInteger("gardener.ai.concurrency", 1),
+                parseDouble(System.getProperty("gardener.ai.requests_per_second"), 0.0),
+                Integer.getInteger("gardener.ai.batch_size", 1),
+                journal.isBlank() ? null : Path.of(journal.trim()),
+                endpoint.isBlank() ? null : URI.create(endpoint.trim())
+        );
+    }
+
+    boolean fanOut() {
+        return concurrency > 1 || batchSize > 1 || journalDir != null;
+    }
+
+    private static double parseDouble(String raw, double fallback) {
+        if (raw == null || raw.isBlank()) {
+            return fallback;
+        }
+        try {
+            return Double.parseDouble(raw.trim());
+        } catch (NumberFormatException ex) {
+            return fallback;
+        }
+    }
+}
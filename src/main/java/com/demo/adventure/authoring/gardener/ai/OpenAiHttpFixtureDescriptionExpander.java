@@ -4,6 +4,8 @@ import com.demo.adventure.ai.client.AiChatClient;
 import com.demo.adventure.ai.client.AiChatMessage;
 import com.demo.adventure.ai.client.AiChatRequest;
 import com.demo.adventure.ai.client.AiChatResponse;
+import com.demo.adventure.ai.client.AiTransport;
+import com.demo.adventure.ai.client.AiTransportPolicy;
 import com.demo.adventure.ai.client.OpenAiChatClient;
 import com.demo.adventure.ai.runtime.AiPromptPrinter;
 import com.demo.adventure.authoring.gardener.FixtureDescriptionExpander;
@@ -22,35 +24,82 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.UUID;
 
 /**
  * Description expander that calls OpenAI's chat API directly for plots, fixtures, and items.
+ *
+ * By default targets are sent one per request, one after another. {@link GardenerExpansionOptions} can switch on
+ * fan-out mode instead:
+ * <ul>
+ *     <li>batches of targets go out concurrently through an {@link AiTransport} that caps the rate and retries;</li>
+ *     <li>each received description is appended to a {@link GardenerCheckpointJournal} keyed by world fingerprint,
+ *     so a rerun replays it instead of asking again.</li>
+ * </ul>
+ * Patches are still applied to the registry on the calling thread, in the same order as a sequential run.
  */
 public final class OpenAiHttpFixtureDescriptionExpander implements FixtureDescriptionExpander {
     private static final String MODEL = "gpt-4o-mini";
     private static final Duration TIMEOUT = Duration.ofSeconds(Long.getLong("gardener.ai.timeout.seconds", 120L));
     private static final String SYSTEM_PROMPT = loadPrompt();
     private static final AiChatClient CHAT_CLIENT = new OpenAiChatClient();
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
     private final String voice;
     private final String overview;
+    private final GardenerExpansionOptions options;
+    private final AiChatClient chatClient;
+    private final String apiKeyOverride;
 
     public OpenAiHttpFixtureDescriptionExpander() {
         this("", "");
     }
 
     public OpenAiHttpFixtureDescriptionExpander(String voice, String overview) {
+        this(voice, overview, GardenerExpansionOptions.fromSystemProperties());
+    }
+
+    public OpenAiHttpFixtureDescriptionExpander(String voice, String overview, GardenerExpansionOptions options) {
+        this(voice, overview, options, CHAT_CLIENT, null);
+    }
+
+    /**
+     * @param chatClient client for the chat endpoint
+     * @param apiKey     key to send; null resolves it from the environment or key file as usual
+     */
+    public OpenAiHttpFixtureDescriptionExpander(
+            String voice,
+            String overview,
+            GardenerExpansionOptions options,
+            AiChatClient chatClient,
+            String apiKey
+    ) {
         this.voice = voice == null ? "" : voice;
         this.overview = overview == null ? "" : overview;
+        this.options = options == null ? GardenerExpansionOptions.sequential() : options;
+        this.chatClient = chatClient == null ? CHAT_CLIENT : chatClient;
+        this.apiKeyOverride = apiKey;
     }
 
     @Override
     public List<GardenerDescriptionPatch> expand(KernelRegistry registry) {
-        String apiKey = resolveApiKey();
+        return expand(registry, null);
+    }
+
+    @Override
+    public List<GardenerDescriptionPatch> expand(KernelRegistry registry, String worldFingerprint) {
+        String apiKey = apiKeyOverride == null ? resolveApiKey() : apiKeyOverride;
         if (apiKey == null) {
             System.out.println("[Gardener] OpenAI key not found; skipping AI expansion.");
             return List.of();
@@ -61,16 +110,19 @@ public final class OpenAiHttpFixtureDescriptionExpander implements FixtureDescri
         }
 
         List<TargetInput> allTargets = collectTargets(registry, plots);
-        List<GardenerDescriptionPatch> patches = new ArrayList<>();
-        patches.addAll(processTargets(allTargets, t -> "PLOT".equals(t.type()), registry, apiKey));
-        patches.addAll(processTargets(allTargets, t -> "GATE".equals(t.type()), registry, apiKey));
-        patches.addAll(processTargets(allTargets, t -> !"PLOT".equals(t.type()) && !"GATE".equals(t.type()), registry, apiKey));
-        return patches;
+        try (FanOut fanOut = options.fanOut() ? openFanOut(worldFingerprint) : null) {
+            List<GardenerDescriptionPatch> patches = new ArrayList<>();
+            patches.addAll(processTargets(allTargets, t -> "PLOT".equals(t.type()), registry, apiKey, fanOut));
+            patches.addAll(processTargets(allTargets, t -> "GATE".equals(t.type()), registry, apiKey, fanOut));
+            patches.addAll(processTargets(allTargets, t -> !"PLOT".equals(t.type()) && !"GATE".equals(t.type()), registry, apiKey, fanOut));
+            return patches;
+        }
     }
 
-    private static String callOpenAi(String apiKey, String systemPrompt, String userPrompt) throws Exception {
+    private String callOpenAi(AiChatClient client, String apiKey, String systemPrompt, String userPrompt) throws Exception {
         AiPromptPrinter.printChatPrompt("gardener", systemPrompt, userPrompt, false);
         AiChatRequest request = AiChatRequest.builder()
+                .endpoint(options.endpoint())
                 .model(MODEL)
                 .messages(List.of(
                         AiChatMessage.system(systemPrompt),
@@ -80,19 +132,35 @@ public final class OpenAiHttpFixtureDescriptionExpander implements FixtureDescri
                 .responseFormat(AiChatRequest.ResponseFormat.jsonObject())
                 .timeout(TIMEOUT)
                 .build();
-        AiChatResponse response = CHAT_CLIENT.chat(apiKey, request);
+        AiChatResponse response = client.chat(apiKey, request);
         return response == null ? null : response.content();
     }
 
-    @SuppressWarnings("unchecked")
     private List<GardenerDescriptionPatch> applyResponseForTarget(TargetInput target, String response, KernelRegistry registry) {
         List<GardenerDescriptionPatch> patches = new ArrayList<>();
-        if (response == null || response.isBlank() || target == null) {
+        if (target == null) {
             return patches;
         }
+        String updated = parseDescriptions(response).get(target.id());
+        GardenerDescriptionPatch patch = applyDescription(target, updated, registry);
+        if (patch != null) {
+            patches.add(patch);
+        }
+        return patches;
+    }
+
+    /**
+     * Non-blank descriptions in a model reply, by thing id; the last entry for an id wins.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<UUID, String> parseDescriptions(String response) {
+        Map<UUID, String> descriptions = new LinkedHashMap<>();
+        if (response == null || response.isBlank()) {
+            return descriptions;
+        }
         String content = parseContent(response);
         if (content == null || content.isBlank()) {
-            return patches;
+            return descriptions;
         }
         Object llmParsed = new Yaml().load(content);
         List<?> llmList = llmParsed instanceof List<?> l ? l : null;
@@ -103,7 +171,7 @@ public final class OpenAiHttpFixtureDescriptionExpander implements FixtureDescri
             llmList = List.of(singleMap);
         }
         if (llmList == null) {
-            return patches;
+            return descriptions;
         }
         for (Object entry : llmList) {
             if (!(entry instanceof Map<?, ?> raw)) {
@@ -121,49 +189,58 @@ public final class OpenAiHttpFixtureDescriptionExpander implements FixtureDescri
             } catch (Exception ex) {
                 continue;
             }
-            if (!Objects.equals(id, target.id())) {
-                continue;
+            String updated = Objects.toString(descVal, "").trim();
+            if (!updated.isBlank()) {
+                descriptions.put(id, updated);
             }
-            Thing thing = registry.get(id);
-            if (thing == null) {
-                continue;
+        }
+        return descriptions;
+    }
+
+    /**
+     * Records {@code updated} as the target's new description (per direction for gates) and returns the patch, or
+     * null when there is nothing to change.
+     */
+    private GardenerDescriptionPatch applyDescription(TargetInput target, String updated, KernelRegistry registry) {
+        if (target == null || updated == null || updated.isBlank() || registry == null) {
+            return null;
+        }
+        UUID id = target.id();
+        Thing thing = registry.get(id);
+        if (thing == null) {
+            return null;
+        }
+        if (thing instanceof Gate gate) {
+            String original = gate.getDescriptionFrom(target.fromPlotId());
+            String updatedForGate = updated;
+            String destination = nullToEmpty(target.toPlotName());
+            if (!destination.isEmpty() && !updated.toLowerCase().contains("to:")) {
+                updatedForGate = updated + " to: " + destination;
             }
-            String updated = Objects.toString(descVal, "").trim();
-            if (updated.isBlank()) {
-                continue;
+            updated = updatedForGate;
+            if (original.equals(updated)) {
+                return null;
             }
-            if (thing instanceof Gate gate) {
-                String original = gate.getDescriptionFrom(target.fromPlotId());
-                String updatedForGate = updated;
-                String destination = nullToEmpty(target.toPlotName());
-                if (!destination.isEmpty() && !updated.toLowerCase().contains("to:")) {
-                    updatedForGate = updated + " to: " + destination;
-                }
-                updated = updatedForGate;
-                if (!original.equals(updated)) {
-                    List<?> history = gate.getDescriptionHistoryFrom(target.fromPlotId());
-                    int historySize = history == null ? 0 : history.size();
-                    if (historySize == 0) {
-                        gate.recordDescriptionFrom(target.fromPlotId(), original, 0);
-                    }
-                    int nextClock = historySize == 0 ? 1 : historySize + 1;
-                    gate.recordDescriptionFrom(target.fromPlotId(), updated, nextClock);
-                    patches.add(new GardenerDescriptionPatch(id, original, updated, "ai-gardener"));
-                }
-            } else {
-                String original = thing.getDescription();
-                if (!original.equals(updated)) {
-                    int historySize = thing.getDescriptionHistory().size();
-                    if (historySize == 0) {
-                        thing.recordDescription(original, 0);
-                    }
-                    int nextClock = historySize == 0 ? 1 : historySize + 1;
-                    thing.recordDescription(updated, nextClock);
-                    patches.add(new GardenerDescriptionPatch(id, original, updated, "ai-gardener"));
-                }
+            List<?> history = gate.getDescriptionHistoryFrom(target.fromPlotId());
+            int historySize = history == null ? 0 : history.size();
+            if (historySize == 0) {
+                gate.recordDescriptionFrom(target.fromPlotId(), original, 0);
             }
+            int nextClock = historySize == 0 ? 1 : historySize + 1;
+            gate.recordDescriptionFrom(target.fromPlotId(), updated, nextClock);
+            return new GardenerDescriptionPatch(id, original, updated, "ai-gardener");
         }
-        return patches;
+        String original = thing.getDescription();
+        if (original.equals(updated)) {
+            return null;
+        }
+        int historySize = thing.getDescriptionHistory().size();
+        if (historySize == 0) {
+            thing.recordDescription(original, 0);
+        }
+        int nextClock = historySize == 0 ? 1 : historySize + 1;
+        thing.recordDescription(updated, nextClock);
+        return new GardenerDescriptionPatch(id, original, updated, "ai-gardener");
     }
 
     private static String parseContent(Object contentObj) {
@@ -329,30 +406,53 @@ public final class OpenAiHttpFixtureDescriptionExpander implements FixtureDescri
         sb.append("- theme: exploration\n");
         sb.append("- greenMotif: false\n");
         sb.append("Target:\n");
-        sb.append("  thingId: ").append(target.id()).append('\n');
-        sb.append("  thingName: ").append(nullToEmpty(target.label())).append('\n');
-        sb.append("  type: ").append(target.type()).append('\n');
-        sb.append("  plotName: ").append(nullToEmpty(target.plotName())).append('\n');
-        sb.append("  plotDescription: ").append(nullToEmpty(target.plotDescription())).append('\n');
+        appendTarget(sb, target, "  ", "  ");
+        return sb.toString();
+    }
+
+    /**
+     * Prompt for several targets at once; a thing appears at most once per batch so replies stay unambiguous.
+     */
+    private String buildBatchPrompt(List<TargetInput> batch) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("NarrativeVoice: ").append(nullToEmpty(System.getProperty("gardener.voice", voice))).append('\n');
+        sb.append("GameOverview: ").append(nullToEmpty(System.getProperty("gardener.overview", overview))).append('\n');
+        sb.append("Instruction: You are given ").append(batch.size()).append(" things. Return a JSON array with exactly one entry per thing, each containing thingId and description. If a thing is a GATE, write a short directional travel description that ties plotName to toPlotName; weave the direction into the movement and include a trailing token \" to: <toPlotName>\" to make the destination explicit. Do not change mechanics. Do not add extra fields.\n");
+        sb.append("StoryContext:\n");
+        sb.append("- backstoryId: unknown\n");
+        sb.append("- theme: exploration\n");
+        sb.append("- greenMotif: false\n");
+        sb.append("Targets:\n");
+        for (TargetInput target : batch) {
+            appendTarget(sb, target, "  - ", "    ");
+        }
+        return sb.toString();
+    }
+
+    private static void appendTarget(StringBuilder sb, TargetInput target, String firstPrefix, String indent) {
+        sb.append(firstPrefix).append("thingId: ").append(target.id()).append('\n');
+        sb.append(indent).append("thingName: ").append(nullToEmpty(target.label())).append('\n');
+        sb.append(indent).append("type: ").append(target.type()).append('\n');
+        sb.append(indent).append("plotName: ").append(nullToEmpty(target.plotName())).append('\n');
+        sb.append(indent).append("plotDescription: ").append(nullToEmpty(target.plotDescription())).append('\n');
         if (target.toPlotName() != null && !target.toPlotName().isEmpty()) {
-            sb.append("  toPlotName: ").append(nullToEmpty(target.toPlotName())).append('\n');
+            sb.append(indent).append("toPlotName: ").append(nullToEmpty(target.toPlotName())).append('\n');
         }
         if (target.toPlotDescription() != null && !target.toPlotDescription().isEmpty()) {
-            sb.append("  toPlotDescription: ").append(nullToEmpty(target.toPlotDescription())).append('\n');
+            sb.append(indent).append("toPlotDescription: ").append(nullToEmpty(target.toPlotDescription())).append('\n');
         }
         if (target.direction() != null && !target.direction().isEmpty()) {
-            sb.append("  direction: ").append(nullToEmpty(target.direction())).append('\n');
+            sb.append(indent).append("direction: ").append(nullToEmpty(target.direction())).append('\n');
         }
-        sb.append("  description: ").append(target.history().isEmpty() ? "" : nullToEmpty(target.history().get(target.history().size() - 1))).append('\n');
-        sb.append("  history:\n");
+        sb.append(indent).append("description: ").append(target.history().isEmpty() ? "" : nullToEmpty(target.history().get(target.history().size() - 1))).append('\n');
+        sb.append(indent).append("history:\n");
         for (String h : target.history()) {
-            sb.append("    - ").append(nullToEmpty(h)).append('\n');
+            sb.append(indent).append("  - ").append(nullToEmpty(h)).append('\n');
         }
-        sb.append("  context:\n");
+        sb.append(indent).append("context:\n");
         for (String c : target.context()) {
-            sb.append("    - ").append(nullToEmpty(c)).append('\n');
+            sb.append(indent).append("  - ").append(nullToEmpty(c)).append('\n');
         }
-        return sb.toString();
     }
 
     private static String resolveApiKey() {
@@ -423,19 +523,23 @@ Keep mechanics unchanged; rewrite every provided thing’s description in 1–2
             List<TargetInput> candidates,
             Predicate<TargetInput> filter,
             KernelRegistry registry,
-            String apiKey
+            String apiKey,
+            FanOut fanOut
     ) {
         List<TargetInput> filtered = new ArrayList<>();
         if (candidates != null) {
             candidates.stream().filter(filter).forEach(filtered::add);
         }
         filtered.sort(java.util.Comparator.comparing(TargetInput::label, java.util.Comparator.nullsLast(String::compareTo)));
+        if (fanOut != null) {
+            return processConcurrently(filtered, registry, apiKey, fanOut);
+        }
 
         List<GardenerDescriptionPatch> patches = new ArrayList<>();
         for (TargetInput target : filtered) {
             try {
                 String user = buildUserPrompt(target);
-                String response = callOpenAi(apiKey, SYSTEM_PROMPT, user);
+                String response = callOpenAi(chatClient, apiKey, SYSTEM_PROMPT, user);
                 patches.addAll(applyResponseForTarget(target, response, registry));
             } catch (Exception ex) {
                 System.out.println("[Gardener] OpenAI call failed for " + target.label() + "; skipping. " + ex.getMessage());
@@ -444,6 +548,167 @@ Keep mechanics unchanged; rewrite every provided thing’s description in 1–2
         return patches;
     }
 
+    /**
+     * Fan-out path: targets already in the journal are replayed, the rest are batched and requested concurrently.
+     * Results are applied in {@code targets} order once each batch is back.
+     */
+    private List<GardenerDescriptionPatch> processConcurrently(
+            List<TargetInput> targets,
+            KernelRegistry registry,
+            String apiKey,
+            FanOut fanOut
+    ) {
+        List<List<TargetInput>> batches = new ArrayList<>();
+        Map<TargetInput, Integer> batchOf = new IdentityHashMap<>();
+        List<TargetInput> current = new ArrayList<>();
+        for (TargetInput target : targets) {
+            if (fanOut.completed(target) != null) {
+                continue;
+            }
+            boolean sameThing = current.stream().anyMatch(t -> t.id().equals(target.id()));
+            if (current.size() >= options.batchSize() || sameThing) {
+                batches.add(current);
+                current = new ArrayList<>();
+            }
+            current.add(target);
+            batchOf.put(target, batches.size());
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+
+        List<Future<Map<String, String>>> futures = new ArrayList<>();
+        for (List<TargetInput> batch : batches) {
+            futures.add(fanOut.executor.submit(() -> requestBatch(batch, apiKey, fanOut)));
+        }
+
+        List<GardenerDescriptionPatch> patches = new ArrayList<>();
+        Map<Integer, Map<String, String>> received = new HashMap<>();
+        for (TargetInput target : targets) {
+            String updated = fanOut.completed(target);
+            Integer batchIndex = batchOf.get(target);
+            if (batchIndex != null) {
+                Map<String, String> results = received.computeIfAbsent(batchIndex, i -> awaitBatch(futures.get(i), batches.get(i)));
+                updated = results.get(targetKey(target));
+            }
+            GardenerDescriptionPatch patch = applyDescription(target, updated, registry);
+            if (patch != null) {
+                patches.add(patch);
+            }
+        }
+        return patches;
+    }
+
+    /**
+     * Runs on a worker thread: one request for the batch, journaling each description it returns.
+     */
+    private Map<String, String> requestBatch(List<TargetInput> batch, String apiKey, FanOut fanOut) throws Exception {
+        String user = batch.size() == 1 ? buildUserPrompt(batch.get(0)) : buildBatchPrompt(batch);
+        Map<UUID, String> descriptions = parseDescriptions(callOpenAi(fanOut.client, apiKey, SYSTEM_PROMPT, user));
+        Map<String, String> results = new HashMap<>();
+        for (TargetInput target : batch) {
+            String updated = descriptions.get(target.id());
+            if (updated == null) {
+                continue;
+            }
+            results.put(targetKey(target), updated);
+            fanOut.checkpoint(target, updated);
+        }
+        return results;
+    }
+
+    private static Map<String, String> awaitBatch(Future<Map<String, String>> future, List<TargetInput> batch) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+            List<String> labels = batch.stream().map(TargetInput::label).toList();
+            System.out.println("[Gardener] OpenAI call failed for " + String.join(", ", labels) + "; skipping. " + cause.getMessage());
+        }
+        return Map.of();
+    }
+
+    private FanOut openFanOut(String worldFingerprint) {
+        GardenerCheckpointJournal journal = null;
+        if (options.journalDir() != null && worldFingerprint != null && !worldFingerprint.isBlank()) {
+            try {
+                journal = GardenerCheckpointJournal.open(options.journalDir(), worldFingerprint);
+                if (journal.size() > 0) {
+                    System.out.println("[Gardener] Resuming from " + journal.file() + " (" + journal.size() + " targets done).");
+                }
+            } catch (Exception ex) {
+                System.out.println("[Gardener] Checkpoint journal unavailable; continuing without it. " + ex.getMessage());
+            }
+        }
+        AiTransportPolicy defaults = AiTransportPolicy.defaults();
+        AiTransportPolicy policy = new AiTransportPolicy(
+                options.concurrency(),
+                options.requestsPerSecond(),
+                options.concurrency(),
+                defaults.maxRetries(),
+                defaults.baseBackoff(),
+                defaults.maxBackoff(),
+                TIMEOUT,
+                defaults.hedgeMinSamples()
+        );
+        AiChatClient client = new AiTransport(chatClient, policy).client(0.0);
+        ExecutorService executor = Executors.newFixedThreadPool(options.concurrency(), runnable -> {
+            Thread thread = new Thread(runnable, "gardener-ai-" + THREAD_IDS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new FanOut(client, executor, journal);
+    }
+
+    private static String targetKey(TargetInput target) {
+        return "GATE".equals(target.type()) ? target.id() + "@" + target.fromPlotId() : target.id().toString();
+    }
+
+    /**
+     * Per-run fan-out state: the rate-limited client, worker pool and optional journal.
+     */
+    private static final class FanOut implements AutoCloseable {
+        private final AiChatClient client;
+        private final ExecutorService executor;
+        private final GardenerCheckpointJournal journal;
+
+        private FanOut(AiChatClient client, ExecutorService executor, GardenerCheckpointJournal journal) {
+            this.client = client;
+            this.executor = executor;
+            this.journal = journal;
+        }
+
+        private String completed(TargetInput target) {
+            return journal == null ? null : journal.completed(targetKey(target));
+        }
+
+        private void checkpoint(TargetInput target, String description) {
+            if (journal == null) {
+                return;
+            }
+            try {
+                journal.append(targetKey(target), description);
+            } catch (Exception ex) {
+                System.out.println("[Gardener] Checkpoint write failed for " + target.label() + ". " + ex.getMessage());
+            }
+        }
+
+        @Override
+        public void close() {
+            executor.shutdownNow();
+            if (journal != null) {
+                try {
+                    journal.close();
+                } catch (Exception ignored) {
+                    // Entries are flushed as they are written.
+                }
+            }
+        }
+    }
+
     private static Map<UUID, Plot> plotsById(KernelRegistry registry) {
         Map<UUID, Plot> plots = new java.util.LinkedHashMap<>();
         if (registry == null) {
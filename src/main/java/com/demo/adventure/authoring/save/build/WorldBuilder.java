@@ -8,6 +8,7 @@ import com.demo.adventure.domain.model.Thing;
 import com.demo.adventure.domain.kernel.KernelRegistry;
 import com.demo.adventure.domain.model.GateBuilder;
 
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 /**
@@ -89,6 +90,7 @@ public final class WorldBuilder {
         }
 
         Gate gate = new GateBuilder()
+                .withId(gateId(plotAId, directionFromA))
                 .withLabel(gateLabel)
                 .withDescription(gateDescription)
                 .withPlotA(plotA)
@@ -107,6 +109,16 @@ public final class WorldBuilder {
         return gate;
     }
 
+    /**
+     * Gate ids derive from the plot and direction (unique per plot, enforced above), so separate builds of the
+     * same world agree on them. Every other thing built from a save takes its id from the save; without this a
+     * session checkpoint, which logs changed gates by id and replays them onto a freshly built world, could not
+     * find them again.
+     */
+    static UUID gateId(UUID plotAId, Direction directionFromA) {
+        return UUID.nameUUIDFromBytes(("gate:" + plotAId + ":" + directionFromA).getBytes(StandardCharsets.UTF_8));
+    }
+
     private Plot requirePlot(UUID plotId, String fieldName) throws GameBuilderException {
         if (plotId == null) {
             throw new GameBuilderException(fieldName + " is required.");
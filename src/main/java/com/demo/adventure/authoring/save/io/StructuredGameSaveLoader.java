@@ -82,6 +82,25 @@ public final class StructuredGameSaveLoader {
         return new GameSave(seed, startPlotId, preamble, plots, gates, fixtures, items, actors);
     }
 
+    /**
+     * Files a load of {@code gameDefinitionPath} reads: game.yaml itself plus each include that exists.
+     */
+    public static List<Path> sourceFiles(Path gameDefinitionPath) throws IOException {
+        Objects.requireNonNull(gameDefinitionPath, "gameDefinitionPath");
+        Map<String, Object> root = readYaml(gameDefinitionPath);
+        Map<String, String> includes = includes(root.get("includes"));
+        Path base = gameDefinitionPath.getParent() == null ? Path.of(".") : gameDefinitionPath.getParent();
+        List<Path> files = new ArrayList<>();
+        files.add(gameDefinitionPath);
+        for (String section : List.of("map", "fixtures", "items", "actors", "descriptions")) {
+            Path include = base.resolve(includes.get(section));
+            if (Files.exists(include)) {
+                files.add(include);
+            }
+        }
+        return files;
+    }
+
     private static Map<String, Object> readYaml(Path path) throws IOException {
         if (path == null || !Files.exists(path)) {
             throw new IOException("File not found: " + path);
@@ -0,0 +1,338 @@
+package com.demo.adventure.authoring.save.io;
+
+import com.demo.adventure.authoring.gardener.WorldFingerprint;
+import com.demo.adventure.domain.model.Direction;
+import com.demo.adventure.domain.save.GameSave;
+import com.demo.adventure.domain.save.WorldRecipe;
+import com.demo.adventure.engine.mechanics.cells.CellSpec;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Memory-mapped view of a compiled world image written by {@link WorldImageWriter}.
+ *
+ * Opening an image reads only its header (world fingerprint and source digest). Structural records are decoded
+ * by {@link #save()}; descriptions sit in a separate offset table and are decoded one at a time, on demand.
+ * An image is only used while its source digest matches the YAML/GDL it was compiled from; callers fall back to
+ * the source loaders otherwise.
+ */
+public final class WorldImage {
+    static final int MAGIC = 0x57494D47; // "WIMG"
+    static final int VERSION = 1;
+    private static final String EXTENSION = ".wimg";
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final String worldFingerprint;
+    private final String sourceDigest;
+    private final int bodyOffset;
+    private final int tableOffset;
+
+    private WorldImage(Path path, ByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+        try {
+            ByteBuffer header = buffer.duplicate();
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a world image: " + path);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported world image version " + version + ": " + path);
+            }
+            this.worldFingerprint = readString(header);
+            this.sourceDigest = readString(header);
+            this.tableOffset = header.getInt();
+            this.bodyOffset = header.position();
+            if (tableOffset < bodyOffset || tableOffset > buffer.limit()) {
+                throw new IOException("Corrupt world image: " + path);
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException ex) {
+            throw new IOException("Corrupt world image: " + path, ex);
+        }
+    }
+
+    /**
+     * Map the image at {@code imagePath} read-only and parse its header.
+     *
+     * @param imagePath image file
+     * @return opened image
+     * @throws IOException when the file cannot be mapped or is not a world image
+     */
+    public static WorldImage open(Path imagePath) throws IOException {
+        Objects.requireNonNull(imagePath, "imagePath");
+        try (FileChannel channel = FileChannel.open(imagePath, StandardOpenOption.READ)) {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new WorldImage(imagePath, mapped);
+        }
+    }
+
+    /**
+     * Default image location for a world source: a {@code .wimg} sibling of the source file.
+     */
+    public static Path imagePathFor(Path source) {
+        Objects.requireNonNull(source, "source");
+        return source.resolveSibling(source.getFileName() + EXTENSION);
+    }
+
+    /**
+     * Load {@code source} from its compiled image when one exists and is current.
+     *
+     * @param source game.yaml, monolithic YAML or GDL file
+     * @return the world, or null when there is no usable image and the caller should parse the source
+     */
+    public static GameSave loadIfFresh(Path source) {
+        Path imagePath = imagePathFor(source);
+        if (!Files.isRegularFile(imagePath)) {
+            return null;
+        }
+        try {
+            WorldImage image = open(imagePath);
+            if (!image.sourceDigest().equals(sourceDigest(source))) {
+                return null;
+            }
+            return image.save();
+        } catch (IOException | RuntimeException ex) {
+            // A stale, torn or unreadable image is never fatal; the source loaders report real problems.
+            return null;
+        }
+    }
+
+    /**
+     * SHA-256 over the contents of every file a load of {@code source} reads, in load order.
+     *
+     * @param source game.yaml, monolithic YAML or GDL file
+     * @return lowercase hex digest
+     * @throws IOException when a source file cannot be read
+     */
+    public static String sourceDigest(Path source) throws IOException {
+        Objects.requireNonNull(source, "source");
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 unavailable", ex);
+        }
+        for (Path file : sourceFiles(source)) {
+            byte[] content = Files.readAllBytes(file);
+            digest.update(ByteBuffer.allocate(Long.BYTES).putLong(content.length).array());
+            digest.update(content);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // Same rule as RuntimeLoader.loadSave: every non-GDL file goes through the structured loader first, which
+    // reads the includes it names (or the default ones), so those feed the digest too.
+    private static List<Path> sourceFiles(Path source) throws IOException {
+        String name = source.getFileName() == null ? "" : source.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".gdl")) {
+            return List.of(source);
+        }
+        try {
+            return StructuredGameSaveLoader.sourceFiles(source);
+        } catch (RuntimeException ex) {
+            // Not a YAML map: loaded as a single monolithic file.
+            return List.of(source);
+        }
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public String worldFingerprint() {
+        return worldFingerprint;
+    }
+
+    public String sourceDigest() {
+        return sourceDigest;
+    }
+
+    /**
+     * Number of entries in the description table.
+     */
+    public int descriptionCount() {
+        return buffer.getInt(tableOffset);
+    }
+
+    /**
+     * Decode one description from the table without touching the rest.
+     *
+     * @param index table index
+     * @return description text, or null for a negative index
+     */
+    public String description(int index) {
+        if (index < 0) {
+            return null;
+        }
+        if (index >= descriptionCount()) {
+            throw new IllegalArgumentException("Description index out of range: " + index);
+        }
+        int offset = buffer.getInt(tableOffset + Integer.BYTES + Integer.BYTES * index);
+        ByteBuffer entry = buffer.duplicate().position(offset);
+        return readString(entry);
+    }
+
+    /**
+     * Decode the full world. The result carries the fingerprint recorded in the header; a mismatch means the
+     * image is corrupt.
+     *
+     * @return decoded world
+     * @throws IOException when the image is truncated or does not match its recorded fingerprint
+     */
+    public GameSave save() throws IOException {
+        GameSave save;
+        try {
+            save = decode(buffer.duplicate().position(bodyOffset));
+        } catch (BufferUnderflowException | IllegalArgumentException | NullPointerException ex) {
+            throw new IOException("Corrupt world image: " + path, ex);
+        }
+        if (!WorldFingerprint.fingerprint(save).equals(worldFingerprint)) {
+            throw new IOException("World image fingerprint mismatch: " + path);
+        }
+        return save;
+    }
+
+    private GameSave decode(ByteBuffer in) {
+        long seed = in.getLong();
+        UUID startPlotId = readUuid(in);
+        String preamble = description(in.getInt());
+
+        int plotCount = in.getInt();
+        List<WorldRecipe.PlotSpec> plots = new ArrayList<>(plotCount);
+        for (int i = 0; i < plotCount; i++) {
+            plots.add(new WorldRecipe.PlotSpec(
+                    readUuid(in),
+                    readString(in),
+                    readString(in),
+                    in.getInt(),
+                    in.getInt(),
+                    description(in.getInt())
+            ));
+        }
+
+        int gateCount = in.getInt();
+        List<WorldRecipe.GateSpec> gates = new ArrayList<>(gateCount);
+        for (int i = 0; i < gateCount; i++) {
+            UUID from = readUuid(in);
+            String direction = readString(in);
+            gates.add(new WorldRecipe.GateSpec(
+                    from,
+                    direction == null ? null : Direction.valueOf(direction),
+                    readUuid(in),
+                    in.get() != 0,
+                    readString(in),
+                    readString(in),
+                    description(in.getInt())
+            ));
+        }
+
+        int fixtureCount = in.getInt();
+        List<WorldRecipe.FixtureSpec> fixtures = new ArrayList<>(fixtureCount);
+        for (int i = 0; i < fixtureCount; i++) {
+            fixtures.add(new WorldRecipe.FixtureSpec(
+                    readUuid(in),
+                    readString(in),
+                    description(in.getInt()),
+                    readUuid(in),
+                    in.get() != 0,
+                    readCells(in)
+            ));
+        }
+
+        int itemCount = in.getInt();
+        List<GameSave.ItemRecipe> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new GameSave.ItemRecipe(
+                    readUuid(in),
+                    readString(in),
+                    description(in.getInt()),
+                    readUuid(in),
+                    in.get() != 0,
+                    in.get() != 0,
+                    readString(in),
+                    in.getDouble(),
+                    in.getDouble(),
+                    in.getDouble(),
+                    in.getDouble(),
+                    in.getLong(),
+                    in.getLong(),
+                    readCells(in)
+            ));
+        }
+
+        int actorCount = in.getInt();
+        List<GameSave.ActorRecipe> actors = new ArrayList<>(actorCount);
+        for (int i = 0; i < actorCount; i++) {
+            UUID id = readUuid(in);
+            String name = readString(in);
+            String description = description(in.getInt());
+            UUID ownerId = readUuid(in);
+            boolean visible = in.get() != 0;
+            int skillCount = in.getInt();
+            List<String> skills = new ArrayList<>(skillCount);
+            for (int s = 0; s < skillCount; s++) {
+                skills.add(readString(in));
+            }
+            actors.add(new GameSave.ActorRecipe(
+                    id,
+                    name,
+                    description,
+                    ownerId,
+                    visible,
+                    skills,
+                    readUuid(in),
+                    readUuid(in),
+                    readCells(in)
+            ));
+        }
+
+        return new GameSave(seed, startPlotId, preamble, plots, gates, fixtures, items, actors);
+    }
+
+    private static Map<String, CellSpec> readCells(ByteBuffer in) {
+        int count = in.getInt();
+        Map<String, CellSpec> cells = new HashMap<>(Math.max(4, count * 2));
+        for (int i = 0; i < count; i++) {
+            cells.put(readString(in), new CellSpec(in.getLong(), in.getLong()));
+        }
+        return cells;
+    }
+
+    private static UUID readUuid(ByteBuffer in) {
+        if (in.get() == 0) {
+            return null;
+        }
+        return new UUID(in.getLong(), in.getLong());
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,208 @@
+package com.demo.adventure.authoring.save.io;
+
+import com.demo.adventure.authoring.gardener.WorldFingerprint;
+import com.demo.adventure.domain.save.GameSave;
+import com.demo.adventure.domain.save.WorldRecipe;
+import com.demo.adventure.engine.mechanics.cells.CellSpec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Compiles a {@link GameSave} into the binary world image read by {@link WorldImage}.
+ *
+ * Layout (big-endian): magic, version, world fingerprint, source digest, description-table offset, then the
+ * structural records (seed, start plot, plots, gates, fixtures, items, actors) with each description replaced by
+ * an index into the trailing description table.
+ */
+public final class WorldImageWriter {
+    private WorldImageWriter() {
+    }
+
+    /**
+     * Write the image for {@code save}, compiled from {@code source}, to {@code imagePath}. The file is replaced
+     * atomically so a running game never maps a half-written image.
+     *
+     * @param save      loaded world
+     * @param source    game.yaml, monolithic YAML or GDL the save was loaded from
+     * @param imagePath target file path
+     * @throws IOException when the sources cannot be digested or the file cannot be written
+     */
+    public static void write(GameSave save, Path source, Path imagePath) throws IOException {
+        Objects.requireNonNull(imagePath, "imagePath");
+        byte[] image = toBytes(save, WorldImage.sourceDigest(source));
+        Path parent = imagePath.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, imagePath.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, image);
+            Files.move(temp, imagePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    static byte[] toBytes(GameSave save, String sourceDigest) throws IOException {
+        Objects.requireNonNull(save, "save");
+        List<String> descriptions = new ArrayList<>();
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+        DataOutputStream body = new DataOutputStream(bodyBytes);
+
+        body.writeLong(save.seed());
+        writeUuid(body, save.startPlotId());
+        writeDescription(body, descriptions, save.preamble());
+
+        body.writeInt(save.plots().size());
+        for (WorldRecipe.PlotSpec plot : save.plots()) {
+            writeUuid(body, plot.plotId());
+            writeString(body, plot.name());
+            writeString(body, plot.region());
+            body.writeInt(plot.locationX());
+            body.writeInt(plot.locationY());
+            writeDescription(body, descriptions, plot.description());
+        }
+
+        body.writeInt(save.gates().size());
+        for (WorldRecipe.GateSpec gate : save.gates()) {
+            writeUuid(body, gate.fromPlotId());
+            writeString(body, gate.direction() == null ? null : gate.direction().name());
+            writeUuid(body, gate.toPlotId());
+            body.writeBoolean(gate.visible());
+            writeString(body, gate.keyString());
+            writeString(body, gate.label());
+            writeDescription(body, descriptions, gate.description());
+        }
+
+        body.writeInt(save.fixtures().size());
+        for (WorldRecipe.FixtureSpec fixture : save.fixtures()) {
+            writeUuid(body, fixture.id());
+            writeString(body, fixture.name());
+            writeDescription(body, descriptions, fixture.description());
+            writeUuid(body, fixture.ownerId());
+            body.writeBoolean(fixture.visible());
+            writeCells(body, fixture.cells());
+        }
+
+        body.writeInt(save.items().size());
+        for (GameSave.ItemRecipe item : save.items()) {
+            writeUuid(body, item.id());
+            writeString(body, item.name());
+            writeDescription(body, descriptions, item.description());
+            writeUuid(body, item.ownerId());
+            body.writeBoolean(item.visible());
+            body.writeBoolean(item.fixture());
+            writeString(body, item.keyString());
+            body.writeDouble(item.footprintWidth());
+            body.writeDouble(item.footprintHeight());
+            body.writeDouble(item.capacityWidth());
+            body.writeDouble(item.capacityHeight());
+            body.writeLong(item.weaponDamage());
+            body.writeLong(item.armorMitigation());
+            writeCells(body, item.cells());
+        }
+
+        body.writeInt(save.actors().size());
+        for (GameSave.ActorRecipe actor : save.actors()) {
+            writeUuid(body, actor.id());
+            writeString(body, actor.name());
+            writeDescription(body, descriptions, actor.description());
+            writeUuid(body, actor.ownerId());
+            body.writeBoolean(actor.visible());
+            body.writeInt(actor.skills().size());
+            for (String skill : actor.skills()) {
+                writeString(body, skill);
+            }
+            writeUuid(body, actor.equippedMainHandItemId());
+            writeUuid(body, actor.equippedBodyItemId());
+            writeCells(body, actor.cells());
+        }
+        body.flush();
+
+        ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(headerBytes);
+        header.writeInt(WorldImage.MAGIC);
+        header.writeInt(WorldImage.VERSION);
+        writeString(header, WorldFingerprint.fingerprint(save));
+        writeString(header, sourceDigest);
+        header.flush();
+        int tableOffset = headerBytes.size() + Integer.BYTES + bodyBytes.size();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(tableOffset + 64 * descriptions.size());
+        DataOutputStream image = new DataOutputStream(out);
+        headerBytes.writeTo(image);
+        image.writeInt(tableOffset);
+        bodyBytes.writeTo(image);
+        writeDescriptionTable(image, tableOffset, descriptions);
+        image.flush();
+        return out.toByteArray();
+    }
+
+    // The table is a count, one absolute offset per entry, then the UTF-8 entries themselves, so a reader can
+    // decode any single description without touching the others.
+    private static void writeDescriptionTable(DataOutputStream out, int tableOffset, List<String> descriptions)
+            throws IOException {
+        List<byte[]> encoded = new ArrayList<>(descriptions.size());
+        for (String description : descriptions) {
+            encoded.add(description.getBytes(StandardCharsets.UTF_8));
+        }
+        out.writeInt(encoded.size());
+        int next = tableOffset + Integer.BYTES + Integer.BYTES * encoded.size();
+        for (byte[] bytes : encoded) {
+            out.writeInt(next);
+            next += Integer.BYTES + bytes.length;
+        }
+        for (byte[] bytes : encoded) {
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static void writeDescription(DataOutputStream out, List<String> descriptions, String description)
+            throws IOException {
+        if (description == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(descriptions.size());
+        descriptions.add(description);
+    }
+
+    private static void writeCells(DataOutputStream out, Map<String, CellSpec> cells) throws IOException {
+        Map<String, CellSpec> sorted = new TreeMap<>(cells);
+        out.writeInt(sorted.size());
+        for (Map.Entry<String, CellSpec> entry : sorted.entrySet()) {
+            writeString(out, entry.getKey());
+            out.writeLong(entry.getValue().capacity());
+            out.writeLong(entry.getValue().amount());
+        }
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID id) throws IOException {
+        out.writeBoolean(id != null);
+        if (id != null) {
+            out.writeLong(id.getMostSignificantBits());
+            out.writeLong(id.getLeastSignificantBits());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -46,13 +46,21 @@ public class BuuiConsole {
             return;
         }
         String output = AnsiStyle.isEnabled() ? text : AnsiStyle.strip(text);
-        System.out.println(output);
+        ConsolePrinter.out().println(output);
     }
 
     protected static void printBlank() {
         if (ConsolePrinter.isMuted()) {
             return;
         }
-        System.out.println();
+        ConsolePrinter.out().println();
+    }
+
+    protected static void printPrompt(String text) {
+        if (text == null) {
+            return;
+        }
+        ConsolePrinter.out().print(text);
+        ConsolePrinter.out().flush();
     }
 }
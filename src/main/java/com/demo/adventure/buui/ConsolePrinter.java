@@ -1,20 +1,86 @@
 package com.demo.adventure.buui;
 
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
 import java.util.List;
 
 public final class ConsolePrinter {
 
+    private static final int BUFFER_BYTES = 16 * 1024;
+
     private static volatile boolean muted;
+    private static final ThreadLocal<Target> SCOPED = new ThreadLocal<>();
 
     private ConsolePrinter() {
     }
 
+    @FunctionalInterface
+    public interface OutputScope<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    /**
+     * Mutes the calling thread's {@link #withOutput} scope when one is active, else the process-wide console.
+     */
     public static void setMuted(boolean muted) {
+        Target scoped = SCOPED.get();
+        if (scoped != null) {
+            scoped.muted = muted;
+            return;
+        }
         ConsolePrinter.muted = muted;
     }
 
     public static boolean isMuted() {
-        return muted;
+        Target scoped = SCOPED.get();
+        return scoped == null ? muted : scoped.muted;
+    }
+
+    /**
+     * Stream that console output on the calling thread goes to: the innermost {@link #withOutput} scope, else
+     * {@code System.out}.
+     */
+    public static PrintStream out() {
+        Target scoped = SCOPED.get();
+        return scoped == null ? System.out : scoped.out;
+    }
+
+    /**
+     * Block-buffered stream over {@code out} that only writes through on {@link #flush()} (prompts flush), so a
+     * turn's output reaches the terminal or socket in one batch instead of one write per line.
+     */
+    public static PrintStream buffered(OutputStream out, Charset charset) {
+        return new PrintStream(new BufferedOutputStream(out, BUFFER_BYTES), false, charset);
+    }
+
+    /**
+     * Writes through whatever the calling thread's console stream has buffered.
+     */
+    public static void flush() {
+        out().flush();
+    }
+
+    /**
+     * Runs {@code scope} with console output (and the muted flag) bound to {@code out} for the calling thread
+     * only, so several sessions can print side by side without sharing {@code System.out}. {@code out} is flushed
+     * when the scope ends.
+     */
+    public static <T, E extends Exception> T withOutput(PrintStream out, OutputScope<T, E> scope) throws E {
+        Target previous = SCOPED.get();
+        Target target = new Target(out == null ? System.out : out);
+        SCOPED.set(target);
+        try {
+            return scope.run();
+        } finally {
+            target.out.flush();
+            if (previous == null) {
+                SCOPED.remove();
+            } else {
+                SCOPED.set(previous);
+            }
+        }
     }
 
     public static void printWrapped(String text) {
@@ -30,7 +96,7 @@ public final class ConsolePrinter {
     }
 
     public static void print(String text, int columns, int edgePadding) {
-        if (muted) {
+        if (isMuted()) {
             return;
         }
         if (text == null) {
@@ -46,9 +112,7 @@ public final class ConsolePrinter {
             return;
         }
         List<String> normalized = stripAnsiIfDisabled(lines);
-        for (String line : applyLeftGutter(normalized, gutter)) {
-            System.out.println(line);
-        }
+        writeLines(applyLeftGutter(normalized, gutter));
     }
 
     public static void println(String text) {
@@ -56,7 +120,7 @@ public final class ConsolePrinter {
     }
 
     public static void println(String text, int columns, int edgePadding) {
-        if (muted) {
+        if (isMuted()) {
             return;
         }
         if (text == null) {
@@ -66,9 +130,7 @@ public final class ConsolePrinter {
         int adjustedColumns = Math.max(1, columns - gutter);
         List<String> lines = wrapLines(text, adjustedColumns, edgePadding);
         lines = stripAnsiIfDisabled(lines);
-        for (String line : applyLeftGutter(lines, gutter)) {
-            System.out.println(line);
-        }
+        writeLines(applyLeftGutter(lines, gutter));
     }
 
     public static void printCompiled(MarkdownDocument document) {
@@ -79,17 +141,15 @@ public final class ConsolePrinter {
     }
 
     public static void printCompiledLines(List<String> lines) {
-        if (muted) {
+        if (isMuted()) {
             return;
         }
         List<String> normalized = stripAnsiIfDisabled(lines);
-        for (String line : applyLeftGutter(normalized, BuuiLayout.leftGutter())) {
-            System.out.println(line);
-        }
+        writeLines(applyLeftGutter(normalized, BuuiLayout.leftGutter()));
     }
 
     public static void printNarration(String text, int columns, int edgePadding) {
-        if (muted) {
+        if (isMuted()) {
             return;
         }
         if (text == null) {
@@ -105,9 +165,7 @@ public final class ConsolePrinter {
             return;
         }
         lines = stripAnsiIfDisabled(lines);
-        for (String line : applyNarrationGutter(lines, gutter)) {
-            System.out.println(line);
-        }
+        writeLines(applyNarrationGutter(lines, gutter));
     }
 
     public static void printWrapped(String text, int columns) {
@@ -115,14 +173,12 @@ public final class ConsolePrinter {
     }
 
     public static void printWrapped(String text, int columns, int edgePadding) {
-        if (muted) {
+        if (isMuted()) {
             return;
         }
         List<String> lines = wrapLines(text, columns, edgePadding);
         lines = stripAnsiIfDisabled(lines);
-        for (String line : lines) {
-            System.out.println(line);
-        }
+        writeLines(lines);
     }
 
     public static String renderWrapped(String text) {
@@ -169,6 +225,19 @@ public final class ConsolePrinter {
         return lines;
     }
 
+    // One write per call: an autoflushing stream would otherwise flush after every line.
+    private static void writeLines(List<String> lines) {
+        if (lines == null || lines.isEmpty()) {
+            return;
+        }
+        String separator = System.lineSeparator();
+        StringBuilder text = new StringBuilder();
+        for (String line : lines) {
+            text.append(line).append(separator);
+        }
+        out().print(text.toString());
+    }
+
     private static List<String> stripAnsiIfDisabled(List<String> lines) {
         if (AnsiStyle.isEnabled()) {
             return lines;
@@ -244,6 +313,15 @@ public final class ConsolePrinter {
         return idx == 0 ? "" : text.substring(0, idx);
     }
 
+    private static final class Target {
+        private final PrintStream out;
+        private volatile boolean muted;
+
+        private Target(PrintStream out) {
+            this.out = out;
+        }
+    }
+
     private static void reportMarkdownError(MarkdownValidationException ex) {
         String message = ex == null ? "Unknown markdown validation error." : ex.getMessage();
         System.err.println("Markdown style error: " + message);
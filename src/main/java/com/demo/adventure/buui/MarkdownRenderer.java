@@ -1,9 +1,27 @@
 package com.demo.adventure.buui;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Entry point for rendering markdown to console lines.
+ *
+ * Rendered lines are kept in a bounded, least-recently-used cache keyed by text, width, padding and style
+ * sheet (plus the ANSI switch and terminal width the compiler reads on its own), so output that repeats every
+ * turn, such as scene headers, exit lines and help, is compiled once. {@code BUUI_RENDER_CACHE} sets the number
+ * of entries; {@code 0} turns the cache off.
+ */
 public final class MarkdownRenderer {
 
+    private static final int DEFAULT_CACHE_ENTRIES = 256;
+    private static final int MAX_CACHED_TEXT = 8192;
+    private static final String CACHE_ENV = "BUUI_RENDER_CACHE";
+    private static final String CACHE_PROP = "BUUI_RENDER_CACHE";
+    private static final RenderCache CACHE = new RenderCache(configuredCacheEntries());
+
     private MarkdownRenderer() {
     }
 
@@ -12,18 +30,114 @@ public final class MarkdownRenderer {
     }
 
     public static String render(String markdown, int columns, int edgePadding) {
-        return MarkdownCompiler.render(markdown, columns, edgePadding);
+        return String.join("\n", renderLines(markdown, columns, edgePadding));
     }
 
     public static String render(String markdown, int columns, int edgePadding, MarkdownStyleSheet styles) {
-        return MarkdownCompiler.render(markdown, columns, edgePadding, styles);
+        return String.join("\n", renderLines(markdown, columns, edgePadding, styles));
     }
 
+    /**
+     * Renders with the default style sheet. The returned list is shared with the cache and cannot be modified.
+     */
     public static List<String> renderLines(String markdown, int columns, int edgePadding) {
-        return MarkdownCompiler.renderLines(markdown, columns, edgePadding);
+        return renderLines(markdown, columns, edgePadding, MarkdownStyleSheet.defaults());
     }
 
+    /**
+     * Renders with {@code styles}. The returned list is shared with the cache and cannot be modified.
+     */
     public static List<String> renderLines(String markdown, int columns, int edgePadding, MarkdownStyleSheet styles) {
-        return MarkdownCompiler.renderLines(markdown, columns, edgePadding, styles);
+        MarkdownStyleSheet sheet = styles == null ? MarkdownStyleSheet.defaults() : styles;
+        if (markdown == null || markdown.length() > MAX_CACHED_TEXT || !CACHE.enabled()) {
+            return frozen(MarkdownCompiler.renderLines(markdown, columns, edgePadding, sheet));
+        }
+        RenderKey key = new RenderKey(markdown, columns, edgePadding, sheet, AnsiStyle.isEnabled(), BuuiLayout.columns());
+        List<String> cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        List<String> lines = frozen(MarkdownCompiler.renderLines(markdown, columns, edgePadding, sheet));
+        CACHE.put(key, lines);
+        return lines;
+    }
+
+    /**
+     * Drops every cached rendering.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    static int cachedEntries() {
+        return CACHE.size();
+    }
+
+    private static List<String> frozen(List<String> lines) {
+        return Collections.unmodifiableList(new ArrayList<>(lines));
+    }
+
+    private static int configuredCacheEntries() {
+        Integer prop = parseNonNegativeInt(System.getProperty(CACHE_PROP));
+        if (prop != null) {
+            return prop;
+        }
+        Integer env = parseNonNegativeInt(System.getenv(CACHE_ENV));
+        if (env != null) {
+            return env;
+        }
+        return DEFAULT_CACHE_ENTRIES;
+    }
+
+    private static Integer parseNonNegativeInt(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            return parsed >= 0 ? parsed : null;
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    // Style sheets compare by identity; the default sheet is a process-wide singleton.
+    private record RenderKey(String text, int columns, int edgePadding, MarkdownStyleSheet styles, boolean ansi,
+                             int layoutColumns) {
+    }
+
+    private static final class RenderCache {
+        private final int capacity;
+        private final LinkedHashMap<RenderKey, List<String>> entries;
+
+        private RenderCache(int capacity) {
+            this.capacity = capacity;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<RenderKey, List<String>> eldest) {
+                    return size() > RenderCache.this.capacity;
+                }
+            };
+        }
+
+        private boolean enabled() {
+            return capacity > 0;
+        }
+
+        private synchronized List<String> get(RenderKey key) {
+            return entries.get(key);
+        }
+
+        private synchronized void put(RenderKey key, List<String> lines) {
+            entries.put(key, lines);
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
     }
 }
@@ -0,0 +1,156 @@
+package com.demo.adventure.buui;
+
+import java.io.PrintStream;
+
+/**
+ * Writes one paragraph to the console as it arrives, word by word.
+ *
+ * Fragments may split words anywhere; a word is written (and flushed) once the whitespace after it arrives, and
+ * lines wrap at the same width and left gutter as {@link ConsolePrinter#print(String)}. Call {@link #finish()}
+ * to write the last word and end the line. Honours the muted flag of the thread that opened it.
+ *
+ * {@link #narration()} writes the way {@link ConsolePrinter#printNarration(String)} prints: each paragraph in the
+ * blockquote style, its first line behind a bullet and the rest behind the gutter, paragraphs split by
+ * {@link #paragraph()}.
+ */
+public final class StreamingTextWriter {
+    private final PrintStream out;
+    private final boolean muted;
+    private final int width;
+    private final String gutter;
+    private final String paragraphGutter;
+    private final BuuiStyle wordStyle;
+    private final StringBuilder word = new StringBuilder();
+    private final StringBuilder written = new StringBuilder();
+    private int lineLength;
+    private boolean lineOpen;
+    private boolean paragraphStart = true;
+    private boolean paragraphPending;
+
+    public StreamingTextWriter() {
+        this(ConsolePrinter.out(), BuuiLayout.columns(), BuuiLayout.edgePadding(), BuuiLayout.leftGutter(), false);
+    }
+
+    StreamingTextWriter(PrintStream out, int columns, int edgePadding, int leftGutter) {
+        this(out, columns, edgePadding, leftGutter, false);
+    }
+
+    StreamingTextWriter(PrintStream out, int columns, int edgePadding, int leftGutter, boolean narration) {
+        this.out = out;
+        this.muted = ConsolePrinter.isMuted();
+        this.wordStyle = narration ? blockquoteStyle() : BuuiStyle.none();
+        int gutterWidth = Math.max(0, leftGutter);
+        this.width = Math.max(1, columns - gutterWidth - Math.max(0, edgePadding));
+        this.gutter = " ".repeat(gutterWidth);
+        this.paragraphGutter = narration && gutterWidth > 0
+                ? ListRenderer.BULLET + " ".repeat(Math.max(0, gutterWidth - 1))
+                : this.gutter;
+    }
+
+    /**
+     * Writer for narrator prose, laid out like {@link ConsolePrinter#printNarration(String)}.
+     */
+    public static StreamingTextWriter narration() {
+        return new StreamingTextWriter(ConsolePrinter.out(), BuuiLayout.columns(), BuuiLayout.edgePadding(),
+                BuuiLayout.leftGutter(), true);
+    }
+
+    public void write(String fragment) {
+        if (fragment == null || fragment.isEmpty()) {
+            return;
+        }
+        boolean wroteWord = false;
+        for (int i = 0; i < fragment.length(); i++) {
+            char c = fragment.charAt(i);
+            if (Character.isWhitespace(c)) {
+                wroteWord |= writeWord();
+            } else {
+                word.append(c);
+            }
+        }
+        if (wroteWord && !muted) {
+            out.flush();
+        }
+    }
+
+    /**
+     * Ends the current paragraph; the next word starts a new one after a blank line.
+     */
+    public void paragraph() {
+        writeWord();
+        if (!written.isEmpty()) {
+            paragraphPending = true;
+        }
+    }
+
+    /**
+     * Writes any pending word and ends the current line.
+     */
+    public void finish() {
+        writeWord();
+        if (lineOpen && !muted) {
+            out.println();
+            out.flush();
+        }
+        lineOpen = false;
+        lineLength = 0;
+        paragraphStart = true;
+    }
+
+    /**
+     * Everything written so far, words separated by spaces and paragraphs by a blank line.
+     */
+    public String text() {
+        return written.toString();
+    }
+
+    private boolean writeWord() {
+        if (word.isEmpty()) {
+            return false;
+        }
+        String next = AnsiStyle.isEnabled() ? word.toString() : AnsiStyle.strip(word.toString());
+        word.setLength(0);
+        int length = TextUtils.visibleLength(next);
+        boolean newParagraph = paragraphPending;
+        paragraphPending = false;
+        if (!written.isEmpty()) {
+            written.append(newParagraph ? "\n\n" : " ");
+        }
+        written.append(next);
+        if (muted) {
+            return true;
+        }
+        if (newParagraph) {
+            if (lineOpen) {
+                out.println();
+            }
+            out.println();
+            lineOpen = false;
+            lineLength = 0;
+            paragraphStart = true;
+        }
+        if (!lineOpen) {
+            out.print(paragraphStart ? paragraphGutter : gutter);
+            paragraphStart = false;
+            lineOpen = true;
+        } else if (lineLength + 1 + length > width) {
+            out.println();
+            out.print(gutter);
+            lineLength = 0;
+        } else {
+            out.print(' ');
+            lineLength++;
+        }
+        out.print(MarkdownStyleMap.apply(wordStyle, next));
+        lineLength += length;
+        return true;
+    }
+
+    private static BuuiStyle blockquoteStyle() {
+        try {
+            return MarkdownStyleSheet.defaults().blockquoteStyle();
+        } catch (MarkdownValidationException ex) {
+            return BuuiStyle.none();
+        }
+    }
+}
@@ -20,10 +20,7 @@ public final class ContainerPacker {
     }
 
     public static Optional<Placement> place(double width, double height, List<Rectangle2D> occupiedRectangles) {
-        if (width <= EPSILON || height <= EPSILON) {
-            return Optional.empty();
-        }
-        if (width > 1.0 + EPSILON || height > 1.0 + EPSILON) {
+        if (!isPackable(width, height)) {
             return Optional.empty();
         }
 
@@ -42,6 +39,15 @@ public final class ContainerPacker {
             freeRectangles = pruneContained(freeRectangles);
         }
 
+        return bestFit(freeRectangles, width, height);
+    }
+
+    /**
+     * Best placement of a {@code width} x {@code height} item (either orientation) anchored at the top-left of
+     * one of {@code freeRectangles}: smallest leftover area, then shortest leftover side, then top-most,
+     * left-most, unrotated. Shared with {@link ContainerPacking} so both packers score placements the same way.
+     */
+    static Optional<Placement> bestFit(List<Rectangle2D> freeRectangles, double width, double height) {
         Candidate bestCandidate = null;
 
         // Orientation 1: not rotated
@@ -65,6 +71,10 @@ public final class ContainerPacker {
         ));
     }
 
+    static boolean isPackable(double width, double height) {
+        return width > EPSILON && height > EPSILON && width <= 1.0 + EPSILON && height <= 1.0 + EPSILON;
+    }
+
     private static Candidate chooseBestCandidate(
             Candidate currentBest,
             List<Rectangle2D> freeRectangles,
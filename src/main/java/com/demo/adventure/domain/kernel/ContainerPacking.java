@@ -0,0 +1,233 @@
+package com.demo.adventure.domain.kernel;
+
+import com.demo.adventure.domain.model.Rectangle2D;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Stateful packer for one container bucket (the unit square, like {@link ContainerPacker}).
+ *
+ * Keeps the placed rectangles and the set of maximal free rectangles (MaxRects). Placing splits only the free
+ * rectangles the new item overlaps; removing returns the item's area and joins it with neighbouring free space
+ * until the free set is maximal again. The free set depends only on what is placed, not on the order it
+ * arrived, so the same contents always give the same {@link #fit} answer.
+ *
+ * Not thread-safe; one instance per bucket per runtime.
+ */
+public final class ContainerPacking {
+
+    private static final double EPSILON = 1e-9;
+    private static final Rectangle2D UNIT = new Rectangle2D(0.0, 0.0, 1.0, 1.0);
+
+    private final Map<UUID, Rectangle2D> placed = new LinkedHashMap<>();
+    private final List<Rectangle2D> free = new ArrayList<>();
+
+    public ContainerPacking() {
+        free.add(UNIT);
+    }
+
+    /**
+     * Packing holding {@code placements} as already placed (for example placements restored from a snapshot).
+     */
+    public static ContainerPacking of(Map<UUID, Rectangle2D> placements) {
+        ContainerPacking packing = new ContainerPacking();
+        if (placements != null) {
+            placements.forEach(packing::occupy);
+        }
+        return packing;
+    }
+
+    /**
+     * Where a {@code width} x {@code height} item would go right now, without placing it.
+     */
+    public Optional<ContainerPacker.Placement> fit(double width, double height) {
+        if (!ContainerPacker.isPackable(width, height)) {
+            return Optional.empty();
+        }
+        return ContainerPacker.bestFit(free, width, height);
+    }
+
+    /**
+     * Places an item at its best fit and records it under {@code id}, replacing any earlier placement of it.
+     */
+    public Optional<ContainerPacker.Placement> insert(UUID id, double width, double height) {
+        Objects.requireNonNull(id, "id");
+        remove(id);
+        Optional<ContainerPacker.Placement> placement = fit(width, height);
+        placement.ifPresent(p -> occupy(id, p.asRectangle()));
+        return placement;
+    }
+
+    /**
+     * Records {@code rectangle} as placed under {@code id} as-is, replacing any earlier placement of it.
+     */
+    public void occupy(UUID id, Rectangle2D rectangle) {
+        Objects.requireNonNull(id, "id");
+        if (rectangle == null) {
+            remove(id);
+            return;
+        }
+        Rectangle2D previous = placed.put(id, rectangle);
+        if (previous != null) {
+            release(previous);
+        }
+        split(rectangle);
+    }
+
+    /**
+     * Removes the item's placement and merges the area it held back into the free set.
+     *
+     * @return true when {@code id} was placed
+     */
+    public boolean remove(UUID id) {
+        Rectangle2D rectangle = placed.remove(id);
+        if (rectangle == null) {
+            return false;
+        }
+        release(rectangle);
+        return true;
+    }
+
+    public Map<UUID, Rectangle2D> placements() {
+        return Map.copyOf(placed);
+    }
+
+    public List<Rectangle2D> freeRectangles() {
+        return List.copyOf(free);
+    }
+
+    public int size() {
+        return placed.size();
+    }
+
+    /**
+     * True when this packing holds exactly {@code placements}.
+     */
+    public boolean matches(Map<UUID, Rectangle2D> placements) {
+        return placements != null && placed.equals(placements);
+    }
+
+    /**
+     * Brings this packing in line with {@code placements}, touching only the entries that differ.
+     */
+    public void sync(Map<UUID, Rectangle2D> placements) {
+        Map<UUID, Rectangle2D> target = placements == null ? Map.of() : placements;
+        if (placed.equals(target)) {
+            return;
+        }
+        for (UUID id : new ArrayList<>(placed.keySet())) {
+            if (!target.containsKey(id)) {
+                remove(id);
+            }
+        }
+        for (Map.Entry<UUID, Rectangle2D> entry : target.entrySet()) {
+            if (!Objects.equals(placed.get(entry.getKey()), entry.getValue())) {
+                occupy(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void split(Rectangle2D occupied) {
+        List<Rectangle2D> pieces = new ArrayList<>();
+        for (int i = free.size() - 1; i >= 0; i--) {
+            Rectangle2D rect = free.get(i);
+            if (!rect.intersects(occupied, EPSILON)) {
+                continue;
+            }
+            free.remove(i);
+            // Maximal pieces: each keeps the full extent of the free rectangle along one axis.
+            addIfPositive(pieces, new Rectangle2D(rect.x(), rect.y(), occupied.x() - rect.x(), rect.height()));
+            addIfPositive(pieces, new Rectangle2D(occupied.right(), rect.y(), rect.right() - occupied.right(), rect.height()));
+            addIfPositive(pieces, new Rectangle2D(rect.x(), rect.y(), rect.width(), occupied.y() - rect.y()));
+            addIfPositive(pieces, new Rectangle2D(rect.x(), occupied.bottom(), rect.width(), rect.bottom() - occupied.bottom()));
+        }
+        for (Rectangle2D piece : pieces) {
+            addMaximal(piece);
+        }
+    }
+
+    private void release(Rectangle2D freed) {
+        Rectangle2D area = freed.intersection(UNIT, EPSILON);
+        if (area == null) {
+            return;
+        }
+        // Space still covered by another placement stays occupied.
+        for (Rectangle2D other : placed.values()) {
+            if (other.intersects(area, EPSILON)) {
+                rebuild();
+                return;
+            }
+        }
+        Deque<Rectangle2D> pending = new ArrayDeque<>();
+        pending.add(area);
+        while (!pending.isEmpty()) {
+            Rectangle2D next = pending.poll();
+            if (!addMaximal(next)) {
+                continue;
+            }
+            for (Rectangle2D neighbour : List.copyOf(free)) {
+                if (neighbour == next) {
+                    continue;
+                }
+                join(next, neighbour, pending);
+            }
+        }
+    }
+
+    private void rebuild() {
+        free.clear();
+        free.add(UNIT);
+        for (Rectangle2D rect : placed.values()) {
+            split(rect);
+        }
+    }
+
+    /**
+     * Adds the free rectangles spanned by two overlapping or touching free rectangles: their shared columns over
+     * both rows, and their shared rows over both columns.
+     */
+    private static void join(Rectangle2D a, Rectangle2D b, Deque<Rectangle2D> pending) {
+        double left = Math.max(a.x(), b.x());
+        double right = Math.min(a.right(), b.right());
+        double top = Math.max(a.y(), b.y());
+        double bottom = Math.min(a.bottom(), b.bottom());
+        if (right - left > EPSILON && top <= bottom + EPSILON) {
+            double y = Math.min(a.y(), b.y());
+            pending.add(new Rectangle2D(left, y, right - left, Math.max(a.bottom(), b.bottom()) - y));
+        }
+        if (bottom - top > EPSILON && left <= right + EPSILON) {
+            double x = Math.min(a.x(), b.x());
+            pending.add(new Rectangle2D(x, top, Math.max(a.right(), b.right()) - x, bottom - top));
+        }
+    }
+
+    /**
+     * Adds {@code rect} unless an existing free rectangle contains it, dropping any it contains.
+     *
+     * @return true when {@code rect} was added
+     */
+    private boolean addMaximal(Rectangle2D rect) {
+        for (Rectangle2D existing : free) {
+            if (existing.contains(rect, EPSILON)) {
+                return false;
+            }
+        }
+        free.removeIf(existing -> rect.contains(existing, EPSILON));
+        free.add(rect);
+        return true;
+    }
+
+    private static void addIfPositive(List<Rectangle2D> rectangles, Rectangle2D rectangle) {
+        if (rectangle.hasPositiveArea(EPSILON)) {
+            rectangles.add(rectangle);
+        }
+    }
+}
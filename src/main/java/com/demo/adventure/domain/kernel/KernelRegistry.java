@@ -4,32 +4,73 @@ import com.demo.adventure.engine.mechanics.cells.CellMutationReceipt;
 import com.demo.adventure.engine.mechanics.cells.CellReferenceReceipt;
 import com.demo.adventure.engine.mechanics.cells.CellTransferReceipt;
 import com.demo.adventure.engine.mechanics.crafting.CraftingLog;
+import com.demo.adventure.domain.model.Actor;
 import com.demo.adventure.domain.model.Direction;
 import com.demo.adventure.domain.model.Gate;
+import com.demo.adventure.domain.model.Item;
 import com.demo.adventure.domain.model.Thing;
+import com.demo.adventure.domain.model.ThingKind;
 
+import java.nio.file.Path;
 import java.util.*;
-import java.util.logging.Logger;
 
+import static com.demo.adventure.engine.mechanics.crafting.CraftingLog.Category.KERNEL;
+import static com.demo.adventure.engine.mechanics.crafting.CraftingLog.Level.INFO;
+
+/**
+ * Registry of every Thing in the world plus secondary indexes kept in step with register/move/relabel:
+ * children by owner (partitioned by {@link ThingKind}), a case-insensitive label index, and a per-plot
+ * gate adjacency index covering both gate endpoints (including portals).
+ * Index iteration follows registration order so lookups stay deterministic.
+ * Each owner also carries a revision that changes whenever its children or (for plots) its gates change, so
+ * callers can cache per-owner views and revalidate them cheaply.
+ * Receipts are kept in bounded {@link ReceiptJournal}s; the list accessors return the retained recent window.
+ */
 public final class KernelRegistry {
 
     public static final UUID MILIARIUM = UUID.fromString("00000000-0000-0000-0000-000000000000");
+    public static final int DEFAULT_RECEIPT_RETENTION = 4096;
 
-    private final Map<UUID, Thing> everything = new HashMap<>();
+    private final Map<UUID, Thing> everything = new LinkedHashMap<>();
     private final Map<UUID, Set<UUID>> ownershipIndex = new HashMap<>();
-    private final List<CellMutationReceipt> cellMutationReceipts = new ArrayList<>();
-    private final List<CellReferenceReceipt> cellReferenceReceipts = new ArrayList<>();
-    private final List<CellTransferReceipt> cellTransferReceipts = new ArrayList<>();
-    private final List<Object> receipts = new ArrayList<>();
-    private final Logger log = CraftingLog.get();
+    private final Map<UUID, EnumMap<ThingKind, Set<UUID>>> childrenByKind = new HashMap<>();
+    private final Map<String, Set<UUID>> labelIndex = new HashMap<>();
+    private final Map<UUID, Set<UUID>> gatesByPlot = new HashMap<>();
+    private final Map<UUID, Long> ownerRevisions = new HashMap<>();
+    private long revisionCounter;
+    private long restoredRevision;
+    private final ReceiptJournal<CellMutationReceipt> cellMutationReceipts;
+    private final ReceiptJournal<CellReferenceReceipt> cellReferenceReceipts;
+    private final ReceiptJournal<CellTransferReceipt> cellTransferReceipts;
+    private final ReceiptJournal<Object> receipts;
+
+    public KernelRegistry() {
+        this(DEFAULT_RECEIPT_RETENTION);
+    }
+
+    public KernelRegistry(int receiptRetention) {
+        this.cellMutationReceipts = new ReceiptJournal<>("cell-mutations", receiptRetention);
+        this.cellReferenceReceipts = new ReceiptJournal<>("cell-references", receiptRetention);
+        this.cellTransferReceipts = new ReceiptJournal<>("cell-transfers", receiptRetention);
+        this.receipts = new ReceiptJournal<>("receipts", receiptRetention);
+    }
 
     public void register(Thing thing) {
         if (thing == null) {
             return;
         }
-        everything.put(thing.getId(), thing);
-        moveOwnership(thing.getId(), thing.getOwnerId());
-        log.info(() -> "Register: " + label(thing) + " owner=" + thing.getOwnerId());
+        Thing previous = everything.put(thing.getId(), thing);
+        if (previous != null) {
+            unindex(previous);
+        }
+        indexOwner(thing, thing.getOwnerId());
+        indexLabel(thing.getId(), thing.getLabel());
+        if (thing instanceof Gate gate) {
+            indexGate(gate);
+        }
+        if (CraftingLog.enabled(KERNEL, INFO)) {
+            CraftingLog.log(KERNEL, INFO, "Register", "label", label(thing), "owner", thing.getOwnerId());
+        }
     }
 
     public Thing get(UUID id) {
@@ -45,41 +86,202 @@ public final class KernelRegistry {
         if (Objects.equals(source, newOwnerId)) {
             return;
         }
-        if (source != null) {
-            ownershipIndex.computeIfPresent(source, (k, v) -> {
-                v.remove(thingId);
-                return v.isEmpty() ? null : v;
-            });
+        unindexOwner(thing, source);
+        indexOwner(thing, newOwnerId);
+        thing.setOwnerId(newOwnerId);
+        if (CraftingLog.enabled(KERNEL, INFO)) {
+            CraftingLog.log(KERNEL, INFO, "Move", "label", label(thing), "source", source, "target", newOwnerId);
+        }
+    }
+
+    /**
+     * Updates a thing's label and keeps the label index consistent. Use this instead of {@link Thing#setLabel}
+     * once a thing is registered.
+     */
+    public void relabel(UUID thingId, String label) {
+        Thing thing = everything.get(thingId);
+        if (thing == null) {
+            return;
+        }
+        unindexLabel(thingId, thing.getLabel());
+        thing.setLabel(label);
+        indexLabel(thingId, label);
+        touch(thing.getOwnerId());
+    }
+
+    /**
+     * Revision of {@code ownerId}'s contents: changes whenever a thing is registered under, moved into or out of
+     * the owner, or relabeled while there, when a gate touching it is (re)registered, and after every
+     * {@link #restore}. Never decreases.
+     */
+    public long revisionOf(UUID ownerId) {
+        if (ownerId == null) {
+            return restoredRevision;
         }
-        if (newOwnerId != null) {
-            ownershipIndex.computeIfAbsent(newOwnerId, k -> new HashSet<>()).add(thingId);
+        return Math.max(restoredRevision, ownerRevisions.getOrDefault(ownerId, 0L));
+    }
+
+    public List<Thing> childrenOf(UUID ownerId) {
+        if (ownerId == null) {
+            return List.of();
         }
-        thing.setOwnerId(newOwnerId);
-        log.info(() -> "Move: " + label(thing) + " source=" + source + " target=" + newOwnerId);
+        return resolve(ownershipIndex.get(ownerId));
+    }
+
+    public List<Thing> thingsOwnedBy(UUID ownerId, ThingKind kind) {
+        if (ownerId == null || kind == null) {
+            return List.of();
+        }
+        EnumMap<ThingKind, Set<UUID>> buckets = childrenByKind.get(ownerId);
+        return buckets == null ? List.of() : resolve(buckets.get(kind));
+    }
+
+    public List<Item> itemsOwnedBy(UUID ownerId) {
+        List<Item> items = new ArrayList<>();
+        for (Thing thing : thingsOwnedBy(ownerId, ThingKind.ITEM)) {
+            if (thing instanceof Item item) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    public List<Item> itemsOwnedBy(UUID ownerId, boolean fixture) {
+        List<Item> items = itemsOwnedBy(ownerId);
+        items.removeIf(item -> item.isFixture() != fixture);
+        return items;
+    }
+
+    public List<Actor> actorsOwnedBy(UUID ownerId) {
+        List<Actor> actors = new ArrayList<>();
+        for (Thing thing : thingsOwnedBy(ownerId, ThingKind.ACTOR)) {
+            if (thing instanceof Actor actor) {
+                actors.add(actor);
+            }
+        }
+        return actors;
+    }
+
+    public List<Thing> findByLabel(String label) {
+        return findByLabel(label, null);
+    }
+
+    /**
+     * Case-insensitive exact label lookup. When {@code scopeOwnerId} is non-null only direct children of
+     * that owner are returned.
+     */
+    public List<Thing> findByLabel(String label, UUID scopeOwnerId) {
+        if (label == null) {
+            return List.of();
+        }
+        Set<UUID> ids = labelIndex.get(normalizeLabel(label));
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        List<Thing> matches = new ArrayList<>();
+        for (UUID id : ids) {
+            Thing thing = everything.get(id);
+            if (thing == null || !label.equalsIgnoreCase(thing.getLabel())) {
+                continue;
+            }
+            if (scopeOwnerId != null && !scopeOwnerId.equals(thing.getOwnerId())) {
+                continue;
+            }
+            matches.add(thing);
+        }
+        return matches;
     }
 
     public List<Gate> findGates(UUID sourcePlotId, Direction direction) {
         List<Gate> gates = new ArrayList<>();
-        if (sourcePlotId == null) {
-            return gates;
-        }
-        for (Thing t : everything.values()) {
-            if (t instanceof Gate gate) {
-                Direction directionFromSource = gate.directionFrom(sourcePlotId);
-                if (directionFromSource == null) {
-                    continue;
-                }
-                if (direction == null
-                        || direction == Direction.PORTAL
-                        || directionFromSource == Direction.PORTAL
-                        || direction == directionFromSource) {
-                    gates.add(gate);
-                }
+        for (Gate gate : gatesAt(sourcePlotId)) {
+            Direction directionFromSource = gate.directionFrom(sourcePlotId);
+            if (directionFromSource == null) {
+                continue;
+            }
+            if (direction == null
+                    || direction == Direction.PORTAL
+                    || directionFromSource == Direction.PORTAL
+                    || direction == directionFromSource) {
+                gates.add(gate);
+            }
+        }
+        return gates;
+    }
+
+    /**
+     * Gates with an endpoint at the plot, in registration order, regardless of visibility or key state.
+     */
+    public List<Gate> gatesAt(UUID plotId) {
+        if (plotId == null) {
+            return List.of();
+        }
+        Set<UUID> ids = gatesByPlot.get(plotId);
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        List<Gate> gates = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            if (everything.get(id) instanceof Gate gate && gate.connects(plotId)) {
+                gates.add(gate);
             }
         }
         return gates;
     }
 
+    /**
+     * Captures the current world state so it can be restored later without rebuilding the registry.
+     */
+    public RegistrySnapshot snapshot() {
+        return new RegistrySnapshot(this, everything, ownershipIndex, childrenByKind, labelIndex, gatesByPlot);
+    }
+
+    /**
+     * Rolls every thing and index back to {@code snapshot}. Things registered after the snapshot was taken are
+     * dropped. Receipt journals are left untouched.
+     */
+    public void restore(RegistrySnapshot snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+        if (snapshot.source() != this) {
+            throw new IllegalArgumentException("snapshot belongs to a different registry");
+        }
+        load(snapshot);
+    }
+
+    /**
+     * Starts a new registry from {@code template}: its things rolled back to their captured state, copies of its
+     * indexes and empty receipt journals. Thing instances are shared with the template's source registry, so only
+     * one of the two should be in play at a time.
+     */
+    public static KernelRegistry fork(RegistrySnapshot template) {
+        if (template == null) {
+            throw new IllegalArgumentException("template is required");
+        }
+        KernelRegistry registry = new KernelRegistry(template.source().receipts.retention());
+        registry.load(template);
+        return registry;
+    }
+
+    private void load(RegistrySnapshot snapshot) {
+        ownerRevisions.clear();
+        restoredRevision = ++revisionCounter;
+        everything.clear();
+        for (RegistrySnapshot.ThingState state : snapshot.things()) {
+            state.apply();
+            everything.put(state.thing().getId(), state.thing());
+        }
+        ownershipIndex.clear();
+        ownershipIndex.putAll(RegistrySnapshot.copyIndex(snapshot.ownershipIndex()));
+        childrenByKind.clear();
+        childrenByKind.putAll(RegistrySnapshot.copyKindIndex(snapshot.childrenByKind()));
+        labelIndex.clear();
+        labelIndex.putAll(RegistrySnapshot.copyIndex(snapshot.labelIndex()));
+        gatesByPlot.clear();
+        gatesByPlot.putAll(RegistrySnapshot.copyIndex(snapshot.gatesByPlot()));
+    }
+
     public Map<UUID, Thing> getEverything() {
         return Collections.unmodifiableMap(everything);
     }
@@ -90,45 +292,181 @@ public final class KernelRegistry {
 
     public void recordCellMutation(CellMutationReceipt receipt) {
         if (receipt != null) {
-            cellMutationReceipts.add(receipt);
-            receipts.add(receipt);
+            cellMutationReceipts.append(receipt);
+            receipts.append(receipt);
         }
     }
 
     public void recordCellTransfer(CellTransferReceipt receipt) {
         if (receipt != null) {
-            cellTransferReceipts.add(receipt);
-            receipts.add(receipt);
+            cellTransferReceipts.append(receipt);
+            receipts.append(receipt);
         }
     }
 
     public void recordCellReference(CellReferenceReceipt receipt) {
         if (receipt != null) {
-            cellReferenceReceipts.add(receipt);
-            receipts.add(receipt);
+            cellReferenceReceipts.append(receipt);
+            receipts.append(receipt);
         }
     }
 
     public void recordReceipt(Object receipt) {
         if (receipt != null) {
-            receipts.add(receipt);
+            receipts.append(receipt);
         }
     }
 
     public List<CellMutationReceipt> getCellMutationReceipts() {
-        return Collections.unmodifiableList(cellMutationReceipts);
+        return cellMutationReceipts.recent();
     }
 
     public List<CellTransferReceipt> getCellTransferReceipts() {
-        return Collections.unmodifiableList(cellTransferReceipts);
+        return cellTransferReceipts.recent();
     }
 
     public List<CellReferenceReceipt> getCellReferenceReceipts() {
-        return Collections.unmodifiableList(cellReferenceReceipts);
+        return cellReferenceReceipts.recent();
     }
 
     public List<Object> getReceipts() {
-        return Collections.unmodifiableList(receipts);
+        return receipts.recent();
+    }
+
+    public ReceiptJournal<CellMutationReceipt> cellMutationJournal() {
+        return cellMutationReceipts;
+    }
+
+    public ReceiptJournal<CellTransferReceipt> cellTransferJournal() {
+        return cellTransferReceipts;
+    }
+
+    public ReceiptJournal<CellReferenceReceipt> cellReferenceJournal() {
+        return cellReferenceReceipts;
+    }
+
+    public ReceiptJournal<Object> receiptJournal() {
+        return receipts;
+    }
+
+    /**
+     * Spills receipts evicted from every journal to segment files under {@code directory} (null disables).
+     */
+    public void spillReceiptsTo(Path directory) {
+        cellMutationReceipts.spillTo(directory, ReceiptJournal.DEFAULT_SEGMENT_ENTRIES);
+        cellTransferReceipts.spillTo(directory, ReceiptJournal.DEFAULT_SEGMENT_ENTRIES);
+        cellReferenceReceipts.spillTo(directory, ReceiptJournal.DEFAULT_SEGMENT_ENTRIES);
+        receipts.spillTo(directory, ReceiptJournal.DEFAULT_SEGMENT_ENTRIES);
+    }
+
+    private List<Thing> resolve(Set<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        List<Thing> things = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            Thing thing = everything.get(id);
+            if (thing != null) {
+                things.add(thing);
+            }
+        }
+        return things;
+    }
+
+    private void unindex(Thing thing) {
+        unindexOwner(thing, thing.getOwnerId());
+        unindexLabel(thing.getId(), thing.getLabel());
+        if (thing instanceof Gate gate) {
+            unindexGate(gate);
+        }
+    }
+
+    private void indexGate(Gate gate) {
+        for (UUID plotId : gateEndpoints(gate)) {
+            gatesByPlot.computeIfAbsent(plotId, k -> new LinkedHashSet<>()).add(gate.getId());
+            touch(plotId);
+        }
+    }
+
+    private void unindexGate(Gate gate) {
+        for (UUID plotId : gateEndpoints(gate)) {
+            gatesByPlot.computeIfPresent(plotId, (k, v) -> {
+                v.remove(gate.getId());
+                return v.isEmpty() ? null : v;
+            });
+            touch(plotId);
+        }
+    }
+
+    private static List<UUID> gateEndpoints(Gate gate) {
+        List<UUID> endpoints = new ArrayList<>(2);
+        if (gate.getPlotAId() != null) {
+            endpoints.add(gate.getPlotAId());
+        }
+        if (gate.getPlotBId() != null && !gate.getPlotBId().equals(gate.getPlotAId())) {
+            endpoints.add(gate.getPlotBId());
+        }
+        return endpoints;
+    }
+
+    private void indexOwner(Thing thing, UUID ownerId) {
+        if (ownerId == null) {
+            return;
+        }
+        UUID thingId = thing.getId();
+        touch(ownerId);
+        ownershipIndex.computeIfAbsent(ownerId, k -> new LinkedHashSet<>()).add(thingId);
+        if (thing.getKind() != null) {
+            childrenByKind.computeIfAbsent(ownerId, k -> new EnumMap<>(ThingKind.class))
+                    .computeIfAbsent(thing.getKind(), k -> new LinkedHashSet<>())
+                    .add(thingId);
+        }
+    }
+
+    private void unindexOwner(Thing thing, UUID ownerId) {
+        if (ownerId == null) {
+            return;
+        }
+        UUID thingId = thing.getId();
+        touch(ownerId);
+        ownershipIndex.computeIfPresent(ownerId, (k, v) -> {
+            v.remove(thingId);
+            return v.isEmpty() ? null : v;
+        });
+        if (thing.getKind() != null) {
+            childrenByKind.computeIfPresent(ownerId, (k, buckets) -> {
+                buckets.computeIfPresent(thing.getKind(), (kind, ids) -> {
+                    ids.remove(thingId);
+                    return ids.isEmpty() ? null : ids;
+                });
+                return buckets.isEmpty() ? null : buckets;
+            });
+        }
+    }
+
+    private void touch(UUID ownerId) {
+        ownerRevisions.put(ownerId, ++revisionCounter);
+    }
+
+    private void indexLabel(UUID thingId, String label) {
+        if (label == null) {
+            return;
+        }
+        labelIndex.computeIfAbsent(normalizeLabel(label), k -> new LinkedHashSet<>()).add(thingId);
+    }
+
+    private void unindexLabel(UUID thingId, String label) {
+        if (label == null) {
+            return;
+        }
+        labelIndex.computeIfPresent(normalizeLabel(label), (k, v) -> {
+            v.remove(thingId);
+            return v.isEmpty() ? null : v;
+        });
+    }
+
+    private static String normalizeLabel(String label) {
+        return label.toLowerCase(Locale.ROOT);
     }
 
     private static String label(Thing thing) {
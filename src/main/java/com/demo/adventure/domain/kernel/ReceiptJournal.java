@@ -0,0 +1,231 @@
+package com.demo.adventure.domain.kernel;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Fixed-size ring of receipts with absolute sequence numbers.
+ * Keeps the most recent {@code retention} entries in memory; older entries are evicted and, when a spill
+ * directory is configured, appended as text lines to rotating segment files for long sessions. Spilling picks up
+ * after the segments already in the directory, and a write error turns it off rather than failing the caller.
+ * Readers hold a sequence cursor and call {@link #readSince} to page through whatever is still retained.
+ */
+public final class ReceiptJournal<T> implements AutoCloseable {
+
+    public record Batch<T>(List<T> entries, long nextSequence, long skipped) {
+    }
+
+    public static final int DEFAULT_SEGMENT_ENTRIES = 10_000;
+
+    private final String name;
+    private final Object[] ring;
+    private int head;
+    private int size;
+    private long nextSequence;
+    private Spill spill;
+
+    public ReceiptJournal(String name, int retention) {
+        if (retention <= 0) {
+            throw new IllegalArgumentException("retention must be positive");
+        }
+        this.name = name == null || name.isBlank() ? "receipts" : name;
+        this.ring = new Object[retention];
+    }
+
+    public synchronized void append(T entry) {
+        if (entry == null) {
+            return;
+        }
+        if (size == ring.length) {
+            @SuppressWarnings("unchecked")
+            T evicted = (T) ring[head];
+            ring[head] = null;
+            head = (head + 1) % ring.length;
+            size--;
+            if (spill != null && !spill.write(evicted)) {
+                spill.close();
+                spill = null;
+            }
+        }
+        ring[(head + size) % ring.length] = entry;
+        size++;
+        nextSequence++;
+    }
+
+    /**
+     * Retained entries, oldest first.
+     */
+    public synchronized List<T> recent() {
+        return Collections.unmodifiableList(copy(0, size));
+    }
+
+    public synchronized Batch<T> readSince(long sequence, int maxEntries) {
+        long first = firstRetainedSequenceLocked();
+        long from = Math.max(sequence, first);
+        long skipped = Math.max(0L, first - sequence);
+        if (from >= nextSequence || maxEntries <= 0) {
+            return new Batch<>(List.of(), from, skipped);
+        }
+        int offset = (int) (from - first);
+        int count = (int) Math.min(maxEntries, nextSequence - from);
+        return new Batch<>(Collections.unmodifiableList(copy(offset, count)), from + count, skipped);
+    }
+
+    public synchronized long nextSequence() {
+        return nextSequence;
+    }
+
+    public synchronized long firstRetainedSequence() {
+        return firstRetainedSequenceLocked();
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int retention() {
+        return ring.length;
+    }
+
+    public synchronized void clear() {
+        for (int i = 0; i < ring.length; i++) {
+            ring[i] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Enables spill-to-disk of evicted entries under {@code directory}; pass null to disable.
+     */
+    public synchronized void spillTo(Path directory, int segmentEntries) {
+        if (spill != null) {
+            spill.close();
+            spill = null;
+        }
+        if (directory != null) {
+            spill = new Spill(directory, name, segmentEntries <= 0 ? DEFAULT_SEGMENT_ENTRIES : segmentEntries);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (spill != null) {
+            spill.close();
+            spill = null;
+        }
+    }
+
+    private long firstRetainedSequenceLocked() {
+        return nextSequence - size;
+    }
+
+    private List<T> copy(int offset, int count) {
+        List<T> out = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            @SuppressWarnings("unchecked")
+            T entry = (T) ring[(head + offset + i) % ring.length];
+            out.add(entry);
+        }
+        return out;
+    }
+
+    private static final class Spill {
+        private final Path directory;
+        private final String name;
+        private final int segmentEntries;
+        private BufferedWriter writer;
+        private int segment = -1;
+        private int written;
+
+        private Spill(Path directory, String name, int segmentEntries) {
+            this.directory = directory;
+            this.name = name;
+            this.segmentEntries = segmentEntries;
+        }
+
+        /**
+         * Appends {@code entry}; false once the spill has failed and should be dropped.
+         */
+        private boolean write(Object entry) {
+            try {
+                if (writer == null) {
+                    resume();
+                } else if (written >= segmentEntries) {
+                    open(segment + 1, 0);
+                }
+                writer.write(String.valueOf(entry));
+                writer.newLine();
+                written++;
+                return true;
+            } catch (IOException ex) {
+                System.err.println("Receipt spill for " + name + " disabled: " + ex.getMessage());
+                return false;
+            }
+        }
+
+        // Continues the newest existing segment (or starts the first) so earlier segments are never overwritten.
+        private void resume() throws IOException {
+            Files.createDirectories(directory);
+            Pattern pattern = Pattern.compile(Pattern.quote(name) + "-(\\d+)\\.log");
+            int last = -1;
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, name + "-*.log")) {
+                for (Path file : files) {
+                    Matcher matcher = pattern.matcher(file.getFileName().toString());
+                    if (matcher.matches()) {
+                        last = Math.max(last, Integer.parseInt(matcher.group(1)));
+                    }
+                }
+            }
+            if (last < 0) {
+                open(0, 0);
+                return;
+            }
+            int lines;
+            try (var existing = Files.lines(segmentPath(last), StandardCharsets.UTF_8)) {
+                lines = (int) existing.count();
+            }
+            if (lines >= segmentEntries) {
+                open(last + 1, 0);
+            } else {
+                open(last, lines);
+            }
+        }
+
+        private void open(int index, int alreadyWritten) throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+            writer = Files.newBufferedWriter(segmentPath(index), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            segment = index;
+            written = alreadyWritten;
+        }
+
+        private Path segmentPath(int index) {
+            return directory.resolve(String.format("%s-%05d.log", name, index));
+        }
+
+        private void close() {
+            if (writer == null) {
+                return;
+            }
+            try {
+                writer.close();
+            } catch (IOException ignored) {
+                // Best effort on shutdown.
+            }
+            writer = null;
+        }
+    }
+}
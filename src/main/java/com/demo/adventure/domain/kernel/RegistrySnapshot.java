@@ -0,0 +1,169 @@
+package com.demo.adventure.domain.kernel;
+
+import com.demo.adventure.domain.model.Actor;
+import com.demo.adventure.domain.model.Thing;
+import com.demo.adventure.domain.model.ThingKind;
+import com.demo.adventure.engine.mechanics.cells.Cell;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Point-in-time copy of a {@link KernelRegistry}'s mutable world state: registered things (in registration
+ * order), each thing's owner, visibility, keys, label, description, ttl, cells and actor equipment, plus the
+ * secondary indexes. Thing instances are shared with the registry; only their state is copied.
+ * Receipt journals are not captured.
+ *
+ * A snapshot can be restored any number of times; every restore hands out fresh cell copies.
+ */
+public final class RegistrySnapshot {
+
+    private final KernelRegistry source;
+    private final List<ThingState> things;
+    private final Map<UUID, Set<UUID>> ownershipIndex;
+    private final Map<UUID, EnumMap<ThingKind, Set<UUID>>> childrenByKind;
+    private final Map<String, Set<UUID>> labelIndex;
+    private final Map<UUID, Set<UUID>> gatesByPlot;
+
+    RegistrySnapshot(
+            KernelRegistry source,
+            Map<UUID, Thing> everything,
+            Map<UUID, Set<UUID>> ownershipIndex,
+            Map<UUID, EnumMap<ThingKind, Set<UUID>>> childrenByKind,
+            Map<String, Set<UUID>> labelIndex,
+            Map<UUID, Set<UUID>> gatesByPlot
+    ) {
+        this.source = source;
+        this.things = new ArrayList<>(everything.size());
+        for (Thing thing : everything.values()) {
+            things.add(ThingState.capture(thing));
+        }
+        this.ownershipIndex = copyIndex(ownershipIndex);
+        this.childrenByKind = copyKindIndex(childrenByKind);
+        this.labelIndex = copyIndex(labelIndex);
+        this.gatesByPlot = copyIndex(gatesByPlot);
+    }
+
+    public KernelRegistry source() {
+        return source;
+    }
+
+    public int size() {
+        return things.size();
+    }
+
+    List<ThingState> things() {
+        return things;
+    }
+
+    Map<UUID, Set<UUID>> ownershipIndex() {
+        return ownershipIndex;
+    }
+
+    Map<UUID, EnumMap<ThingKind, Set<UUID>>> childrenByKind() {
+        return childrenByKind;
+    }
+
+    Map<String, Set<UUID>> labelIndex() {
+        return labelIndex;
+    }
+
+    Map<UUID, Set<UUID>> gatesByPlot() {
+        return gatesByPlot;
+    }
+
+    static <K> Map<K, Set<UUID>> copyIndex(Map<K, Set<UUID>> index) {
+        Map<K, Set<UUID>> copy = new HashMap<>(Math.max(16, index.size() * 2));
+        for (Map.Entry<K, Set<UUID>> entry : index.entrySet()) {
+            copy.put(entry.getKey(), new LinkedHashSet<>(entry.getValue()));
+        }
+        return copy;
+    }
+
+    static Map<UUID, EnumMap<ThingKind, Set<UUID>>> copyKindIndex(Map<UUID, EnumMap<ThingKind, Set<UUID>>> index) {
+        Map<UUID, EnumMap<ThingKind, Set<UUID>>> copy = new HashMap<>(Math.max(16, index.size() * 2));
+        for (Map.Entry<UUID, EnumMap<ThingKind, Set<UUID>>> entry : index.entrySet()) {
+            EnumMap<ThingKind, Set<UUID>> buckets = new EnumMap<>(ThingKind.class);
+            for (Map.Entry<ThingKind, Set<UUID>> bucket : entry.getValue().entrySet()) {
+                buckets.put(bucket.getKey(), new LinkedHashSet<>(bucket.getValue()));
+            }
+            copy.put(entry.getKey(), buckets);
+        }
+        return copy;
+    }
+
+    record ThingState(
+            Thing thing,
+            UUID ownerId,
+            boolean visible,
+            String key,
+            String visibilityKey,
+            String label,
+            String description,
+            int ttl,
+            Map<String, long[]> cells,
+            List<String> skills,
+            UUID equippedMainHandItemId,
+            UUID equippedBodyItemId
+    ) {
+        static ThingState capture(Thing thing) {
+            Map<String, long[]> cells = new LinkedHashMap<>();
+            for (Map.Entry<String, Cell> entry : thing.getCells().entrySet()) {
+                Cell cell = entry.getValue();
+                if (cell != null) {
+                    cells.put(entry.getKey(), new long[]{cell.getCapacity(), cell.getAmount()});
+                }
+            }
+            Actor actor = thing instanceof Actor a ? a : null;
+            return new ThingState(
+                    thing,
+                    thing.getOwnerId(),
+                    thing.isVisibleFlag(),
+                    thing.getKey(),
+                    thing.getVisibilityKey(),
+                    thing.getLabel(),
+                    thing.getDescription(),
+                    thing.getTtl(),
+                    cells,
+                    actor == null ? null : List.copyOf(actor.getSkills()),
+                    actor == null ? null : actor.getEquippedMainHandItemId(),
+                    actor == null ? null : actor.getEquippedBodyItemId()
+            );
+        }
+
+        void apply() {
+            thing.setOwnerId(ownerId);
+            thing.setVisible(visible);
+            if (!Objects.equals(thing.getKey(), key)) {
+                thing.setKey(key);
+            }
+            if (!Objects.equals(thing.getVisibilityKey(), visibilityKey)) {
+                thing.setVisibilityKey(visibilityKey);
+            }
+            thing.setLabel(label);
+            if (!Objects.equals(thing.getDescription(), description)) {
+                thing.setDescription(description);
+            }
+            thing.setTtl(ttl);
+            Map<String, Cell> restored = new HashMap<>(Math.max(4, cells.size() * 2));
+            for (Map.Entry<String, long[]> entry : cells.entrySet()) {
+                long[] values = entry.getValue();
+                restored.put(entry.getKey(), new Cell(values[0], values[1]));
+            }
+            thing.setCells(restored);
+            if (thing instanceof Actor actor) {
+                actor.setSkills(skills);
+                actor.setEquippedMainHandItemId(equippedMainHandItemId);
+                actor.setEquippedBodyItemId(equippedBodyItemId);
+            }
+        }
+    }
+}
@@ -20,6 +20,7 @@ public final class Actor extends Thing {
 
     public void setSkills(List<String> skills) {
         this.skills = skills == null ? new ArrayList<>() : new ArrayList<>(skills);
+        markChanged();
     }
 
     public UUID getEquippedMainHandItemId() {
@@ -28,6 +29,7 @@ public final class Actor extends Thing {
 
     public void setEquippedMainHandItemId(UUID equippedMainHandItemId) {
         this.equippedMainHandItemId = equippedMainHandItemId;
+        markChanged();
     }
 
     public UUID getEquippedBodyItemId() {
@@ -36,5 +38,6 @@ public final class Actor extends Thing {
 
     public void setEquippedBodyItemId(UUID equippedBodyItemId) {
         this.equippedBodyItemId = equippedBodyItemId;
+        markChanged();
     }
 }
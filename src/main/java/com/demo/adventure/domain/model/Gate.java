@@ -52,6 +52,7 @@ public final class Gate extends Thing {
 
     public void setDirection(Direction direction) {
         this.direction = direction;
+        markChanged();
     }
 
     public UUID getPlotAId() {
@@ -60,6 +61,7 @@ public final class Gate extends Thing {
 
     public void setPlotAId(UUID plotAId) {
         this.plotAId = plotAId;
+        markChanged();
     }
 
     public UUID getPlotBId() {
@@ -68,6 +70,7 @@ public final class Gate extends Thing {
 
     public void setPlotBId(UUID plotBId) {
         this.plotBId = plotBId;
+        markChanged();
     }
 
     private Description descriptionFor(UUID fromPlotId) {
@@ -84,6 +87,7 @@ public final class Gate extends Thing {
 
     public void recordDescriptionFrom(UUID fromPlotId, String descriptionText, int worldClock) {
         descriptionFor(fromPlotId).record(descriptionText, worldClock);
+        markChanged();
     }
 
     public String getKeyString() {
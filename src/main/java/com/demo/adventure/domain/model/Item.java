@@ -28,6 +28,7 @@ public final class Item extends Thing {
 
     public void setFixture(boolean fixture) {
         this.fixture = fixture;
+        markChanged();
     }
 
     /**
@@ -36,6 +37,7 @@ public final class Item extends Thing {
     public Item withSize(double width, double height) {
         this.footprintWidth = Math.max(0.01, Math.min(1.0, width));
         this.footprintHeight = Math.max(0.01, Math.min(1.0, height));
+        markChanged();
         return this;
     }
 
@@ -45,6 +47,7 @@ public final class Item extends Thing {
     public Item withCapacity(double width, double height, double depth) {
         this.capacityWidth = Math.max(0.1, Math.min(1.0, width));
         this.capacityHeight = Math.max(0.1, Math.min(1.0, height));
+        markChanged();
         return this;
     }
 
@@ -70,6 +73,7 @@ public final class Item extends Thing {
 
     public void setWeaponDamage(long weaponDamage) {
         this.weaponDamage = Math.max(0L, weaponDamage);
+        markChanged();
     }
 
     public long getArmorMitigation() {
@@ -78,5 +82,6 @@ public final class Item extends Thing {
 
     public void setArmorMitigation(long armorMitigation) {
         this.armorMitigation = Math.max(0L, armorMitigation);
+        markChanged();
     }
 }
@@ -49,6 +49,7 @@ public final class Plot extends Thing {
 
     public void setPlotKind(PlotKind plotKind) {
         this.plotKind = plotKind;
+        markChanged();
     }
 
     public String getPlotRole() {
@@ -57,6 +58,7 @@ public final class Plot extends Thing {
 
     public void setPlotRole(String plotRole) {
         this.plotRole = plotRole;
+        markChanged();
     }
 
     public UUID getHostThingId() {
@@ -65,6 +67,7 @@ public final class Plot extends Thing {
 
     public void setHostThingId(UUID hostThingId) {
         this.hostThingId = hostThingId;
+        markChanged();
     }
 
     public String getRegion() {
@@ -73,6 +76,7 @@ public final class Plot extends Thing {
 
     public void setRegion(String region) {
         this.region = region;
+        markChanged();
     }
 
     public int getLocationX() {
@@ -81,6 +85,7 @@ public final class Plot extends Thing {
 
     public void setLocationX(int locationX) {
         this.locationX = locationX;
+        markChanged();
     }
 
     public int getLocationY() {
@@ -89,6 +94,7 @@ public final class Plot extends Thing {
 
     public void setLocationY(int locationY) {
         this.locationY = locationY;
+        markChanged();
     }
 
     public UUID getGateId(Direction direction) {
@@ -107,6 +113,7 @@ public final class Plot extends Thing {
         } else {
             gateSlots.put(direction, gateId);
         }
+        markChanged();
     }
 
     public Map<Direction, UUID> getGateSlots() {
@@ -1,7 +1,9 @@
 package com.demo.adventure.domain.model;
 
 import com.demo.adventure.engine.mechanics.cells.Cell;
+import com.demo.adventure.engine.mechanics.keyexpr.CompiledKeyExpression;
 import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionMemo;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -20,13 +22,17 @@ public abstract class Thing {
 
     private UUID ownerId;
     private boolean visible;
-    private String key;
-    private String visibilityKey;
+    private CompiledKeyExpression key;
+    private CompiledKeyExpression visibilityKey;
     private int ttl;
     private int size;
     private int weight;
     private int volume;
     private final Map<String, Cell> cells;
+    private long revision;
+    // Open and visibility results are reused until the key or something it read changes.
+    private final KeyExpressionMemo openMemo = new KeyExpressionMemo();
+    private final KeyExpressionMemo visibilityMemo = new KeyExpressionMemo();
 
     protected Thing(UUID id, ThingKind kind, String label, String descriptionText, UUID ownerId) {
         if (ownerId == null) {
@@ -38,8 +44,8 @@ public abstract class Thing {
         this.description = new Description(descriptionText);
         this.ownerId = ownerId;
         this.visible = true;
-        this.key = "false";
-        this.visibilityKey = "true";
+        this.key = CompiledKeyExpression.compile("false");
+        this.visibilityKey = CompiledKeyExpression.compile("true");
         this.ttl = -1;
         this.size = 0;
         this.weight = 0;
@@ -61,10 +67,22 @@ public abstract class Thing {
 
     public void setOwnerId(UUID ownerId) {
         this.ownerId = ownerId;
+        markChanged();
+    }
+
+    /**
+     * Counter bumped by every setter, so a cache can tell whether a thing it read earlier has changed since.
+     */
+    public long revision() {
+        return revision;
+    }
+
+    protected void markChanged() {
+        revision++;
     }
 
     public boolean isOpen() {
-        return KeyExpressionEvaluator.evaluate(key);
+        return openMemo.evaluate(key);
     }
 
     public boolean isOpen(KeyExpressionEvaluator.HasResolver hasResolver, KeyExpressionEvaluator.SearchResolver searchResolver) {
@@ -82,7 +100,7 @@ public abstract class Thing {
             KeyExpressionEvaluator.AttributeResolver attributeResolver,
             KeyExpressionEvaluator.AttributeResolutionPolicy attributePolicy
     ) {
-        return KeyExpressionEvaluator.evaluate(
+        return openMemo.evaluate(
                 key,
                 hasResolver,
                 searchResolver,
@@ -95,7 +113,7 @@ public abstract class Thing {
     public boolean isVisible() {
         // Visibility uses the authoring flag plus a visibility key expression (separate from the open key).
         // Set visible=false to hide entirely; set visibilityKey to expressions like HAS("Lit Torch") to gate visibility.
-        return visible && KeyExpressionEvaluator.evaluate(visibilityKey);
+        return visible && visibilityMemo.evaluate(visibilityKey);
     }
 
     public boolean isVisible(
@@ -104,7 +122,7 @@ public abstract class Thing {
             KeyExpressionEvaluator.AttributeResolver attributeResolver,
             KeyExpressionEvaluator.AttributeResolutionPolicy attributePolicy
     ) {
-        return visible && KeyExpressionEvaluator.evaluate(
+        return visible && visibilityMemo.evaluate(
                 visibilityKey,
                 hasResolver,
                 searchResolver,
@@ -120,22 +138,33 @@ public abstract class Thing {
 
     public void setVisible(boolean visible) {
         this.visible = visible;
+        markChanged();
     }
 
     public String getKey() {
+        return key.source();
+    }
+
+    public CompiledKeyExpression getCompiledKey() {
         return key;
     }
 
     public void setKey(String key) {
-        this.key = key == null ? "" : key;
+        this.key = CompiledKeyExpression.compile(key == null ? "" : key);
+        markChanged();
     }
 
     public String getVisibilityKey() {
+        return visibilityKey.source();
+    }
+
+    public CompiledKeyExpression getCompiledVisibilityKey() {
         return visibilityKey;
     }
 
     public void setVisibilityKey(String visibilityKey) {
-        this.visibilityKey = visibilityKey == null ? "true" : visibilityKey;
+        this.visibilityKey = CompiledKeyExpression.compile(visibilityKey == null ? "true" : visibilityKey);
+        markChanged();
     }
 
     public int getTtl() {
@@ -144,6 +173,7 @@ public abstract class Thing {
 
     public void setTtl(int ttl) {
         this.ttl = ttl;
+        markChanged();
     }
 
     public int getSize() {
@@ -152,6 +182,7 @@ public abstract class Thing {
 
     public void setSize(int size) {
         this.size = size;
+        markChanged();
     }
 
     public int getWeight() {
@@ -160,6 +191,7 @@ public abstract class Thing {
 
     public void setWeight(int weight) {
         this.weight = weight;
+        markChanged();
     }
 
     public int getVolume() {
@@ -168,6 +200,7 @@ public abstract class Thing {
 
     public void setVolume(int volume) {
         this.volume = volume;
+        markChanged();
     }
 
     public Map<String, Cell> getCells() {
@@ -188,10 +221,12 @@ public abstract class Thing {
             return;
         }
         cells.put(key, cell);
+        markChanged();
     }
 
     public void setCells(Map<String, Cell> replacements) {
         cells.clear();
+        markChanged();
         if (replacements == null || replacements.isEmpty()) {
             return;
         }
@@ -217,6 +252,7 @@ public abstract class Thing {
 
     public void setLabel(String label) {
         this.label = label;
+        markChanged();
     }
 
     public String getDescription() {
@@ -225,6 +261,7 @@ public abstract class Thing {
 
     public void setDescription(String descriptionText) {
         this.description.setText(descriptionText);
+        markChanged();
     }
 
     // Pattern: Learning
@@ -237,5 +274,6 @@ public abstract class Thing {
     // - Records description updates to build a feedback trail for later AI prompts.
     public void recordDescription(String descriptionText, int worldClock) {
         this.description.record(descriptionText, worldClock);
+        markChanged();
     }
 }
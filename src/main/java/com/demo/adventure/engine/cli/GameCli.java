@@ -2,6 +2,10 @@ package com.demo.adventure.engine.cli;
 
 import com.demo.adventure.buui.BuuiConsole;
 import com.demo.adventure.buui.BuuiMenu;
+import com.demo.adventure.buui.ConsolePrinter;
+import com.demo.adventure.ai.client.AiResponseCache;
+import com.demo.adventure.ai.client.AiTransport;
+import com.demo.adventure.ai.runtime.AiClients;
 import com.demo.adventure.ai.runtime.AiConfig;
 import com.demo.adventure.ai.runtime.NarrationService;
 import com.demo.adventure.ai.runtime.TranslatorService;
@@ -18,9 +22,14 @@ import com.demo.adventure.engine.command.interpreter.CommandInterpreter;
 import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator;
 import com.demo.adventure.engine.runtime.GameRuntime;
 import com.demo.adventure.engine.runtime.SceneNarrator;
+import com.demo.adventure.engine.runtime.SessionCheckpointLog;
+import com.demo.adventure.engine.runtime.SmartActorRuntime;
 import com.demo.adventure.domain.save.GameSave;
 import com.demo.adventure.support.exceptions.GameBuilderException;
 
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -101,6 +110,14 @@ Commands:
     private final boolean translatorDebug;
     private final boolean smartActorDebug;
     private final boolean smartActorLocalOnly;
+    private final boolean aiCacheReport;
+    private final boolean aiTransportReport;
+    private final int smartActorMaxConcurrency;
+    private final long smartActorTurnDeadlineMillis;
+    private final Path checkpointDir;
+    private final Path receiptSpillDir;
+    private final SessionIdentity identity;
+    private final SessionCheckpointLog.Policy checkpointPolicy;
     private final NarrationService narrationService;
     private final TranslatorService translatorService;
     private final CommandInterpreter commandInterpreter = new CommandInterpreter();
@@ -111,21 +128,69 @@ Commands:
     private final GameSessionRunner sessionRunner;
 
     public GameCli(GameMode mode) {
+        this(mode, loadGameOptions(), configuredDir("session.checkpoint.dir"), configuredDir("receipts.spill.dir"));
+    }
+
+    /**
+     * Builds a CLI over an already-loaded catalog, with session checkpoints and receipt spilling off.
+     */
+    GameCli(GameMode mode, List<GameCatalogEntry> gameOptions) {
+        this(mode, gameOptions, null);
+    }
+
+    /**
+     * @param checkpointDir directory for per-game session checkpoints ({@code <gameId>.session}); null disables
+     */
+    GameCli(GameMode mode, List<GameCatalogEntry> gameOptions, Path checkpointDir) {
+        this(mode, gameOptions, checkpointDir, null);
+    }
+
+    /**
+     * @param checkpointDir   directory for per-game session checkpoints ({@code <gameId>.session}); null disables
+     * @param receiptSpillDir directory for receipts evicted from the journals ({@code <gameId>/}); null disables
+     */
+    GameCli(GameMode mode, List<GameCatalogEntry> gameOptions, Path checkpointDir, Path receiptSpillDir) {
+        this(mode, gameOptions, checkpointDir, receiptSpillDir, null);
+    }
+
+    /**
+     * Builds the CLI of one server session, so a server can share one catalog across its sessions. Checkpoints
+     * and spills are keyed by the session token ({@code <token>-<gameId>}) rather than the game alone, and the
+     * menu accepts {@code resume <token>} to continue an earlier connection's games.
+     *
+     * @param identity the server session; null for a terminal CLI
+     */
+    GameCli(GameMode mode, List<GameCatalogEntry> gameOptions, Path checkpointDir, Path receiptSpillDir,
+            SessionIdentity identity) {
         // Keep player output clean even when GameCli is constructed directly (tests bypass main()).
         KeyExpressionEvaluator.setDebugOutput(false);
         this.mode = mode == null ? GameMode.Z1980 : mode;
-        this.gameOptions = loadGameOptions();
+        this.gameOptions = List.copyOf(gameOptions);
         this.apiKey = resolveApiKey();
         AiConfig config = AiConfig.load();
         this.aiEnabled = this.mode == GameMode.Z2025 && this.apiKey != null && !this.apiKey.isBlank();
         this.translatorDebug = config.getBoolean("ai.translator.debug", false);
         this.smartActorDebug = config.getBoolean("ai.smart_actor.debug", false);
         this.smartActorLocalOnly = isSmartActorLocalOnly(config);
+        this.aiCacheReport = config.getBoolean("ai.cache.report", false);
+        this.aiTransportReport = config.getBoolean("ai.transport.report", false);
+        this.smartActorMaxConcurrency = config.getInt("ai.smart_actor.max_concurrency", SmartActorRuntime.DEFAULT_PLANNING_CONCURRENCY);
+        this.smartActorTurnDeadlineMillis = config.getInt("ai.smart_actor.turn_deadline_ms", (int) SmartActorRuntime.DEFAULT_PLANNING_DEADLINE_MILLIS);
+        this.checkpointDir = checkpointDir;
+        this.receiptSpillDir = receiptSpillDir;
+        this.identity = identity;
+        SessionCheckpointLog.Policy checkpointDefaults = SessionCheckpointLog.Policy.defaults();
+        this.checkpointPolicy = new SessionCheckpointLog.Policy(
+                config.getInt("session.checkpoint.sync_turns", checkpointDefaults.syncEveryTurns()),
+                config.getInt("session.checkpoint.sync_ms", (int) checkpointDefaults.syncIntervalMillis()),
+                config.getInt("session.checkpoint.compact_records", checkpointDefaults.compactAfterRecords())
+        );
         this.narrationService = new NarrationService(
                 aiEnabled,
                 apiKey,
                 config.getBoolean("ai.narrator.debug", false)
         );
+        this.narrationService.setStreaming(config.getBoolean("ai.narrator.stream", false));
         this.translatorService = new TranslatorService(aiEnabled, apiKey);
         this.sessionRunner = new GameSessionRunner(this);
         if (!aiEnabled) {
@@ -135,7 +200,31 @@ Commands:
         }
     }
 
-    private List<GameCatalogEntry> loadGameOptions() {
+    private void printAiReport() {
+        if (!aiEnabled) {
+            return;
+        }
+        if (aiCacheReport) {
+            AiResponseCache.Stats stats = AiClients.cacheStats();
+            println(String.format(Locale.ROOT, "~ AI cache: %d hits, %d misses (%.0f%% hit rate), %d cached, %d on disk",
+                    stats.hits(), stats.misses(), stats.hitRate() * 100.0, stats.size(), stats.diskEntries()));
+        }
+        if (aiTransportReport) {
+            for (AiTransport.EndpointMetrics metrics : AiClients.transportMetrics()) {
+                println(String.format(Locale.ROOT,
+                        "~ AI transport %s: %d attempts, %.1f%% errors, %d retries, %d hedges, p50 %.0f ms, p99 %.0f ms",
+                        metrics.endpoint(), metrics.attempts(), metrics.errorRate() * 100.0, metrics.retries(),
+                        metrics.hedges(), metrics.p50Millis(), metrics.p99Millis()));
+            }
+        }
+    }
+
+    static Path configuredDir(String key) {
+        String dir = AiConfig.load().getString(key, "");
+        return dir == null || dir.isBlank() ? null : Path.of(dir.trim());
+    }
+
+    static List<GameCatalogEntry> loadGameOptions() {
         try {
             List<GameCatalogEntry> options = GameCatalogLoader.load(GAME_CATALOG_PATH);
             if (options == null || options.isEmpty()) {
@@ -148,37 +237,62 @@ Commands:
     }
 
     private void run() {
-        printMenu();
+        PrintStream console = ConsolePrinter.buffered(System.out, Charset.defaultCharset());
         try (Scanner scanner = new Scanner(System.in)) {
-            while (true) {
-                long visibleCount = gameOptions.stream().filter(o -> !o.hidden()).count();
-                System.out.print(BuuiMenu.prompt("game", (int) visibleCount, "q"));
-                String input = scanner.nextLine().trim();
-                if (input.isBlank()) {
-                    continue;
-                }
-                if (input.equalsIgnoreCase(
-                        "q") ||
-                        input.equalsIgnoreCase("quit") ||
-                        input.equalsIgnoreCase("exit")
-                ) {
-                    println("Goodbye.");
+            ConsolePrinter.withOutput(console, () -> {
+                run(scanner);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Runs the menu and game loop over {@code scanner} until the player quits or the input ends.
+     */
+    void run(Scanner scanner) {
+        printMenu();
+        if (identity != null && checkpointDir != null) {
+            println("~ session " + identity.token() + " (enter `resume <session>` here to continue an earlier one)");
+        }
+        while (true) {
+            long visibleCount = gameOptions.stream().filter(o -> !o.hidden()).count();
+            printPrompt(BuuiMenu.prompt("game", (int) visibleCount, "q"));
+            if (!scanner.hasNextLine()) {
+                return;
+            }
+            String input = scanner.nextLine().trim();
+            if (input.isBlank()) {
+                continue;
+            }
+            if (input.equalsIgnoreCase(
+                    "q") ||
+                    input.equalsIgnoreCase("quit") ||
+                    input.equalsIgnoreCase("exit")
+            ) {
+                printAiReport();
+                println("Goodbye.");
+                return;
+            }
+            if (identity != null && input.regionMatches(true, 0, "resume ", 0, 7)) {
+                String token = input.substring(7).trim();
+                println(identity.resume(token)
+                        ? "~ session " + token + " resumed; pick a game to continue it."
+                        : "Cannot resume session: " + token);
+                continue;
+            }
+            GameCatalogEntry selected = parseSelection(input);
+            if (selected == null) {
+                println("Unknown selection: " + input);
+                continue;
+            }
+            try {
+                GameSave save = RuntimeLoader.loadSave(selected.resource());
+                boolean returnToMenu = sessionRunner.run(selected, save, scanner);
+                if (!returnToMenu) {
                     return;
                 }
-                GameCatalogEntry selected = parseSelection(input);
-                if (selected == null) {
-                    println("Unknown selection: " + input);
-                    continue;
-                }
-                try {
-                    GameSave save = RuntimeLoader.loadSave(selected.resource());
-                    boolean returnToMenu = sessionRunner.run(selected, save, scanner);
-                    if (!returnToMenu) {
-                        return;
-                    }
-                } catch (Exception ex) {
-                    println("Failed to load game: " + ex.getMessage());
-                }
+            } catch (Exception ex) {
+                println("Failed to load game: " + ex.getMessage());
             }
         }
     }
@@ -243,6 +357,34 @@ Commands:
         return smartActorLocalOnly;
     }
 
+    int smartActorMaxConcurrency() {
+        return smartActorMaxConcurrency;
+    }
+
+    long smartActorTurnDeadlineMillis() {
+        return smartActorTurnDeadlineMillis;
+    }
+
+    Path checkpointDir() {
+        return checkpointDir;
+    }
+
+    Path receiptSpillDir() {
+        return receiptSpillDir;
+    }
+
+    /**
+     * Name of {@code option}'s checkpoint log and receipt spill: the game id, prefixed by the session token when
+     * this CLI serves a server session.
+     */
+    String sessionKey(GameCatalogEntry option) {
+        return identity == null ? option.id() : identity.token() + "-" + option.id();
+    }
+
+    SessionCheckpointLog.Policy checkpointPolicy() {
+        return checkpointPolicy;
+    }
+
     NarrationService narrationService() {
         return narrationService;
     }
@@ -283,6 +425,14 @@ Commands:
         printNarration(text);
     }
 
+    void printTextLine(String text) {
+        printText(text);
+    }
+
+    void printPromptText(String text) {
+        printPrompt(text);
+    }
+
     private Command parseCommand(String input) {
         return sessionRunner.parseCommand(input);
     }
@@ -0,0 +1,222 @@
+package com.demo.adventure.engine.cli;
+
+import com.demo.adventure.buui.BuuiConsole;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Headless game server: every loopback TCP connection is an independent {@link GameSession} speaking the same
+ * plain-text line protocol as the terminal CLI (menu selection, then one command per line).
+ *
+ * Sessions run on their own thread (Java 17 has no virtual threads, so these are daemon platform threads from a
+ * cached pool; a blocked session costs a parked thread, not a core). Idle sessions are evicted on a schedule.
+ *
+ * With {@code session.checkpoint.dir} set, every session's games are checkpointed under its session token, which
+ * the menu shows; reconnecting, even to a restarted server, and entering {@code resume <token>} continues them.
+ */
+public final class GameServer extends BuuiConsole implements AutoCloseable {
+    private static final int DEFAULT_PORT = 4000;
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    private final GameCli.GameMode mode;
+    private final List<GameCatalogEntry> catalog;
+    private final Duration idleTimeout;
+    private final Clock clock;
+    private final GameSession.Storage storage;
+    private final GameSessionRegistry registry;
+    private final AtomicLong nextSessionId = new AtomicLong(1);
+    private final ExecutorService sessionPool = Executors.newCachedThreadPool(daemonThreads("game-session"));
+    private final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(daemonThreads("game-session-evictor"));
+    private ServerSocket serverSocket;
+
+    public static void main(String[] args) {
+        int code = run(args);
+        if (code != 0) {
+            System.exit(code);
+        }
+    }
+
+    static int run(String[] args) {
+        int port = DEFAULT_PORT;
+        Duration idleTimeout = DEFAULT_IDLE_TIMEOUT;
+        String[] safeArgs = args == null ? new String[0] : args;
+        for (int i = 0; i < safeArgs.length; i++) {
+            String arg = safeArgs[i];
+            switch (arg) {
+                case "-h":
+                case "--help":
+                    printUsage();
+                    return 0;
+                case "--port":
+                    if (++i >= safeArgs.length) {
+                        System.err.println("Missing value for --port");
+                        return 1;
+                    }
+                    try {
+                        port = Integer.parseInt(safeArgs[i]);
+                    } catch (NumberFormatException ex) {
+                        System.err.println("Invalid value for --port: " + safeArgs[i]);
+                        printUsage();
+                        return 1;
+                    }
+                    break;
+                case "--idle-minutes":
+                    if (++i >= safeArgs.length) {
+                        System.err.println("Missing value for --idle-minutes");
+                        return 1;
+                    }
+                    try {
+                        idleTimeout = Duration.ofMinutes(Long.parseLong(safeArgs[i]));
+                    } catch (NumberFormatException ex) {
+                        System.err.println("Invalid value for --idle-minutes: " + safeArgs[i]);
+                        printUsage();
+                        return 1;
+                    }
+                    break;
+                default:
+                    if (!arg.startsWith("--mode=")) {
+                        System.err.println("Unknown argument: " + arg);
+                        printUsage();
+                        return 1;
+                    }
+            }
+        }
+        KeyExpressionEvaluator.setDebugOutput(false);
+        GameServer server = new GameServer(GameCli.GameMode.fromArgs(safeArgs), GameCli.loadGameOptions(), idleTimeout, Clock.systemUTC(),
+                new GameSession.Storage(GameCli.configuredDir("session.checkpoint.dir"), GameCli.configuredDir("receipts.spill.dir")));
+        try {
+            int bound = server.start(port);
+            println("Game server listening on 127.0.0.1:" + bound + " (idle timeout " + idleTimeout.toMinutes() + "m)");
+            server.acceptLoop();
+            return 0;
+        } catch (IOException ex) {
+            System.err.println("Game server failed: " + ex.getMessage());
+            return 1;
+        } finally {
+            server.close();
+        }
+    }
+
+    GameServer(GameCli.GameMode mode, List<GameCatalogEntry> catalog, Duration idleTimeout, Clock clock) {
+        this(mode, catalog, idleTimeout, clock, GameSession.Storage.none());
+    }
+
+    GameServer(GameCli.GameMode mode, List<GameCatalogEntry> catalog, Duration idleTimeout, Clock clock,
+               GameSession.Storage storage) {
+        this.mode = mode == null ? GameCli.GameMode.Z1980 : mode;
+        this.catalog = List.copyOf(catalog);
+        this.idleTimeout = Objects.requireNonNull(idleTimeout, "idleTimeout");
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.storage = storage == null ? GameSession.Storage.none() : storage;
+        this.registry = new GameSessionRegistry(idleTimeout, clock);
+    }
+
+    /**
+     * Binds the loopback listener and starts idle eviction.
+     *
+     * @param port port to bind, or 0 for any free port
+     * @return the bound port
+     */
+    int start(int port) throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        long sweepMillis = Math.max(1000L, idleTimeout.toMillis() / 4);
+        evictor.scheduleWithFixedDelay(registry::evictIdle, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts connections until the server is closed.
+     */
+    void acceptLoop() throws IOException {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketException ex) {
+                if (serverSocket.isClosed()) {
+                    return;
+                }
+                throw ex;
+            }
+            open(socket);
+        }
+    }
+
+    GameSessionRegistry registry() {
+        return registry;
+    }
+
+    private void open(Socket socket) throws IOException {
+        socket.setTcpNoDelay(true);
+        long id = nextSessionId.getAndIncrement();
+        GameSession session = new GameSession(
+                id,
+                mode,
+                catalog,
+                socket.getInputStream(),
+                socket.getOutputStream(),
+                socket,
+                clock,
+                System.nanoTime() ^ id,
+                storage,
+                registry
+        );
+        registry.register(session);
+        sessionPool.execute(() -> {
+            try {
+                session.run();
+            } finally {
+                registry.remove(session);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (serverSocket != null) {
+                serverSocket.close();
+            }
+        } catch (IOException ignored) {
+            // Closing anyway.
+        }
+        evictor.shutdownNow();
+        registry.close();
+        sessionPool.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicLong counter = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static void printUsage() {
+        println("""
+                Usage: GameServer [--port <n>] [--idle-minutes <n>] [--mode=1980|2025]
+                  --port           loopback port to listen on (default 4000)
+                  --idle-minutes   close sessions with no input for this long (default 30)
+                  --mode           game mode for every session (default 1980)
+                Connect with any line-based client, e.g. `nc 127.0.0.1 4000`.""");
+    }
+}
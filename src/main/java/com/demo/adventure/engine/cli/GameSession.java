@@ -0,0 +1,214 @@
+package com.demo.adventure.engine.cli;
+
+import com.demo.adventure.buui.ConsolePrinter;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator;
+
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Scanner;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * One headless player connection: a {@link GameCli} of its own (and through it its own runtime, registry, loop
+ * and triggers) driven by a line-oriented input stream.
+ *
+ * Everything the engine would otherwise print to {@code System.out} or roll with the process-wide dice is
+ * bound to this session for the duration of {@link #run()}, so sessions on different threads never see each
+ * other's output, muting or dice.
+ *
+ * Each session starts with a fresh random token ({@link SessionIdentity}); with checkpoints configured its games are
+ * logged as {@code <checkpointDir>/<token>-<gameId>.session}, and a later connection that enters
+ * {@code resume <token>} at the menu continues them.
+ */
+final class GameSession implements Runnable, Closeable, SessionIdentity {
+    private static final SecureRandom TOKENS = new SecureRandom();
+    private static final Pattern TOKEN = Pattern.compile("[0-9a-f]{32}");
+
+    /**
+     * Where a session keeps its checkpoints and spilled receipts; null directories disable either.
+     */
+    record Storage(Path checkpointDir, Path receiptSpillDir) {
+        static Storage none() {
+            return new Storage(null, null);
+        }
+    }
+
+    private final long id;
+    private final GameCli.GameMode mode;
+    private final List<GameCatalogEntry> catalog;
+    private final InputStream input;
+    private final PrintStream output;
+    private final Closeable transport;
+    private final Clock clock;
+    private final SplittableRandom dice;
+    private final Storage storage;
+    private final GameSessionRegistry registry;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile Instant lastActivity;
+    private volatile String token;
+
+    GameSession(
+            long id,
+            GameCli.GameMode mode,
+            List<GameCatalogEntry> catalog,
+            InputStream input,
+            OutputStream output,
+            Closeable transport,
+            Clock clock,
+            long diceSeed
+    ) {
+        this(id, mode, catalog, input, output, transport, clock, diceSeed, Storage.none(), null);
+    }
+
+    /**
+     * @param registry live sessions, consulted so two connections never resume the same token; null skips the check
+     */
+    GameSession(
+            long id,
+            GameCli.GameMode mode,
+            List<GameCatalogEntry> catalog,
+            InputStream input,
+            OutputStream output,
+            Closeable transport,
+            Clock clock,
+            long diceSeed,
+            Storage storage,
+            GameSessionRegistry registry
+    ) {
+        this.id = id;
+        this.mode = mode;
+        this.catalog = List.copyOf(catalog);
+        this.input = new ActivityInputStream(Objects.requireNonNull(input, "input"));
+        this.output = ConsolePrinter.buffered(Objects.requireNonNull(output, "output"), StandardCharsets.UTF_8);
+        this.transport = transport;
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.dice = new SplittableRandom(diceSeed);
+        this.storage = storage == null ? Storage.none() : storage;
+        this.registry = registry;
+        this.lastActivity = clock.instant();
+        this.token = newToken();
+    }
+
+    static String newToken() {
+        byte[] bytes = new byte[16];
+        TOKENS.nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    static boolean isToken(String value) {
+        return value != null && TOKEN.matcher(value).matches();
+    }
+
+    long id() {
+        return id;
+    }
+
+    Instant lastActivity() {
+        return lastActivity;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    @Override
+    public String token() {
+        return token;
+    }
+
+    @Override
+    public boolean resume(String candidate) {
+        if (!isToken(candidate)) {
+            return false;
+        }
+        if (registry != null) {
+            return registry.claim(this, candidate);
+        }
+        adopt(candidate);
+        return true;
+    }
+
+    void adopt(String candidate) {
+        token = candidate;
+    }
+
+    @Override
+    public void run() {
+        try {
+            ConsolePrinter.withOutput(output, () -> KeyExpressionEvaluator.withDiceRoller(this::roll, () -> {
+                new GameCli(mode, catalog, storage.checkpointDir(), storage.receiptSpillDir(), this)
+                        .run(new Scanner(input, StandardCharsets.UTF_8));
+                return null;
+            }));
+        } catch (RuntimeException ex) {
+            if (!isClosed()) {
+                output.println("Session error: " + ex.getMessage());
+                output.flush();
+            }
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Ends the session; a {@link #run()} blocked on input sees end of stream and returns.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        output.flush();
+        try {
+            if (transport != null) {
+                transport.close();
+            }
+            input.close();
+        } catch (IOException ignored) {
+            // Already gone; nothing left to release.
+        }
+        output.close();
+    }
+
+    private int roll(int sides) {
+        return dice.nextInt(1, Math.max(1, sides) + 1);
+    }
+
+    private final class ActivityInputStream extends FilterInputStream {
+        private ActivityInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                lastActivity = clock.instant();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                lastActivity = clock.instant();
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.demo.adventure.engine.cli;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Live sessions of a {@link GameServer}, keyed by session id. Sessions that have not sent input for longer than
+ * the idle timeout are closed by {@link #evictIdle()}.
+ */
+final class GameSessionRegistry implements AutoCloseable {
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final Duration idleTimeout;
+    private final Clock clock;
+
+    GameSessionRegistry(Duration idleTimeout, Clock clock) {
+        this.idleTimeout = Objects.requireNonNull(idleTimeout, "idleTimeout");
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    void register(GameSession session) {
+        sessions.put(session.id(), session);
+    }
+
+    void remove(GameSession session) {
+        sessions.remove(session.id(), session);
+    }
+
+    /**
+     * Hands {@code token} to {@code session} unless another open session already holds it.
+     */
+    synchronized boolean claim(GameSession session, String token) {
+        for (GameSession other : sessions.values()) {
+            if (other != session && !other.isClosed() && token.equals(other.token())) {
+                return false;
+            }
+        }
+        session.adopt(token);
+        return true;
+    }
+
+    int size() {
+        return sessions.size();
+    }
+
+    List<GameSession> sessions() {
+        return List.copyOf(sessions.values());
+    }
+
+    /**
+     * Closes and drops every session idle for longer than the timeout.
+     *
+     * @return number of sessions evicted
+     */
+    int evictIdle() {
+        Instant cutoff = clock.instant().minus(idleTimeout);
+        int evicted = 0;
+        for (GameSession session : sessions.values()) {
+            if (session.isClosed() || session.lastActivity().isBefore(cutoff)) {
+                if (sessions.remove(session.id(), session)) {
+                    session.close();
+                    evicted++;
+                }
+            }
+        }
+        return evicted;
+    }
+
+    @Override
+    public void close() {
+        for (GameSession session : sessions.values()) {
+            session.close();
+        }
+        sessions.clear();
+    }
+}
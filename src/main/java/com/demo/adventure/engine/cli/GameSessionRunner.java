@@ -5,6 +5,7 @@ import com.demo.adventure.ai.runtime.smart.SmartActorPlanner;
 import com.demo.adventure.ai.runtime.smart.SmartActorRegistry;
 import com.demo.adventure.ai.runtime.smart.SmartActorSpec;
 import com.demo.adventure.ai.runtime.smart.SmartActorTagIndex;
+import com.demo.adventure.authoring.gardener.WorldFingerprint;
 import com.demo.adventure.authoring.save.build.WorldBuildResult;
 import com.demo.adventure.authoring.save.io.FootprintRule;
 import com.demo.adventure.domain.kernel.KernelRegistry;
@@ -31,9 +32,12 @@ import com.demo.adventure.engine.runtime.InteractionType;
 import com.demo.adventure.engine.runtime.MentionResolution;
 import com.demo.adventure.engine.runtime.MentionResolutionType;
 import com.demo.adventure.engine.runtime.SceneNarrator;
+import com.demo.adventure.engine.runtime.SessionCheckpoint;
 import com.demo.adventure.engine.runtime.SmartActorRuntime;
 import com.demo.adventure.support.exceptions.GameBuilderException;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -51,7 +55,6 @@ final class GameSessionRunner {
     }
 
     boolean run(GameCatalogEntry option, GameSave save, Scanner scanner) throws GameBuilderException {
-        boolean returnToMenu = false;
         LoopConfig loopConfig = RuntimeLoader.loadLoopConfig(option.resource());
         List<FootprintRule> footprintRules = RuntimeLoader.loadFootprintRules(option.resource());
         LoopRuntime loopRuntime = new LoopRuntime(save, loopConfig, footprintRules);
@@ -98,6 +101,11 @@ final class GameSessionRunner {
                 craftingRecipes,
                 extraAliases
         );
+        if (cli.receiptSpillDir() != null) {
+            runtime.spillReceiptsTo(cli.receiptSpillDir().resolve(cli.sessionKey(option)));
+        }
+        SessionCheckpoint checkpoint = openCheckpoint(option, save);
+        resumeCheckpoint(checkpoint);
         runtime.primeScene();
         List<SmartActorSpec> smartActorSpecs = RuntimeLoader.loadSmartActorSpecs(option.resource());
         SmartActorTagIndex smartActorTags = RuntimeLoader.loadSmartActorTags(option.resource());
@@ -114,17 +122,29 @@ final class GameSessionRunner {
                     cli.smartActorDebug()
             );
             smartActorRuntime.setLocalOnly(cli.smartActorLocalOnly());
+            smartActorRuntime.setPlanningLimits(cli.smartActorMaxConcurrency(), cli.smartActorTurnDeadlineMillis());
             runtime.configureSmartActors(smartActorRuntime);
         }
         CommandContext context = new CommandContext(cli, runtime);
+        try {
+            return playTurns(scanner, checkpoint, context);
+        } finally {
+            closeCheckpoint(checkpoint);
+            runtime.spillReceiptsTo(null);
+        }
+    }
 
+    private boolean playTurns(Scanner scanner, SessionCheckpoint checkpoint, CommandContext context)
+            throws GameBuilderException {
+        boolean returnToMenu = false;
 gameLoop:
         while (true) {
-            System.out.print(cli.mode() == GameCli.GameMode.Z2025 ? "\n> " : "\n_ ");
-            String line = scanner.nextLine();
-            if (line == null) {
+            recordCheckpoint(checkpoint);
+            cli.printPromptText(cli.mode() == GameCli.GameMode.Z2025 ? "\n> " : "\n_ ");
+            if (!scanner.hasNextLine()) {
                 return returnToMenu;
             }
+            String line = scanner.nextLine();
             String input = line.trim();
             narrator.setLastUtterance(input);
             if (input.isEmpty()) {
@@ -160,7 +180,7 @@ gameLoop:
                 }
                 MentionHandling mentionHandling = handleMention(mention);
                 if (mentionHandling == MentionHandling.END_GAME) {
-                    return returnToMenu;
+                    return endSession(checkpoint, returnToMenu);
                 }
                 if (mentionHandling != MentionHandling.NOT_HANDLED) {
                     continue;
@@ -170,7 +190,7 @@ gameLoop:
                 runtime.talkToConversation(input);
                 CommandOutcome turnOutcome = runtime.advanceTurn();
                 if (turnOutcome.endGame()) {
-                    return returnToMenu;
+                    return endSession(checkpoint, returnToMenu);
                 }
                 if (turnOutcome.skipTurnAdvance()) {
                     continue;
@@ -180,7 +200,7 @@ gameLoop:
 
             MentionHandling mentionHandling = handleMention(mention);
             if (mentionHandling == MentionHandling.END_GAME) {
-                return returnToMenu;
+                return endSession(checkpoint, returnToMenu);
             }
             if (mentionHandling != MentionHandling.NOT_HANDLED) {
                 continue;
@@ -204,7 +224,7 @@ gameLoop:
                             narrator.lastState(),
                             cli.translatorDebug(),
                             this::parseCommand,
-                            System.out::println
+                            cli::printTextLine
                     );
                     if (outcome.type() == TranslationOrchestrator.OutcomeType.FAILED) {
                         cli.printlnLine("~ translator failed; please rephrase (try HELP or a direction).");
@@ -257,7 +277,7 @@ gameLoop:
             }
             CommandOutcome outcome = handler.handle(context, cmd);
             if (outcome.endGame()) {
-                return returnToMenu;
+                return endSession(checkpoint, returnToMenu);
             }
             if (outcome.skipTurnAdvance()) {
                 continue gameLoop;
@@ -265,7 +285,7 @@ gameLoop:
 
             CommandOutcome turnOutcome = runtime.advanceTurn();
             if (turnOutcome.endGame()) {
-                return returnToMenu;
+                return endSession(checkpoint, returnToMenu);
             }
             if (turnOutcome.skipTurnAdvance()) {
                 continue gameLoop;
@@ -273,6 +293,68 @@ gameLoop:
         }
     }
 
+    private SessionCheckpoint openCheckpoint(GameCatalogEntry option, GameSave save) {
+        Path dir = cli.checkpointDir();
+        if (dir == null) {
+            return null;
+        }
+        Path file = dir.resolve(cli.sessionKey(option) + ".session");
+        try {
+            return SessionCheckpoint.open(file, WorldFingerprint.fingerprint(save), cli.checkpointPolicy());
+        } catch (IOException | RuntimeException ex) {
+            cli.printlnLine("~ session checkpoints disabled: " + ex.getMessage());
+            return null;
+        }
+    }
+
+    private void resumeCheckpoint(SessionCheckpoint checkpoint) {
+        if (checkpoint == null) {
+            return;
+        }
+        try {
+            if (checkpoint.resume(runtime)) {
+                cli.printlnLine("~ resumed saved session (turn " + checkpoint.turn() + ")");
+            }
+        } catch (IOException | RuntimeException ex) {
+            cli.printlnLine("~ could not resume saved session: " + ex.getMessage());
+        }
+    }
+
+    // Runs before every prompt, so whatever the last input changed is logged before blocking on the next one.
+    private void recordCheckpoint(SessionCheckpoint checkpoint) {
+        if (checkpoint == null) {
+            return;
+        }
+        try {
+            checkpoint.record(runtime);
+        } catch (IOException | RuntimeException ex) {
+            cli.printlnLine("~ session checkpoint failed: " + ex.getMessage());
+        }
+    }
+
+    // A game that ended (win, death, quit) has nothing to resume.
+    private boolean endSession(SessionCheckpoint checkpoint, boolean returnToMenu) {
+        if (checkpoint != null) {
+            try {
+                checkpoint.discard();
+            } catch (IOException ignored) {
+                // Left behind; the next start resumes or replaces it.
+            }
+        }
+        return returnToMenu;
+    }
+
+    private void closeCheckpoint(SessionCheckpoint checkpoint) {
+        if (checkpoint == null) {
+            return;
+        }
+        try {
+            checkpoint.close();
+        } catch (IOException ignored) {
+            // Appended turns already reached the OS; only the final fsync was lost.
+        }
+    }
+
     Command parseCommand(String input) {
         return cli.commandInterpreter().interpret(input);
     }
@@ -10,6 +10,7 @@ import com.demo.adventure.support.exceptions.GdlCompileException;
 import com.demo.adventure.authoring.lang.gdl.GdlLoader;
 import com.demo.adventure.authoring.save.io.GameSaveYamlLoader;
 import com.demo.adventure.authoring.save.io.StructuredGameSaveLoader;
+import com.demo.adventure.authoring.save.io.WorldImage;
 import com.demo.adventure.engine.flow.loop.LoopConfig;
 import com.demo.adventure.engine.flow.loop.LoopConfigLoader;
 import com.demo.adventure.domain.save.GameSave;
@@ -40,6 +41,11 @@ public final class RuntimeLoader {
         Path fsPath = Path.of(resourcePath);
         boolean isGdl = resourcePath.toLowerCase(Locale.ROOT).endsWith(".gdl");
         if (Files.exists(fsPath)) {
+            // A current compiled image (GameBuilderCli --image) skips parsing; a stale or broken one is ignored.
+            GameSave compiled = WorldImage.loadIfFresh(fsPath);
+            if (compiled != null) {
+                return compiled;
+            }
             if (isGdl) {
                 try {
                     return GdlLoader.load(fsPath);
@@ -0,0 +1,17 @@
+package com.demo.adventure.engine.cli;
+
+/**
+ * Identity of a {@link GameServer} connection that outlives the connection: its session token keys the session's
+ * checkpoint logs and receipt spills, so a player who reconnects (even to a restarted server) can pick up where
+ * they left off by presenting it.
+ */
+interface SessionIdentity {
+    String token();
+
+    /**
+     * Adopts an earlier session's {@code token}.
+     *
+     * @return false if the token is malformed or held by another live session
+     */
+    boolean resume(String token);
+}
@@ -8,7 +8,7 @@ import java.util.Locale;
 import java.util.Map;
 
 /**
- * Alias registry for verb normalization (kept in sync with CommandScanner keywords).
+ * Alias registry for verb normalization (kept in sync with KeywordTable defaults).
  */
 public final class VerbAliases {
     private static final Map<String, String> ALIAS_TO_CANONICAL = buildAliasMap();
@@ -24,15 +24,15 @@ public final class CommandCompiler {
             TokenType.USING
     );
 
-    private Map<String, TokenType> extraKeywords = Map.of();
+    private KeywordTable keywords = KeywordTable.DEFAULT;
 
     public void setExtraKeywords(Map<String, TokenType> extraKeywords) {
-        this.extraKeywords = extraKeywords == null ? Map.of() : Map.copyOf(extraKeywords);
+        this.keywords = KeywordTable.of(extraKeywords);
     }
 
     public CommandNode compile(String input) {
         String safeInput = input == null ? "" : input;
-        List<Token> tokens = CommandScanner.scan(safeInput, extraKeywords);
+        List<Token> tokens = CommandScanner.scan(safeInput, keywords);
         if (tokens.isEmpty()) {
             return new CommandNode.Unknown();
         }
@@ -0,0 +1,211 @@
+package com.demo.adventure.engine.command.interpreter;
+
+import com.demo.adventure.engine.command.TokenType;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable, case-insensitive keyword lookup for {@link CommandScanner}.
+ *
+ * Keys are stored upper-cased in an open-addressed table. ASCII lexemes are hashed and compared straight from the
+ * scanned source, so a lookup allocates nothing; anything else falls back to {@code toUpperCase(Locale.ROOT)} to
+ * keep the exact semantics of an upper-cased map lookup. Tables are built once per alias set and shared.
+ */
+public final class KeywordTable {
+    private static final int MAX_CACHED_ALIAS_SETS = 64;
+
+    /** Built-in verbs, directions and prepositions. */
+    public static final KeywordTable DEFAULT = new KeywordTable(defaultKeywords());
+
+    private static final Map<Map<String, TokenType>, KeywordTable> BY_ALIASES = new ConcurrentHashMap<>();
+
+    private final String[] keys;
+    private final TokenType[] types;
+    private final int mask;
+    private final int size;
+
+    private KeywordTable(Map<String, TokenType> upperCased) {
+        int capacity = Integer.highestOneBit(Math.max(4, upperCased.size() * 4) - 1) << 1;
+        this.keys = new String[capacity];
+        this.types = new TokenType[capacity];
+        this.mask = capacity - 1;
+        this.size = upperCased.size();
+        for (Map.Entry<String, TokenType> entry : upperCased.entrySet()) {
+            int slot = entry.getKey().hashCode() & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = entry.getKey();
+            types[slot] = entry.getValue();
+        }
+    }
+
+    /**
+     * Table of the defaults plus {@code extraKeywords} (extras win; null or blank entries are skipped). Tables are
+     * cached by normalised alias set, so repeated calls with equivalent maps return the same instance.
+     */
+    public static KeywordTable of(Map<String, TokenType> extraKeywords) {
+        if (extraKeywords == null || extraKeywords.isEmpty()) {
+            return DEFAULT;
+        }
+        Map<String, TokenType> aliases = new LinkedHashMap<>();
+        for (Map.Entry<String, TokenType> entry : extraKeywords.entrySet()) {
+            String key = entry.getKey();
+            TokenType type = entry.getValue();
+            if (key == null || key.isBlank() || type == null) {
+                continue;
+            }
+            aliases.put(key.trim().toUpperCase(Locale.ROOT), type);
+        }
+        if (aliases.isEmpty()) {
+            return DEFAULT;
+        }
+        Map<String, TokenType> cacheKey = Map.copyOf(aliases);
+        KeywordTable cached = BY_ALIASES.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        Map<String, TokenType> merged = new LinkedHashMap<>(defaultKeywords());
+        merged.putAll(aliases);
+        KeywordTable table = new KeywordTable(merged);
+        if (BY_ALIASES.size() >= MAX_CACHED_ALIAS_SETS) {
+            BY_ALIASES.clear();
+        }
+        BY_ALIASES.putIfAbsent(cacheKey, table);
+        return table;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public TokenType lookup(CharSequence word) {
+        return word == null ? null : lookup(word, 0, word.length());
+    }
+
+    /**
+     * Keyword type of {@code source[start, end)}, ignoring case, or {@code null} when it is not a keyword.
+     */
+    public TokenType lookup(CharSequence source, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (c >= 0x80) {
+                return lookupFolded(source.subSequence(start, end).toString().toUpperCase(Locale.ROOT));
+            }
+            hash = 31 * hash + asciiUpper(c);
+        }
+        int length = end - start;
+        for (int slot = hash & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            String key = keys[slot];
+            if (key.length() == length && matchesAscii(key, source, start)) {
+                return types[slot];
+            }
+        }
+        return null;
+    }
+
+    private TokenType lookupFolded(String upper) {
+        for (int slot = upper.hashCode() & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot].equals(upper)) {
+                return types[slot];
+            }
+        }
+        return null;
+    }
+
+    private static boolean matchesAscii(String key, CharSequence source, int start) {
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) != asciiUpper(source.charAt(start + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char asciiUpper(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+    }
+
+    private static Map<String, TokenType> defaultKeywords() {
+        Map<String, TokenType> keywords = new LinkedHashMap<>();
+        // Actions
+        keywords.put("ATTACK", TokenType.STRIKE);
+        keywords.put("CLIMB", TokenType.MOVE);
+        keywords.put("CRAFT", TokenType.MAKE);
+        keywords.put("DICE", TokenType.DICE);
+        keywords.put("DROP", TokenType.DROP);
+        keywords.put("EAT", TokenType.EAT);
+        keywords.put("EXIT", TokenType.QUIT);
+        keywords.put("EXPLORE", TokenType.SEARCH);
+        keywords.put("FLEE", TokenType.FLEE);
+        keywords.put("GO", TokenType.MOVE);
+        keywords.put("GRAB", TokenType.TAKE);
+        keywords.put("HOW", TokenType.HOW);
+        keywords.put("I", TokenType.INVENTORY);
+        keywords.put("INSPECT", TokenType.INSPECT);
+        keywords.put("INVENTORY", TokenType.INVENTORY);
+        keywords.put("JUMP", TokenType.JUMP);
+        keywords.put("L", TokenType.LOOK);
+        keywords.put("LISTEN", TokenType.LISTEN);
+        keywords.put("LOOK", TokenType.LOOK);
+        keywords.put("MAKE", TokenType.MAKE);
+        keywords.put("MOVE", TokenType.MOVE);
+        keywords.put("OPEN", TokenType.OPEN);
+        keywords.put("PUT", TokenType.PUT);
+        keywords.put("Q", TokenType.QUIT);
+        keywords.put("QUIT", TokenType.QUIT);
+        keywords.put("ROLL", TokenType.DICE);
+        keywords.put("RUN", TokenType.MOVE);
+        keywords.put("SEARCH", TokenType.SEARCH);
+        keywords.put("SOAK", TokenType.SOAK);
+        keywords.put("STRIKE", TokenType.STRIKE);
+        keywords.put("SWIM", TokenType.SWIM);
+        keywords.put("TAKE", TokenType.TAKE);
+        keywords.put("TALK", TokenType.TALK);
+        keywords.put("USE", TokenType.USE);
+
+        // Directions
+        keywords.put("D", TokenType.DOWN);
+        keywords.put("DOWN", TokenType.DOWN);
+        keywords.put("E", TokenType.EAST);
+        keywords.put("EAST", TokenType.EAST);
+        keywords.put("N", TokenType.NORTH);
+        keywords.put("NE", TokenType.NORTH_EAST);
+        keywords.put("NORTH", TokenType.NORTH);
+        keywords.put("NORTH_EAST", TokenType.NORTH_EAST);
+        keywords.put("NORTH_WEST", TokenType.NORTH_WEST);
+        keywords.put("NORTHEAST", TokenType.NORTH_EAST);
+        keywords.put("NORTHWEST", TokenType.NORTH_WEST);
+        keywords.put("NW", TokenType.NORTH_WEST);
+        keywords.put("S", TokenType.SOUTH);
+        keywords.put("SE", TokenType.SOUTH_EAST);
+        keywords.put("SOUTH", TokenType.SOUTH);
+        keywords.put("SOUTH_EAST", TokenType.SOUTH_EAST);
+        keywords.put("SOUTH_WEST", TokenType.SOUTH_WEST);
+        keywords.put("SOUTHEAST", TokenType.SOUTH_EAST);
+        keywords.put("SOUTHWEST", TokenType.SOUTH_WEST);
+        keywords.put("SW", TokenType.SOUTH_WEST);
+        keywords.put("U", TokenType.UP);
+        keywords.put("UP", TokenType.UP);
+        keywords.put("W", TokenType.WEST);
+        keywords.put("WEST", TokenType.WEST);
+
+        // Keywords
+        keywords.put("?", TokenType.HELP);
+        keywords.put("AWAY", TokenType.AWAY);
+        keywords.put("FROM", TokenType.FROM);
+        keywords.put("H", TokenType.HELP);
+        keywords.put("HELP", TokenType.HELP);
+        keywords.put("IN", TokenType.IN);
+        keywords.put("INTO", TokenType.INTO);
+        keywords.put("ON", TokenType.ON);
+        keywords.put("TO", TokenType.TO);
+        keywords.put("USING", TokenType.USING);
+        keywords.put("WITH", TokenType.WITH);
+        return keywords;
+    }
+}
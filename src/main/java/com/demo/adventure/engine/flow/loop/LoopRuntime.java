@@ -4,11 +4,13 @@ import com.demo.adventure.engine.mechanics.cells.Cell;
 import com.demo.adventure.engine.mechanics.cells.CellMutationReceipt;
 import com.demo.adventure.engine.mechanics.cells.CellOps;
 import com.demo.adventure.domain.kernel.KernelRegistry;
+import com.demo.adventure.domain.kernel.RegistrySnapshot;
 import com.demo.adventure.support.exceptions.GameBuilderException;
 import com.demo.adventure.domain.model.Item;
 import com.demo.adventure.domain.model.WorldState;
 import com.demo.adventure.authoring.save.build.GameSaveAssembler;
 import com.demo.adventure.authoring.save.io.FootprintRule;
+import com.demo.adventure.authoring.save.build.WorldBuildReport;
 import com.demo.adventure.authoring.save.build.WorldBuildResult;
 import com.demo.adventure.domain.save.GameSave;
 
@@ -16,9 +18,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.UUID;
 
 /**
- * Loop runtime controller: advances clock, persists notebook memory, and rebuilds worlds on reset.
+ * Loop runtime controller: advances clock, persists notebook memory, and restores the pristine world on reset.
+ *
+ * The first {@link #buildWorld()} keeps a snapshot of the freshly assembled world as a template; resets fork a
+ * new registry from it instead of assembling and validating the save again.
  */
 public final class LoopRuntime {
     private final GameSave save;
@@ -28,6 +34,7 @@ public final class LoopRuntime {
     private final List<FootprintRule> footprintRules;
     private final Map<String, PersistentItemSnapshot> persistentItems = new HashMap<>();
     private WorldState worldState;
+    private WorldTemplate template;
 
     public LoopRuntime(GameSave save, LoopConfig config) {
         this(save, config, List.of());
@@ -60,9 +67,50 @@ public final class LoopRuntime {
         if (enabled()) {
             installWorldState(world.registry());
         }
+        template = new WorldTemplate(world.startPlotId(), world.seed(), world.registry().snapshot(), world.report());
         return world;
     }
 
+    /**
+     * Captures clock, loop counter, tick rate and remembered persistent items.
+     */
+    public Snapshot snapshot() {
+        Map<String, PersistentItemSnapshot> items = new HashMap<>();
+        for (Map.Entry<String, PersistentItemSnapshot> entry : persistentItems.entrySet()) {
+            PersistentItemSnapshot item = entry.getValue();
+            items.put(entry.getKey(), new PersistentItemSnapshot(item.label(), item.description(), copyCells(item.cells())));
+        }
+        return new Snapshot(state.loopCount(), state.clock(), state.tickRate(), worldState, items);
+    }
+
+    public void restore(Snapshot snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+        state.restore(snapshot.loopCount, snapshot.clock, snapshot.tickRate);
+        worldState = snapshot.worldState;
+        persistentItems.clear();
+        for (Map.Entry<String, PersistentItemSnapshot> entry : snapshot.persistentItems.entrySet()) {
+            PersistentItemSnapshot item = entry.getValue();
+            persistentItems.put(entry.getKey(), new PersistentItemSnapshot(item.label(), item.description(), copyCells(item.cells())));
+        }
+    }
+
+    /**
+     * Re-reads the clock, loop counter and tick rate from the world state cells, e.g. after a session checkpoint
+     * restored those cells onto a freshly built world.
+     */
+    public void resumeFromWorldState() {
+        if (!enabled() || worldState == null) {
+            return;
+        }
+        state.restore(
+                cellValue(WorldState.LOOP_CELL, state.loopCount()),
+                cellValue(WorldState.CLOCK_CELL, state.clock()),
+                cellValue(WorldState.TICK_RATE_CELL, state.tickRate())
+        );
+    }
+
     public LoopResetReason advanceTurn(KernelRegistry registry) {
         if (!enabled()) {
             return null;
@@ -75,18 +123,26 @@ public final class LoopRuntime {
 
     public LoopResetResult reset(KernelRegistry previous, LoopResetReason reason) throws GameBuilderException {
         if (!enabled()) {
-            WorldBuildResult world = buildWorld();
+            WorldBuildResult world = pristineWorld();
             return new LoopResetResult(world, reason, state.loopCount(), "");
         }
         syncTickRateFromWorldState();
         capturePersistentItems(previous);
         state.reset();
-        WorldBuildResult world = buildWorld();
+        WorldBuildResult world = pristineWorld();
         applyPersistentItems(world.registry());
         updateWorldStateCells(world.registry());
         return new LoopResetResult(world, reason, state.loopCount(), buildResetMessage(reason));
     }
 
+    private WorldBuildResult pristineWorld() throws GameBuilderException {
+        if (template == null) {
+            return buildWorld();
+        }
+        KernelRegistry registry = KernelRegistry.fork(template.registry());
+        return new WorldBuildResult(template.startPlotId(), template.seed(), registry, template.report());
+    }
+
     private void installWorldState(KernelRegistry registry) {
         worldState = new WorldState(state.maxTicks());
         if (registry != null) {
@@ -104,6 +160,14 @@ public final class LoopRuntime {
         recordMutation(registry, CellOps.setAmount(worldState, WorldState.TICK_RATE_CELL, state.tickRate()));
     }
 
+    private int cellValue(String cellName, int fallback) {
+        Cell cell = worldState.getCell(cellName);
+        if (cell == null) {
+            return fallback;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, cell.getAmount());
+    }
+
     private void syncTickRateFromWorldState() {
         if (worldState == null) {
             return;
@@ -183,10 +247,9 @@ public final class LoopRuntime {
             return null;
         }
         String trimmed = label.trim();
-        return registry.getEverything().values().stream()
+        return registry.findByLabel(trimmed).stream()
                 .filter(Item.class::isInstance)
                 .map(Item.class::cast)
-                .filter(item -> item.getLabel() != null && item.getLabel().equalsIgnoreCase(trimmed))
                 .findFirst()
                 .orElse(null);
     }
@@ -205,6 +268,26 @@ public final class LoopRuntime {
         return "The day resets.";
     }
 
+    private record WorldTemplate(UUID startPlotId, long seed, RegistrySnapshot registry, WorldBuildReport report) {
+    }
+
     private record PersistentItemSnapshot(String label, String description, Map<String, Cell> cells) {
     }
+
+    public static final class Snapshot {
+        private final int loopCount;
+        private final int clock;
+        private final int tickRate;
+        private final WorldState worldState;
+        private final Map<String, PersistentItemSnapshot> persistentItems;
+
+        private Snapshot(int loopCount, int clock, int tickRate, WorldState worldState,
+                         Map<String, PersistentItemSnapshot> persistentItems) {
+            this.loopCount = loopCount;
+            this.clock = clock;
+            this.tickRate = tickRate;
+            this.worldState = worldState;
+            this.persistentItems = persistentItems;
+        }
+    }
 }
@@ -48,4 +48,10 @@ public final class LoopState {
     public void setTickRate(int tickRate) {
         this.tickRate = Math.max(1, tickRate);
     }
+
+    void restore(int loopCount, int clock, int tickRate) {
+        this.loopCount = loopCount;
+        this.clock = clock;
+        this.tickRate = tickRate;
+    }
 }
@@ -1,6 +1,9 @@
 package com.demo.adventure.engine.flow.trigger;
 
+import com.demo.adventure.engine.mechanics.keyexpr.CompiledKeyExpression;
+
 import java.util.List;
+import java.util.Objects;
 
 public record TriggerDefinition(
         String id,
@@ -8,9 +11,24 @@ public record TriggerDefinition(
         String target,
         String object,
         String key,
-        List<TriggerAction> actions
+        List<TriggerAction> actions,
+        CompiledKeyExpression compiledKey
 ) {
     public TriggerDefinition {
         actions = actions == null ? List.of() : List.copyOf(actions);
+        if (compiledKey == null || !Objects.equals(compiledKey.source(), key)) {
+            compiledKey = CompiledKeyExpression.compile(key);
+        }
+    }
+
+    public TriggerDefinition(
+            String id,
+            TriggerType type,
+            String target,
+            String object,
+            String key,
+            List<TriggerAction> actions
+    ) {
+        this(id, type, target, object, key, actions, null);
     }
 }
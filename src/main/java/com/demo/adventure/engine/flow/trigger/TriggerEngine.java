@@ -13,19 +13,31 @@ import com.demo.adventure.engine.flow.loop.LoopResetReason;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 
+/**
+ * Fires authored triggers for game events.
+ *
+ * Triggers are indexed at construction by {@link TriggerType}, then by normalized target and object label, with a
+ * wildcard bucket for triggers that leave either blank. An event looks up at most four buckets instead of scanning
+ * every definition, and matching triggers still run in authoring order.
+ */
 public final class TriggerEngine {
-    private final List<TriggerDefinition> triggers;
+    private static final String WILDCARD = "";
+
+    private final Map<TriggerType, Map<String, Map<String, List<IndexedTrigger>>>> index;
 
     public TriggerEngine(List<TriggerDefinition> triggers) {
-        this.triggers = triggers == null ? List.of() : List.copyOf(triggers);
+        this.index = buildIndex(triggers == null ? List.of() : triggers);
     }
 
     public TriggerOutcome fire(TriggerEvent event, TriggerContext context) {
-        if (event == null || context == null || triggers.isEmpty()) {
+        if (event == null || context == null || index.isEmpty()) {
             return TriggerOutcome.empty();
         }
         KernelRegistry registry = context.registry();
@@ -36,18 +48,15 @@ public final class TriggerEngine {
         LoopResetReason resetReason = null;
         String resetMessage = "";
         boolean endGame = false;
-        for (TriggerDefinition trigger : triggers) {
-            if (trigger == null || trigger.type() != event.type()) {
-                continue;
-            }
-            if (!matchesLabel(trigger.target(), event.targetLabel())) {
-                continue;
-            }
-            if (!matchesLabel(trigger.object(), event.objectLabel())) {
-                continue;
-            }
-            if (!evaluateKey(trigger.key(), context)) {
-                continue;
+        KeyResolvers resolvers = null;
+        for (TriggerDefinition trigger : candidates(event)) {
+            if (hasKey(trigger)) {
+                if (resolvers == null) {
+                    resolvers = KeyResolvers.of(context);
+                }
+                if (!evaluateKey(trigger, resolvers)) {
+                    continue;
+                }
             }
             for (TriggerAction action : trigger.actions()) {
                 if (action == null || action.type() == null) {
@@ -72,38 +81,86 @@ public final class TriggerEngine {
         return new TriggerOutcome(messages, resetReason, resetMessage, endGame);
     }
 
-    private boolean matchesLabel(String expected, String actual) {
-        if (expected == null || expected.isBlank()) {
-            return true;
+    private static Map<TriggerType, Map<String, Map<String, List<IndexedTrigger>>>> buildIndex(
+            List<TriggerDefinition> triggers
+    ) {
+        Map<TriggerType, Map<String, Map<String, List<IndexedTrigger>>>> index = new EnumMap<>(TriggerType.class);
+        for (int i = 0; i < triggers.size(); i++) {
+            TriggerDefinition trigger = triggers.get(i);
+            if (trigger == null || trigger.type() == null) {
+                continue;
+            }
+            index.computeIfAbsent(trigger.type(), t -> new HashMap<>())
+                    .computeIfAbsent(normalizeLabel(trigger.target()), t -> new HashMap<>())
+                    .computeIfAbsent(normalizeLabel(trigger.object()), o -> new ArrayList<>())
+                    .add(new IndexedTrigger(i, trigger));
+        }
+        return index;
+    }
+
+    /**
+     * Triggers whose type, target and object match the event, in authoring order. A blank trigger label matches
+     * anything; a blank event label only matches a blank trigger label.
+     */
+    private List<TriggerDefinition> candidates(TriggerEvent event) {
+        Map<String, Map<String, List<IndexedTrigger>>> byTarget = index.get(event.type());
+        if (byTarget == null) {
+            return List.of();
+        }
+        String target = normalizeLabel(event.targetLabel());
+        String object = normalizeLabel(event.objectLabel());
+        List<IndexedTrigger> matches = new ArrayList<>();
+        int buckets = 0;
+        buckets += collect(byTarget.get(WILDCARD), object, matches);
+        if (!target.equals(WILDCARD)) {
+            buckets += collect(byTarget.get(target), object, matches);
         }
-        if (actual == null || actual.isBlank()) {
-            return false;
+        if (buckets > 1) {
+            matches.sort(Comparator.comparingInt(IndexedTrigger::order));
         }
-        return expected.trim().equalsIgnoreCase(actual.trim());
+        List<TriggerDefinition> ordered = new ArrayList<>(matches.size());
+        for (IndexedTrigger match : matches) {
+            ordered.add(match.trigger());
+        }
+        return ordered;
     }
 
-    private boolean evaluateKey(String key, TriggerContext context) {
-        if (key == null || key.isBlank()) {
-            return true;
+    private static int collect(Map<String, List<IndexedTrigger>> byObject, String object, List<IndexedTrigger> into) {
+        if (byObject == null) {
+            return 0;
         }
-        KernelRegistry registry = context.registry();
-        UUID playerId = context.playerId();
-        UUID plotId = context.plotId();
-        UUID worldId = context.worldId();
-        KeyExpressionEvaluator.HasResolver hasResolver =
-                KeyExpressionEvaluator.registryHasResolver(registry, playerId);
-        KeyExpressionEvaluator.SearchResolver searchResolver =
-                KeyExpressionEvaluator.registrySearchResolver(registry, plotId);
-        KeyExpressionEvaluator.SkillResolver skillResolver =
-                KeyExpressionEvaluator.registrySkillResolver(registry, playerId);
-        KeyExpressionEvaluator.AttributeResolver attributeResolver =
-                KeyExpressionEvaluator.registryAttributeResolver(registry, plotId, playerId, worldId);
+        int buckets = 0;
+        List<IndexedTrigger> any = byObject.get(WILDCARD);
+        if (any != null) {
+            into.addAll(any);
+            buckets++;
+        }
+        if (!object.equals(WILDCARD)) {
+            List<IndexedTrigger> exact = byObject.get(object);
+            if (exact != null) {
+                into.addAll(exact);
+                buckets++;
+            }
+        }
+        return buckets;
+    }
+
+    private static String normalizeLabel(String label) {
+        return label == null ? WILDCARD : label.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean hasKey(TriggerDefinition trigger) {
+        String key = trigger.key();
+        return key != null && !key.isBlank();
+    }
+
+    private boolean evaluateKey(TriggerDefinition trigger, KeyResolvers resolvers) {
         KeyExpressionResult result = KeyExpressionEvaluator.evaluateResult(
-                key,
-                hasResolver,
-                searchResolver,
-                skillResolver,
-                attributeResolver,
+                trigger.compiledKey(),
+                resolvers.has(),
+                resolvers.search(),
+                resolvers.skill(),
+                resolvers.attribute(),
                 KeyExpressionEvaluator.AttributeResolutionPolicy.COMPUTE_FALLBACK_ZERO
         );
         return result.isSuccess() && result.value();
@@ -270,9 +327,7 @@ public final class TriggerEngine {
             return null;
         }
         String target = label.trim();
-        return registry.getEverything().values().stream()
-                .filter(t -> t != null && t.getLabel() != null)
-                .filter(t -> t.getLabel().equalsIgnoreCase(target))
+        return registry.findByLabel(target).stream()
                 .sorted(Comparator.comparing(Thing::getId))
                 .findFirst()
                 .orElse(null);
@@ -311,6 +366,32 @@ public final class TriggerEngine {
         }
     }
 
+    private record IndexedTrigger(int order, TriggerDefinition trigger) {
+    }
+
+    /**
+     * Registry resolvers for one {@link #fire} call. They read the registry live, so keys checked after an earlier
+     * trigger's actions still see the updated world.
+     */
+    private record KeyResolvers(
+            KeyExpressionEvaluator.HasResolver has,
+            KeyExpressionEvaluator.SearchResolver search,
+            KeyExpressionEvaluator.SkillResolver skill,
+            KeyExpressionEvaluator.AttributeResolver attribute
+    ) {
+        private static KeyResolvers of(TriggerContext context) {
+            KernelRegistry registry = context.registry();
+            UUID playerId = context.playerId();
+            UUID plotId = context.plotId();
+            return new KeyResolvers(
+                    KeyExpressionEvaluator.registryHasResolver(registry, playerId),
+                    KeyExpressionEvaluator.registrySearchResolver(registry, plotId),
+                    KeyExpressionEvaluator.registrySkillResolver(registry, playerId),
+                    KeyExpressionEvaluator.registryAttributeResolver(registry, plotId, playerId, context.worldId())
+            );
+        }
+    }
+
     private record ActionOutcome(String message, LoopResetReason resetReason, String resetMessage, boolean endGame) {
         private static ActionOutcome empty() {
             return new ActionOutcome(null, null, "", false);
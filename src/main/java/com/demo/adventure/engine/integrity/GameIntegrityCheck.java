@@ -24,6 +24,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public final class GameIntegrityCheck {
 
@@ -32,8 +36,59 @@ public final class GameIntegrityCheck {
     }
 
     public GameIntegrityReport evaluate(String resourcePath, GameIntegrityConfig config) throws Exception {
-        Objects.requireNonNull(resourcePath, "resourcePath");
         GameIntegrityConfig safeConfig = config == null ? GameIntegrityConfig.defaults() : config;
+        if (safeConfig.parallelism() <= 1) {
+            return evaluate(resourcePath, safeConfig, null);
+        }
+        ExecutorService passes = daemonPool(1, "integrity-pass");
+        try {
+            return evaluate(resourcePath, safeConfig, passes);
+        } finally {
+            passes.shutdownNow();
+        }
+    }
+
+    /**
+     * Evaluates several games, returning reports in input order. With {@code config.parallelism() > 1} games are
+     * checked concurrently, each with its two dice passes in flight, keeping at most {@code parallelism} searches
+     * (and so search frontiers in memory) live at once; otherwise they run one after another exactly as
+     * {@link #evaluate(String, GameIntegrityConfig)} would.
+     */
+    public List<GameIntegrityReport> evaluateAll(List<String> resourcePaths, GameIntegrityConfig config) throws Exception {
+        Objects.requireNonNull(resourcePaths, "resourcePaths");
+        GameIntegrityConfig safeConfig = config == null ? GameIntegrityConfig.defaults() : config;
+        List<GameIntegrityReport> reports = new ArrayList<>();
+        if (safeConfig.parallelism() <= 1) {
+            for (String resourcePath : resourcePaths) {
+                reports.add(evaluate(resourcePath, safeConfig, null));
+            }
+            return reports;
+        }
+        // Separate pools so a game waiting on its dice=max pass never holds the thread that pass needs.
+        int gamesInFlight = Math.max(1, safeConfig.parallelism() / 2);
+        ExecutorService games = daemonPool(gamesInFlight, "integrity-game");
+        ExecutorService passes = daemonPool(gamesInFlight, "integrity-pass");
+        try {
+            List<Future<GameIntegrityReport>> pending = new ArrayList<>();
+            for (String resourcePath : resourcePaths) {
+                pending.add(games.submit(() -> evaluate(resourcePath, safeConfig, passes)));
+            }
+            for (Future<GameIntegrityReport> future : pending) {
+                reports.add(await(future));
+            }
+            return reports;
+        } finally {
+            games.shutdownNow();
+            passes.shutdownNow();
+        }
+    }
+
+    private GameIntegrityReport evaluate(
+            String resourcePath,
+            GameIntegrityConfig safeConfig,
+            ExecutorService passes
+    ) throws Exception {
+        Objects.requireNonNull(resourcePath, "resourcePath");
 
         KeyExpressionEvaluator.setDebugOutput(false);
         GameContext game = loadGame(resourcePath);
@@ -55,18 +110,39 @@ public final class GameIntegrityCheck {
                 labelIndex,
                 issues
         );
-        GameIntegritySimulation.ReachabilityResult possible = GameIntegritySimulation.runReachability(
-                game,
-                safeConfig,
-                GameIntegritySimulation.DiceMode.MAX,
-                winRequirements
-        );
-        GameIntegritySimulation.ReachabilityResult guaranteed = GameIntegritySimulation.runReachability(
-                game,
-                safeConfig,
-                GameIntegritySimulation.DiceMode.MIN,
-                winRequirements
-        );
+        GameIntegritySimulation.ReachabilityResult possible;
+        GameIntegritySimulation.ReachabilityResult guaranteed;
+        if (passes == null) {
+            possible = GameIntegritySimulation.runReachability(
+                    game,
+                    safeConfig,
+                    GameIntegritySimulation.DiceMode.MAX,
+                    winRequirements
+            );
+            guaranteed = GameIntegritySimulation.runReachability(
+                    game,
+                    safeConfig,
+                    GameIntegritySimulation.DiceMode.MIN,
+                    winRequirements
+            );
+        } else {
+            // Each pass binds its own dice roller to the thread it runs on, so the two can run side by side.
+            Future<GameIntegritySimulation.ReachabilityResult> possibleRun = passes.submit(
+                    () -> GameIntegritySimulation.runReachability(
+                            game,
+                            safeConfig,
+                            GameIntegritySimulation.DiceMode.MAX,
+                            winRequirements
+                    )
+            );
+            guaranteed = GameIntegritySimulation.runReachability(
+                    game,
+                    safeConfig,
+                    GameIntegritySimulation.DiceMode.MIN,
+                    winRequirements
+            );
+            possible = await(possibleRun);
+        }
 
         IntegrityWinRequirementEvaluator.evaluate(winRequirements, possible, issues);
 
@@ -90,10 +166,40 @@ public final class GameIntegrityCheck {
             ));
         }
 
+        int hashCollisions = possible.hashCollisions() + guaranteed.hashCollisions();
+        if (hashCollisions > 0) {
+            issues.add(new GameIntegrityIssue(
+                    GameIntegritySeverity.WARNING,
+                    "W_STATE_HASH_COLLISION",
+                    "State hash collisions detected during search: " + hashCollisions,
+                    resourcePath
+            ));
+        }
+
         return new GameIntegrityReport(resourcePath, possible.summary(), guaranteed.summary(), issues);
     }
 
-    private GameContext loadGame(String resourcePath) throws Exception {
+    private static ExecutorService daemonPool(int size, String name) {
+        return Executors.newFixedThreadPool(size, runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw cause instanceof Exception exception ? exception : ex;
+        }
+    }
+
+    GameContext loadGame(String resourcePath) throws Exception {
         GameSave save = RuntimeLoader.loadSave(resourcePath);
         LoopConfig loopConfig = RuntimeLoader.loadLoopConfig(resourcePath);
         List<TriggerDefinition> triggers = RuntimeLoader.loadTriggerDefinitions(resourcePath);
@@ -1,11 +1,36 @@
 package com.demo.adventure.engine.integrity;
 
+/**
+ * Search limits for the reachability simulation. {@code verifyStateHashes} keeps full state signatures
+ * alongside the 128-bit hashes so hash collisions can be detected and reported (slower, more memory).
+ * {@code parallelism} above 1 runs the dice=max and dice=min passes concurrently and, via
+ * {@link GameIntegrityCheck#evaluateAll}, several games at once, with at most that many searches live.
+ * Each search stays sequential.
+ */
 public record GameIntegrityConfig(
         int maxDepth,
         int maxStates,
-        int maxActionsPerState
+        int maxActionsPerState,
+        boolean verifyStateHashes,
+        int parallelism
 ) {
+    public GameIntegrityConfig(int maxDepth, int maxStates, int maxActionsPerState, boolean verifyStateHashes) {
+        this(maxDepth, maxStates, maxActionsPerState, verifyStateHashes, 1);
+    }
+
+    public GameIntegrityConfig(int maxDepth, int maxStates, int maxActionsPerState) {
+        this(maxDepth, maxStates, maxActionsPerState, false);
+    }
+
     public static GameIntegrityConfig defaults() {
         return new GameIntegrityConfig(80, 5000, 200);
     }
+
+    public GameIntegrityConfig withVerifyStateHashes(boolean verify) {
+        return new GameIntegrityConfig(maxDepth, maxStates, maxActionsPerState, verify, parallelism);
+    }
+
+    public GameIntegrityConfig withParallelism(int threads) {
+        return new GameIntegrityConfig(maxDepth, maxStates, maxActionsPerState, verifyStateHashes, Math.max(1, threads));
+    }
 }
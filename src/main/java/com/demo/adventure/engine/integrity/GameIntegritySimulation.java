@@ -14,6 +14,7 @@ import com.demo.adventure.engine.mechanics.crafting.CraftingRecipe;
 import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator;
 import com.demo.adventure.engine.runtime.CommandContext;
 import com.demo.adventure.engine.runtime.GameRuntime;
+import com.demo.adventure.engine.runtime.RuntimeSnapshot;
 import com.demo.adventure.domain.kernel.KernelRegistry;
 import com.demo.adventure.domain.model.Item;
 
@@ -36,10 +37,18 @@ final class GameIntegritySimulation {
     record ReachabilityResult(
             GameIntegrityReachability summary,
             Set<String> reachableItems,
-            boolean[] requiredSatisfied
+            boolean[] requiredSatisfied,
+            int hashCollisions
     ) {
+        ReachabilityResult(GameIntegrityReachability summary, Set<String> reachableItems, boolean[] requiredSatisfied) {
+            this(summary, reachableItems, requiredSatisfied, 0);
+        }
     }
 
+    /**
+     * Runs the search with dice fixed to {@code diceMode}. Dice are bound to the calling thread, so searches on
+     * different threads do not see each other's dice.
+     */
     static ReachabilityResult runReachability(
             GameContext game,
             GameIntegrityConfig config,
@@ -50,78 +59,85 @@ final class GameIntegritySimulation {
             return new ReachabilityResult(new GameIntegrityReachability(false, true, 0, 0, 0), Set.of(), new boolean[0]);
         }
         GameIntegrityConfig safeConfig = config == null ? GameIntegrityConfig.defaults() : config;
+        KeyExpressionEvaluator.DiceRoller dice = sides -> diceMode == DiceMode.MAX ? sides : 1;
+        return KeyExpressionEvaluator.withDiceRoller(dice, () -> searchSequential(game, safeConfig, winRequirements));
+    }
+
+    private static ReachabilityResult searchSequential(
+            GameContext game,
+            GameIntegrityConfig safeConfig,
+            List<Set<String>> winRequirements
+    ) throws Exception {
         boolean[] requiredSatisfied = new boolean[winRequirements == null ? 0 : winRequirements.size()];
         Set<String> reachableItems = new HashSet<>();
-        Set<String> visited = new HashSet<>();
+        LongPairHashSet visited = new LongPairHashSet(safeConfig.maxStates());
+        Map<IntegritySimulationState.StateHash, String> signatures = safeConfig.verifyStateHashes() ? new HashMap<>() : null;
+        Set<String> collidedSignatures = new HashSet<>();
+        int hashCollisions = 0;
         Deque<PathNode> queue = new ArrayDeque<>();
-        queue.add(new PathNode(List.of(), 0));
 
         int actionsEvaluated = 0;
         int maxDepthReached = 0;
         boolean searchExhausted = true;
         boolean winFound = false;
 
-        KeyExpressionEvaluator.DiceRoller prevDice = KeyExpressionEvaluator.getDefaultDiceRoller();
-        KeyExpressionEvaluator.setDefaultDiceRoller(sides -> diceMode == DiceMode.MAX ? sides : 1);
-        try {
-            while (!queue.isEmpty()) {
-                PathNode node = queue.poll();
-                if (node.depth() > safeConfig.maxDepth()) {
-                    searchExhausted = false;
-                    continue;
-                }
-                SimulationResult sim = simulate(game, node.commands());
-                if (sim.invalid()) {
+        Simulator simulator = Simulator.create(game);
+        GameRuntime runtime = simulator.runtime();
+        queue.add(new PathNode(null, 0, runtime.snapshot()));
+        while (!queue.isEmpty()) {
+            PathNode node = queue.poll();
+            if (node.depth() > safeConfig.maxDepth()) {
+                searchExhausted = false;
+                continue;
+            }
+            runtime.restore(node.parent());
+            StepResult step = simulator.apply(node.command());
+            if (step == StepResult.INVALID) {
+                continue;
+            }
+            maxDepthReached = Math.max(maxDepthReached, node.depth());
+            IntegritySimulationState.StateHash hash = IntegritySimulationState.stateHash(runtime);
+            if (!visited.add(hash.high(), hash.low())) {
+                if (signatures == null) {
                     continue;
                 }
-                maxDepthReached = Math.max(maxDepthReached, node.depth());
-                String signature = IntegritySimulationState.stateSignature(sim.runtime());
-                if (!visited.add(signature)) {
+                String signature = IntegritySimulationState.stateSignature(runtime);
+                if (signature.equals(signatures.get(hash)) || !collidedSignatures.add(signature)) {
                     continue;
                 }
-                if (visited.size() >= safeConfig.maxStates()) {
-                    searchExhausted = false;
-                    break;
-                }
-                Set<String> inventory = IntegritySimulationState.inventoryLabels(sim.runtime());
-                reachableItems.addAll(inventory);
-                if (winRequirements != null && !winRequirements.isEmpty()) {
-                    for (int i = 0; i < winRequirements.size(); i++) {
-                        if (requiredSatisfied[i]) {
-                            continue;
-                        }
-                        Set<String> required = winRequirements.get(i);
-                        if (required == null || required.isEmpty()) {
-                            requiredSatisfied[i] = true;
-                            continue;
-                        }
-                        if (inventory.containsAll(required)) {
-                            requiredSatisfied[i] = true;
-                        }
-                    }
-                }
-                if (sim.endGame()) {
-                    winFound = true;
-                    break;
-                }
-                List<String> actions = IntegritySimulationActions.generateActions(
-                        sim.runtime(),
-                        game.craftingRecipes(),
-                        game.useSpecs()
-                );
-                actionsEvaluated += actions.size();
-                if (actions.size() > safeConfig.maxActionsPerState()) {
-                    actions = actions.subList(0, safeConfig.maxActionsPerState());
-                    searchExhausted = false;
-                }
-                for (String action : actions) {
-                    List<String> next = new ArrayList<>(node.commands());
-                    next.add(action);
-                    queue.add(new PathNode(next, node.depth() + 1));
-                }
+                // Distinct state behind a colliding hash: count it and keep exploring it.
+                hashCollisions++;
+            } else if (signatures != null) {
+                signatures.put(hash, IntegritySimulationState.stateSignature(runtime));
+            }
+            if (visited.size() >= safeConfig.maxStates()) {
+                searchExhausted = false;
+                break;
+            }
+            Set<String> inventory = IntegritySimulationState.inventoryLabels(runtime);
+            reachableItems.addAll(inventory);
+            markSatisfied(inventory, winRequirements, requiredSatisfied);
+            if (step == StepResult.END_GAME) {
+                winFound = true;
+                break;
+            }
+            List<String> actions = IntegritySimulationActions.generateActions(
+                    runtime,
+                    game.craftingRecipes(),
+                    game.useSpecs()
+            );
+            actionsEvaluated += actions.size();
+            if (actions.size() > safeConfig.maxActionsPerState()) {
+                actions = actions.subList(0, safeConfig.maxActionsPerState());
+                searchExhausted = false;
+            }
+            if (actions.isEmpty()) {
+                continue;
+            }
+            RuntimeSnapshot here = runtime.snapshot();
+            for (String action : actions) {
+                queue.add(new PathNode(action, node.depth() + 1, here));
             }
-        } finally {
-            KeyExpressionEvaluator.setDefaultDiceRoller(prevDice);
         }
 
         GameIntegrityReachability summary = new GameIntegrityReachability(
@@ -131,40 +147,70 @@ final class GameIntegritySimulation {
                 actionsEvaluated,
                 maxDepthReached
         );
-        return new ReachabilityResult(summary, reachableItems, requiredSatisfied);
+        return new ReachabilityResult(summary, reachableItems, requiredSatisfied, hashCollisions);
+    }
+
+    private static void markSatisfied(Set<String> inventory, List<Set<String>> winRequirements, boolean[] requiredSatisfied) {
+        if (winRequirements == null || winRequirements.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < winRequirements.size(); i++) {
+            if (requiredSatisfied[i]) {
+                continue;
+            }
+            Set<String> required = winRequirements.get(i);
+            if (required == null || required.isEmpty() || inventory.containsAll(required)) {
+                requiredSatisfied[i] = true;
+            }
+        }
     }
 
-    private static SimulationResult simulate(GameContext game, List<String> commands) throws Exception {
-        GameRuntime runtime = buildRuntime(game);
-        CommandInterpreter interpreter = new CommandInterpreter();
-        interpreter.setExtraKeywords(game.aliases());
-        Map<CommandAction, GameCommandHandler> handlers = CommandHandlers.defaultHandlers();
-        CommandContext context = new CommandContext(NullOutput.INSTANCE, runtime);
+    /**
+     * One working runtime per search. Each node restores its parent's snapshot and applies only its own
+     * command instead of rebuilding the world and replaying the whole path from the start.
+     */
+    private record Simulator(
+            GameRuntime runtime,
+            CommandInterpreter interpreter,
+            Map<CommandAction, GameCommandHandler> handlers,
+            CommandContext context
+    ) {
+        static Simulator create(GameContext game) throws Exception {
+            GameRuntime runtime = buildRuntime(game);
+            CommandInterpreter interpreter = new CommandInterpreter();
+            interpreter.setExtraKeywords(game.aliases());
+            return new Simulator(
+                    runtime,
+                    interpreter,
+                    CommandHandlers.defaultHandlers(),
+                    new CommandContext(NullOutput.INSTANCE, runtime)
+            );
+        }
 
-        for (String commandText : commands) {
+        StepResult apply(String commandText) throws Exception {
             if (commandText == null || commandText.isBlank()) {
-                continue;
+                return StepResult.OK;
             }
             Command cmd = interpreter.interpret(commandText);
             if (cmd == null || cmd.hasError() || cmd.action() == CommandAction.UNKNOWN) {
-                return new SimulationResult(runtime, false, true);
+                return StepResult.INVALID;
             }
             GameCommandHandler handler = handlers.get(cmd.action());
             if (handler == null) {
-                return new SimulationResult(runtime, false, true);
+                return StepResult.INVALID;
             }
             CommandOutcome outcome = handler.handle(context, cmd);
             if (outcome.endGame()) {
-                return new SimulationResult(runtime, true, false);
+                return StepResult.END_GAME;
             }
             if (!outcome.skipTurnAdvance()) {
                 CommandOutcome turnOutcome = runtime.advanceTurn();
                 if (turnOutcome.endGame()) {
-                    return new SimulationResult(runtime, true, false);
+                    return StepResult.END_GAME;
                 }
             }
+            return StepResult.OK;
         }
-        return new SimulationResult(runtime, false, false);
     }
 
     private static GameRuntime buildRuntime(GameContext game) throws Exception {
@@ -195,10 +241,13 @@ final class GameIntegritySimulation {
         return runtime;
     }
 
-    private record SimulationResult(GameRuntime runtime, boolean endGame, boolean invalid) {
+    private enum StepResult {
+        OK,
+        END_GAME,
+        INVALID
     }
 
-    private record PathNode(List<String> commands, int depth) {
+    private record PathNode(String command, int depth, RuntimeSnapshot parent) {
     }
 
     private enum NullOutput implements CommandOutput {
@@ -102,11 +102,8 @@ final class IntegritySimulationActions {
         if (registry == null || plotId == null) {
             return List.of();
         }
-        return registry.getEverything().values().stream()
-                .filter(Gate.class::isInstance)
-                .map(Gate.class::cast)
+        return registry.gatesAt(plotId).stream()
                 .filter(Gate::isVisible)
-                .filter(gate -> gate.connects(plotId))
                 .map(gate -> gate.directionFrom(plotId))
                 .filter(Objects::nonNull)
                 .distinct()
@@ -16,6 +16,17 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 final class IntegritySimulationState {
+    private static final long SEED_HIGH = 0x9E3779B97F4A7C15L;
+    private static final long SEED_LOW = 0xC2B2AE3D27D4EB4FL;
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    /**
+     * 128-bit digest of the state covered by {@link #stateSignature}.
+     */
+    record StateHash(long high, long low) {
+    }
+
     private IntegritySimulationState() {
     }
 
@@ -74,4 +85,92 @@ final class IntegritySimulationState {
         }
         return sb.toString();
     }
+
+    /**
+     * Same inputs as {@link #stateSignature} without building a string: each thing is folded into a 128-bit
+     * Zobrist-style key and the keys are summed, so registry order does not matter and nothing is sorted.
+     */
+    static StateHash stateHash(GameRuntime runtime) {
+        if (runtime == null || runtime.registry() == null) {
+            return new StateHash(0L, 0L);
+        }
+        long high = mix(SEED_HIGH ^ uuidBits(runtime.currentPlotId()));
+        long low = mix(SEED_LOW + uuidBits(runtime.currentPlotId()));
+        for (Thing thing : runtime.registry().getEverything().values()) {
+            if (thing == null) {
+                continue;
+            }
+            long h = SEED_HIGH;
+            long l = SEED_LOW;
+            long[] fields = {
+                    thing.getId().getMostSignificantBits(),
+                    thing.getId().getLeastSignificantBits(),
+                    thing.getKind() == null ? -1 : thing.getKind().ordinal(),
+                    uuidBits(thing.getOwnerId()),
+                    thing.isVisibleFlag() ? 1 : 0,
+                    thing instanceof Item item ? (item.isFixture() ? 1 : 0) : 2
+            };
+            for (long field : fields) {
+                h = mix(h ^ field);
+                l = mix(l + field * SEED_HIGH);
+            }
+            // Strings get a separately seeded hash per lane, so each lane carries its own 64 bits of them.
+            h = mix(h ^ stringBits(thing.getKey(), SEED_HIGH));
+            h = mix(h ^ stringBits(thing.getVisibilityKey(), SEED_HIGH));
+            h = mix(h ^ cellBits(thing.getCells(), SEED_HIGH));
+            l = mix(l + stringBits(thing.getKey(), SEED_LOW) * SEED_HIGH);
+            l = mix(l + stringBits(thing.getVisibilityKey(), SEED_LOW) * SEED_HIGH);
+            l = mix(l + cellBits(thing.getCells(), SEED_LOW) * SEED_HIGH);
+            high += h;
+            low += l;
+        }
+        for (String label : inventoryLabels(runtime)) {
+            high += mix(stringBits(label, SEED_HIGH) ^ SEED_LOW);
+            low += mix(stringBits(label, SEED_LOW) + SEED_HIGH);
+        }
+        return new StateHash(high, low);
+    }
+
+    private static long cellBits(Map<String, com.demo.adventure.engine.mechanics.cells.Cell> cells, long seed) {
+        if (cells == null || cells.isEmpty()) {
+            return 0L;
+        }
+        long sum = 0L;
+        for (Map.Entry<String, com.demo.adventure.engine.mechanics.cells.Cell> entry : cells.entrySet()) {
+            com.demo.adventure.engine.mechanics.cells.Cell cell = entry.getValue();
+            if (cell == null) {
+                continue;
+            }
+            long bits = mix(stringBits(entry.getKey(), seed) ^ cell.getAmount());
+            sum += mix(bits + cell.getCapacity());
+        }
+        return sum;
+    }
+
+    private static long uuidBits(UUID id) {
+        return id == null ? 0L : mix(id.getMostSignificantBits()) ^ id.getLeastSignificantBits();
+    }
+
+    /**
+     * 64-bit FNV-1a over every character, started from a {@code seed}-dependent basis and finished with
+     * {@link #mix}; different seeds give independent hashes of the same string.
+     */
+    static long stringBits(String value, long seed) {
+        if (value == null) {
+            return 0L;
+        }
+        long hash = FNV_OFFSET_BASIS ^ seed;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            hash = (hash ^ (c & 0xFF)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        return mix(hash ^ value.length());
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
 }
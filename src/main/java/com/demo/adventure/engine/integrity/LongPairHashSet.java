@@ -0,0 +1,90 @@
+package com.demo.adventure.engine.integrity;
+
+/**
+ * Open-addressing set of (high, low) long pairs backed by two primitive arrays; no per-entry objects.
+ * The pair (0, 0) marks empty slots and is tracked with a separate flag.
+ */
+final class LongPairHashSet {
+    private long[] highs;
+    private long[] lows;
+    private int size;
+    private boolean containsZero;
+
+    LongPairHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        this.highs = new long[capacity];
+        this.lows = new long[capacity];
+    }
+
+    /**
+     * @return true when the pair was not already present
+     */
+    boolean add(long high, long low) {
+        if (high == 0L && low == 0L) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        if ((size + 1) * 2 > highs.length) {
+            grow();
+        }
+        if (!insert(highs, lows, high, low)) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    boolean contains(long high, long low) {
+        if (high == 0L && low == 0L) {
+            return containsZero;
+        }
+        int mask = highs.length - 1;
+        for (int slot = slot(high, low, mask); ; slot = (slot + 1) & mask) {
+            if (highs[slot] == 0L && lows[slot] == 0L) {
+                return false;
+            }
+            if (highs[slot] == high && lows[slot] == low) {
+                return true;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        long[] nextHighs = new long[highs.length * 2];
+        long[] nextLows = new long[lows.length * 2];
+        for (int i = 0; i < highs.length; i++) {
+            if (highs[i] != 0L || lows[i] != 0L) {
+                insert(nextHighs, nextLows, highs[i], lows[i]);
+            }
+        }
+        highs = nextHighs;
+        lows = nextLows;
+    }
+
+    private static boolean insert(long[] highs, long[] lows, long high, long low) {
+        int mask = highs.length - 1;
+        for (int slot = slot(high, low, mask); ; slot = (slot + 1) & mask) {
+            if (highs[slot] == 0L && lows[slot] == 0L) {
+                highs[slot] = high;
+                lows[slot] = low;
+                return true;
+            }
+            if (highs[slot] == high && lows[slot] == low) {
+                return false;
+            }
+        }
+    }
+
+    private static int slot(long high, long low, int mask) {
+        long h = high * 0x9E3779B97F4A7C15L ^ low;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
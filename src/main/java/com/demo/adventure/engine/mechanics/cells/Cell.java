@@ -3,6 +3,7 @@ package com.demo.adventure.engine.mechanics.cells;
 public final class Cell {
     private final long capacity;
     private long amount;
+    private long revision;
 
     public Cell(long capacity, long amount) {
         if (capacity <= 0) {
@@ -20,9 +21,18 @@ public final class Cell {
         return amount;
     }
 
+    /**
+     * Counter bumped by every {@link CellOps} write, so a cached key-expression result that read this cell can tell
+     * whether it is stale.
+     */
+    public long revision() {
+        return revision;
+    }
+
     long setAmount(long value) {
         long before = amount;
         amount = clamp(value, 0, capacity);
+        revision++;
         return before;
     }
 
@@ -32,6 +32,14 @@ public final class CombatEncounter {
         this.state = CombatState.ACTIVE;
     }
 
+    public CombatEncounter copy() {
+        CombatEncounter copy = new CombatEncounter(id, locationId, participants, initiativeOrder, turnIndex);
+        copy.defeated.addAll(defeated);
+        copy.fled.addAll(fled);
+        copy.state = state;
+        return copy;
+    }
+
     public UUID getId() {
         return id;
     }
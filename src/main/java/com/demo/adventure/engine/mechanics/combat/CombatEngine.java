@@ -156,19 +156,13 @@ public final class CombatEngine {
             int minRoll,
             String expression
     ) {
-        KeyExpressionEvaluator.DiceRoller previous = KeyExpressionEvaluator.getDefaultDiceRoller();
+        KeyExpressionEvaluator.DiceRoller previous = KeyExpressionEvaluator.currentDiceRoller();
         List<Integer> rolls = new ArrayList<>();
-        KeyExpressionEvaluator.setDefaultDiceRoller(s -> {
+        boolean success = KeyExpressionEvaluator.withDiceRoller(s -> {
             int roll = previous.roll(s);
             rolls.add(roll);
             return roll;
-        });
-        boolean success;
-        try {
-            success = KeyExpressionEvaluator.evaluate(expression);
-        } finally {
-            KeyExpressionEvaluator.setDefaultDiceRoller(previous);
-        }
+        }, () -> KeyExpressionEvaluator.evaluate(expression));
         int result = rolls.isEmpty() ? 0 : rolls.get(rolls.size() - 1);
         record(registry, new DiceCheckedReceipt(contextTag, sides, minRoll, result));
         return new DiceCheckResult(result, success);
@@ -0,0 +1,201 @@
+package com.demo.adventure.engine.mechanics.crafting;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded ring buffer of structured log events drained by a daemon writer thread in batches.
+ * Callers only copy references into the ring; formatting and I/O happen on the writer thread.
+ * When the ring is full the oldest pending event is overwritten and counted as dropped.
+ */
+final class AsyncLogSink implements AutoCloseable {
+
+    record Event(long timestampMillis, CraftingLog.Category category, CraftingLog.Level level, String name, Object[] fields) {
+    }
+
+    private final Writer writer;
+    private final Event[] ring;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final Object lock = new Object();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final Thread worker;
+    private int head;
+    private int size;
+    private long enqueued;
+    private long drained;
+    private boolean closed;
+
+    AsyncLogSink(Writer writer, int capacity, int batchSize, long flushIntervalMillis) {
+        if (writer == null) {
+            throw new IllegalArgumentException("writer is required");
+        }
+        if (capacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("capacity and batchSize must be positive");
+        }
+        this.writer = writer;
+        this.ring = new Event[capacity];
+        this.batchSize = Math.min(batchSize, capacity);
+        this.flushIntervalMillis = Math.max(1L, flushIntervalMillis);
+        this.worker = new Thread(this::drainLoop, "crafting-log-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    void submit(Event event) {
+        if (event == null) {
+            return;
+        }
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            int tail = (head + size) % ring.length;
+            if (size == ring.length) {
+                ring[head] = null;
+                head = (head + 1) % ring.length;
+                size--;
+                drained++;
+                dropped.incrementAndGet();
+            }
+            ring[tail] = event;
+            size++;
+            enqueued++;
+            if (size >= batchSize) {
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Blocks until every event submitted before this call has been written and flushed.
+     */
+    void flush() {
+        long target;
+        synchronized (lock) {
+            target = enqueued;
+            lock.notifyAll();
+            while (drained < target && worker.isAlive()) {
+                try {
+                    lock.wait(flushIntervalMillis);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    long droppedCount() {
+        return dropped.get();
+    }
+
+    long writtenCount() {
+        return written.get();
+    }
+
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainLoop() {
+        List<Event> batch = new ArrayList<>(batchSize);
+        StringBuilder line = new StringBuilder(256);
+        while (true) {
+            boolean stop;
+            synchronized (lock) {
+                if (size == 0 && !closed) {
+                    try {
+                        lock.wait(flushIntervalMillis);
+                    } catch (InterruptedException ex) {
+                        closed = true;
+                    }
+                }
+                while (size > 0 && batch.size() < batchSize) {
+                    batch.add(ring[head]);
+                    ring[head] = null;
+                    head = (head + 1) % ring.length;
+                    size--;
+                }
+                stop = closed && size == 0;
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch, line);
+                synchronized (lock) {
+                    drained += batch.size();
+                    lock.notifyAll();
+                }
+                batch.clear();
+            }
+            if (stop) {
+                break;
+            }
+        }
+        try {
+            writer.close();
+        } catch (IOException ignored) {
+            // Nothing left to report to.
+        }
+    }
+
+    private void writeBatch(List<Event> batch, StringBuilder line) {
+        try {
+            for (Event event : batch) {
+                line.setLength(0);
+                format(event, line);
+                writer.write(line.toString());
+            }
+            writer.flush();
+            written.addAndGet(batch.size());
+        } catch (IOException ex) {
+            // Logging must never break gameplay; count the batch as dropped.
+            dropped.addAndGet(batch.size());
+        }
+    }
+
+    static void format(Event event, StringBuilder out) {
+        out.append(Instant.ofEpochMilli(event.timestampMillis()))
+                .append(' ').append(event.level())
+                .append(' ').append(event.category())
+                .append(' ').append(event.name());
+        Object[] fields = event.fields();
+        if (fields != null) {
+            for (int i = 0; i + 1 < fields.length; i += 2) {
+                out.append(' ').append(fields[i]).append('=');
+                appendValue(fields[i + 1], out);
+            }
+        }
+        out.append(System.lineSeparator());
+    }
+
+    private static void appendValue(Object value, StringBuilder out) {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        String text = String.valueOf(value);
+        if (text.isEmpty() || text.indexOf(' ') >= 0 || text.indexOf('"') >= 0 || text.indexOf('=') >= 0) {
+            out.append('"').append(text.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+        } else {
+            out.append(text);
+        }
+    }
+}
@@ -1,37 +1,157 @@
 package com.demo.adventure.engine.mechanics.crafting;
 
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.logging.FileHandler;
-import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
 
 /**
- * Simple file-backed logger for crafting and related flows.
+ * Structured, asynchronous logger for kernel and crafting flows (logs/crafting-flow.log).
+ * Events are queued into a bounded ring buffer and written in batches by a background thread.
+ * Each category has its own level; guard call sites with {@link #enabled} so disabled categories
+ * skip building fields entirely.
+ *
+ * Levels come from system properties or environment variables, e.g. {@code -Dcrafting.log.kernel=OFF}
+ * or {@code CRAFTING_LOG_CRAFTING=DEBUG}. Both categories default to INFO.
  */
 public final class CraftingLog {
-    private static final Logger LOGGER = init();
+    public enum Category {
+        KERNEL,
+        CRAFTING
+    }
+
+    public enum Level {
+        OFF,
+        WARN,
+        INFO,
+        DEBUG;
+
+        public static Level parse(String raw, Level fallback) {
+            if (raw == null || raw.isBlank()) {
+                return fallback;
+            }
+            try {
+                return Level.valueOf(raw.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                return fallback;
+            }
+        }
+    }
+
+    private static final Path LOG_PATH = Path.of("logs", "crafting-flow.log");
+    private static final int RING_CAPACITY = 8192;
+    private static final int BATCH_SIZE = 256;
+    private static final long FLUSH_INTERVAL_MILLIS = 250L;
+
+    private static final Map<Category, Level> LEVELS = new EnumMap<>(Category.class);
+    private static volatile Level kernelLevel;
+    private static volatile Level craftingLevel;
+    private static volatile AsyncLogSink sink;
+
+    static {
+        setLevel(Category.KERNEL, configuredLevel("crafting.log.kernel", "CRAFTING_LOG_KERNEL"));
+        setLevel(Category.CRAFTING, configuredLevel("crafting.log.crafting", "CRAFTING_LOG_CRAFTING"));
+    }
 
     private CraftingLog() {
     }
 
-    public static Logger get() {
-        return LOGGER;
+    public static boolean enabled(Category category, Level level) {
+        if (category == null || level == null || level == Level.OFF) {
+            return false;
+        }
+        Level threshold = category == Category.KERNEL ? kernelLevel : craftingLevel;
+        return level.ordinal() <= threshold.ordinal();
+    }
+
+    /**
+     * Queues an event; {@code fields} are alternating key/value pairs and should be immutable values
+     * (strings, UUIDs, numbers) because they are formatted later on the writer thread.
+     */
+    public static void log(Category category, Level level, String event, Object... fields) {
+        if (!enabled(category, level)) {
+            return;
+        }
+        AsyncLogSink target = sink();
+        if (target != null) {
+            target.submit(new AsyncLogSink.Event(System.currentTimeMillis(), category, level, event, fields));
+        }
     }
 
-    private static Logger init() {
-        Logger logger = Logger.getLogger("CraftingFlow");
-        logger.setUseParentHandlers(false);
+    public static synchronized void setLevel(Category category, Level level) {
+        if (category == null) {
+            return;
+        }
+        Level safe = level == null ? Level.INFO : level;
+        LEVELS.put(category, safe);
+        if (category == Category.KERNEL) {
+            kernelLevel = safe;
+        } else {
+            craftingLevel = safe;
+        }
+    }
+
+    public static synchronized Level getLevel(Category category) {
+        return LEVELS.getOrDefault(category, Level.INFO);
+    }
+
+    /**
+     * Blocks until queued events are on disk. Intended for shutdown paths and tests.
+     */
+    public static void flush() {
+        AsyncLogSink target = sink;
+        if (target != null) {
+            target.flush();
+        }
+    }
+
+    public static long droppedCount() {
+        AsyncLogSink target = sink;
+        return target == null ? 0L : target.droppedCount();
+    }
+
+    private static AsyncLogSink sink() {
+        AsyncLogSink current = sink;
+        if (current != null) {
+            return current;
+        }
+        synchronized (CraftingLog.class) {
+            if (sink == null) {
+                sink = openSink();
+            }
+            return sink;
+        }
+    }
+
+    private static AsyncLogSink openSink() {
         try {
-            Files.createDirectories(Path.of("logs"));
-            FileHandler handler = new FileHandler("logs/crafting-flow.log", true);
-            handler.setFormatter(new SimpleFormatter());
-            logger.addHandler(handler);
-        } catch (IOException e) {
-            // If logging setup fails, fallback silently to default handlers.
-            logger.setUseParentHandlers(true);
-        }
-        return logger;
+            Files.createDirectories(LOG_PATH.getParent());
+            Writer writer = new OutputStreamWriter(
+                    Files.newOutputStream(LOG_PATH, StandardOpenOption.CREATE, StandardOpenOption.APPEND),
+                    StandardCharsets.UTF_8
+            );
+            AsyncLogSink created = new AsyncLogSink(writer, RING_CAPACITY, BATCH_SIZE, FLUSH_INTERVAL_MILLIS);
+            Runtime.getRuntime().addShutdownHook(new Thread(created::close, "crafting-log-shutdown"));
+            return created;
+        } catch (IOException | SecurityException e) {
+            // If logging setup fails, turn the categories off instead of failing gameplay.
+            setLevel(Category.KERNEL, Level.OFF);
+            setLevel(Category.CRAFTING, Level.OFF);
+            return null;
+        }
+    }
+
+    private static Level configuredLevel(String property, String env) {
+        String raw = System.getProperty(property);
+        if (raw == null || raw.isBlank()) {
+            raw = System.getenv(env);
+        }
+        return Level.parse(raw, Level.INFO);
     }
 }
@@ -1,10 +1,13 @@
 package com.demo.adventure.engine.mechanics.crafting;
 
+import com.demo.adventure.engine.mechanics.keyexpr.CompiledKeyExpression;
+
 import java.util.List;
 import java.util.Objects;
 
 /**
  * Immutable definition of a crafting recipe driven by key expressions.
+ * The expression is compiled once on construction and exposed via {@link #compiledExpression()}.
  */
 public record CraftingRecipe(
         String name,
@@ -13,7 +16,8 @@ public record CraftingRecipe(
         List<String> requirements,
         String skillTag,
         String emitLabel,
-        String emitDescription
+        String emitDescription,
+        CompiledKeyExpression compiledExpression
 ) {
     public CraftingRecipe {
         Objects.requireNonNull(name, "name");
@@ -23,5 +27,20 @@ public record CraftingRecipe(
         skillTag = skillTag == null ? "" : skillTag;
         Objects.requireNonNull(emitLabel, "emitLabel");
         emitDescription = emitDescription == null ? "" : emitDescription;
+        if (compiledExpression == null || !expression.equals(compiledExpression.source())) {
+            compiledExpression = CompiledKeyExpression.compile(expression);
+        }
+    }
+
+    public CraftingRecipe(
+            String name,
+            String expression,
+            List<String> consume,
+            List<String> requirements,
+            String skillTag,
+            String emitLabel,
+            String emitDescription
+    ) {
+        this(name, expression, consume, requirements, skillTag, emitLabel, emitDescription, null);
     }
 }
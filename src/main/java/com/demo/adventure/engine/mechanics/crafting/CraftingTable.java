@@ -20,7 +20,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.logging.Logger;
+
+import static com.demo.adventure.engine.mechanics.crafting.CraftingLog.Category.CRAFTING;
+import static com.demo.adventure.engine.mechanics.crafting.CraftingLog.Level.INFO;
 
 /**
  * Minimal crafting table that evaluates key expressions (HAS, SEARCH, DICE)
@@ -28,7 +30,6 @@ import java.util.logging.Logger;
  * and produces crafted items.
  */
 public final class CraftingTable {
-    private static final Logger LOG = CraftingLog.get();
 
     private final KernelRegistry registry;
     private final UUID actorId;
@@ -63,28 +64,40 @@ public final class CraftingTable {
         KeyExpressionEvaluator.AttributeResolver attributeResolver =
                 KeyExpressionEvaluator.registryAttributeResolver(registry, actorId);
 
-        LOG.info(() -> "Craft attempt: " + recipeName + " requires " + recipe.expression());
+        boolean logging = CraftingLog.enabled(CRAFTING, INFO);
+        if (logging) {
+            CraftingLog.log(CRAFTING, INFO, "CraftAttempt", "recipe", recipeName, "requires", recipe.expression());
+        }
         boolean ready = KeyExpressionEvaluator.evaluate(
-                recipe.expression(),
+                recipe.compiledExpression(),
                 hasResolver,
                 searchResolver,
                 skillResolver,
                 attributeResolver,
                 KeyExpressionEvaluator.AttributeResolutionPolicy.COMPUTE_FALLBACK_ZERO
         );
-        LOG.info(() -> "Craft check: " + recipeName + " -> " + ready);
+        if (logging) {
+            CraftingLog.log(CRAFTING, INFO, "CraftCheck", "recipe", recipeName, "ready", ready);
+        }
         if (!ready) {
-            LOG.info(() -> "Craft fail: " + recipeName + " (requirements not met)");
+            if (logging) {
+                CraftingLog.log(CRAFTING, INFO, "CraftFail", "recipe", recipeName, "reason", "requirements not met");
+            }
             return false;
         }
         if (!recipe.skillTag().isBlank() && !skillResolver.hasSkill(recipe.skillTag())) {
-            LOG.info(() -> "Craft fail: " + recipeName + " (missing skill: " + recipe.skillTag() + ")");
+            if (logging) {
+                CraftingLog.log(CRAFTING, INFO, "CraftFail", "recipe", recipeName, "reason", "missing skill",
+                        "skill", recipe.skillTag());
+            }
             return false;
         }
 
         List<Thing> consumed = consumeIngredients(recipe.consume());
         if (consumed.size() != recipe.consume().size()) {
-            LOG.info(() -> "Craft fail: " + recipeName + " (missing ingredients)");
+            if (logging) {
+                CraftingLog.log(CRAFTING, INFO, "CraftFail", "recipe", recipeName, "reason", "missing ingredients");
+            }
             return false;
         }
 
@@ -96,7 +109,9 @@ public final class CraftingTable {
         crafted.setVisible(true);
         registry.register(crafted);
         transferCells(consumed, crafted);
-        LOG.info(() -> "Craft success: " + recipe.emitLabel() + " created for actor " + actorId);
+        if (logging) {
+            CraftingLog.log(CRAFTING, INFO, "CraftSuccess", "item", recipe.emitLabel(), "actor", actorId);
+        }
         return true;
     }
 
@@ -140,17 +155,15 @@ public final class CraftingTable {
             }
             registry.moveOwnership(match.get().getId(), null);
             consumed.add(match.get());
-            LOG.info(() -> "Consume: " + label + " from actor " + actorId);
+            if (CraftingLog.enabled(CRAFTING, INFO)) {
+                CraftingLog.log(CRAFTING, INFO, "Consume", "label", label, "actor", actorId);
+            }
         }
         return consumed;
     }
 
     private Optional<Thing> findOwnedThing(String label) {
-        return registry.getEverything().values().stream()
-                .filter(Objects::nonNull)
-                .filter(t -> actorId.equals(t.getOwnerId()))
-                .filter(t -> label.equalsIgnoreCase(t.getLabel()))
-                .findFirst();
+        return registry.findByLabel(label, actorId).stream().findFirst();
     }
 
     private void transferCells(List<Thing> sources, Item crafted) {
@@ -0,0 +1,96 @@
+package com.demo.adventure.engine.mechanics.keyexpr;
+
+import com.demo.adventure.engine.mechanics.keyexpr.ast.KeyExpressionNode;
+import com.demo.adventure.support.exceptions.KeyExpressionCompileException;
+
+import java.util.Objects;
+
+/**
+ * Key expression compiled once at load time. Holds the source text plus either the AST or the compile error,
+ * so evaluation never reparses and malformed expressions still surface as COMPILE errors when evaluated.
+ * The AST is turned into a {@link KeyExpressionProgram} on first evaluation.
+ */
+public final class CompiledKeyExpression {
+    private static final CompiledKeyExpression NONE = new CompiledKeyExpression(null, null, null);
+
+    private final String source;
+    private final KeyExpressionNode ast;
+    private final KeyExpressionError compileError;
+    private volatile KeyExpressionProgram program;
+
+    private CompiledKeyExpression(String source, KeyExpressionNode ast, KeyExpressionError compileError) {
+        this.source = source;
+        this.ast = ast;
+        this.compileError = compileError;
+    }
+
+    public static CompiledKeyExpression compile(String source) {
+        return compile(source, KeyExpressionCache.shared());
+    }
+
+    public static CompiledKeyExpression compile(String source, KeyExpressionCache cache) {
+        if (source == null) {
+            return NONE;
+        }
+        KeyExpressionCache safeCache = cache == null ? KeyExpressionCache.shared() : cache;
+        try {
+            return new CompiledKeyExpression(source, safeCache.compile(source), null);
+        } catch (KeyExpressionCompileException ex) {
+            KeyExpressionError error = new KeyExpressionError(
+                    KeyExpressionError.Phase.COMPILE,
+                    ex.getMessage(),
+                    ex.getInput(),
+                    ex.getCurrentPos()
+            );
+            return new CompiledKeyExpression(source, null, error);
+        }
+    }
+
+    public String source() {
+        return source;
+    }
+
+    public KeyExpressionNode ast() {
+        return ast;
+    }
+
+    KeyExpressionProgram program() {
+        KeyExpressionProgram current = program;
+        if (current == null && ast != null) {
+            // Racing threads may each build one; they are equivalent and stateless.
+            current = KeyExpressionProgram.compile(ast);
+            program = current;
+        }
+        return current;
+    }
+
+    public KeyExpressionError compileError() {
+        return compileError;
+    }
+
+    public boolean isEmpty() {
+        return source == null;
+    }
+
+    public boolean isValid() {
+        return ast != null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        return other instanceof CompiledKeyExpression that && Objects.equals(source, that.source);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(source);
+    }
+
+    @Override
+    public String toString() {
+        return source == null ? "" : source;
+    }
+}
@@ -26,6 +26,10 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+/**
+ * Tree-walking reference evaluator over {@code Object} values. Evaluation goes through {@link KeyExpressionProgram};
+ * this stays as the specification the compiled form is checked against.
+ */
 final class KeyExpressionAstEvaluator {
     private static final Set<Integer> SUPPORTED_DICE_SIDES = Set.of(4, 6, 8, 10, 12, 20);
 
@@ -0,0 +1,82 @@
+package com.demo.adventure.engine.mechanics.keyexpr;
+
+import com.demo.adventure.engine.mechanics.keyexpr.ast.KeyExpressionNode;
+import com.demo.adventure.support.exceptions.KeyExpressionCompileException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe cache of compiled key expression ASTs keyed by source text.
+ * Least recently used entries are evicted once capacity is reached; compile failures are not cached.
+ */
+public final class KeyExpressionCache {
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final KeyExpressionCache SHARED = new KeyExpressionCache(DEFAULT_CAPACITY);
+
+    public record Stats(long hits, long misses, int size, int capacity) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
+    private final int capacity;
+    private final Map<String, KeyExpressionNode> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public KeyExpressionCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, KeyExpressionNode> eldest) {
+                return size() > KeyExpressionCache.this.capacity;
+            }
+        };
+    }
+
+    public static KeyExpressionCache shared() {
+        return SHARED;
+    }
+
+    public KeyExpressionNode compile(String source) throws KeyExpressionCompileException {
+        String key = source == null ? "" : source;
+        KeyExpressionNode cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        // Compile outside the lock; a concurrent miss on the same source just produces an equal AST.
+        KeyExpressionNode compiled = new KeyExpressionCompiler().compile(key);
+        synchronized (entries) {
+            entries.put(key, compiled);
+        }
+        return compiled;
+    }
+
+    public Stats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Stats(hits.sum(), misses.sum(), size, capacity);
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        hits.reset();
+        misses.reset();
+    }
+}
@@ -0,0 +1,140 @@
+package com.demo.adventure.engine.mechanics.keyexpr;
+
+import com.demo.adventure.domain.kernel.KernelRegistry;
+import com.demo.adventure.domain.model.Thing;
+import com.demo.adventure.engine.mechanics.cells.Cell;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Records what a key-expression evaluation read, so {@link KeyExpressionMemo} can keep its result until one of
+ * those reads would come out differently.
+ *
+ * Resolvers report into the recorder active on the calling thread:
+ * <ul>
+ *     <li>each owner whose contents they scanned, checked later against {@link KernelRegistry#revisionOf};</li>
+ *     <li>each thing whose fields they read, checked against {@link Thing#revision()};</li>
+ *     <li>each cell whose amount they read, checked against {@link Cell#revision()}.</li>
+ * </ul>
+ * Dice rolls, debug tracing and missing-cell receipts are side effects a cached result would skip, so they mark
+ * the evaluation uncacheable instead. With no recorder active every report is a no-op.
+ */
+final class KeyExpressionDependencies {
+    private static final ThreadLocal<Recorder> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Marks a resolver whose reads are all reported here. Results computed through any other resolver are never
+     * cached, because nothing would tell the memo when they change.
+     */
+    interface Tracked {
+    }
+
+    interface Dependency {
+        boolean isCurrent();
+    }
+
+    private record OwnerRead(KernelRegistry registry, UUID ownerId, long revision) implements Dependency {
+        @Override
+        public boolean isCurrent() {
+            return registry.revisionOf(ownerId) == revision;
+        }
+    }
+
+    private record ThingRead(Thing thing, long revision) implements Dependency {
+        @Override
+        public boolean isCurrent() {
+            return thing.revision() == revision;
+        }
+    }
+
+    private record CellRead(Cell cell, long revision) implements Dependency {
+        @Override
+        public boolean isCurrent() {
+            return cell.revision() == revision;
+        }
+    }
+
+    static final class Recorder {
+        private final Recorder outer;
+        private final Set<Dependency> reads = new LinkedHashSet<>();
+        private boolean cacheable = true;
+
+        private Recorder(Recorder outer) {
+            this.outer = outer;
+        }
+    }
+
+    private KeyExpressionDependencies() {
+    }
+
+    static Recorder begin() {
+        Recorder recorder = new Recorder(CURRENT.get());
+        CURRENT.set(recorder);
+        return recorder;
+    }
+
+    /**
+     * Closes {@code recorder}, folding its reads into the enclosing recorder (a nested evaluation's inputs are
+     * inputs of the outer one too). Returns the reads, or null when the result must not be cached.
+     */
+    static Dependency[] end(Recorder recorder) {
+        if (recorder.outer == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(recorder.outer);
+            recorder.outer.reads.addAll(recorder.reads);
+            recorder.outer.cacheable &= recorder.cacheable;
+        }
+        return recorder.cacheable ? recorder.reads.toArray(new Dependency[0]) : null;
+    }
+
+    /**
+     * Reports the reads behind a reused result to the enclosing recorder, if any.
+     */
+    static void replay(Dependency[] reads) {
+        Recorder recorder = CURRENT.get();
+        if (recorder != null) {
+            recorder.reads.addAll(Arrays.asList(reads));
+        }
+    }
+
+    static boolean isCurrent(Dependency[] reads) {
+        for (Dependency read : reads) {
+            if (!read.isCurrent()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static void owner(KernelRegistry registry, UUID ownerId) {
+        Recorder recorder = CURRENT.get();
+        if (recorder != null && registry != null && ownerId != null) {
+            recorder.reads.add(new OwnerRead(registry, ownerId, registry.revisionOf(ownerId)));
+        }
+    }
+
+    static void thing(Thing thing) {
+        Recorder recorder = CURRENT.get();
+        if (recorder != null && thing != null) {
+            recorder.reads.add(new ThingRead(thing, thing.revision()));
+        }
+    }
+
+    static void cell(Cell cell) {
+        Recorder recorder = CURRENT.get();
+        if (recorder != null && cell != null) {
+            recorder.reads.add(new CellRead(cell, cell.revision()));
+        }
+    }
+
+    static void uncacheable() {
+        Recorder recorder = CURRENT.get();
+        if (recorder != null) {
+            recorder.cacheable = false;
+        }
+    }
+}
@@ -1,16 +1,16 @@
 package com.demo.adventure.engine.mechanics.keyexpr;
 
 import com.demo.adventure.domain.kernel.KernelRegistry;
-import com.demo.adventure.support.exceptions.KeyExpressionCompileException;
 import com.demo.adventure.support.exceptions.KeyExpressionEvaluationException;
 import com.demo.adventure.engine.mechanics.keyexpr.ast.AttributeAccessNode;
-import com.demo.adventure.engine.mechanics.keyexpr.ast.KeyExpressionNode;
 
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * Expression evaluator: compiles the input and walks the AST to produce a boolean result.
+ * Expression evaluator: compiles the input and runs its {@link KeyExpressionProgram} to produce a boolean result.
+ * Source strings compile through the shared {@link KeyExpressionCache}; callers that hold a
+ * {@link CompiledKeyExpression} skip compilation entirely.
  * Compile and evaluation errors are returned as structured results (or thrown by boolean helpers).
  */
 public final class KeyExpressionEvaluator {
@@ -39,6 +39,11 @@ public final class KeyExpressionEvaluator {
         int roll(int sides);
     }
 
+    @FunctionalInterface
+    public interface DiceScope<T, E extends Exception> {
+        T run() throws E;
+    }
+
     public enum AttributeResolutionPolicy {
         QUERY_STRICT,
         COMPUTE_FALLBACK_ZERO
@@ -54,15 +59,17 @@ public final class KeyExpressionEvaluator {
     ) {
     }
 
-    private static final HasResolver NO_OP_HAS = label -> false;
-    private static final SearchResolver NO_OP_SEARCH = label -> false;
-    private static final SkillResolver NO_OP_SKILL = tag -> false;
+    // The no-op resolvers read nothing, so results computed through them are safe to memoize.
+    static final HasResolver NO_OP_HAS = (HasResolver & KeyExpressionDependencies.Tracked) label -> false;
+    static final SearchResolver NO_OP_SEARCH = (SearchResolver & KeyExpressionDependencies.Tracked) label -> false;
+    static final SkillResolver NO_OP_SKILL = (SkillResolver & KeyExpressionDependencies.Tracked) tag -> false;
     private static final AttributeResolver NO_OP_ATTRIBUTE = (access, context) -> null;
     private static final DiceRoller DEFAULT_DICE = sides -> ThreadLocalRandom.current().nextInt(1, sides + 1);
     private static volatile HasResolver defaultHasResolver = NO_OP_HAS;
     private static volatile SearchResolver defaultSearchResolver = NO_OP_SEARCH;
     private static volatile SkillResolver defaultSkillResolver = NO_OP_SKILL;
     private static volatile DiceRoller defaultDiceRoller = DEFAULT_DICE;
+    private static final ThreadLocal<DiceRoller> SCOPED_DICE = new ThreadLocal<>();
     // Debug output stays enabled by default for tests; caller (e.g., GameCli) should disable for players.
     private static volatile boolean debugOutput = true;
     private KeyExpressionEvaluator() {
@@ -225,38 +232,81 @@ public final class KeyExpressionEvaluator {
             AttributeResolver attributeResolver,
             AttributeResolutionPolicy attributePolicy
     ) {
-        if (input == null) {
+        return evaluateResult(
+                CompiledKeyExpression.compile(input),
+                hasResolver,
+                searchResolver,
+                skillResolver,
+                attributeResolver,
+                attributePolicy
+        );
+    }
+
+    public static boolean evaluate(CompiledKeyExpression expression) {
+        return evaluate(
+                expression,
+                defaultHasResolver,
+                defaultSearchResolver,
+                defaultSkillResolver,
+                null,
+                AttributeResolutionPolicy.QUERY_STRICT
+        );
+    }
+
+    public static boolean evaluate(
+            CompiledKeyExpression expression,
+            HasResolver hasResolver,
+            SearchResolver searchResolver,
+            SkillResolver skillResolver,
+            AttributeResolver attributeResolver,
+            AttributeResolutionPolicy attributePolicy
+    ) {
+        KeyExpressionResult result = evaluateResult(
+                expression,
+                hasResolver,
+                searchResolver,
+                skillResolver,
+                attributeResolver,
+                attributePolicy
+        );
+        if (!result.isSuccess()) {
+            throw new KeyExpressionEvaluationException(result.error());
+        }
+        return result.value();
+    }
+
+    public static KeyExpressionResult evaluateResult(
+            CompiledKeyExpression expression,
+            HasResolver hasResolver,
+            SearchResolver searchResolver,
+            SkillResolver skillResolver,
+            AttributeResolver attributeResolver,
+            AttributeResolutionPolicy attributePolicy
+    ) {
+        if (expression == null || expression.isEmpty()) {
             return KeyExpressionResult.success(false);
         }
+        if (!expression.isValid()) {
+            return KeyExpressionResult.error(expression.compileError());
+        }
         AttributeResolutionPolicy safePolicy =
                 attributePolicy == null ? AttributeResolutionPolicy.QUERY_STRICT : attributePolicy;
-        String safeInput = input;
         try {
-            KeyExpressionCompiler compiler = new KeyExpressionCompiler();
-            KeyExpressionNode ast = compiler.compile(safeInput);
             HasResolver safeHas = hasResolver == null ? NO_OP_HAS : hasResolver;
             SearchResolver safeSearch = searchResolver == null ? NO_OP_SEARCH : searchResolver;
             SkillResolver safeSkill = skillResolver == null ? NO_OP_SKILL : skillResolver;
             AttributeResolver safeAttribute = attributeResolver == null ? NO_OP_ATTRIBUTE : attributeResolver;
-            KeyExpressionEvaluationContext ctx = new KeyExpressionEvaluationContext(
-                    safeInput,
+            boolean value = expression.program().evaluate(
+                    expression.source(),
                     safeHas,
                     safeSearch,
                     safeSkill,
                     safeAttribute,
-                    safePolicy
+                    safePolicy,
+                    currentDiceRoller(),
+                    debugOutput
             );
-            KeyExpressionAstEvaluator evaluator = new KeyExpressionAstEvaluator(defaultDiceRoller, debugOutput);
-            boolean value = evaluator.evaluateBoolean(ast, ctx);
             return KeyExpressionResult.success(value);
-        } catch (KeyExpressionCompileException ex) {
-            KeyExpressionError error = new KeyExpressionError(
-                    KeyExpressionError.Phase.COMPILE,
-                    ex.getMessage(),
-                    ex.getInput(),
-                    ex.getCurrentPos()
-            );
-            return KeyExpressionResult.error(error);
         } catch (UnknownReferenceException ex) {
             if (safePolicy == AttributeResolutionPolicy.QUERY_STRICT) {
                 throw ex;
@@ -267,6 +317,10 @@ public final class KeyExpressionEvaluator {
         }
     }
 
+    public static KeyExpressionCache.Stats cacheStats() {
+        return KeyExpressionCache.shared().stats();
+    }
+
     public static void setDefaultHasResolver(HasResolver resolver) {
         defaultHasResolver = resolver == null ? NO_OP_HAS : resolver;
     }
@@ -299,6 +353,32 @@ public final class KeyExpressionEvaluator {
         return defaultDiceRoller;
     }
 
+    /**
+     * Roller used by evaluations on the calling thread: the innermost {@link #withDiceRoller} scope, else the default.
+     */
+    public static DiceRoller currentDiceRoller() {
+        DiceRoller scoped = SCOPED_DICE.get();
+        return scoped == null ? defaultDiceRoller : scoped;
+    }
+
+    /**
+     * Runs {@code scope} with {@code roller} bound for the calling thread only, so concurrent simulations can use
+     * different dice without touching the process-wide default.
+     */
+    public static <T, E extends Exception> T withDiceRoller(DiceRoller roller, DiceScope<T, E> scope) throws E {
+        DiceRoller previous = SCOPED_DICE.get();
+        SCOPED_DICE.set(roller == null ? DEFAULT_DICE : roller);
+        try {
+            return scope.run();
+        } finally {
+            if (previous == null) {
+                SCOPED_DICE.remove();
+            } else {
+                SCOPED_DICE.set(previous);
+            }
+        }
+    }
+
     public static void setDebugOutput(boolean debug) {
         debugOutput = debug;
     }
@@ -0,0 +1,125 @@
+package com.demo.adventure.engine.mechanics.keyexpr;
+
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator.AttributeResolutionPolicy;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator.AttributeResolver;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator.HasResolver;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator.SearchResolver;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator.SkillResolver;
+
+import java.util.Objects;
+
+/**
+ * Last result of one key-expression slot (a thing's open key or visibility key), reused while its inputs hold.
+ *
+ * The result is reused only for the same compiled expression, resolvers, policy and debug setting, and only while
+ * every owner, thing and cell the evaluation read is unchanged (see {@link KeyExpressionDependencies}). Constant
+ * expressions read nothing and so stay cached until the key itself is replaced. Evaluations that roll dice, print
+ * debug traces, throw, or go through resolvers other than the registry and no-op ones are never cached.
+ *
+ * Entries are immutable and published through a volatile field, so a memo shared across threads at worst
+ * re-evaluates.
+ */
+public final class KeyExpressionMemo {
+    private record Entry(
+            CompiledKeyExpression expression,
+            HasResolver hasResolver,
+            SearchResolver searchResolver,
+            SkillResolver skillResolver,
+            AttributeResolver attributeResolver,
+            AttributeResolutionPolicy attributePolicy,
+            boolean debugOutput,
+            KeyExpressionDependencies.Dependency[] reads,
+            boolean value
+    ) {
+        boolean matches(
+                CompiledKeyExpression expression,
+                HasResolver hasResolver,
+                SearchResolver searchResolver,
+                SkillResolver skillResolver,
+                AttributeResolver attributeResolver,
+                AttributeResolutionPolicy attributePolicy,
+                boolean debugOutput
+        ) {
+            return this.expression == expression
+                    && this.attributePolicy == attributePolicy
+                    && this.debugOutput == debugOutput
+                    && this.hasResolver.equals(hasResolver)
+                    && this.searchResolver.equals(searchResolver)
+                    && this.skillResolver.equals(skillResolver)
+                    && Objects.equals(this.attributeResolver, attributeResolver);
+        }
+    }
+
+    private volatile Entry entry;
+
+    /**
+     * Same as {@link KeyExpressionEvaluator#evaluate(CompiledKeyExpression)}, reusing the previous result when
+     * nothing it read has changed.
+     */
+    public boolean evaluate(CompiledKeyExpression expression) {
+        return evaluate(
+                expression,
+                KeyExpressionEvaluator.getDefaultHasResolver(),
+                KeyExpressionEvaluator.getDefaultSearchResolver(),
+                KeyExpressionEvaluator.getDefaultSkillResolver(),
+                null,
+                AttributeResolutionPolicy.QUERY_STRICT
+        );
+    }
+
+    /**
+     * Same as {@link KeyExpressionEvaluator#evaluate(CompiledKeyExpression, HasResolver, SearchResolver,
+     * SkillResolver, AttributeResolver, AttributeResolutionPolicy)}, reusing the previous result when nothing it
+     * read has changed.
+     */
+    public boolean evaluate(
+            CompiledKeyExpression expression,
+            HasResolver hasResolver,
+            SearchResolver searchResolver,
+            SkillResolver skillResolver,
+            AttributeResolver attributeResolver,
+            AttributeResolutionPolicy attributePolicy
+    ) {
+        HasResolver safeHas = hasResolver == null ? KeyExpressionEvaluator.NO_OP_HAS : hasResolver;
+        SearchResolver safeSearch = searchResolver == null ? KeyExpressionEvaluator.NO_OP_SEARCH : searchResolver;
+        SkillResolver safeSkill = skillResolver == null ? KeyExpressionEvaluator.NO_OP_SKILL : skillResolver;
+        AttributeResolutionPolicy safePolicy =
+                attributePolicy == null ? AttributeResolutionPolicy.QUERY_STRICT : attributePolicy;
+        if (expression == null
+                || !isTracked(safeHas)
+                || !isTracked(safeSearch)
+                || !isTracked(safeSkill)
+                || (attributeResolver != null && !isTracked(attributeResolver))) {
+            return KeyExpressionEvaluator.evaluate(
+                    expression, safeHas, safeSearch, safeSkill, attributeResolver, safePolicy);
+        }
+        boolean debug = KeyExpressionEvaluator.isDebugOutput();
+        Entry cached = entry;
+        if (cached != null
+                && cached.matches(expression, safeHas, safeSearch, safeSkill, attributeResolver, safePolicy, debug)
+                && KeyExpressionDependencies.isCurrent(cached.reads())) {
+            KeyExpressionDependencies.replay(cached.reads());
+            return cached.value();
+        }
+        KeyExpressionDependencies.Recorder recorder = KeyExpressionDependencies.begin();
+        boolean value;
+        KeyExpressionDependencies.Dependency[] reads;
+        try {
+            value = KeyExpressionEvaluator.evaluate(
+                    expression, safeHas, safeSearch, safeSkill, attributeResolver, safePolicy);
+        } catch (RuntimeException ex) {
+            KeyExpressionDependencies.uncacheable();
+            throw ex;
+        } finally {
+            reads = KeyExpressionDependencies.end(recorder);
+        }
+        entry = reads == null
+                ? null
+                : new Entry(expression, safeHas, safeSearch, safeSkill, attributeResolver, safePolicy, debug, reads, value);
+        return value;
+    }
+
+    private static boolean isTracked(Object resolver) {
+        return resolver instanceof KeyExpressionDependencies.Tracked;
+    }
+}
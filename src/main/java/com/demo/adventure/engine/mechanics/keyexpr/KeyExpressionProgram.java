@@ -0,0 +1,661 @@
+package com.demo.adventure.engine.mechanics.keyexpr;
+
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator.AttributeResolutionContext;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator.AttributeResolutionPolicy;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator.AttributeResolver;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator.DiceRoller;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator.HasResolver;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator.SearchResolver;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator.SkillResolver;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.AccessSegment;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.AttributeAccessNode;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.BinaryNode;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.BinaryOperator;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.BooleanLiteralNode;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.FunctionCallNode;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.IdentifierNode;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.KeyExpressionNode;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.NumberLiteralNode;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.StringLiteralNode;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.UnaryNode;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.UnaryOperator;
+import com.demo.adventure.support.exceptions.KeyExpressionEvaluationException;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Key expression AST compiled to a tree of closures, built once per {@link CompiledKeyExpression}.
+ *
+ * Each node knows its static result type. Numeric and boolean nodes evaluate on primitive {@code double} and
+ * {@code boolean} paths, so literals, arithmetic and comparisons never box; only attribute access (whose type
+ * is known at run time) goes through {@code Object}. Functions are bound by name at compile time and constant
+ * arguments (labels, dice sides) are decoded once. Per-call state lives in a pooled {@link Frame}.
+ *
+ * Results, errors (message and type) and side effects (resolver calls, dice rolls, debug output) match
+ * {@link KeyExpressionAstEvaluator}, which remains the reference implementation.
+ */
+final class KeyExpressionProgram {
+    private static final Set<Integer> SUPPORTED_DICE_SIDES = Set.of(4, 6, 8, 10, 12, 20);
+    private static final ThreadLocal<ArrayDeque<Frame>> FRAMES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private enum Type {
+        NUMBER,
+        BOOLEAN,
+        STRING,
+        DYNAMIC
+    }
+
+    private final Op root;
+
+    private KeyExpressionProgram(Op root) {
+        this.root = root;
+    }
+
+    static KeyExpressionProgram compile(KeyExpressionNode ast) {
+        return new KeyExpressionProgram(compileNode(ast));
+    }
+
+    boolean evaluate(
+            String input,
+            HasResolver hasResolver,
+            SearchResolver searchResolver,
+            SkillResolver skillResolver,
+            AttributeResolver attributeResolver,
+            AttributeResolutionPolicy attributePolicy,
+            DiceRoller diceRoller,
+            boolean debugOutput
+    ) {
+        // Frames are pooled per thread rather than held in one slot, so a resolver that evaluates another key
+        // expression gets its own frame.
+        ArrayDeque<Frame> pool = FRAMES.get();
+        Frame frame = pool.isEmpty() ? new Frame() : pool.pop();
+        frame.bind(input, hasResolver, searchResolver, skillResolver, attributeResolver, attributePolicy, diceRoller, debugOutput);
+        try {
+            return root.bool(frame);
+        } finally {
+            frame.clear();
+            pool.push(frame);
+        }
+    }
+
+    /**
+     * Per-evaluation state: resolvers, policy, dice and the lazily built attribute context.
+     */
+    static final class Frame {
+        private String input;
+        private HasResolver hasResolver;
+        private SearchResolver searchResolver;
+        private SkillResolver skillResolver;
+        private AttributeResolver attributeResolver;
+        private AttributeResolutionPolicy attributePolicy;
+        private DiceRoller diceRoller;
+        private boolean debugOutput;
+        private AttributeResolutionContext attributeContext;
+
+        private void bind(
+                String input,
+                HasResolver hasResolver,
+                SearchResolver searchResolver,
+                SkillResolver skillResolver,
+                AttributeResolver attributeResolver,
+                AttributeResolutionPolicy attributePolicy,
+                DiceRoller diceRoller,
+                boolean debugOutput
+        ) {
+            this.input = input;
+            this.hasResolver = hasResolver;
+            this.searchResolver = searchResolver;
+            this.skillResolver = skillResolver;
+            this.attributeResolver = attributeResolver;
+            this.attributePolicy = attributePolicy;
+            this.diceRoller = diceRoller;
+            this.debugOutput = debugOutput;
+        }
+
+        private void clear() {
+            bind(null, null, null, null, null, null, null, false);
+            attributeContext = null;
+        }
+
+        private AttributeResolutionContext attributeContext() {
+            if (attributeContext == null) {
+                attributeContext = new AttributeResolutionContext(
+                        hasResolver,
+                        searchResolver,
+                        skillResolver,
+                        attributeResolver,
+                        attributePolicy,
+                        input
+                );
+            }
+            return attributeContext;
+        }
+
+        private KeyExpressionEvaluationException error(String message) {
+            return new KeyExpressionEvaluationException(new KeyExpressionError(
+                    KeyExpressionError.Phase.EVALUATE,
+                    message,
+                    input,
+                    -1
+            ));
+        }
+
+        private UnknownReferenceException unknownReference(String message) {
+            return new UnknownReferenceException(new KeyExpressionError(
+                    KeyExpressionError.Phase.EVALUATE,
+                    message,
+                    input,
+                    -1
+            ));
+        }
+    }
+
+    private abstract static class Op {
+        final Type type;
+
+        Op(Type type) {
+            this.type = type;
+        }
+
+        abstract Object value(Frame frame);
+
+        boolean bool(Frame frame) {
+            return truthy(value(frame), frame);
+        }
+
+        /**
+         * Only called on {@link Type#NUMBER} ops.
+         */
+        double number(Frame frame) {
+            throw new IllegalStateException("not a numeric op");
+        }
+
+        /**
+         * Value an argument contributes when it needs no evaluation, or {@code null}.
+         */
+        Object constant() {
+            return null;
+        }
+    }
+
+    private abstract static class NumberOp extends Op {
+        NumberOp() {
+            super(Type.NUMBER);
+        }
+
+        @Override
+        final Object value(Frame frame) {
+            return number(frame);
+        }
+
+        @Override
+        final boolean bool(Frame frame) {
+            return number(frame) != 0.0;
+        }
+
+        @Override
+        abstract double number(Frame frame);
+    }
+
+    private abstract static class BooleanOp extends Op {
+        BooleanOp() {
+            super(Type.BOOLEAN);
+        }
+
+        @Override
+        final Object value(Frame frame) {
+            return bool(frame);
+        }
+
+        @Override
+        abstract boolean bool(Frame frame);
+    }
+
+    private static Op compileNode(KeyExpressionNode node) {
+        if (node instanceof NumberLiteralNode num) {
+            double value = num.value() == null ? 0.0 : num.value().doubleValue();
+            return new NumberOp() {
+                @Override
+                double number(Frame frame) {
+                    return value;
+                }
+
+                @Override
+                Object constant() {
+                    return value;
+                }
+            };
+        }
+        if (node instanceof StringLiteralNode str) {
+            String value = str.value() == null ? "" : str.value();
+            return new Op(Type.STRING) {
+                @Override
+                Object value(Frame frame) {
+                    return value;
+                }
+
+                @Override
+                boolean bool(Frame frame) {
+                    return true;
+                }
+
+                @Override
+                Object constant() {
+                    return value;
+                }
+            };
+        }
+        if (node instanceof BooleanLiteralNode bool) {
+            boolean value = bool.value();
+            return new BooleanOp() {
+                @Override
+                boolean bool(Frame frame) {
+                    return value;
+                }
+
+                @Override
+                Object constant() {
+                    return value;
+                }
+            };
+        }
+        if (node instanceof AttributeAccessNode access) {
+            return attribute(access);
+        }
+        if (node instanceof FunctionCallNode call) {
+            return function(call);
+        }
+        if (node instanceof IdentifierNode id) {
+            String message = "Unresolved identifier '" + id.name() + "'";
+            return new Op(Type.DYNAMIC) {
+                @Override
+                Object value(Frame frame) {
+                    throw frame.error(message);
+                }
+            };
+        }
+        if (node instanceof UnaryNode unary) {
+            return unary(unary);
+        }
+        if (node instanceof BinaryNode binary) {
+            return binary(binary);
+        }
+        return failing("Unsupported expression node");
+    }
+
+    private static Op attribute(AttributeAccessNode access) {
+        String unresolved = "Unresolved attribute access: " + formatAccess(access);
+        return new Op(Type.DYNAMIC) {
+            @Override
+            Object value(Frame frame) {
+                AttributeResolver resolver = frame.attributeResolver;
+                if (resolver == null) {
+                    if (frame.attributePolicy == AttributeResolutionPolicy.COMPUTE_FALLBACK_ZERO) {
+                        return 0.0;
+                    }
+                    throw frame.unknownReference("Attribute access requires a resolver");
+                }
+                Object value = resolver.resolve(access, frame.attributeContext());
+                if (value == null) {
+                    if (frame.attributePolicy == AttributeResolutionPolicy.COMPUTE_FALLBACK_ZERO) {
+                        return 0.0;
+                    }
+                    throw frame.unknownReference(unresolved);
+                }
+                if (value instanceof Number number) {
+                    return number.doubleValue();
+                }
+                if (value instanceof String || value instanceof Boolean) {
+                    return value;
+                }
+                throw frame.error("Unsupported attribute value type");
+            }
+        };
+    }
+
+    private static Op unary(UnaryNode unary) {
+        Op operand = compileNode(unary.operand());
+        if (unary.operator() == UnaryOperator.NOT) {
+            return new BooleanOp() {
+                @Override
+                boolean bool(Frame frame) {
+                    return !operand.bool(frame);
+                }
+            };
+        }
+        if (unary.operator() == UnaryOperator.NEGATE) {
+            if (operand.type == Type.NUMBER) {
+                return new NumberOp() {
+                    @Override
+                    double number(Frame frame) {
+                        return -operand.number(frame);
+                    }
+                };
+            }
+            return new NumberOp() {
+                @Override
+                double number(Frame frame) {
+                    if (!(operand.value(frame) instanceof Double number)) {
+                        throw frame.error("Unary '-' expects a number");
+                    }
+                    return -number;
+                }
+            };
+        }
+        return failing("Unsupported unary operator");
+    }
+
+    private static Op binary(BinaryNode binary) {
+        BinaryOperator op = binary.operator();
+        Op left = compileNode(binary.left());
+        Op right = compileNode(binary.right());
+        return switch (op) {
+            case AND -> new BooleanOp() {
+                @Override
+                boolean bool(Frame frame) {
+                    return left.bool(frame) && right.bool(frame);
+                }
+            };
+            case OR -> new BooleanOp() {
+                @Override
+                boolean bool(Frame frame) {
+                    return left.bool(frame) || right.bool(frame);
+                }
+            };
+            case ADD, SUBTRACT, MULTIPLY, DIVIDE -> arithmetic(op, left, right);
+            default -> comparison(op, left, right);
+        };
+    }
+
+    private static Op arithmetic(BinaryOperator op, Op left, Op right) {
+        boolean primitive = left.type == Type.NUMBER && right.type == Type.NUMBER;
+        return new NumberOp() {
+            @Override
+            double number(Frame frame) {
+                double l;
+                double r;
+                if (primitive) {
+                    l = left.number(frame);
+                    r = right.number(frame);
+                } else {
+                    // Both sides are evaluated before the type check, as the AST evaluator does.
+                    Object leftValue = left.value(frame);
+                    Object rightValue = right.value(frame);
+                    if (!(leftValue instanceof Double boxedLeft) || !(rightValue instanceof Double boxedRight)) {
+                        throw frame.error("Arithmetic operators require numeric operands");
+                    }
+                    l = boxedLeft;
+                    r = boxedRight;
+                }
+                return switch (op) {
+                    case ADD -> l + r;
+                    case SUBTRACT -> l - r;
+                    case MULTIPLY -> l * r;
+                    case DIVIDE -> {
+                        if (r == 0.0) {
+                            throw frame.error("Division by zero");
+                        }
+                        yield l / r;
+                    }
+                    default -> throw frame.error("Unsupported arithmetic operator");
+                };
+            }
+        };
+    }
+
+    private static Op comparison(BinaryOperator op, Op left, Op right) {
+        if (left.type == Type.NUMBER && right.type == Type.NUMBER) {
+            return new BooleanOp() {
+                @Override
+                boolean bool(Frame frame) {
+                    double l = left.number(frame);
+                    double r = right.number(frame);
+                    return test(op, Double.compare(l, r), frame);
+                }
+            };
+        }
+        return new BooleanOp() {
+            @Override
+            boolean bool(Frame frame) {
+                Object l = left.value(frame);
+                Object r = right.value(frame);
+                if (l == null || r == null) {
+                    throw frame.error("Missing operand for comparison");
+                }
+                if (!l.getClass().equals(r.getClass())) {
+                    throw frame.error("Type mismatch in comparison");
+                }
+                if (l instanceof Boolean && (op == BinaryOperator.LESS_THAN
+                        || op == BinaryOperator.LESS_THAN_OR_EQUAL
+                        || op == BinaryOperator.GREATER_THAN
+                        || op == BinaryOperator.GREATER_THAN_OR_EQUAL)) {
+                    throw frame.error("Cannot order boolean values");
+                }
+                int cmp;
+                if (l instanceof Double a && r instanceof Double b) {
+                    cmp = Double.compare(a, b);
+                } else if (l instanceof String a && r instanceof String b) {
+                    cmp = a.compareTo(b);
+                } else if (l instanceof Boolean a && r instanceof Boolean b) {
+                    cmp = Boolean.compare(a, b);
+                } else {
+                    throw frame.error("Unsupported comparison types");
+                }
+                return test(op, cmp, frame);
+            }
+        };
+    }
+
+    private static boolean test(BinaryOperator op, int cmp, Frame frame) {
+        return switch (op) {
+            case EQUAL -> cmp == 0;
+            case NOT_EQUAL -> cmp != 0;
+            case LESS_THAN -> cmp < 0;
+            case LESS_THAN_OR_EQUAL -> cmp <= 0;
+            case GREATER_THAN -> cmp > 0;
+            case GREATER_THAN_OR_EQUAL -> cmp >= 0;
+            default -> throw frame.error("Unsupported comparison operator");
+        };
+    }
+
+    private static Op function(FunctionCallNode call) {
+        String name = call.name();
+        List<KeyExpressionNode> argumentNodes = call.arguments() == null ? List.of() : call.arguments();
+        Op[] args = new Op[argumentNodes.size()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = compileNode(argumentNodes.get(i));
+        }
+        if (args.length != 1) {
+            String message = switch (name) {
+                case "DICE" -> "DICE expects exactly one parameter";
+                case "HAS" -> "HAS expects exactly one parameter";
+                case "SEARCH" -> "SEARCH expects exactly one parameter";
+                case "SKILL" -> "SKILL expects exactly one parameter";
+                default -> "Unsupported function '" + name + "'";
+            };
+            return new Op(Type.DYNAMIC) {
+                @Override
+                Object value(Frame frame) {
+                    Object[] values = evaluateAll(args, frame);
+                    trace(frame, name, values);
+                    throw frame.error(message);
+                }
+            };
+        }
+        Op arg = args[0];
+        return switch (name) {
+            case "DICE" -> dice(arg);
+            case "HAS" -> labelFunction(name, arg, (frame, label) -> frame.hasResolver.has(label));
+            case "SEARCH" -> labelFunction(name, arg, (frame, label) -> frame.searchResolver.search(label));
+            case "SKILL" -> labelFunction(name, arg, (frame, label) -> frame.skillResolver.hasSkill(label));
+            default -> new Op(Type.DYNAMIC) {
+                @Override
+                Object value(Frame frame) {
+                    Object value = arg.value(frame);
+                    trace(frame, name, value);
+                    throw frame.error("Unsupported function '" + name + "'");
+                }
+            };
+        };
+    }
+
+    @FunctionalInterface
+    private interface LabelCheck {
+        boolean test(Frame frame, String label);
+    }
+
+    private static Op labelFunction(String name, Op arg, LabelCheck check) {
+        Object constant = arg.constant();
+        String constantLabel = constant == null ? null : Objects.toString(constant, "");
+        return new BooleanOp() {
+            @Override
+            boolean bool(Frame frame) {
+                Object value = constant != null ? constant : arg.value(frame);
+                trace(frame, name, value);
+                String label = constantLabel != null ? constantLabel : Objects.toString(value, "");
+                return check.test(frame, label);
+            }
+        };
+    }
+
+    private static Op dice(Op arg) {
+        Object constant = arg.constant();
+        int constantSides;
+        String constantError;
+        if (constant == null) {
+            constantSides = -1;
+            constantError = null;
+        } else {
+            int sides = -1;
+            String error = null;
+            try {
+                sides = diceSides(constant);
+            } catch (IllegalArgumentException ex) {
+                error = ex.getMessage();
+            }
+            constantSides = sides;
+            constantError = error;
+        }
+        return new NumberOp() {
+            @Override
+            double number(Frame frame) {
+                Object value = constant != null ? constant : arg.value(frame);
+                trace(frame, "DICE", value);
+                int sides;
+                if (constant != null) {
+                    if (constantError != null) {
+                        throw frame.error(constantError);
+                    }
+                    sides = constantSides;
+                } else {
+                    try {
+                        sides = diceSides(value);
+                    } catch (IllegalArgumentException ex) {
+                        throw frame.error(ex.getMessage());
+                    }
+                }
+                KeyExpressionDependencies.uncacheable();
+                int roll = frame.diceRoller.roll(sides);
+                if (frame.debugOutput) {
+                    System.out.println("Result: " + roll);
+                }
+                return roll;
+            }
+        };
+    }
+
+    /**
+     * Validated die size for a DICE argument; the exception message is the evaluation error to report.
+     */
+    private static int diceSides(Object argument) {
+        int sides;
+        if (argument instanceof Number number) {
+            double value = number.doubleValue();
+            if (value % 1 != 0) {
+                throw new IllegalArgumentException("Dice sides must be a whole number");
+            }
+            sides = (int) value;
+        } else if (argument instanceof String text) {
+            String normalized = text.trim();
+            if (normalized.startsWith("d") || normalized.startsWith("D")) {
+                normalized = normalized.substring(1);
+            }
+            try {
+                sides = Integer.parseInt(normalized);
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Dice sides must be numeric");
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported argument type for DICE");
+        }
+        if (!SUPPORTED_DICE_SIDES.contains(sides)) {
+            throw new IllegalArgumentException("Unsupported die size: d" + sides);
+        }
+        return sides;
+    }
+
+    private static Object[] evaluateAll(Op[] args, Frame frame) {
+        Object[] values = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            values[i] = args[i].value(frame);
+        }
+        return values;
+    }
+
+    private static void trace(Frame frame, String name, Object... values) {
+        if (!frame.debugOutput) {
+            return;
+        }
+        KeyExpressionDependencies.uncacheable();
+        StringBuilder parameters = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                parameters.append(", ");
+            }
+            parameters.append(values[i]);
+        }
+        System.out.println("Function: " + name);
+        System.out.println("Parameters: " + parameters);
+    }
+
+    private static Op failing(String message) {
+        return new Op(Type.DYNAMIC) {
+            @Override
+            Object value(Frame frame) {
+                throw frame.error(message);
+            }
+        };
+    }
+
+    private static boolean truthy(Object value, Frame frame) {
+        if (value == null) {
+            return false;
+        }
+        if (value instanceof Boolean b) {
+            return b;
+        }
+        if (value instanceof Number n) {
+            return n.doubleValue() != 0.0;
+        }
+        if (value instanceof String) {
+            return true;
+        }
+        throw frame.error("Unsupported truthiness conversion");
+    }
+
+    private static String formatAccess(AttributeAccessNode access) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(access.root());
+        for (AccessSegment segment : access.segments()) {
+            if (segment instanceof AccessSegment.PropertySegment prop) {
+                sb.append(".").append(prop.name());
+            } else if (segment instanceof AccessSegment.FixtureSegment fixture) {
+                sb.append(".fixture(\"").append(fixture.name()).append("\")");
+            }
+        }
+        return sb.toString();
+    }
+}
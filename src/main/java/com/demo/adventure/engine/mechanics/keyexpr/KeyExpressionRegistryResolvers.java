@@ -30,16 +30,30 @@ final class KeyExpressionRegistryResolvers {
     private KeyExpressionRegistryResolvers() {
     }
 
-    static HasResolver registryHasResolver(KernelRegistry registry, UUID ownerId) {
-        return label -> registryContains(registry, ownerId, label);
+    // Resolvers are records so two built for the same registry and scope compare equal, which lets
+    // KeyExpressionMemo reuse a result across calls that rebuild them; every read they make is reported to
+    // KeyExpressionDependencies.
+
+    private record RegistryHas(KernelRegistry registry, UUID ownerId)
+            implements HasResolver, KeyExpressionDependencies.Tracked {
+        @Override
+        public boolean has(String label) {
+            return registryContains(registry, ownerId, label);
+        }
     }
 
-    static SearchResolver registrySearchResolver(KernelRegistry registry, UUID ownerId) {
-        return label -> registryContains(registry, ownerId, label);
+    private record RegistrySearch(KernelRegistry registry, UUID ownerId)
+            implements SearchResolver, KeyExpressionDependencies.Tracked {
+        @Override
+        public boolean search(String label) {
+            return registryContains(registry, ownerId, label);
+        }
     }
 
-    static SkillResolver registrySkillResolver(KernelRegistry registry, UUID actorId) {
-        return tag -> {
+    private record RegistrySkill(KernelRegistry registry, UUID actorId)
+            implements SkillResolver, KeyExpressionDependencies.Tracked {
+        @Override
+        public boolean hasSkill(String tag) {
             if (registry == null || actorId == null) {
                 return false;
             }
@@ -47,9 +61,33 @@ final class KeyExpressionRegistryResolvers {
             if (!(thing instanceof Actor actor)) {
                 return false;
             }
+            KeyExpressionDependencies.thing(actor);
             return actor.getSkills().stream()
                     .anyMatch(s -> s.equalsIgnoreCase(tag));
-        };
+        }
+    }
+
+    private record RegistryAttribute(KernelRegistry registry, List<UUID> scopes)
+            implements AttributeResolver, KeyExpressionDependencies.Tracked {
+        @Override
+        public Object resolve(
+                com.demo.adventure.engine.mechanics.keyexpr.ast.AttributeAccessNode access,
+                AttributeResolutionContext context
+        ) {
+            return resolveRegistryAttribute(registry, scopes, access, context);
+        }
+    }
+
+    static HasResolver registryHasResolver(KernelRegistry registry, UUID ownerId) {
+        return new RegistryHas(registry, ownerId);
+    }
+
+    static SearchResolver registrySearchResolver(KernelRegistry registry, UUID ownerId) {
+        return new RegistrySearch(registry, ownerId);
+    }
+
+    static SkillResolver registrySkillResolver(KernelRegistry registry, UUID actorId) {
+        return new RegistrySkill(registry, actorId);
     }
 
     static AttributeResolver registryAttributeResolver(KernelRegistry registry, UUID... scopeOwnerIds) {
@@ -61,7 +99,7 @@ final class KeyExpressionRegistryResolvers {
                 }
             }
         }
-        return (access, context) -> resolveRegistryAttribute(registry, scopes, access, context);
+        return new RegistryAttribute(registry, List.copyOf(scopes));
     }
 
     private static Object resolveRegistryAttribute(
@@ -116,7 +154,9 @@ final class KeyExpressionRegistryResolvers {
         String key = Thing.normalizeCellKey(cellName);
         Cell cell = thing.getCell(key);
         String prop = field.trim().toLowerCase(Locale.ROOT);
+        KeyExpressionDependencies.thing(thing);
         if (cell == null) {
+            KeyExpressionDependencies.uncacheable();
             CellReferenceStatus status = context.attributePolicy() == AttributeResolutionPolicy.QUERY_STRICT
                     ? CellReferenceStatus.MISSING
                     : CellReferenceStatus.UNDEFINED;
@@ -126,12 +166,14 @@ final class KeyExpressionRegistryResolvers {
             }
             return fallbackCellValue(prop);
         }
+        KeyExpressionDependencies.cell(cell);
         return switch (prop) {
             case "capacity" -> (double) cell.getCapacity();
             case "amount" -> (double) cell.getAmount();
             case "volume" -> cell.getVolume();
             case "name" -> key;
             default -> {
+                KeyExpressionDependencies.uncacheable();
                 CellReferenceStatus status = context.attributePolicy() == AttributeResolutionPolicy.QUERY_STRICT
                         ? CellReferenceStatus.MISSING
                         : CellReferenceStatus.UNDEFINED;
@@ -185,6 +227,7 @@ final class KeyExpressionRegistryResolvers {
             return null;
         }
         Thing owner = registry.get(ownerId);
+        KeyExpressionDependencies.thing(owner);
         if (owner != null && label.equalsIgnoreCase(owner.getLabel())) {
             return owner;
         }
@@ -196,13 +239,8 @@ final class KeyExpressionRegistryResolvers {
             if (!visited.add(currentOwner)) {
                 continue;
             }
-            for (Thing thing : registry.getEverything().values()) {
-                if (thing == null) {
-                    continue;
-                }
-                if (!currentOwner.equals(thing.getOwnerId())) {
-                    continue;
-                }
+            KeyExpressionDependencies.owner(registry, currentOwner);
+            for (Thing thing : registry.childrenOf(currentOwner)) {
                 if (label.equalsIgnoreCase(thing.getLabel())) {
                     return thing;
                 }
@@ -216,16 +254,8 @@ final class KeyExpressionRegistryResolvers {
         if (registry == null || owner == null || label == null) {
             return null;
         }
-        for (Thing thing : registry.getEverything().values()) {
-            if (thing == null || !(thing instanceof Item item)) {
-                continue;
-            }
-            if (!owner.getId().equals(item.getOwnerId())) {
-                continue;
-            }
-            if (!item.isFixture()) {
-                continue;
-            }
+        KeyExpressionDependencies.owner(registry, owner.getId());
+        for (Item item : registry.itemsOwnedBy(owner.getId(), true)) {
             if (label.equalsIgnoreCase(item.getLabel())) {
                 return item;
             }
@@ -238,8 +268,9 @@ final class KeyExpressionRegistryResolvers {
             return null;
         }
         String key = property.trim().toLowerCase(Locale.ROOT);
+        KeyExpressionDependencies.thing(thing);
         return switch (key) {
-            case "open" -> evaluateNested(thing.getKey(), context);
+            case "open" -> evaluateNested(thing.getCompiledKey(), context);
             case "visible" -> evaluateVisibility(thing, context);
             case "label" -> thing.getLabel();
             case "description" -> thing.getDescription();
@@ -275,7 +306,7 @@ final class KeyExpressionRegistryResolvers {
         };
     }
 
-    private static boolean evaluateNested(String expression, AttributeResolutionContext context) {
+    private static boolean evaluateNested(CompiledKeyExpression expression, AttributeResolutionContext context) {
         KeyExpressionResult result = KeyExpressionEvaluator.evaluateResult(
                 expression,
                 context.hasResolver(),
@@ -295,7 +326,7 @@ final class KeyExpressionRegistryResolvers {
         if (!baseVisible) {
             return false;
         }
-        return evaluateNested(thing.getVisibilityKey(), context);
+        return evaluateNested(thing.getCompiledVisibilityKey(), context);
     }
 
     private static UnknownReferenceException unknownReference(String message, AttributeResolutionContext ctx) {
@@ -322,14 +353,9 @@ final class KeyExpressionRegistryResolvers {
             if (!visited.add(currentOwner)) {
                 continue;
             }
+            KeyExpressionDependencies.owner(registry, currentOwner);
 
-            for (var thing : registry.getEverything().values()) {
-                if (thing == null) {
-                    continue;
-                }
-                if (!currentOwner.equals(thing.getOwnerId())) {
-                    continue;
-                }
+            for (Thing thing : registry.childrenOf(currentOwner)) {
                 if (label.equalsIgnoreCase(thing.getLabel())) {
                     return true;
                 }
@@ -20,6 +20,7 @@ import com.demo.adventure.engine.flow.trigger.TriggerEngine;
 import com.demo.adventure.engine.flow.trigger.TriggerOutcome;
 import com.demo.adventure.engine.flow.trigger.TriggerType;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -50,6 +51,7 @@ public final class GameRuntime {
     private final RuntimeKernelOps kernelOps;
 
     private KernelRegistry registry;
+    private Path receiptSpillDir;
     private UUID currentPlot;
     private UUID playerId;
     private List<Item> inventory = new ArrayList<>();
@@ -102,6 +104,71 @@ public final class GameRuntime {
         this.conversation.reset();
     }
 
+    /**
+     * Captures the current game state so a caller (e.g. the integrity search) can branch from it repeatedly.
+     */
+    public RuntimeSnapshot snapshot() {
+        return new RuntimeSnapshot(
+                registry == null ? null : registry.snapshot(),
+                currentPlot,
+                playerId,
+                new ArrayList<>(inventory),
+                copyPlacements(inventoryPlacements),
+                encounter == null ? null : encounter.copy(),
+                conversation.state(),
+                emoteDice.state(),
+                loopRuntime == null ? null : loopRuntime.snapshot()
+        );
+    }
+
+    public void restore(RuntimeSnapshot snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+        if (snapshot.registry != null) {
+            registry = snapshot.registry.source();
+            registry.restore(snapshot.registry);
+        }
+        currentPlot = snapshot.currentPlot;
+        playerId = snapshot.playerId;
+        inventory = new ArrayList<>(snapshot.inventory);
+        inventoryPlacements = copyPlacements(snapshot.inventoryPlacements);
+        encounter = snapshot.encounter == null ? null : snapshot.encounter.copy();
+        conversation.restore(snapshot.conversation);
+        emoteDice.restore(snapshot.emoteDice);
+        if (loopRuntime != null) {
+            loopRuntime.restore(snapshot.loop);
+        }
+    }
+
+    RuntimeConversation.State conversationState() {
+        return conversation.state();
+    }
+
+    /**
+     * Puts the player back where a {@link SessionCheckpoint} left them; inventory placements are packed afresh.
+     */
+    void resumeSession(UUID plotId, UUID playerId, List<Item> inventory, RuntimeConversation.State conversation) {
+        if (playerId != null) {
+            this.playerId = playerId;
+        }
+        if (plotId != null) {
+            this.currentPlot = plotId;
+        }
+        this.inventory = inventory == null ? new ArrayList<>() : new ArrayList<>(inventory);
+        this.inventoryPlacements = new HashMap<>();
+        seedInventoryPlacements(this.inventory, this.inventoryPlacements);
+        this.conversation.restore(conversation);
+    }
+
+    private static Map<UUID, Map<UUID, Rectangle2D>> copyPlacements(Map<UUID, Map<UUID, Rectangle2D>> placements) {
+        Map<UUID, Map<UUID, Rectangle2D>> copy = new HashMap<>();
+        for (Map.Entry<UUID, Map<UUID, Rectangle2D>> entry : placements.entrySet()) {
+            copy.put(entry.getKey(), new HashMap<>(entry.getValue()));
+        }
+        return copy;
+    }
+
     public void configureSmartActors(SmartActorRuntime smartActorRuntime) {
         this.smartActorRuntime = smartActorRuntime;
     }
@@ -358,7 +425,22 @@ public final class GameRuntime {
         triggers.applyLoopResetIfNeeded(reason, message);
     }
 
+    /**
+     * Spills receipts evicted from the registry's journals under {@code directory} (null stops), carrying the
+     * setting over to the registry a loop reset installs.
+     */
+    public void spillReceiptsTo(Path directory) {
+        this.receiptSpillDir = directory;
+        if (registry != null) {
+            registry.spillReceiptsTo(directory);
+        }
+    }
+
     void updateState(ResetContext reset) {
+        if (receiptSpillDir != null && registry != null && registry != reset.registry()) {
+            registry.spillReceiptsTo(null);
+            reset.registry().spillReceiptsTo(receiptSpillDir);
+        }
         this.registry = reset.registry();
         this.currentPlot = reset.plotId();
         this.playerId = reset.playerId();
@@ -474,11 +556,8 @@ public final class GameRuntime {
     }
 
     public UUID findPlayerActor(KernelRegistry registry, UUID plotId) {
-        return registry.getEverything().values().stream()
-                .filter(Actor.class::isInstance)
-                .map(Actor.class::cast)
+        return registry.actorsOwnedBy(plotId).stream()
                 .filter(Actor::isVisible)
-                .filter(actor -> plotId.equals(actor.getOwnerId()))
                 .map(Actor::getId)
                 .findFirst()
                 .orElse(PLAYER_ID);
@@ -33,18 +33,12 @@ final class RuntimeCommandActions {
                 KeyExpressionEvaluator.AttributeResolutionPolicy.COMPUTE_FALLBACK_ZERO
         );
         // Hidden items and actors at this plot are discoverable via SEARCH (used to reveal things like hidden hatchet or Scratch).
-        List<Item> hiddenItems = registry.getEverything().values().stream()
-                .filter(Item.class::isInstance)
-                .map(Item.class::cast)
+        List<Item> hiddenItems = registry.itemsOwnedBy(currentPlot).stream()
                 .filter(item -> !item.isVisible())
-                .filter(item -> currentPlot.equals(item.getOwnerId()))
                 .toList();
 
-        List<Actor> hiddenActors = registry.getEverything().values().stream()
-                .filter(Actor.class::isInstance)
-                .map(Actor.class::cast)
+        List<Actor> hiddenActors = registry.actorsOwnedBy(currentPlot).stream()
                 .filter(actor -> !actor.isVisible())
-                .filter(actor -> currentPlot.equals(actor.getOwnerId()))
                 .toList();
 
         if (success && (!hiddenItems.isEmpty() || !hiddenActors.isEmpty())) {
@@ -111,12 +105,11 @@ final class RuntimeCommandActions {
             return;
         }
 
-        Item item = registry.getEverything().values().stream()
+        Item item = registry.findByLabel(targetLower).stream()
                 .filter(Item.class::isInstance)
                 .map(Item.class::cast)
                 .filter(Item::isVisible)
                 .filter(i -> currentPlot.equals(i.getOwnerId()) || playerId.equals(i.getOwnerId()))
-                .filter(i -> i.getLabel() != null && i.getLabel().equalsIgnoreCase(targetLower))
                 .findFirst()
                 .orElse(null);
         if (item != null) {
@@ -28,6 +28,15 @@ final class RuntimeConversation {
         conversationActorLabel = "";
     }
 
+    State state() {
+        return new State(conversationActorId, conversationActorLabel);
+    }
+
+    void restore(State state) {
+        conversationActorId = state == null ? null : state.actorId();
+        conversationActorLabel = state == null ? "" : state.actorLabel();
+    }
+
     boolean isConversationActive() {
         return conversationActorId != null;
     }
@@ -121,12 +130,13 @@ final class RuntimeConversation {
             return null;
         }
         String targetLower = label.trim().toLowerCase(Locale.ROOT);
-        return registry.getEverything().values().stream()
+        if (plotId == null) {
+            return null;
+        }
+        return registry.findByLabel(targetLower, plotId).stream()
                 .filter(Actor.class::isInstance)
                 .map(Actor.class::cast)
                 .filter(Actor::isVisible)
-                .filter(a -> plotId != null && plotId.equals(a.getOwnerId()))
-                .filter(a -> a.getLabel() != null && a.getLabel().equalsIgnoreCase(targetLower))
                 .findFirst()
                 .orElse(null);
     }
@@ -298,14 +308,14 @@ final class RuntimeConversation {
         if (registry == null || plotId == null) {
             return List.of();
         }
-        return registry.getEverything().values().stream()
-                .filter(Actor.class::isInstance)
-                .map(Actor.class::cast)
+        return registry.actorsOwnedBy(plotId).stream()
                 .filter(Actor::isVisible)
-                .filter(actor -> plotId.equals(actor.getOwnerId()))
                 .toList();
     }
 
+    record State(UUID actorId, String actorLabel) {
+    }
+
     private record MentionCandidate(Actor actor, int tokensMatched) {
     }
 }
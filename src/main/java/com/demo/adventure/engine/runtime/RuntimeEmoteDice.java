@@ -46,6 +46,15 @@ final class RuntimeEmoteDice {
         interactionState = InteractionState.none();
     }
 
+    State state() {
+        return new State(pendingEmoteCheck, interactionState);
+    }
+
+    void restore(State state) {
+        pendingEmoteCheck = state == null ? null : state.pending();
+        interactionState = state == null ? InteractionState.none() : state.interaction();
+    }
+
     InteractionState interactionState() {
         return interactionState == null ? InteractionState.none() : interactionState;
     }
@@ -190,19 +199,13 @@ final class RuntimeEmoteDice {
     }
 
     private DiceCheckResult evaluateDiceCheck(int sides, int target) {
-        KeyExpressionEvaluator.DiceRoller previous = KeyExpressionEvaluator.getDefaultDiceRoller();
+        KeyExpressionEvaluator.DiceRoller previous = KeyExpressionEvaluator.currentDiceRoller();
         List<Integer> rolls = new ArrayList<>();
-        KeyExpressionEvaluator.setDefaultDiceRoller(s -> {
+        boolean success = KeyExpressionEvaluator.withDiceRoller(s -> {
             int roll = previous.roll(s);
             rolls.add(roll);
             return roll;
-        });
-        boolean success;
-        try {
-            success = KeyExpressionEvaluator.evaluate("DICE(" + sides + ") >= " + target);
-        } finally {
-            KeyExpressionEvaluator.setDefaultDiceRoller(previous);
-        }
+        }, () -> KeyExpressionEvaluator.evaluate("DICE(" + sides + ") >= " + target));
         int roll = rolls.isEmpty() ? 0 : rolls.get(rolls.size() - 1);
         return new DiceCheckResult(roll, success);
     }
@@ -232,6 +235,9 @@ final class RuntimeEmoteDice {
         return spec.sides() == pending.sides() && spec.target() == pending.target();
     }
 
+    record State(PendingEmoteCheck pending, InteractionState interaction) {
+    }
+
     private record PendingEmoteCheck(String emoteText, int sides, int target) {
     }
 
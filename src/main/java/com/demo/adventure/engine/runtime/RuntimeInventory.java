@@ -1,6 +1,6 @@
 package com.demo.adventure.engine.runtime;
 
-import com.demo.adventure.domain.kernel.ContainerPacker;
+import com.demo.adventure.domain.kernel.ContainerPacking;
 import com.demo.adventure.domain.kernel.KernelRegistry;
 import com.demo.adventure.domain.model.Item;
 import com.demo.adventure.domain.model.Rectangle2D;
@@ -11,12 +11,15 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 final class RuntimeInventory {
     private final GameRuntime runtime;
+    // Free-space state per placement bucket, kept in step with runtime.inventoryPlacements() on each use.
+    private final Map<UUID, ContainerPacking> packings = new HashMap<>();
 
     RuntimeInventory(GameRuntime runtime) {
         this.runtime = runtime;
@@ -45,13 +48,11 @@ final class RuntimeInventory {
         List<Item> inventory = runtime.inventory();
         Map<UUID, Map<UUID, Rectangle2D>> placements = runtime.inventoryPlacements();
 
-        Item item = registry.getEverything().values().stream()
+        Item item = registry.findByLabel(name, plotId).stream()
                 .filter(Item.class::isInstance)
                 .map(Item.class::cast)
                 .filter(i -> !i.isFixture())
                 .filter(Item::isVisible)
-                .filter(i -> plotId.equals(i.getOwnerId()))
-                .filter(i -> i.getLabel().equalsIgnoreCase(name))
                 .findFirst()
                 .orElse(null);
         if (item == null) {
@@ -105,16 +106,11 @@ final class RuntimeInventory {
             return;
         }
         runtime.emit("You are carrying:");
-        // Build a lookup of ownerId -> contained items so container contents show even if not listed as inventory items.
-        Map<UUID, List<Item>> contained = runtime.registry().getEverything().values().stream()
-                .filter(Item.class::isInstance)
-                .map(Item.class::cast)
-                .filter(i -> i.getOwnerId() != null)
-                .collect(java.util.stream.Collectors.groupingBy(Item::getOwnerId));
-
+        // Container contents come from the ownership index so they show even if not listed as inventory items.
+        KernelRegistry registry = runtime.registry();
         Map<UUID, Map<UUID, Rectangle2D>> placements = runtime.inventoryPlacements();
         for (Item item : inventory) {
-            List<Item> contents = contained.getOrDefault(item.getId(), List.of());
+            List<Item> contents = registry.itemsOwnedBy(item.getId());
             String inner = contents.stream()
                     .map(Item::getLabel)
                     .sorted(String.CASE_INSENSITIVE_ORDER)
@@ -139,11 +135,7 @@ final class RuntimeInventory {
             placements.clear();
             return;
         }
-        Map<UUID, Item> ownedItems = registry.getEverything().values().stream()
-                .filter(Item.class::isInstance)
-                .map(Item.class::cast)
-                .filter(i -> !i.isFixture())
-                .filter(i -> playerId.equals(i.getOwnerId()))
+        Map<UUID, Item> ownedItems = registry.itemsOwnedBy(playerId, false).stream()
                 .collect(Collectors.toMap(Item::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new));
         if (ownedItems.isEmpty()) {
             inventory.clear();
@@ -163,8 +155,25 @@ final class RuntimeInventory {
         refreshed.addAll(ownedItems.values());
         inventory.clear();
         inventory.addAll(refreshed);
-        placements.clear();
-        seedInventoryPlacements(inventory, placements, playerId);
+
+        // Keep the placements of items still carried and pack only newcomers; start over if the bucket changed.
+        Item container = primaryContainer(inventory);
+        Map<UUID, Rectangle2D> bucketPlacements = placements.get(bucketFor(container, playerId));
+        if (bucketPlacements == null || placements.size() != 1) {
+            placements.clear();
+            seedInventoryPlacements(inventory, placements, playerId);
+            return;
+        }
+        Set<UUID> carried = inventory.stream().map(Item::getId).collect(Collectors.toSet());
+        bucketPlacements.keySet().retainAll(carried);
+        for (Item item : inventory) {
+            if (container != null && item.getId().equals(container.getId())) {
+                continue;
+            }
+            if (!bucketPlacements.containsKey(item.getId())) {
+                fitsInventory(item, container, placements, playerId);
+            }
+        }
     }
 
     void seedInventoryPlacements(List<Item> inventory, Map<UUID, Map<UUID, Rectangle2D>> placements, UUID playerId) {
@@ -181,11 +190,7 @@ final class RuntimeInventory {
         if (registry == null || playerId == null) {
             return List.of();
         }
-        return registry.getEverything().values().stream()
-                .filter(Item.class::isInstance)
-                .map(Item.class::cast)
-                .filter(i -> playerId.equals(i.getOwnerId()))
-                .collect(java.util.stream.Collectors.toCollection(ArrayList::new));
+        return new ArrayList<>(registry.itemsOwnedBy(playerId));
     }
 
     private Item primaryContainer(List<Item> inventory) {
@@ -198,22 +203,28 @@ final class RuntimeInventory {
     private boolean fitsInventory(Item item, Item container, Map<UUID, Map<UUID, Rectangle2D>> placements, UUID playerId) {
         double capacityWidth = container == null ? 0.3 : container.getCapacityWidth();
         double capacityHeight = container == null ? 0.3 : container.getCapacityHeight();
-        UUID bucket = container == null ? (playerId == null ? GameRuntime.PLAYER_ID : playerId) : container.getId();
+        UUID bucket = bucketFor(container, playerId);
 
         Map<UUID, Rectangle2D> bucketPlacements = placements.computeIfAbsent(bucket, k -> new HashMap<>());
-        List<Rectangle2D> occupied = new ArrayList<>(bucketPlacements.values());
+        ContainerPacking packing = packings.computeIfAbsent(bucket, k -> new ContainerPacking());
+        packing.sync(bucketPlacements);
 
         double width = normalizeFootprint(item.getFootprintWidth(), capacityWidth);
         double height = normalizeFootprint(item.getFootprintHeight(), capacityHeight);
 
-        var placement = ContainerPacker.place(width, height, occupied);
+        var placement = packing.insert(item.getId(), width, height);
         if (placement.isEmpty()) {
+            bucketPlacements.remove(item.getId());
             return false;
         }
         bucketPlacements.put(item.getId(), placement.get().asRectangle());
         return true;
     }
 
+    private UUID bucketFor(Item container, UUID playerId) {
+        return container == null ? (playerId == null ? GameRuntime.PLAYER_ID : playerId) : container.getId();
+    }
+
     private double normalizeFootprint(double value, double capacity) {
         double v = Math.max(0.01, value);
         double cap = capacity <= 0 ? 1.0 : capacity;
@@ -9,6 +9,7 @@ import com.demo.adventure.domain.model.Actor;
 import com.demo.adventure.domain.model.Item;
 import com.demo.adventure.domain.model.Thing;
 
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
@@ -75,49 +76,45 @@ final class RuntimeItemUse {
             return player;
         }
 
-        Thing inventoryItem = registry.getEverything().values().stream()
+        Thing inventoryItem = playerId == null ? null : registry.findByLabel(targetLower, playerId).stream()
                 .filter(Item.class::isInstance)
-                .map(Item.class::cast)
-                .filter(i -> playerId != null && playerId.equals(i.getOwnerId()))
-                .filter(i -> i.getLabel() != null && i.getLabel().equalsIgnoreCase(targetLower))
                 .findFirst()
                 .orElse(null);
         if (inventoryItem != null) {
             return inventoryItem;
         }
 
-        Thing plotItem = registry.getEverything().values().stream()
+        if (plotId == null) {
+            return null;
+        }
+        List<Thing> atPlot = registry.findByLabel(targetLower, plotId);
+
+        Thing plotItem = atPlot.stream()
                 .filter(Item.class::isInstance)
                 .map(Item.class::cast)
                 .filter(i -> !i.isFixture())
                 .filter(Item::isVisible)
-                .filter(i -> plotId != null && plotId.equals(i.getOwnerId()))
-                .filter(i -> i.getLabel() != null && i.getLabel().equalsIgnoreCase(targetLower))
                 .findFirst()
                 .orElse(null);
         if (plotItem != null) {
             return plotItem;
         }
 
-        Thing fixture = registry.getEverything().values().stream()
+        Thing fixture = atPlot.stream()
                 .filter(Item.class::isInstance)
                 .map(Item.class::cast)
                 .filter(Item::isFixture)
                 .filter(Item::isVisible)
-                .filter(i -> plotId != null && plotId.equals(i.getOwnerId()))
-                .filter(i -> i.getLabel() != null && i.getLabel().equalsIgnoreCase(targetLower))
                 .findFirst()
                 .orElse(null);
         if (fixture != null) {
             return fixture;
         }
 
-        return registry.getEverything().values().stream()
+        return atPlot.stream()
                 .filter(Actor.class::isInstance)
                 .map(Actor.class::cast)
                 .filter(Actor::isVisible)
-                .filter(a -> plotId != null && plotId.equals(a.getOwnerId()))
-                .filter(a -> a.getLabel() != null && a.getLabel().equalsIgnoreCase(targetLower))
                 .findFirst()
                 .orElse(null);
     }
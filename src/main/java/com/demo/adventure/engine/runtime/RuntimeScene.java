@@ -8,80 +8,44 @@ import com.demo.adventure.domain.model.Item;
 import com.demo.adventure.domain.model.Plot;
 import com.demo.adventure.domain.model.Thing;
 
-import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 final class RuntimeScene {
+    private static final int MODEL_CACHE_SIZE = 16;
+
+    private record SceneKey(UUID plotId, UUID viewerId) {
+    }
+
     private final GameRuntime runtime;
+    private final Map<SceneKey, SceneModel> models = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<SceneKey, SceneModel> eldest) {
+            return size() > MODEL_CACHE_SIZE;
+        }
+    };
 
     RuntimeScene(GameRuntime runtime) {
         this.runtime = runtime;
     }
 
     List<String> visibleFixtureLabels() {
-        KernelRegistry registry = runtime.registry();
-        UUID plotId = runtime.currentPlotId();
-        if (registry == null || plotId == null) {
-            return List.of();
-        }
-        return registry.getEverything().values().stream()
-                .filter(Item.class::isInstance)
-                .map(Item.class::cast)
-                .filter(Item::isFixture)
-                .filter(Item::isVisible)
-                .filter(item -> plotId.equals(item.getOwnerId()))
-                .map(Item::getLabel)
-                .filter(Objects::nonNull)
-                .sorted(String.CASE_INSENSITIVE_ORDER)
-                .toList();
+        SceneModel model = model();
+        return model == null ? List.of() : model.fixtureLabels();
     }
 
     List<String> visibleItemLabels() {
-        KernelRegistry registry = runtime.registry();
-        UUID plotId = runtime.currentPlotId();
-        if (registry == null || plotId == null) {
-            return List.of();
-        }
-        List<Item> plotItems = registry.getEverything().values().stream()
-                .filter(Item.class::isInstance)
-                .map(Item.class::cast)
-                .filter(item -> !item.isFixture())
-                .filter(Item::isVisible)
-                .filter(item -> plotId.equals(item.getOwnerId()))
-                .toList();
-        List<Item> fixtureItems = itemsInOpenFixturesAtPlot();
-        return java.util.stream.Stream.concat(plotItems.stream(), fixtureItems.stream())
-                .map(Item::getLabel)
-                .filter(Objects::nonNull)
-                .distinct()
-                .sorted(String.CASE_INSENSITIVE_ORDER)
-                .toList();
+        SceneModel model = model();
+        return model == null ? List.of() : model.itemLabels();
     }
 
     List<String> visibleActorLabels(UUID excludeActorId) {
-        KernelRegistry registry = runtime.registry();
-        UUID plotId = runtime.currentPlotId();
-        if (registry == null || plotId == null) {
-            return List.of();
-        }
-        return registry.getEverything().values().stream()
-                .filter(Actor.class::isInstance)
-                .map(Actor.class::cast)
-                .filter(Actor::isVisible)
-                .filter(actor -> plotId.equals(actor.getOwnerId()))
-                .filter(actor -> excludeActorId == null || !excludeActorId.equals(actor.getId()))
-                .map(Actor::getLabel)
-                .filter(Objects::nonNull)
-                .distinct()
-                .sorted(String.CASE_INSENSITIVE_ORDER)
-                .toList();
+        SceneModel model = model();
+        return model == null ? List.of() : model.actorLabels(excludeActorId);
     }
 
     void describe() {
@@ -115,12 +79,10 @@ final class RuntimeScene {
 
             String targetLower = target.toLowerCase(Locale.ROOT);
 
-            Item plotItem = registry.getEverything().values().stream()
+            Item plotItem = registry.findByLabel(targetLower, plotId).stream()
                     .filter(Item.class::isInstance)
                     .map(Item.class::cast)
                     .filter(Item::isVisible)
-                    .filter(i -> plotId.equals(i.getOwnerId()))
-                    .filter(i -> i.getLabel() != null && i.getLabel().equalsIgnoreCase(targetLower))
                     .findFirst()
                     .orElse(null);
             if (plotItem != null) {
@@ -137,13 +99,11 @@ final class RuntimeScene {
                 return;
             }
 
-            Item fixture = registry.getEverything().values().stream()
+            Item fixture = registry.findByLabel(targetLower, plotId).stream()
                     .filter(Item.class::isInstance)
                     .map(Item.class::cast)
                     .filter(Item::isFixture)
                     .filter(Item::isVisible)
-                    .filter(i -> plotId.equals(i.getOwnerId()))
-                    .filter(i -> i.getLabel() != null && i.getLabel().equalsIgnoreCase(targetLower))
                     .findFirst()
                     .orElse(null);
             if (fixture != null) {
@@ -151,12 +111,10 @@ final class RuntimeScene {
                 return;
             }
 
-            Actor actor = registry.getEverything().values().stream()
+            Actor actor = registry.findByLabel(targetLower, plotId).stream()
                     .filter(Actor.class::isInstance)
                     .map(Actor.class::cast)
                     .filter(Actor::isVisible)
-                    .filter(a -> plotId.equals(a.getOwnerId()))
-                    .filter(a -> a.getLabel() != null && a.getLabel().equalsIgnoreCase(targetLower))
                     .findFirst()
                     .orElse(null);
             if (actor != null) {
@@ -164,11 +122,9 @@ final class RuntimeScene {
                 return;
             }
 
-            Item carried = registry.getEverything().values().stream()
+            Item carried = registry.findByLabel(targetLower, playerId).stream()
                     .filter(Item.class::isInstance)
                     .map(Item.class::cast)
-                    .filter(i -> playerId.equals(i.getOwnerId()))
-                    .filter(i -> i.getLabel() != null && i.getLabel().equalsIgnoreCase(targetLower))
                     .findFirst()
                     .orElse(null);
             if (carried != null) {
@@ -212,17 +168,8 @@ final class RuntimeScene {
     }
 
     List<Gate> exits() {
-        KernelRegistry registry = runtime.registry();
-        UUID plotId = runtime.currentPlotId();
-        if (registry == null || plotId == null) {
-            return List.of();
-        }
-        return registry.getEverything().values().stream()
-                .filter(Gate.class::isInstance)
-                .map(Gate.class::cast)
-                .filter(Gate::isVisible)
-                .filter(g -> g.connects(plotId))
-                .toList();
+        SceneModel model = model();
+        return model == null ? List.of() : model.exits();
     }
 
     String firstExitDirection() {
@@ -290,118 +237,33 @@ final class RuntimeScene {
     }
 
     List<Item> itemsInOpenFixturesAtPlot() {
-        List<Item> openFixtures = openFixturesAtPlot();
-        KernelRegistry registry = runtime.registry();
-        if (openFixtures.isEmpty() || registry == null) {
-            return List.of();
-        }
-        Set<UUID> openFixtureIds = openFixtures.stream()
-                .map(Item::getId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-        if (openFixtureIds.isEmpty()) {
-            return List.of();
-        }
-        return registry.getEverything().values().stream()
-                .filter(Item.class::isInstance)
-                .map(Item.class::cast)
-                .filter(item -> !item.isFixture())
-                .filter(Item::isVisible)
-                .filter(item -> openFixtureIds.contains(item.getOwnerId()))
-                .toList();
+        SceneModel model = model();
+        return model == null ? List.of() : model.openFixtureItems();
     }
 
-    private List<Item> openFixturesAtPlot() {
-        KernelRegistry registry = runtime.registry();
-        UUID plotId = runtime.currentPlotId();
-        UUID playerId = runtime.playerId();
-        if (registry == null || plotId == null) {
-            return List.of();
-        }
-        return registry.getEverything().values().stream()
-                .filter(Item.class::isInstance)
-                .map(Item.class::cast)
-                .filter(Item::isFixture)
-                .filter(Item::isVisible)
-                .filter(item -> plotId.equals(item.getOwnerId()))
-                .filter(item -> runtime.isThingOpen(item, registry, playerId, plotId))
-                .toList();
+    private String buildSceneSnapshot() {
+        SceneModel model = model();
+        return model == null ? "" : model.text();
     }
 
-    private String buildSceneSnapshot() {
+    /**
+     * Scene model for the current plot as seen by the current player, rebuilt only when something it read changed.
+     */
+    private SceneModel model() {
         KernelRegistry registry = runtime.registry();
         UUID plotId = runtime.currentPlotId();
-        UUID playerId = runtime.playerId();
-        Plot plot = registry == null || plotId == null ? null : registry.get(plotId) instanceof Plot current ? current : null;
-        if (plot == null) {
-            return "";
-        }
-        StringBuilder snapshot = new StringBuilder();
-        if (plot.getLabel() != null && !plot.getLabel().isBlank()) {
-            snapshot.append("# ").append(plot.getLabel().trim()).append("\n");
-        }
-        if (plot.getDescription() != null && !plot.getDescription().isBlank()) {
-            snapshot.append(plot.getDescription().trim()).append("\n");
-        }
-
-        List<Item> fixtures = registry.getEverything().values().stream()
-                .filter(Item.class::isInstance)
-                .map(Item.class::cast)
-                .filter(Item::isFixture)
-                .filter(Item::isVisible)
-                .filter(item -> plotId.equals(item.getOwnerId()))
-                .toList();
-        if (!fixtures.isEmpty()) {
-            snapshot.append("Fixtures:\n");
-            fixtures.forEach(f -> snapshot.append("- ").append(f.getLabel()).append("\n"));
-        }
-
-        List<Item> plotItems = registry.getEverything().values().stream()
-                .filter(Item.class::isInstance)
-                .map(Item.class::cast)
-                .filter(item -> !item.isFixture())
-                .filter(Item::isVisible)
-                .filter(item -> plotId.equals(item.getOwnerId()))
-                .toList();
-        Map<UUID, Item> itemsById = new LinkedHashMap<>();
-        plotItems.forEach(item -> itemsById.put(item.getId(), item));
-        itemsInOpenFixturesAtPlot().forEach(item -> itemsById.putIfAbsent(item.getId(), item));
-        List<Item> items = new ArrayList<>(itemsById.values());
-        if (!items.isEmpty()) {
-            snapshot.append("Items:\n");
-            items.forEach(i -> snapshot.append("- ").append(i.getLabel()).append("\n"));
-        }
-
-        List<Actor> actors = registry.getEverything().values().stream()
-                .filter(Actor.class::isInstance)
-                .map(Actor.class::cast)
-                .filter(actor -> plotId.equals(actor.getOwnerId()))
-                .filter(Actor::isVisible)
-                .filter(actor -> !actor.getId().equals(playerId))
-                .toList();
-        if (!actors.isEmpty()) {
-            snapshot.append("You see:\n");
-            actors.forEach(a -> snapshot.append("- ").append(a.getLabel()).append("\n"));
+        if (registry == null || plotId == null) {
+            return null;
         }
-
-        List<Gate> exits = exits();
-        if (!exits.isEmpty()) {
-            List<String> dirList = exits.stream()
-                    .map(g -> {
-                        Direction d = g.directionFrom(plotId);
-                        if (d == null) {
-                            return null;
-                        }
-                        return d.toLongName();
-                    })
-                    .filter(Objects::nonNull)
-                    .sorted()
-                    .toList();
-            if (!dirList.isEmpty()) {
-                String separator = " \u2022 ";
-                snapshot.append("Exits: ").append(String.join(separator, dirList)).append("\n");
-            }
+        UUID viewerId = runtime.playerId();
+        SceneModel.OpenCheck openCheck = fixture -> runtime.isThingOpen(fixture, registry, viewerId, plotId);
+        SceneKey key = new SceneKey(plotId, viewerId);
+        SceneModel cached = models.get(key);
+        if (cached != null && cached.isCurrent(registry, openCheck)) {
+            return cached;
         }
-        return snapshot.toString().trim();
+        SceneModel built = SceneModel.build(registry, plotId, viewerId, openCheck);
+        models.put(key, built);
+        return built;
     }
 }
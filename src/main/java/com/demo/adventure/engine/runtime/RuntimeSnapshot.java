@@ -0,0 +1,51 @@
+package com.demo.adventure.engine.runtime;
+
+import com.demo.adventure.domain.kernel.RegistrySnapshot;
+import com.demo.adventure.domain.model.Item;
+import com.demo.adventure.domain.model.Rectangle2D;
+import com.demo.adventure.engine.flow.loop.LoopRuntime;
+import com.demo.adventure.engine.mechanics.combat.CombatEncounter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Restorable copy of a {@link GameRuntime}'s game state: the active registry and its world state, player
+ * position and inventory, combat, conversation/emote state and loop clock. Narration history and smart-actor
+ * state are not captured. Produced by {@link GameRuntime#snapshot()} and applied with
+ * {@link GameRuntime#restore(RuntimeSnapshot)}.
+ */
+public final class RuntimeSnapshot {
+    final RegistrySnapshot registry;
+    final UUID currentPlot;
+    final UUID playerId;
+    final List<Item> inventory;
+    final Map<UUID, Map<UUID, Rectangle2D>> inventoryPlacements;
+    final CombatEncounter encounter;
+    final RuntimeConversation.State conversation;
+    final RuntimeEmoteDice.State emoteDice;
+    final LoopRuntime.Snapshot loop;
+
+    RuntimeSnapshot(
+            RegistrySnapshot registry,
+            UUID currentPlot,
+            UUID playerId,
+            List<Item> inventory,
+            Map<UUID, Map<UUID, Rectangle2D>> inventoryPlacements,
+            CombatEncounter encounter,
+            RuntimeConversation.State conversation,
+            RuntimeEmoteDice.State emoteDice,
+            LoopRuntime.Snapshot loop
+    ) {
+        this.registry = registry;
+        this.currentPlot = currentPlot;
+        this.playerId = playerId;
+        this.inventory = inventory;
+        this.inventoryPlacements = inventoryPlacements;
+        this.encounter = encounter;
+        this.conversation = conversation;
+        this.emoteDice = emoteDice;
+        this.loop = loop;
+    }
+}
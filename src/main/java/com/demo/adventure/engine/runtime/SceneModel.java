@@ -0,0 +1,261 @@
+package com.demo.adventure.engine.runtime;
+
+import com.demo.adventure.domain.kernel.KernelRegistry;
+import com.demo.adventure.domain.model.Actor;
+import com.demo.adventure.domain.model.Direction;
+import com.demo.adventure.domain.model.Gate;
+import com.demo.adventure.domain.model.Item;
+import com.demo.adventure.domain.model.Plot;
+import com.demo.adventure.domain.model.Thing;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * What one viewer can see in one plot: visible fixtures, items (including those inside open fixtures), actors and
+ * exits, plus the label lists and scene text derived from them.
+ *
+ * A model remembers the revision of every thing and owner it read and the open state of each visible fixture.
+ * {@link #isCurrent} re-checks just those, so describing, priming and snapshotting the same room in one turn
+ * scans the registry once. Open state is re-asked rather than tracked here because fixture keys may read the
+ * viewer's inventory or cells anywhere in the world; the fixture's own memoized key answers that cheaply.
+ */
+final class SceneModel {
+    @FunctionalInterface
+    interface OpenCheck {
+        boolean isOpen(Item fixture);
+    }
+
+    private final KernelRegistry registry;
+    private final UUID plotId;
+    private final Plot plot;
+    private final UUID viewerId;
+    private final List<Item> fixtures;
+    private final List<Item> items;
+    private final List<Item> openFixtureItems;
+    private final List<Actor> actors;
+    private final List<Gate> exits;
+    private final List<Thing> watched;
+    private final long[] watchedRevisions;
+    private final List<UUID> owners;
+    private final long[] ownerRevisions;
+    private final boolean[] fixtureOpen;
+    private List<String> fixtureLabels;
+    private List<String> itemLabels;
+    private String text;
+
+    private SceneModel(Builder builder) {
+        this.registry = builder.registry;
+        this.plotId = builder.plotId;
+        this.plot = builder.plot;
+        this.viewerId = builder.viewerId;
+        this.fixtures = List.copyOf(builder.fixtures);
+        this.openFixtureItems = List.copyOf(builder.openFixtureItems);
+        Map<UUID, Item> itemsById = new LinkedHashMap<>();
+        builder.plotItems.forEach(item -> itemsById.put(item.getId(), item));
+        builder.openFixtureItems.forEach(item -> itemsById.putIfAbsent(item.getId(), item));
+        this.items = List.copyOf(itemsById.values());
+        this.actors = List.copyOf(builder.actors);
+        this.exits = List.copyOf(builder.exits);
+        this.watched = List.copyOf(builder.watched);
+        this.watchedRevisions = new long[watched.size()];
+        for (int i = 0; i < watched.size(); i++) {
+            watchedRevisions[i] = watched.get(i).revision();
+        }
+        this.owners = List.copyOf(builder.owners);
+        this.ownerRevisions = new long[owners.size()];
+        for (int i = 0; i < owners.size(); i++) {
+            ownerRevisions[i] = registry.revisionOf(owners.get(i));
+        }
+        this.fixtureOpen = new boolean[builder.fixtureOpen.size()];
+        for (int i = 0; i < fixtureOpen.length; i++) {
+            fixtureOpen[i] = builder.fixtureOpen.get(i);
+        }
+    }
+
+    static SceneModel build(KernelRegistry registry, UUID plotId, UUID viewerId, OpenCheck openCheck) {
+        Builder builder = new Builder(registry, plotId, viewerId);
+        if (builder.plot != null) {
+            builder.watched.add(builder.plot);
+        }
+        builder.owners.add(plotId);
+        for (Item item : registry.itemsOwnedBy(plotId)) {
+            builder.watched.add(item);
+            if (!item.isVisible()) {
+                continue;
+            }
+            if (!item.isFixture()) {
+                builder.plotItems.add(item);
+                continue;
+            }
+            builder.fixtures.add(item);
+            boolean open = openCheck.isOpen(item);
+            builder.fixtureOpen.add(open);
+            if (open) {
+                builder.owners.add(item.getId());
+                for (Item contained : registry.itemsOwnedBy(item.getId(), false)) {
+                    builder.watched.add(contained);
+                    if (contained.isVisible()) {
+                        builder.openFixtureItems.add(contained);
+                    }
+                }
+            }
+        }
+        for (Actor actor : registry.actorsOwnedBy(plotId)) {
+            builder.watched.add(actor);
+            if (actor.isVisible()) {
+                builder.actors.add(actor);
+            }
+        }
+        for (Gate gate : registry.gatesAt(plotId)) {
+            builder.watched.add(gate);
+            if (gate.isVisible()) {
+                builder.exits.add(gate);
+            }
+        }
+        return new SceneModel(builder);
+    }
+
+    /**
+     * True while nothing this model read has changed: same registry and plot, no ownership or gate change at the
+     * plot or its open fixtures, no label/visibility/key change on anything it saw, and every fixture still open
+     * or closed as before.
+     */
+    boolean isCurrent(KernelRegistry current, OpenCheck openCheck) {
+        if (current != registry || registry.get(plotId) != plot) {
+            return false;
+        }
+        for (int i = 0; i < owners.size(); i++) {
+            if (registry.revisionOf(owners.get(i)) != ownerRevisions[i]) {
+                return false;
+            }
+        }
+        for (int i = 0; i < watched.size(); i++) {
+            if (watched.get(i).revision() != watchedRevisions[i]) {
+                return false;
+            }
+        }
+        for (int i = 0; i < fixtures.size(); i++) {
+            if (openCheck.isOpen(fixtures.get(i)) != fixtureOpen[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    List<Item> openFixtureItems() {
+        return openFixtureItems;
+    }
+
+    List<Gate> exits() {
+        return exits;
+    }
+
+    List<String> fixtureLabels() {
+        if (fixtureLabels == null) {
+            fixtureLabels = fixtures.stream()
+                    .map(Item::getLabel)
+                    .filter(Objects::nonNull)
+                    .sorted(String.CASE_INSENSITIVE_ORDER)
+                    .toList();
+        }
+        return fixtureLabels;
+    }
+
+    List<String> itemLabels() {
+        if (itemLabels == null) {
+            itemLabels = items.stream()
+                    .map(Item::getLabel)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .sorted(String.CASE_INSENSITIVE_ORDER)
+                    .toList();
+        }
+        return itemLabels;
+    }
+
+    List<String> actorLabels(UUID excludeActorId) {
+        return actors.stream()
+                .filter(actor -> excludeActorId == null || !excludeActorId.equals(actor.getId()))
+                .map(Actor::getLabel)
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted(String.CASE_INSENSITIVE_ORDER)
+                .toList();
+    }
+
+    /**
+     * Raw scene text (heading, description, fixtures, items, other actors, exits); blank when the plot is unknown.
+     */
+    String text() {
+        if (text == null) {
+            text = buildText();
+        }
+        return text;
+    }
+
+    private String buildText() {
+        if (plot == null) {
+            return "";
+        }
+        StringBuilder snapshot = new StringBuilder();
+        if (plot.getLabel() != null && !plot.getLabel().isBlank()) {
+            snapshot.append("# ").append(plot.getLabel().trim()).append("\n");
+        }
+        if (plot.getDescription() != null && !plot.getDescription().isBlank()) {
+            snapshot.append(plot.getDescription().trim()).append("\n");
+        }
+        if (!fixtures.isEmpty()) {
+            snapshot.append("Fixtures:\n");
+            fixtures.forEach(f -> snapshot.append("- ").append(f.getLabel()).append("\n"));
+        }
+        if (!items.isEmpty()) {
+            snapshot.append("Items:\n");
+            items.forEach(i -> snapshot.append("- ").append(i.getLabel()).append("\n"));
+        }
+        List<Actor> others = actors.stream()
+                .filter(actor -> !actor.getId().equals(viewerId))
+                .toList();
+        if (!others.isEmpty()) {
+            snapshot.append("You see:\n");
+            others.forEach(a -> snapshot.append("- ").append(a.getLabel()).append("\n"));
+        }
+        List<String> dirList = exits.stream()
+                .map(g -> g.directionFrom(plotId))
+                .filter(Objects::nonNull)
+                .map(Direction::toLongName)
+                .sorted()
+                .toList();
+        if (!dirList.isEmpty()) {
+            String separator = " \u2022 ";
+            snapshot.append("Exits: ").append(String.join(separator, dirList)).append("\n");
+        }
+        return snapshot.toString().trim();
+    }
+
+    private static final class Builder {
+        private final KernelRegistry registry;
+        private final UUID plotId;
+        private final Plot plot;
+        private final UUID viewerId;
+        private final List<Item> fixtures = new ArrayList<>();
+        private final List<Boolean> fixtureOpen = new ArrayList<>();
+        private final List<Item> plotItems = new ArrayList<>();
+        private final List<Item> openFixtureItems = new ArrayList<>();
+        private final List<Actor> actors = new ArrayList<>();
+        private final List<Gate> exits = new ArrayList<>();
+        private final List<Thing> watched = new ArrayList<>();
+        private final List<UUID> owners = new ArrayList<>();
+
+        private Builder(KernelRegistry registry, UUID plotId, UUID viewerId) {
+            this.registry = registry;
+            this.plotId = plotId;
+            this.plot = registry.get(plotId) instanceof Plot current ? current : null;
+            this.viewerId = viewerId;
+        }
+    }
+}
@@ -0,0 +1,452 @@
+package com.demo.adventure.engine.runtime;
+
+import com.demo.adventure.domain.kernel.KernelRegistry;
+import com.demo.adventure.domain.kernel.ReceiptJournal;
+import com.demo.adventure.domain.model.Actor;
+import com.demo.adventure.domain.model.Item;
+import com.demo.adventure.domain.model.ItemBuilder;
+import com.demo.adventure.domain.model.Thing;
+import com.demo.adventure.domain.model.ThingKind;
+import com.demo.adventure.engine.mechanics.cells.Cell;
+import com.demo.adventure.engine.mechanics.cells.CellMutationReceipt;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Durable checkpoint of one live {@link GameRuntime}: the base world fingerprint plus an append-only log of what
+ * changed since the pristine world was built.
+ *
+ * {@link #record} runs once per turn and logs
+ * <ul>
+ *     <li>{@code H} the full state (owner, visibility, keys, label, description, ttl, cells, actor gear) of
+ *     every thing whose revision moved;</li>
+ *     <li>{@code C} the current value of every cell named by a new {@link CellMutationReceipt} on a thing that
+ *     has no {@code H} record this turn;</li>
+ *     <li>{@code S} player position, inventory order and conversation partner, when they changed.</li>
+ * </ul>
+ * A turn with no changes writes nothing. When the registry is replaced (a loop reset) or receipts were evicted
+ * before they could be read, every thing is captured again and the log is compacted. The log is also compacted
+ * once it holds well over twice the records needed to describe the current state.
+ *
+ * {@link #resume} replays the committed log onto a runtime configured from the same pristine world. Combat
+ * encounters, pending dice checks, smart-actor memory and narration history are not persisted; inventory
+ * placements are re-packed.
+ */
+public final class SessionCheckpoint implements Closeable {
+    private static final String WORLD = "W";
+    private static final String THING = "H";
+    private static final String CELL = "C";
+    private static final String SESSION = "S";
+    private static final String NONE = "-";
+
+    private final SessionCheckpointLog log;
+    private final String worldFingerprint;
+    private final Map<UUID, Long> revisions = new HashMap<>();
+    private final Map<UUID, String> thingRecords = new LinkedHashMap<>();
+    private final Map<UUID, Map<String, String>> cellRecords = new LinkedHashMap<>();
+    private KernelRegistry tracked;
+    private long receiptCursor;
+    private String sessionRecord;
+    private int cellRecordCount;
+
+    private SessionCheckpoint(SessionCheckpointLog log, String worldFingerprint) {
+        this.log = log;
+        this.worldFingerprint = worldFingerprint;
+    }
+
+    public static SessionCheckpoint open(Path file, String worldFingerprint) throws IOException {
+        return open(file, worldFingerprint, SessionCheckpointLog.Policy.defaults());
+    }
+
+    public static SessionCheckpoint open(Path file, String worldFingerprint, SessionCheckpointLog.Policy policy)
+            throws IOException {
+        if (worldFingerprint == null || worldFingerprint.isBlank()) {
+            throw new IllegalArgumentException("worldFingerprint is required");
+        }
+        return new SessionCheckpoint(SessionCheckpointLog.open(file, policy), worldFingerprint.trim());
+    }
+
+    public Path file() {
+        return log.file();
+    }
+
+    public long turn() {
+        return log.turn();
+    }
+
+    /**
+     * Applies the committed log to {@code runtime}, which must be freshly configured from the pristine world,
+     * and starts tracking it. A log written for a different world is discarded.
+     *
+     * @return true when saved state was applied
+     */
+    public boolean resume(GameRuntime runtime) throws IOException {
+        Objects.requireNonNull(runtime, "runtime");
+        List<String> committed = log.committed();
+        boolean applicable = !committed.isEmpty()
+                && committed.get(0).equals(WORLD + "\t" + worldFingerprint)
+                && committed.size() > 1;
+        if (applicable) {
+            replay(runtime, committed.subList(1, committed.size()));
+        }
+        baseline(runtime);
+        if (!applicable) {
+            log.compact(liveRecords());
+        }
+        return applicable;
+    }
+
+    /**
+     * Appends whatever changed in {@code runtime} since the previous call as one committed turn.
+     */
+    public void record(GameRuntime runtime) throws IOException {
+        KernelRegistry registry = runtime.registry();
+        if (registry == null) {
+            return;
+        }
+        if (registry != tracked) {
+            recapture(runtime);
+            return;
+        }
+        ReceiptJournal.Batch<CellMutationReceipt> receipts =
+                registry.cellMutationJournal().readSince(receiptCursor, Integer.MAX_VALUE);
+        if (receipts.skipped() > 0) {
+            recapture(runtime);
+            return;
+        }
+        receiptCursor = receipts.nextSequence();
+
+        List<String> records = new ArrayList<>();
+        Set<UUID> captured = new LinkedHashSet<>();
+        for (Thing thing : registry.getEverything().values()) {
+            Long seen = revisions.put(thing.getId(), thing.revision());
+            if (seen == null || seen != thing.revision()) {
+                records.add(putThing(thing));
+                captured.add(thing.getId());
+            }
+        }
+        Set<String> cellsSeen = new LinkedHashSet<>();
+        for (CellMutationReceipt receipt : receipts.entries()) {
+            if (receipt.thingId() == null || captured.contains(receipt.thingId())
+                    || !cellsSeen.add(receipt.thingId() + "\t" + receipt.cellName())) {
+                continue;
+            }
+            Thing thing = registry.get(receipt.thingId());
+            Cell cell = thing == null ? null : thing.getCell(receipt.cellName());
+            if (cell != null) {
+                records.add(putCell(thing.getId(), receipt.cellName(), cell));
+            }
+        }
+        String session = sessionRecord(runtime);
+        if (!session.equals(sessionRecord)) {
+            sessionRecord = session;
+            records.add(session);
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+        log.appendTurn(records);
+        if (log.compactionDue(2 + thingRecords.size() + cellRecordCount)) {
+            log.compact(liveRecords());
+        }
+    }
+
+    /**
+     * Forces appended turns to disk now instead of waiting for the batch.
+     */
+    public void sync() throws IOException {
+        log.sync();
+    }
+
+    /**
+     * Removes the checkpoint, e.g. when the game ended normally and there is nothing to resume.
+     */
+    public void discard() throws IOException {
+        log.delete();
+    }
+
+    @Override
+    public void close() throws IOException {
+        log.close();
+    }
+
+    private void recapture(GameRuntime runtime) throws IOException {
+        thingRecords.clear();
+        cellRecords.clear();
+        cellRecordCount = 0;
+        for (Thing thing : runtime.registry().getEverything().values()) {
+            putThing(thing);
+        }
+        baseline(runtime);
+        log.compact(liveRecords());
+    }
+
+    private void baseline(GameRuntime runtime) {
+        KernelRegistry registry = runtime.registry();
+        tracked = registry;
+        revisions.clear();
+        receiptCursor = 0;
+        if (registry != null) {
+            for (Thing thing : registry.getEverything().values()) {
+                revisions.put(thing.getId(), thing.revision());
+            }
+            receiptCursor = registry.cellMutationJournal().nextSequence();
+        }
+        sessionRecord = sessionRecord(runtime);
+    }
+
+    private List<String> liveRecords() {
+        List<String> records = new ArrayList<>(2 + thingRecords.size() + cellRecordCount);
+        records.add(WORLD + "\t" + worldFingerprint);
+        records.addAll(thingRecords.values());
+        for (Map<String, String> cells : cellRecords.values()) {
+            records.addAll(cells.values());
+        }
+        if (sessionRecord != null) {
+            records.add(sessionRecord);
+        }
+        return records;
+    }
+
+    private String putThing(Thing thing) {
+        String record = thingRecord(thing);
+        thingRecords.put(thing.getId(), record);
+        Map<String, String> superseded = cellRecords.remove(thing.getId());
+        if (superseded != null) {
+            cellRecordCount -= superseded.size();
+        }
+        return record;
+    }
+
+    private String putCell(UUID thingId, String cellName, Cell cell) {
+        String record = String.join("\t", CELL, thingId.toString(), encode(cellName),
+                Long.toString(cell.getCapacity()), Long.toString(cell.getAmount()));
+        if (cellRecords.computeIfAbsent(thingId, k -> new LinkedHashMap<>()).put(cellName, record) == null) {
+            cellRecordCount++;
+        }
+        return record;
+    }
+
+    private void replay(GameRuntime runtime, List<String> records) {
+        KernelRegistry registry = runtime.registry();
+        String session = null;
+        for (String record : records) {
+            String[] fields = record.split("\t", -1);
+            switch (fields[0]) {
+                case THING -> {
+                    Thing thing = applyThing(registry, fields);
+                    if (thing != null) {
+                        putThing(thing);
+                    }
+                }
+                case CELL -> {
+                    UUID thingId = uuid(fields[1]);
+                    Thing thing = registry.get(thingId);
+                    if (thing != null) {
+                        Cell cell = new Cell(Long.parseLong(fields[3]), Long.parseLong(fields[4]));
+                        String cellName = decode(fields[2]);
+                        thing.setCell(cellName, cell);
+                        putCell(thingId, cellName, cell);
+                    }
+                }
+                case SESSION -> session = record;
+                default -> {
+                    // Unknown record types come from newer writers; skip them.
+                }
+            }
+        }
+        if (runtime.loopRuntime() != null) {
+            runtime.loopRuntime().resumeFromWorldState();
+        }
+        if (session != null) {
+            applySession(runtime, session.split("\t", -1));
+        }
+    }
+
+    private static Thing applyThing(KernelRegistry registry, String[] fields) {
+        UUID id = uuid(fields[1]);
+        UUID ownerId = uuid(fields[3]);
+        String label = decode(fields[6]);
+        String description = decode(fields[7]);
+        Thing thing = registry.get(id);
+        if (thing == null) {
+            // Things created during play (crafted items) are rebuilt; anything else cannot be.
+            if (!ThingKind.ITEM.name().equals(fields[2])) {
+                return null;
+            }
+            thing = new ItemBuilder()
+                    .withId(id)
+                    .withLabel(label)
+                    .withDescription(description)
+                    .withOwnerId(ownerId)
+                    .build();
+            registry.register(thing);
+        }
+        registry.moveOwnership(id, ownerId);
+        thing.setVisible(Boolean.parseBoolean(fields[4]));
+        String key = decode(fields[5]);
+        if (!Objects.equals(thing.getKey(), key)) {
+            thing.setKey(key);
+        }
+        String visibilityKey = decode(fields[8]);
+        if (!Objects.equals(thing.getVisibilityKey(), visibilityKey)) {
+            thing.setVisibilityKey(visibilityKey);
+        }
+        if (!Objects.equals(thing.getLabel(), label)) {
+            registry.relabel(id, label);
+        }
+        if (!Objects.equals(thing.getDescription(), description)) {
+            thing.setDescription(description);
+        }
+        thing.setTtl(Integer.parseInt(fields[9]));
+        thing.setCells(cells(fields[10]));
+        if (thing instanceof Actor actor) {
+            actor.setSkills(list(fields[11]));
+            actor.setEquippedMainHandItemId(uuid(fields[12]));
+            actor.setEquippedBodyItemId(uuid(fields[13]));
+        }
+        return thing;
+    }
+
+    private static void applySession(GameRuntime runtime, String[] fields) {
+        KernelRegistry registry = runtime.registry();
+        List<Item> inventory = new ArrayList<>();
+        for (String id : list(fields[5])) {
+            if (registry.get(UUID.fromString(id)) instanceof Item item) {
+                inventory.add(item);
+            }
+        }
+        UUID actorId = uuid(fields[3]);
+        RuntimeConversation.State conversation = actorId == null
+                ? null
+                : new RuntimeConversation.State(actorId, Objects.requireNonNullElse(decode(fields[4]), ""));
+        runtime.resumeSession(uuid(fields[1]), uuid(fields[2]), inventory, conversation);
+    }
+
+    private static String thingRecord(Thing thing) {
+        Actor actor = thing instanceof Actor a ? a : null;
+        return String.join("\t",
+                THING,
+                thing.getId().toString(),
+                thing.getKind() == null ? NONE : thing.getKind().name(),
+                id(thing.getOwnerId()),
+                Boolean.toString(thing.isVisibleFlag()),
+                encode(thing.getKey()),
+                encode(thing.getLabel()),
+                encode(thing.getDescription()),
+                encode(thing.getVisibilityKey()),
+                Integer.toString(thing.getTtl()),
+                cells(thing.getCells()),
+                actor == null ? NONE : list(actor.getSkills()),
+                actor == null ? NONE : id(actor.getEquippedMainHandItemId()),
+                actor == null ? NONE : id(actor.getEquippedBodyItemId())
+        );
+    }
+
+    private static String sessionRecord(GameRuntime runtime) {
+        List<String> inventory = new ArrayList<>(runtime.inventory().size());
+        for (Item item : runtime.inventory()) {
+            if (item != null) {
+                inventory.add(item.getId().toString());
+            }
+        }
+        RuntimeConversation.State conversation = runtime.conversationState();
+        return String.join("\t",
+                SESSION,
+                id(runtime.currentPlotId()),
+                id(runtime.playerId()),
+                id(conversation.actorId()),
+                encode(conversation.actorLabel()),
+                list(inventory)
+        );
+    }
+
+    private static String cells(Map<String, Cell> cells) {
+        if (cells.isEmpty()) {
+            return "";
+        }
+        List<String> encoded = new ArrayList<>(cells.size());
+        for (Map.Entry<String, Cell> entry : new TreeMap<>(cells).entrySet()) {
+            Cell cell = entry.getValue();
+            if (cell != null) {
+                encoded.add(encode(entry.getKey()) + ":" + cell.getCapacity() + ":" + cell.getAmount());
+            }
+        }
+        return String.join(",", encoded);
+    }
+
+    private static Map<String, Cell> cells(String encoded) {
+        Map<String, Cell> cells = new HashMap<>();
+        if (encoded.isEmpty()) {
+            return cells;
+        }
+        for (String entry : encoded.split(",")) {
+            String[] parts = entry.split(":");
+            cells.put(decode(parts[0]), new Cell(Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+        }
+        return cells;
+    }
+
+    private static String list(List<String> values) {
+        if (values == null) {
+            return NONE;
+        }
+        List<String> encoded = new ArrayList<>(values.size());
+        for (String value : values) {
+            encoded.add(encode(value));
+        }
+        return String.join(",", encoded);
+    }
+
+    private static List<String> list(String encoded) {
+        if (encoded.equals(NONE)) {
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        if (encoded.isEmpty()) {
+            return values;
+        }
+        for (String value : encoded.split(",")) {
+            values.add(decode(value));
+        }
+        return values;
+    }
+
+    // Strings are Base64 so tabs, commas and newlines in descriptions never break a record; "-" marks null,
+    // which Base64 never produces.
+    private static String encode(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String value) {
+        if (value == null || value.equals(NONE)) {
+            return null;
+        }
+        return new String(Base64.getDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+
+    private static String id(UUID id) {
+        return id == null ? NONE : id.toString();
+    }
+
+    private static UUID uuid(String value) {
+        return value == null || value.equals(NONE) ? null : UUID.fromString(value);
+    }
+}
@@ -0,0 +1,243 @@
+package com.demo.adventure.engine.runtime;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Append-only, line-oriented file behind a {@link SessionCheckpoint}.
+ *
+ * Each turn is appended with a single write and closed by a {@code T<tab>turn} marker; only records followed
+ * by a marker count, so a turn cut short by a crash is dropped (and truncated away) on the next open. Writes
+ * reach the OS every turn, but {@code fsync} is batched: it runs once {@link Policy#syncEveryTurns()} turns or
+ * {@link Policy#syncIntervalMillis()} have accumulated, bounding what a power loss can take. {@link #compact}
+ * replaces the whole file atomically with a coalesced record set.
+ */
+public final class SessionCheckpointLog implements Closeable {
+
+    /**
+     * @param syncEveryTurns      turns appended between forced syncs
+     * @param syncIntervalMillis  longest time an appended turn waits for a sync
+     * @param compactAfterRecords records appended since the last compaction before another is due
+     */
+    public record Policy(int syncEveryTurns, long syncIntervalMillis, int compactAfterRecords) {
+        public Policy {
+            syncEveryTurns = Math.max(1, syncEveryTurns);
+            syncIntervalMillis = Math.max(0L, syncIntervalMillis);
+            compactAfterRecords = Math.max(1, compactAfterRecords);
+        }
+
+        public static Policy defaults() {
+            return new Policy(8, 1000L, 4096);
+        }
+    }
+
+    static final String HEADER = "# session-log v1";
+    private static final String TURN = "T";
+
+    private final Path file;
+    private final Policy policy;
+    private final LongSupplier clockMillis;
+    private final List<String> committed;
+    private FileChannel channel;
+    private long turn;
+    private int unsyncedTurns;
+    private long lastSyncMillis;
+    private int recordsSinceCompaction;
+
+    private SessionCheckpointLog(Path file, Policy policy, LongSupplier clockMillis, List<String> committed,
+                                 long turn, FileChannel channel) {
+        this.file = file;
+        this.policy = policy;
+        this.clockMillis = clockMillis;
+        this.committed = committed;
+        this.turn = turn;
+        this.channel = channel;
+        this.recordsSinceCompaction = committed.size();
+        this.lastSyncMillis = clockMillis.getAsLong();
+    }
+
+    public static SessionCheckpointLog open(Path file, Policy policy) throws IOException {
+        return open(file, policy, System::currentTimeMillis);
+    }
+
+    static SessionCheckpointLog open(Path file, Policy policy, LongSupplier clockMillis) throws IOException {
+        Objects.requireNonNull(file, "file");
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        byte[] bytes = Files.exists(file) ? Files.readAllBytes(file) : new byte[0];
+
+        List<String> committed = new ArrayList<>();
+        List<String> pending = new ArrayList<>();
+        long turn = 0;
+        int committedLength = 0;
+        int lineStart = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != '\n') {
+                continue;
+            }
+            String line = new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8);
+            lineStart = i + 1;
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            if (line.startsWith(TURN + "\t")) {
+                committed.addAll(pending);
+                pending.clear();
+                turn = parseTurn(line, turn);
+                committedLength = lineStart;
+            } else {
+                pending.add(line);
+            }
+        }
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            if (committedLength == 0) {
+                channel.truncate(0);
+                writeFully(channel, (HEADER + "\n").getBytes(StandardCharsets.UTF_8));
+            } else if (committedLength < bytes.length) {
+                // Drop a turn that never got its marker.
+                channel.truncate(committedLength);
+            }
+            channel.position(channel.size());
+        } catch (IOException ex) {
+            channel.close();
+            throw ex;
+        }
+        return new SessionCheckpointLog(
+                file,
+                policy == null ? Policy.defaults() : policy,
+                clockMillis,
+                committed,
+                turn,
+                channel
+        );
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Last committed turn number.
+     */
+    public long turn() {
+        return turn;
+    }
+
+    /**
+     * Records of every committed turn found when the log was opened, oldest first, markers excluded.
+     */
+    List<String> committed() {
+        return committed;
+    }
+
+    /**
+     * Appends one turn's records plus its marker and syncs when the batch is due.
+     */
+    void appendTurn(List<String> records) throws IOException {
+        StringBuilder out = new StringBuilder(64 * (records.size() + 1));
+        for (String record : records) {
+            out.append(record).append('\n');
+        }
+        turn++;
+        out.append(TURN).append('\t').append(turn).append('\n');
+        writeFully(channel, out.toString().getBytes(StandardCharsets.UTF_8));
+        recordsSinceCompaction += records.size();
+        unsyncedTurns++;
+        if (unsyncedTurns >= policy.syncEveryTurns()
+                || clockMillis.getAsLong() - lastSyncMillis >= policy.syncIntervalMillis()) {
+            sync();
+        }
+    }
+
+    /**
+     * True once more records have been appended since the last compaction than the policy allows, and more
+     * than twice the {@code liveRecords} a compaction would keep.
+     */
+    boolean compactionDue(int liveRecords) {
+        return recordsSinceCompaction >= policy.compactAfterRecords() && recordsSinceCompaction > 2 * liveRecords;
+    }
+
+    /**
+     * Replaces the log with {@code records} as a single committed turn. The new file is synced before it
+     * atomically takes the old one's place.
+     */
+    void compact(List<String> records) throws IOException {
+        StringBuilder out = new StringBuilder(HEADER).append('\n');
+        for (String record : records) {
+            out.append(record).append('\n');
+        }
+        turn++;
+        out.append(TURN).append('\t').append(turn).append('\n');
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel compacted = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(compacted, out.toString().getBytes(StandardCharsets.UTF_8));
+            compacted.force(true);
+        }
+        channel.close();
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(file, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        recordsSinceCompaction = records.size();
+        unsyncedTurns = 0;
+        lastSyncMillis = clockMillis.getAsLong();
+    }
+
+    void sync() throws IOException {
+        if (unsyncedTurns == 0) {
+            return;
+        }
+        channel.force(false);
+        unsyncedTurns = 0;
+        lastSyncMillis = clockMillis.getAsLong();
+    }
+
+    /**
+     * Closes and removes the log, e.g. once its session has ended normally.
+     */
+    void delete() throws IOException {
+        channel.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private static long parseTurn(String line, long fallback) {
+        try {
+            return Long.parseLong(line.substring(TURN.length() + 1).trim());
+        } catch (NumberFormatException ex) {
+            return fallback;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.demo.adventure.ai.runtime.TranslationOrchestrator;
 import com.demo.adventure.ai.runtime.TranslatorService;
 import com.demo.adventure.ai.runtime.smart.SmartActorSpec;
 import com.demo.adventure.ai.runtime.smart.SmartActorWorldSnapshot;
+import com.demo.adventure.buui.ConsolePrinter;
 import com.demo.adventure.engine.command.Command;
 import com.demo.adventure.engine.command.CommandAction;
 import com.demo.adventure.engine.command.CommandOutputs;
@@ -83,7 +84,7 @@ final class SmartActorCommandResolver {
                 interpreter::interpret,
                 msg -> {
                     if (debug) {
-                        System.out.println(msg);
+                        ConsolePrinter.out().println(msg);
                     }
                 }
         );
@@ -24,6 +24,7 @@ import com.demo.adventure.domain.kernel.KernelRegistry;
 import com.demo.adventure.domain.model.Actor;
 import com.demo.adventure.support.exceptions.GameBuilderException;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
@@ -33,6 +34,8 @@ import java.util.UUID;
 
 public final class SmartActorRuntime {
     private static final Set<CommandAction> COMBAT_ACTIONS = EnumSet.of(CommandAction.ATTACK, CommandAction.FLEE);
+    public static final int DEFAULT_PLANNING_CONCURRENCY = 4;
+    public static final long DEFAULT_PLANNING_DEADLINE_MILLIS = 8_000L;
 
     private final SmartActorRegistry registry;
     private final SmartActorHistoryStore historyStore;
@@ -45,6 +48,7 @@ public final class SmartActorRuntime {
     private final SmartActorSnapshotBuilder snapshotBuilder;
     private final SmartActorHistoryRecorder historyRecorder;
     private final Map<UUID, Integer> lastActionTurn = new HashMap<>();
+    private SmartActorTurnPlanner turnPlanner;
     private final boolean debug;
     private boolean localOnly;
     private int turnIndex;
@@ -84,6 +88,7 @@ public final class SmartActorRuntime {
         this.commandResolver = new SmartActorCommandResolver(translatorService, interpreter, handlers, debug);
         this.snapshotBuilder = new SmartActorSnapshotBuilder();
         this.historyRecorder = new SmartActorHistoryRecorder(historyStore);
+        this.turnPlanner = new SmartActorTurnPlanner(planner::decide, DEFAULT_PLANNING_CONCURRENCY, DEFAULT_PLANNING_DEADLINE_MILLIS);
     }
 
     public boolean handlesActor(UUID actorId) {
@@ -94,19 +99,28 @@ public final class SmartActorRuntime {
         this.localOnly = localOnly;
     }
 
+    /**
+     * Caps how many planner calls one turn may have in flight and how long the turn waits for them.
+     */
+    public void setPlanningLimits(int maxConcurrency, long deadlineMillis) {
+        this.turnPlanner = new SmartActorTurnPlanner(planner::decide, maxConcurrency, deadlineMillis);
+    }
+
     public CommandOutcome advanceTurn(GameRuntime runtime) throws GameBuilderException {
         if (runtime == null || registry.isEmpty() || runtime.inCombat()) {
             return CommandOutcome.none();
         }
         turnIndex++;
+        // Plan: every eligible actor sees the world as it stands at the start of the turn.
+        List<PlannedTurn> planned = new ArrayList<>();
         for (Map.Entry<UUID, SmartActorSpec> entry : registry.entries().entrySet()) {
             UUID actorId = entry.getKey();
             SmartActorSpec spec = entry.getValue();
             if (spec == null || !eligible(actorId, spec)) {
                 continue;
             }
-            Actor actor = runtime.registry().get(actorId) instanceof Actor found ? found : null;
-            if (actor == null || !actor.isVisible() || actor.getOwnerId() == null) {
+            Actor actor = activeActor(runtime, actorId);
+            if (actor == null) {
                 continue;
             }
             if (localOnly && !samePlot(actor.getOwnerId(), runtime.currentPlotId())) {
@@ -120,8 +134,30 @@ public final class SmartActorRuntime {
                 continue;
             }
             SmartActorPrompt prompt = SmartActorPromptBuilder.build(spec, context, snapshot);
-            SmartActorDecisionParser.Result decisionResult = planner.decide(prompt);
-            CommandOutcome outcome = handleDecision(runtime, actorId, spec, context, snapshot, decisionResult);
+            planned.add(new PlannedTurn(actorId, spec, context, snapshot, prompt));
+        }
+        if (planned.isEmpty()) {
+            return CommandOutcome.none();
+        }
+        List<SmartActorPrompt> prompts = new ArrayList<>(planned.size());
+        for (PlannedTurn turn : planned) {
+            prompts.add(turn.prompt());
+        }
+        List<SmartActorDecisionParser.Result> decisions = turnPlanner.decideAll(prompts);
+
+        // Commit in registry order, whatever order the decisions arrived in.
+        for (int i = 0; i < planned.size(); i++) {
+            PlannedTurn turn = planned.get(i);
+            SmartActorDecisionParser.Result decisionResult = decisions.get(i);
+            if (decisionResult == null) {
+                // Missed the turn deadline: the actor sits this turn out.
+                continue;
+            }
+            if (activeActor(runtime, turn.actorId()) == null) {
+                // Removed or hidden by an earlier actor's action this turn.
+                continue;
+            }
+            CommandOutcome outcome = handleDecision(runtime, turn.actorId(), turn.spec(), turn.context(), turn.snapshot(), decisionResult);
             if (outcome.endGame() || outcome.skipTurnAdvance()) {
                 return outcome;
             }
@@ -129,6 +165,14 @@ public final class SmartActorRuntime {
         return CommandOutcome.none();
     }
 
+    private static Actor activeActor(GameRuntime runtime, UUID actorId) {
+        Actor actor = runtime.registry().get(actorId) instanceof Actor found ? found : null;
+        if (actor == null || !actor.isVisible() || actor.getOwnerId() == null) {
+            return null;
+        }
+        return actor;
+    }
+
     public CommandOutcome advanceCombatTurn(GameRuntime runtime, UUID actorId) throws GameBuilderException {
         if (runtime == null || actorId == null || registry.isEmpty()) {
             return CommandOutcome.none();
@@ -422,4 +466,11 @@ public final class SmartActorRuntime {
     private SmartActorWorldSnapshot buildSnapshot(GameRuntime runtime, UUID actorId, String playerUtterance) throws GameBuilderException {
         return snapshotBuilder.build(runtime, actorId, playerUtterance);
     }
+
+    private record PlannedTurn(UUID actorId,
+                               SmartActorSpec spec,
+                               SmartActorContext context,
+                               SmartActorWorldSnapshot snapshot,
+                               SmartActorPrompt prompt) {
+    }
 }
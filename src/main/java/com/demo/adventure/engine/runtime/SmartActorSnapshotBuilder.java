@@ -2,6 +2,7 @@ package com.demo.adventure.engine.runtime;
 
 import com.demo.adventure.ai.runtime.smart.SmartActorWorldSnapshot;
 import com.demo.adventure.domain.kernel.KernelRegistry;
+import com.demo.adventure.domain.kernel.ReceiptJournal;
 import com.demo.adventure.domain.model.Actor;
 import com.demo.adventure.domain.model.Direction;
 import com.demo.adventure.domain.model.Gate;
@@ -32,7 +33,7 @@ final class SmartActorSnapshotBuilder {
             List<String> items = runtime.visibleItemLabels();
             List<String> actors = runtime.visibleActorLabels(actorId);
             List<String> inventory = runtime.inventoryLabels();
-            List<String> exits = exitsFor(runtime.registry(), runtime.currentPlotId());
+            List<String> exits = exitDirections(runtime.exits(), runtime.currentPlotId());
             String lastScene = runtime.lastSceneState();
             List<String> receipts = recentReceipts(runtime.registry());
             return new SmartActorWorldSnapshot(
@@ -56,14 +57,12 @@ final class SmartActorSnapshotBuilder {
         if (registry == null || plotId == null) {
             return List.of();
         }
+        return exitDirections(registry.gatesAt(plotId).stream().filter(Gate::isVisible).toList(), plotId);
+    }
+
+    private List<String> exitDirections(List<Gate> gates, UUID plotId) {
         List<String> exits = new ArrayList<>();
-        for (Object value : registry.getEverything().values()) {
-            if (!(value instanceof Gate gate)) {
-                continue;
-            }
-            if (!gate.isVisible() || !gate.connects(plotId)) {
-                continue;
-            }
+        for (Gate gate : gates) {
             Direction direction = gate.directionFrom(plotId);
             if (direction != null) {
                 exits.add(direction.toLongName());
@@ -80,12 +79,12 @@ final class SmartActorSnapshotBuilder {
         if (registry == null) {
             return List.of();
         }
-        List<Object> receipts = registry.getReceipts();
+        ReceiptJournal<Object> journal = registry.receiptJournal();
+        List<Object> receipts = journal.readSince(journal.nextSequence() - RECEIPT_LIMIT, RECEIPT_LIMIT).entries();
         if (receipts.isEmpty()) {
             return List.of();
         }
-        int start = Math.max(0, receipts.size() - RECEIPT_LIMIT);
-        return receipts.subList(start, receipts.size()).stream()
+        return receipts.stream()
                 .filter(Objects::nonNull)
                 .map(Object::toString)
                 .toList();
@@ -0,0 +1,115 @@
+package com.demo.adventure.engine.runtime;
+
+import com.demo.adventure.ai.runtime.smart.SmartActorDecisionParser;
+import com.demo.adventure.ai.runtime.smart.SmartActorPrompt;
+import com.demo.adventure.buui.ConsolePrinter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Sends one turn's smart-actor prompts to the planner concurrently.
+ *
+ * At most {@code maxConcurrency} requests are in flight at once and the whole batch shares one deadline; a
+ * prompt without a decision by then (still queued, still waiting on the model, or failed with an exception)
+ * comes back as {@code null} so the caller can skip that actor. Results are returned in prompt order, never
+ * completion order. Each call prints into its own buffer, which the caller copies to its console (in prompt
+ * order) only for calls that made the deadline, so a call still running after the turn moves on can neither write
+ * into the session stream nor flush it from a pool thread.
+ */
+final class SmartActorTurnPlanner {
+    private static final AtomicLong THREAD_IDS = new AtomicLong();
+    // Shared, daemon and unbounded: each worker mostly waits on I/O, and the per-turn semaphore does the capping.
+    private static final ExecutorService POOL = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "smart-actor-planner-" + THREAD_IDS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Function<SmartActorPrompt, SmartActorDecisionParser.Result> planner;
+    private final int maxConcurrency;
+    private final long deadlineMillis;
+
+    SmartActorTurnPlanner(Function<SmartActorPrompt, SmartActorDecisionParser.Result> planner, int maxConcurrency, long deadlineMillis) {
+        this.planner = planner;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.deadlineMillis = Math.max(1L, deadlineMillis);
+    }
+
+    int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    long deadlineMillis() {
+        return deadlineMillis;
+    }
+
+    List<SmartActorDecisionParser.Result> decideAll(List<SmartActorPrompt> prompts) {
+        if (prompts == null || prompts.isEmpty()) {
+            return List.of();
+        }
+        PrintStream out = ConsolePrinter.out();
+        boolean muted = ConsolePrinter.isMuted();
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<PendingCall> calls = new ArrayList<>(prompts.size());
+        for (SmartActorPrompt prompt : prompts) {
+            ByteArrayOutputStream captured = new ByteArrayOutputStream();
+            PrintStream scoped = new PrintStream(captured, false, StandardCharsets.UTF_8);
+            Future<SmartActorDecisionParser.Result> future = POOL.submit(() -> {
+                permits.acquire();
+                try {
+                    return ConsolePrinter.withOutput(scoped, () -> {
+                        ConsolePrinter.setMuted(muted);
+                        return planner.apply(prompt);
+                    });
+                } finally {
+                    permits.release();
+                }
+            });
+            calls.add(new PendingCall(future, captured));
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        List<SmartActorDecisionParser.Result> results = new ArrayList<>(calls.size());
+        for (PendingCall call : calls) {
+            SmartActorDecisionParser.Result result = await(call.future(), deadline);
+            if (result != null && call.captured().size() > 0) {
+                out.print(call.captured().toString(StandardCharsets.UTF_8));
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    private record PendingCall(Future<SmartActorDecisionParser.Result> future, ByteArrayOutputStream captured) {
+    }
+
+    private static SmartActorDecisionParser.Result await(Future<SmartActorDecisionParser.Result> future, long deadline) {
+        long remaining = deadline - System.nanoTime();
+        try {
+            return future.get(Math.max(0L, remaining), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | CancellationException | ExecutionException ex) {
+            return cancel(future);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return cancel(future);
+        }
+    }
+
+    private static SmartActorDecisionParser.Result cancel(Future<?> future) {
+        future.cancel(true);
+        return null;
+    }
+}
@@ -0,0 +1,154 @@
+package com.demo.adventure.ai.client;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AiResponseCacheTest {
+
+    @Test
+    void keyCoversModelSamplingAndMessages() {
+        AiChatRequest base = request("gpt-test", 0.0, "look");
+
+        assertThat(AiResponseCache.key(base)).isEqualTo(AiResponseCache.key(request("gpt-test", 0.0, "look")));
+        assertThat(AiResponseCache.key(base)).isNotEqualTo(AiResponseCache.key(request("gpt-other", 0.0, "look")));
+        assertThat(AiResponseCache.key(base)).isNotEqualTo(AiResponseCache.key(request("gpt-test", 0.3, "look")));
+        assertThat(AiResponseCache.key(base)).isNotEqualTo(AiResponseCache.key(request("gpt-test", 0.0, "look north")));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedAndExpiresByTtl() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        AiResponseCache cache = new AiResponseCache(2, clock, null);
+        cache.put("a", new AiChatResponse("A", ""), Duration.ofMinutes(10));
+        cache.put("b", new AiChatResponse("B", ""), Duration.ofMinutes(10));
+        assertThat(cache.get("a").content()).isEqualTo("A");
+        cache.put("c", new AiChatResponse("C", ""), Duration.ofMinutes(1));
+
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c").content()).isEqualTo("C");
+        clock.advance(Duration.ofMinutes(2));
+        assertThat(cache.get("c")).isNull();
+        assertThat(cache.get("a").content()).isEqualTo("A");
+
+        AiResponseCache.Stats stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(3);
+        assertThat(stats.misses()).isEqualTo(2);
+        assertThat(stats.hitRate()).isEqualTo(0.6);
+    }
+
+    @Test
+    void diskStoreServesEntriesAfterRestart(@TempDir Path dir) throws Exception {
+        MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        Path file = dir.resolve("responses.cache");
+        try (AiResponseStore store = AiResponseStore.open(file, 64 * 1024)) {
+            new AiResponseCache(8, clock, store).put("k", new AiChatResponse("stored reply", "lp"), Duration.ofHours(1));
+        }
+
+        try (AiResponseStore store = AiResponseStore.open(file, 64 * 1024)) {
+            AiResponseCache cache = new AiResponseCache(8, clock, store);
+            AiChatResponse response = cache.get("k");
+
+            assertThat(response.content()).isEqualTo("stored reply");
+            assertThat(response.logprobSnippet()).isEqualTo("lp");
+            assertThat(cache.stats().diskHits()).isEqualTo(1);
+            clock.advance(Duration.ofHours(2));
+            assertThat(new AiResponseCache(8, clock, store).get("k")).isNull();
+        }
+    }
+
+    @Test
+    void diskStoreCompactsWhenFull(@TempDir Path dir) throws Exception {
+        long now = 1_000L;
+        String reply = "x".repeat(200);
+        try (AiResponseStore store = AiResponseStore.open(dir.resolve("small.cache"), 1024)) {
+            for (int i = 0; i < 20; i++) {
+                // Rewriting the same two keys leaves stale records behind for compaction to drop.
+                store.put("key-" + (i % 2), new AiChatResponse(reply + i, ""), now + 10_000L, now);
+            }
+
+            assertThat(store.size()).isEqualTo(2);
+            assertThat(store.get("key-0", now).response().content()).isEqualTo(reply + 18);
+            assertThat(store.get("key-1", now).response().content()).isEqualTo(reply + 19);
+        }
+    }
+
+    @Test
+    void diskStoreDiscardsUnreadableFile(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("garbage.cache");
+        Files.write(file, "not a cache file".getBytes(StandardCharsets.UTF_8));
+
+        try (AiResponseStore store = AiResponseStore.open(file, 4096)) {
+            assertThat(store.size()).isZero();
+            store.put("k", new AiChatResponse("fresh", ""), 10L, 0L);
+            assertThat(store.get("k", 0L).response().content()).isEqualTo("fresh");
+        }
+    }
+
+    @Test
+    void storesSharingAFileSeeEachOthersWritesAndCompactions(@TempDir Path dir) throws Exception {
+        long now = 1_000L;
+        Path file = dir.resolve("shared.cache");
+        String reply = "x".repeat(200);
+        try (AiResponseStore first = AiResponseStore.open(file, 1024);
+             AiResponseStore second = AiResponseStore.open(file, 1024)) {
+            first.put("a", new AiChatResponse("from first", ""), now + 10_000L, now);
+            second.put("b", new AiChatResponse("from second", ""), now + 10_000L, now);
+
+            assertThat(first.get("b", now).response().content()).isEqualTo("from second");
+            assertThat(second.get("a", now).response().content()).isEqualTo("from first");
+
+            for (int i = 0; i < 10; i++) {
+                second.put("b", new AiChatResponse(reply + i, ""), now + 10_000L, now);
+            }
+
+            assertThat(first.get("a", now).response().content()).isEqualTo("from first");
+            assertThat(first.get("b", now).response().content()).isEqualTo(reply + 9);
+        }
+    }
+
+    private static AiChatRequest request(String model, double temperature, String prompt) {
+        return AiChatRequest.builder()
+                .model(model)
+                .temperature(temperature)
+                .messages(List.of(AiChatMessage.system("system"), AiChatMessage.user(prompt)))
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
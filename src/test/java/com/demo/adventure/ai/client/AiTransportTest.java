@@ -0,0 +1,294 @@
+package com.demo.adventure.ai.client;
+
+import com.demo.adventure.test.ChatStubServer;
+import com.demo.adventure.test.ChatStubServer.Reply;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class AiTransportTest {
+
+    @Test
+    void retriesThrottlingAndServerErrorsThenSucceeds() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        AiChatClient delegate = (apiKey, request) -> switch (calls.incrementAndGet()) {
+            case 1 -> throw new AiHttpStatusException(429, Duration.ZERO);
+            case 2 -> throw new AiHttpStatusException(503, null);
+            default -> new AiChatResponse("ok", "");
+        };
+        AiTransport transport = new AiTransport(delegate, policy(4, 0, 3));
+
+        AiChatResponse response = transport.client(0).chat("key", request());
+
+        assertThat(response.content()).isEqualTo("ok");
+        assertThat(calls.get()).isEqualTo(3);
+        AiTransport.EndpointMetrics metrics = transport.metrics().get(0);
+        assertThat(metrics.attempts()).isEqualTo(3);
+        assertThat(metrics.errors()).isEqualTo(2);
+        assertThat(metrics.retries()).isEqualTo(2);
+        assertThat(metrics.errorRate()).isCloseTo(2.0 / 3.0, within(1e-9));
+    }
+
+    @Test
+    void clientErrorsAreNotRetried() {
+        AtomicInteger calls = new AtomicInteger();
+        AiChatClient delegate = (apiKey, request) -> {
+            calls.incrementAndGet();
+            throw new AiHttpStatusException(400, null);
+        };
+        AiTransport transport = new AiTransport(delegate, policy(4, 0, 3));
+
+        assertThatThrownBy(() -> transport.client(0).chat("key", request()))
+                .isInstanceOf(AiHttpStatusException.class)
+                .hasMessage("status 400");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void retriesGiveUpAfterTheConfiguredLimit() {
+        AtomicInteger calls = new AtomicInteger();
+        AiChatClient delegate = (apiKey, request) -> {
+            calls.incrementAndGet();
+            throw new IOException("connection reset");
+        };
+        AiTransport transport = new AiTransport(delegate, policy(4, 0, 2));
+
+        assertThatThrownBy(() -> transport.client(0).chat("key", request())).isInstanceOf(IOException.class);
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void inFlightLimitCapsConcurrentRequests() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        AiChatClient delegate = (apiKey, request) -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(30);
+            } finally {
+                running.decrementAndGet();
+            }
+            return new AiChatResponse("ok", "");
+        };
+        AiChatClient client = new AiTransport(delegate, policy(2, 0, 0)).client(0);
+
+        ExecutorService pool = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<AiChatResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                futures.add(pool.submit(() -> client.chat("key", request())));
+            }
+            for (Future<AiChatResponse> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS).content()).isEqualTo("ok");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(peak.get()).isBetween(1, 2);
+    }
+
+    @Test
+    void rateLimitSpacesRequestsBeyondTheBurst() throws Exception {
+        AiChatClient delegate = (apiKey, request) -> new AiChatResponse("ok", "");
+        AiChatClient client = new AiTransport(delegate, policy(4, 20.0, 0)).client(0);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            client.chat("key", request());
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Burst of one, then a token every 50 ms.
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(180);
+    }
+
+    @Test
+    void slowRequestIsHedgedOnceLatencyIsKnown() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        AiChatClient delegate = (apiKey, request) -> {
+            int call = calls.incrementAndGet();
+            if (call == 4) {
+                TimeUnit.SECONDS.sleep(5);
+                return new AiChatResponse("slow", "");
+            }
+            return new AiChatResponse(call == 5 ? "hedge" : "warm", "");
+        };
+        AiTransport transport = new AiTransport(delegate, policy(4, 0, 0));
+        AiChatClient client = transport.client(0.5);
+        for (int i = 0; i < 3; i++) {
+            client.chat("key", request());
+        }
+
+        long start = System.nanoTime();
+        AiChatResponse response = client.chat("key", request());
+
+        assertThat(response.content()).isEqualTo("hedge");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2_000);
+        assertThat(transport.metrics().get(0).hedges()).isEqualTo(1);
+    }
+
+    @Test
+    void slowStreamIsHedgedOnTimeToFirstFragment() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        AiChatClient delegate = new AiChatClient() {
+            @Override
+            public AiChatResponse chat(String apiKey, AiChatRequest request) {
+                throw new AssertionError("streaming only");
+            }
+
+            @Override
+            public AiChatResponse chatStream(String apiKey, AiChatRequest request, AiChatStreamListener listener)
+                    throws Exception {
+                int call = calls.incrementAndGet();
+                String prefix = call == 5 ? "hedge " : "";
+                if (call == 4) {
+                    TimeUnit.SECONDS.sleep(5);
+                    prefix = "slow ";
+                }
+                StringBuilder sent = new StringBuilder();
+                for (String delta : List.of(prefix + "The lamp ", "glows.")) {
+                    sent.append(delta);
+                    if (!listener.onDelta(delta)) {
+                        break;
+                    }
+                }
+                return new AiChatResponse(sent.toString(), "");
+            }
+        };
+        AiTransport transport = new AiTransport(delegate, policy(4, 0, 0));
+        AiChatClient client = transport.client(0.5);
+        for (int i = 0; i < 3; i++) {
+            client.chatStream("key", request(), delta -> true);
+        }
+
+        List<String> deltas = new CopyOnWriteArrayList<>();
+        AiChatResponse response = client.chatStream("key", request(), deltas::add);
+
+        assertThat(deltas).containsExactly("hedge The lamp ", "glows.");
+        assertThat(response.content()).isEqualTo("hedge The lamp glows.");
+        AiTransport.EndpointMetrics metrics = transport.metrics().get(0);
+        assertThat(metrics.hedges()).isEqualTo(1);
+        assertThat(metrics.errors()).isZero();
+    }
+
+    @Test
+    void streamIsNotRetriedOnceTheCallerHasSeenPartOfIt() {
+        AtomicInteger calls = new AtomicInteger();
+        AiChatClient delegate = new AiChatClient() {
+            @Override
+            public AiChatResponse chat(String apiKey, AiChatRequest request) {
+                throw new AssertionError("streaming only");
+            }
+
+            @Override
+            public AiChatResponse chatStream(String apiKey, AiChatRequest request, AiChatStreamListener listener)
+                    throws Exception {
+                calls.incrementAndGet();
+                listener.onDelta("The lamp ");
+                throw new IOException("stream reset");
+            }
+        };
+        AiChatClient client = new AiTransport(delegate, policy(4, 0, 3)).client(0);
+        List<String> deltas = new ArrayList<>();
+
+        assertThatThrownBy(() -> client.chatStream("key", request(), deltas::add)).isInstanceOf(IOException.class);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(deltas).containsExactly("The lamp ");
+    }
+
+    @Test
+    void loopbackThrottleIsRetriedAfterTheServersRetryAfter() throws Exception {
+        try (ChatStubServer server = ChatStubServer.scripted(Reply.throttled("1"), Reply.ok("ok"))) {
+            AiTransport transport = new AiTransport(new OpenAiChatClient(), loopbackPolicy(Duration.ofMillis(10)));
+
+            AiChatResponse response = transport.client(0).chat("key", request(server));
+
+            assertThat(response.content()).isEqualTo("ok");
+            assertThat(server.requests()).hasSize(2);
+            assertThat(gap(server.arrivals())).isGreaterThanOrEqualTo(Duration.ofSeconds(1));
+            AiTransport.EndpointMetrics metrics = transport.metrics().get(0);
+            assertThat(metrics.attempts()).isEqualTo(2);
+            assertThat(metrics.errors()).isEqualTo(1);
+            assertThat(metrics.retries()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void loopbackServerErrorIsRetriedWithBackoff() throws Exception {
+        try (ChatStubServer server = ChatStubServer.scripted(Reply.status(503), Reply.ok("ok"))) {
+            AiTransport transport = new AiTransport(new OpenAiChatClient(), loopbackPolicy(Duration.ofMillis(200)));
+
+            AiChatResponse response = transport.client(0).chat("key", request(server));
+
+            assertThat(response.content()).isEqualTo("ok");
+            assertThat(server.requests()).hasSize(2);
+            // Equal jitter on the first retry waits between half and all of the base backoff.
+            assertThat(gap(server.arrivals())).isBetween(Duration.ofMillis(100), Duration.ofMillis(900));
+            assertThat(transport.metrics().get(0).retries()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void loopbackClientErrorFailsWithoutRetrying() throws Exception {
+        try (ChatStubServer server = ChatStubServer.scripted(Reply.status(401), Reply.ok("ok"))) {
+            AiTransport transport = new AiTransport(new OpenAiChatClient(), loopbackPolicy(Duration.ofMillis(10)));
+
+            assertThatThrownBy(() -> transport.client(0).chat("key", request(server)))
+                    .isInstanceOf(AiHttpStatusException.class)
+                    .hasMessage("status 401");
+            assertThat(server.requests()).hasSize(1);
+        }
+    }
+
+    private static AiTransportPolicy policy(int maxInFlight, double permitsPerSecond, int maxRetries) {
+        return new AiTransportPolicy(
+                maxInFlight,
+                permitsPerSecond,
+                1,
+                maxRetries,
+                Duration.ofMillis(1),
+                Duration.ofMillis(5),
+                Duration.ofSeconds(5),
+                3
+        );
+    }
+
+    private static AiTransportPolicy loopbackPolicy(Duration baseBackoff) {
+        return new AiTransportPolicy(4, 0, 1, 3, baseBackoff, Duration.ofSeconds(2), Duration.ofSeconds(5), 3);
+    }
+
+    private static Duration gap(List<Long> arrivals) {
+        return Duration.ofNanos(arrivals.get(1) - arrivals.get(0));
+    }
+
+    private static AiChatRequest request(ChatStubServer server) {
+        return AiChatRequest.builder()
+                .endpoint(server.endpoint())
+                .model("gpt-test")
+                .temperature(0.0)
+                .messages(List.of(AiChatMessage.user("look")))
+                .build();
+    }
+
+    private static AiChatRequest request() {
+        return AiChatRequest.builder()
+                .model("gpt-test")
+                .temperature(0.0)
+                .messages(List.of(AiChatMessage.user("look")))
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.demo.adventure.ai.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingAiChatClientTest {
+
+    @Test
+    void deterministicPolicyCachesOnlyTemperatureZero() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        AiChatClient delegate = (apiKey, request) -> new AiChatResponse("reply " + calls.incrementAndGet(), "");
+        AiResponseCache cache = new AiResponseCache(16, Clock.systemUTC(), null);
+        CachingAiChatClient client = new CachingAiChatClient(delegate, cache, policy(AiResponseCache.Mode.DETERMINISTIC));
+
+        assertThat(client.chat("key", request(0.0)).content()).isEqualTo("reply 1");
+        assertThat(client.chat("key", request(0.0)).content()).isEqualTo("reply 1");
+        assertThat(client.chat("key", request(0.4)).content()).isEqualTo("reply 2");
+        assertThat(client.chat("key", request(0.4)).content()).isEqualTo("reply 3");
+
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void emptyRepliesAndMissingKeysAreNotCached() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        AiChatClient delegate = (apiKey, request) -> {
+            calls.incrementAndGet();
+            return new AiChatResponse("", "");
+        };
+        CachingAiChatClient client = new CachingAiChatClient(
+                delegate,
+                new AiResponseCache(16, Clock.systemUTC(), null),
+                policy(AiResponseCache.Mode.ALWAYS)
+        );
+
+        client.chat("key", request(0.0));
+        client.chat("key", request(0.0));
+        client.chat("", request(0.0));
+
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void streamHitReplaysWholeReplyAndCutStreamsAreNotCached() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        AiChatClient delegate = new AiChatClient() {
+            @Override
+            public AiChatResponse chat(String apiKey, AiChatRequest request) {
+                throw new AssertionError("streaming only");
+            }
+
+            @Override
+            public AiChatResponse chatStream(String apiKey, AiChatRequest request, AiChatStreamListener listener) {
+                calls.incrementAndGet();
+                StringBuilder sent = new StringBuilder();
+                for (String delta : List.of("The lamp ", "glows.")) {
+                    sent.append(delta);
+                    if (!listener.onDelta(delta)) {
+                        break;
+                    }
+                }
+                return new AiChatResponse(sent.toString(), "");
+            }
+        };
+        CachingAiChatClient client = new CachingAiChatClient(
+                delegate,
+                new AiResponseCache(16, Clock.systemUTC(), null),
+                policy(AiResponseCache.Mode.ALWAYS)
+        );
+
+        client.chatStream("key", request(0.0), delta -> false);
+        List<String> deltas = new ArrayList<>();
+        client.chatStream("key", request(0.0), deltas::add);
+        List<String> replayed = new ArrayList<>();
+        AiChatResponse cached = client.chatStream("key", request(0.0), replayed::add);
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(deltas).containsExactly("The lamp ", "glows.");
+        assertThat(replayed).containsExactly("The lamp glows.");
+        assertThat(cached.content()).isEqualTo("The lamp glows.");
+    }
+
+    @Test
+    void streamsThatFailAfterDeliveringFragmentsAreNotCached() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        AiChatClient delegate = new AiChatClient() {
+            @Override
+            public AiChatResponse chat(String apiKey, AiChatRequest request) {
+                throw new AssertionError("streaming only");
+            }
+
+            @Override
+            public AiChatResponse chatStream(String apiKey, AiChatRequest request, AiChatStreamListener listener)
+                    throws IOException {
+                listener.onDelta("The lamp ");
+                if (calls.incrementAndGet() == 1) {
+                    throw new IOException("Chat stream ended before [DONE]");
+                }
+                listener.onDelta("glows.");
+                return new AiChatResponse("The lamp glows.", "");
+            }
+        };
+        CachingAiChatClient client = new CachingAiChatClient(
+                delegate,
+                new AiResponseCache(16, Clock.systemUTC(), null),
+                policy(AiResponseCache.Mode.ALWAYS)
+        );
+
+        assertThatThrownBy(() -> client.chatStream("key", request(0.0), delta -> true)).isInstanceOf(IOException.class);
+        List<String> deltas = new ArrayList<>();
+        AiChatResponse response = client.chatStream("key", request(0.0), deltas::add);
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(deltas).containsExactly("The lamp ", "glows.");
+        assertThat(response.content()).isEqualTo("The lamp glows.");
+    }
+
+    private static AiResponseCache.Policy policy(AiResponseCache.Mode mode) {
+        return new AiResponseCache.Policy(mode, Duration.ofMinutes(5));
+    }
+
+    private static AiChatRequest request(double temperature) {
+        return AiChatRequest.builder()
+                .model("gpt-test")
+                .temperature(temperature)
+                .messages(List.of(AiChatMessage.user("look")))
+                .build();
+    }
+}
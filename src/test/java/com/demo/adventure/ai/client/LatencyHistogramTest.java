@@ -0,0 +1,39 @@
+package com.demo.adventure.ai.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertThat(histogram.count()).isZero();
+        assertThat(histogram.percentileMillis(0.99)).isZero();
+    }
+
+    @Test
+    void percentilesAreWithinOneBucketOfTheTrueValue() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        assertThat(histogram.count()).isEqualTo(100);
+        assertThat(histogram.percentileMillis(0.5)).isBetween(50.0, 55.0);
+        assertThat(histogram.percentileMillis(0.99)).isBetween(99.0, 109.0);
+        assertThat(histogram.percentileMillis(1.0)).isBetween(100.0, 110.0);
+    }
+
+    @Test
+    void outliersLandInTheLastBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.HOURS.toNanos(2));
+
+        assertThat(histogram.percentileMillis(0.5)).isGreaterThan(TimeUnit.MINUTES.toMillis(10));
+    }
+}
@@ -1,7 +1,9 @@
 package com.demo.adventure.ai.client;
 
+import com.demo.adventure.test.ChatStubServer;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -89,6 +91,70 @@ class OpenAiChatClientTest {
         assertThat(body).contains("\"role\":\"system\"");
     }
 
+    @Test
+    void chatStreamDeliversFragmentsInOrder() throws Exception {
+        try (ChatStubServer server = ChatStubServer.streaming("The lamp ", "flickers", ".\nDust ", "settles.")) {
+            List<String> deltas = new ArrayList<>();
+
+            AiChatResponse response = new OpenAiChatClient().chatStream("key", streamRequest(server), deltas::add);
+
+            assertThat(deltas).containsExactly("The lamp ", "flickers", ".\nDust ", "settles.");
+            assertThat(response.content()).isEqualTo("The lamp flickers.\nDust settles.");
+            assertThat(server.requests()).singleElement().asString().contains("\"stream\": true");
+        }
+    }
+
+    @Test
+    void chatStreamStopsWhenListenerDeclines() throws Exception {
+        try (ChatStubServer server = ChatStubServer.streaming("one ", "two ", "three")) {
+            List<String> deltas = new ArrayList<>();
+
+            AiChatResponse response = new OpenAiChatClient().chatStream("key", streamRequest(server), delta -> {
+                deltas.add(delta);
+                return deltas.size() < 2;
+            });
+
+            assertThat(deltas).containsExactly("one ", "two ");
+            assertThat(response.content()).isEqualTo("one two ");
+        }
+    }
+
+    @Test
+    void chatStreamFailsWhenTheStreamEndsBeforeDone() throws Exception {
+        try (ChatStubServer server = ChatStubServer.truncated("The lamp ", "flick")) {
+            List<String> deltas = new ArrayList<>();
+
+            assertThatThrownBy(() -> new OpenAiChatClient().chatStream("key", streamRequest(server), deltas::add))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("[DONE]");
+            assertThat(deltas).containsExactly("The lamp ", "flick");
+        }
+    }
+
+    @Test
+    void chatStreamFailsOnErrorStatus() throws Exception {
+        try (ChatStubServer server = ChatStubServer.failing(503)) {
+            assertThatThrownBy(() -> new OpenAiChatClient().chatStream("key", streamRequest(server), delta -> true))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("503");
+        }
+    }
+
+    @Test
+    void deltaContentIgnoresRoleOnlyAndNullChunks() {
+        assertThat(AiJson.extractDeltaContent("{\"choices\":[{\"delta\":{\"role\":\"assistant\"}}]}")).isNull();
+        assertThat(AiJson.extractDeltaContent("{\"choices\":[{\"delta\":{\"content\":null},\"finish_reason\":\"stop\"}]}")).isNull();
+        assertThat(AiJson.extractDeltaContent("{\"choices\":[{\"delta\":{\"content\":\"a \\\"b\\\"\"}}]}")).isEqualTo("a \"b\"");
+    }
+
+    private static AiChatRequest streamRequest(ChatStubServer server) {
+        return AiChatRequest.builder()
+                .endpoint(server.endpoint())
+                .model("gpt-test")
+                .messages(List.of(AiChatMessage.user("hello")))
+                .build();
+    }
+
     private String buildBody(AiChatRequest request) throws Exception {
         try {
             Method method = OpenAiChatClient.class.getDeclaredMethod("buildBody", AiChatRequest.class);
@@ -1,11 +1,16 @@
 package com.demo.adventure.ai.runtime;
 
+import com.demo.adventure.ai.client.AiChatMessage;
+import com.demo.adventure.ai.client.AiChatRequest;
+import com.demo.adventure.ai.client.OpenAiChatClient;
+import com.demo.adventure.test.ChatStubServer;
 import com.demo.adventure.test.ConsoleCaptureExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -15,6 +20,13 @@ class NarrationServiceTest {
     @RegisterExtension
     final ConsoleCaptureExtension console = new ConsoleCaptureExtension();
 
+    private static final String SCENE_RAW = """
+            # Corridor Hall-Lounge
+            The corridor waits.
+            Exits: EAST, SOUTH, WEST
+            """;
+    private static final String SCENE_SNAPSHOT = "Hall\nExits: EAST, SOUTH, WEST";
+
     private String previousNoColor;
 
     @BeforeEach
@@ -131,6 +143,100 @@ class NarrationServiceTest {
         assertThat(output).contains("You dance.");
     }
 
+    @Test
+    void streamingShowsEachGroundedSentenceBeforeTheReplyEnds() {
+        List<String> seenMidStream = new ArrayList<>();
+        NarrationService service = new NarrationService(true, "test", false, null, (apiKey, prompt, debug, listener) -> {
+            listener.onDelta("The corridor ");
+            listener.onDelta("waits. ");
+            seenMidStream.add(console.output());
+            listener.onDelta("The corridor waits quietly.\nExits: EAST");
+            return null;
+        });
+        service.setStreaming(true);
+        List<String> observed = new ArrayList<>();
+        service.setNarrationObserver(observed::add);
+
+        String output = captureOut(() -> service.narrateEngine(SCENE_RAW, SCENE_SNAPSHOT, "", "look", "", List.of(), List.of()));
+
+        assertThat(seenMidStream).singleElement().asString().contains("The corridor waits.");
+        assertThat(output).contains("The corridor waits. The corridor waits quietly.");
+        assertThat(output).containsOnlyOnce("Exits: EAST, SOUTH, WEST");
+        assertThat(output).doesNotContain("Corridor Hall-Lounge");
+        assertThat(observed).containsExactly("The corridor waits. The corridor waits quietly.\n\nExits: EAST, SOUTH, WEST");
+    }
+
+    @Test
+    void streamingFallsBackWhenFirstSentenceIsNotGrounded() {
+        NarrationService service = new NarrationService(true, "test", false, null, (apiKey, prompt, debug, listener) -> {
+            assertThat(listener.onDelta("The air is thick with tension. ")).isFalse();
+            return null;
+        });
+        service.setStreaming(true);
+
+        String output = captureOut(() -> service.narrateEngine(SCENE_RAW, SCENE_SNAPSHOT, "", "look", "", List.of(), List.of()));
+
+        assertThat(output).contains("Corridor Hall-Lounge", "The corridor waits.", "Exits: EAST, SOUTH, WEST");
+        assertThat(output).doesNotContain("air is thick");
+    }
+
+    @Test
+    void streamingStopsAtTheFirstUngroundedSentence() {
+        NarrationService service = new NarrationService(true, "test", false, null, (apiKey, prompt, debug, listener) -> {
+            listener.onDelta("You are in Hall. The corridor waits. ");
+            listener.onDelta("Dragons circle overhead menacingly. ");
+            listener.onDelta("The corridor waits again.");
+            return null;
+        });
+        service.setStreaming(true);
+
+        String output = captureOut(() -> service.narrateEngine(SCENE_RAW, SCENE_SNAPSHOT, "", "look", "", List.of(), List.of()));
+
+        assertThat(output).contains("The corridor waits.", "Exits: EAST, SOUTH, WEST");
+        assertThat(output).doesNotContain("You are in Hall", "Dragons", "again");
+    }
+
+    @Test
+    void streamingKeepsGroundedSentencesWhenTransportFails() {
+        NarrationService service = new NarrationService(true, "test", false, null, (apiKey, prompt, debug, listener) -> {
+            listener.onDelta("A narrow path leads to the signal shack. ");
+            throw new IllegalStateException("connection reset");
+        });
+        service.setStreaming(true);
+
+        String output = captureOut(() -> service.narrateEngine(
+                "A narrow path leads to the signal shack.",
+                "Train Platform\nExits: EAST",
+                "",
+                "take path",
+                "",
+                List.of(),
+                List.of()
+        ));
+
+        assertThat(output).containsOnlyOnce("A narrow path leads to the signal shack.");
+        assertThat(output).doesNotContain("Exits:");
+    }
+
+    @Test
+    void streamingNarratesFromStubServerEvents() throws Exception {
+        try (ChatStubServer server = ChatStubServer.streaming("The corr", "idor waits", ". Exits: ", "EAST, SOUTH, WEST")) {
+            OpenAiChatClient client = new OpenAiChatClient();
+            NarrationService service = new NarrationService(true, "test", false, null, (apiKey, prompt, debug, listener) ->
+                    client.chatStream(apiKey, AiChatRequest.builder()
+                            .endpoint(server.endpoint())
+                            .model("gpt-test")
+                            .messages(List.of(AiChatMessage.user(prompt)))
+                            .build(), listener).content());
+            service.setStreaming(true);
+
+            String output = captureOut(() -> service.narrateEngine(SCENE_RAW, SCENE_SNAPSHOT, "", "look", "", List.of(), List.of()));
+
+            assertThat(output).contains("The corridor waits.");
+            assertThat(output).containsOnlyOnce("Exits: EAST, SOUTH, WEST");
+        }
+    }
+
     private String captureOut(Runnable action) {
         console.reset();
         action.run();
@@ -222,17 +222,20 @@ class SmartActorCombatPlaybookIntegrationTest {
             }
         }
 
+        // Smart actors plan concurrently, so the stub guards its shared maps.
         SmartActorPlanner planner = new SmartActorPlanner(true, "test", false, (apiKey, systemPrompt, userPrompt, debug) -> {
             String actorKey = actorKeyFromPrompt(userPrompt);
-            Deque<DecisionSpec> queue = decisionQueue.get(actorKey);
-            DecisionSpec decision = queue == null ? null : queue.pollFirst();
-            if (decision == null) {
-                decision = DecisionSpec.fallbackLook();
-            }
-            if (actorKey != null && !actorKey.isBlank()) {
-                actualDecisions.computeIfAbsent(actorKey, key -> new ArrayList<>()).add(decision);
+            synchronized (decisionQueue) {
+                Deque<DecisionSpec> queue = decisionQueue.get(actorKey);
+                DecisionSpec decision = queue == null ? null : queue.pollFirst();
+                if (decision == null) {
+                    decision = DecisionSpec.fallbackLook();
+                }
+                if (actorKey != null && !actorKey.isBlank()) {
+                    actualDecisions.computeIfAbsent(actorKey, key -> new ArrayList<>()).add(decision);
+                }
+                return decision.toJson();
             }
-            return decision.toJson();
         });
 
         return new SmartActorRuntime(
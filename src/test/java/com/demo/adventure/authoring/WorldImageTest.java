@@ -0,0 +1,102 @@
+package com.demo.adventure.authoring;
+
+import com.demo.adventure.authoring.gardener.WorldFingerprint;
+import com.demo.adventure.authoring.save.io.StructuredGameSaveLoader;
+import com.demo.adventure.authoring.save.io.WorldImage;
+import com.demo.adventure.authoring.save.io.WorldImageWriter;
+import com.demo.adventure.domain.save.GameSave;
+import com.demo.adventure.engine.cli.RuntimeLoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorldImageTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void imageRoundTripsAStructuredGame() throws Exception {
+        Path source = Path.of("src/main/resources/games/island/game.yaml");
+        GameSave loaded = StructuredGameSaveLoader.load(source);
+        Path imagePath = tempDir.resolve("island.wimg");
+
+        WorldImageWriter.write(loaded, source, imagePath);
+        WorldImage image = WorldImage.open(imagePath);
+
+        assertThat(image.worldFingerprint()).isEqualTo(WorldFingerprint.fingerprint(loaded));
+        assertThat(image.sourceDigest()).isEqualTo(WorldImage.sourceDigest(source));
+        assertThat(image.description(0)).isEqualTo(loaded.preamble());
+        assertThat(image.descriptionCount()).isGreaterThan(loaded.plots().size());
+        assertThat(image.save()).isEqualTo(loaded);
+    }
+
+    @Test
+    void runtimeUsesAFreshImageAndFallsBackWhenSourcesChange() throws Exception {
+        Path game = copyGame(Path.of("src/main/resources/games/island"), tempDir.resolve("island"));
+        Path source = game.resolve("game.yaml");
+        GameSave parsed = StructuredGameSaveLoader.load(source);
+        GameSave marked = new GameSave(parsed.seed(), parsed.startPlotId(), "From image", parsed.plots(),
+                parsed.gates(), parsed.fixtures(), parsed.items(), parsed.actors());
+        WorldImageWriter.write(marked, source, WorldImage.imagePathFor(source));
+
+        assertThat(RuntimeLoader.loadSave(source.toString()).preamble()).isEqualTo("From image");
+
+        Path items = game.resolve("world/items.yaml");
+        Files.writeString(items, Files.readString(items, StandardCharsets.UTF_8) + "\n# edited\n",
+                StandardCharsets.UTF_8);
+        assertThat(RuntimeLoader.loadSave(source.toString())).isEqualTo(parsed);
+    }
+
+    @Test
+    void truncatedImagesAreIgnored() throws Exception {
+        Path game = copyGame(Path.of("src/main/resources/games/island"), tempDir.resolve("island"));
+        Path source = game.resolve("game.yaml");
+        GameSave parsed = StructuredGameSaveLoader.load(source);
+        Path imagePath = WorldImage.imagePathFor(source);
+        WorldImageWriter.write(parsed, source, imagePath);
+
+        byte[] bytes = Files.readAllBytes(imagePath);
+        Files.write(imagePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThat(WorldImage.loadIfFresh(source)).isNull();
+        assertThat(RuntimeLoader.loadSave(source.toString())).isEqualTo(parsed);
+    }
+
+    @Test
+    void includesInvalidateImagesOfStructuredGamesWithAnyRootName() throws Exception {
+        Path game = copyGame(Path.of("src/main/resources/games/island"), tempDir.resolve("island"));
+        Path source = game.resolve("adventure.yaml");
+        Files.move(game.resolve("game.yaml"), source);
+        GameSave parsed = StructuredGameSaveLoader.load(source);
+        WorldImageWriter.write(parsed, source, WorldImage.imagePathFor(source));
+        assertThat(WorldImage.loadIfFresh(source)).isEqualTo(parsed);
+
+        Path map = game.resolve("world/map.yaml");
+        Files.writeString(map, Files.readString(map, StandardCharsets.UTF_8) + "\n# edited\n", StandardCharsets.UTF_8);
+
+        assertThat(WorldImage.loadIfFresh(source)).isNull();
+    }
+
+    private static Path copyGame(Path from, Path to) throws IOException {
+        try (Stream<Path> files = Files.walk(from)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Path target = to.resolve(from.relativize(file).toString());
+                if (Files.isDirectory(file)) {
+                    Files.createDirectories(target);
+                } else {
+                    Files.copy(file, target);
+                }
+            }
+        }
+        return to;
+    }
+}
@@ -0,0 +1,167 @@
+package com.demo.adventure.authoring.gardener.ai;
+
+import com.demo.adventure.ai.client.OpenAiChatClient;
+import com.demo.adventure.authoring.gardener.GardenerDescriptionPatch;
+import com.demo.adventure.domain.kernel.KernelRegistry;
+import com.demo.adventure.domain.model.Direction;
+import com.demo.adventure.domain.model.GateBuilder;
+import com.demo.adventure.domain.model.ItemBuilder;
+import com.demo.adventure.domain.model.Plot;
+import com.demo.adventure.domain.model.PlotBuilder;
+import com.demo.adventure.test.ChatStubServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenAiHttpFixtureDescriptionExpanderFanOutTest {
+    private static final Pattern THING_ID = Pattern.compile("thingId: ([0-9a-f-]{36})");
+    private static final String FINGERPRINT = "test-world";
+
+    private final UUID hallId = UUID.randomUUID();
+    private final UUID yardId = UUID.randomUUID();
+    private final UUID gateId = UUID.randomUUID();
+    private final List<UUID> itemIds = List.of(
+            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()
+    );
+
+    @TempDir
+    Path journalDir;
+
+    @Test
+    void fanOutSendsBatchesConcurrentlyAndMatchesSequentialPatches() throws Exception {
+        List<GardenerDescriptionPatch> sequential;
+        int sequentialRequests;
+        try (ChatStubServer stub = ChatStubServer.replying(0, ECHO)) {
+            sequential = expander(stub, GardenerExpansionOptions.sequential()).expand(world(), FINGERPRINT);
+            sequentialRequests = stub.requests().size();
+        }
+
+        try (ChatStubServer stub = ChatStubServer.replying(150, ECHO)) {
+            GardenerExpansionOptions options = new GardenerExpansionOptions(4, 0.0, 2, null, stub.endpoint());
+            List<GardenerDescriptionPatch> fanOut = expander(stub, options).expand(world(), FINGERPRINT);
+
+            assertThat(fanOut).isEqualTo(sequential);
+            assertThat(sequentialRequests).isEqualTo(10);
+            // Two plots, the gate's two directions (never in one batch) and six items in pairs.
+            assertThat(stub.requests()).hasSize(6);
+            assertThat(stub.maxInFlight()).isGreaterThan(1);
+        }
+    }
+
+    @Test
+    void rerunReplaysJournaledTargetsAndRequestsOnlyTheRest() throws Exception {
+        GardenerExpansionOptions options;
+        List<GardenerDescriptionPatch> firstRun;
+        try (ChatStubServer stub = ChatStubServer.replying(0,
+                body -> body.contains("thingName: Item 3") ? null : ECHO.apply(body))) {
+            options = new GardenerExpansionOptions(3, 0.0, 1, journalDir, stub.endpoint());
+            firstRun = expander(stub, options).expand(world(), FINGERPRINT);
+        }
+        assertThat(firstRun).hasSize(9);
+        assertThat(Files.readAllLines(journalDir.resolve(FINGERPRINT + ".journal"))).hasSize(10);
+
+        KernelRegistry rerunWorld = world();
+        try (ChatStubServer stub = ChatStubServer.replying(0, ECHO)) {
+            GardenerExpansionOptions rerunOptions = new GardenerExpansionOptions(3, 0.0, 1, journalDir, stub.endpoint());
+            List<GardenerDescriptionPatch> rerun = expander(stub, rerunOptions).expand(rerunWorld, FINGERPRINT);
+
+            assertThat(stub.requests()).hasSize(1).allMatch(body -> body.contains("thingName: Item 3"));
+            assertThat(rerun).hasSize(10).containsAll(firstRun);
+        }
+        assertThat(rerunWorld.get(itemIds.get(3)).getDescription()).isEqualTo("Fresh " + itemIds.get(3));
+
+        try (ChatStubServer stub = ChatStubServer.replying(0, ECHO)) {
+            GardenerExpansionOptions otherWorld = new GardenerExpansionOptions(3, 0.0, 1, journalDir, stub.endpoint());
+            expander(stub, otherWorld).expand(world(), "another-world");
+            assertThat(stub.requests()).hasSize(10);
+        }
+    }
+
+    @Test
+    void journalIgnoresATornLastLine() throws Exception {
+        try (GardenerCheckpointJournal journal = GardenerCheckpointJournal.open(journalDir, FINGERPRINT)) {
+            journal.append("a", "first\nline");
+            journal.append("b", "second");
+        }
+        Path file = journalDir.resolve(FINGERPRINT + ".journal");
+        String content = Files.readString(file);
+        Files.writeString(file, content.substring(0, content.length() - 3));
+
+        try (GardenerCheckpointJournal journal = GardenerCheckpointJournal.open(journalDir, FINGERPRINT)) {
+            assertThat(journal.completed("a")).isEqualTo("first\nline");
+            assertThat(journal.completed("b")).isNull();
+            journal.append("b", "again");
+        }
+        try (GardenerCheckpointJournal journal = GardenerCheckpointJournal.open(journalDir, FINGERPRINT)) {
+            assertThat(journal.completed("b")).isEqualTo("again");
+            assertThat(journal.size()).isEqualTo(2);
+        }
+    }
+
+    private static final Function<String, String> ECHO = body -> {
+        Matcher matcher = THING_ID.matcher(body);
+        List<String> entries = new ArrayList<>();
+        while (matcher.find()) {
+            String id = matcher.group(1);
+            entries.add("{\"thingId\":\"" + id + "\",\"description\":\"Fresh " + id + "\"}");
+        }
+        return "[" + String.join(",", entries) + "]";
+    };
+
+    private OpenAiHttpFixtureDescriptionExpander expander(ChatStubServer stub, GardenerExpansionOptions options) {
+        GardenerExpansionOptions withEndpoint = new GardenerExpansionOptions(
+                options.concurrency(),
+                options.requestsPerSecond(),
+                options.batchSize(),
+                options.journalDir(),
+                stub.endpoint()
+        );
+        return new OpenAiHttpFixtureDescriptionExpander("", "", withEndpoint, new OpenAiChatClient(), "test-key");
+    }
+
+    private KernelRegistry world() {
+        KernelRegistry registry = new KernelRegistry();
+        Plot hall = plot(hallId, "Hall");
+        Plot yard = plot(yardId, "Yard");
+        registry.register(hall);
+        registry.register(yard);
+        registry.register(new GateBuilder()
+                .withId(gateId)
+                .withLabel("Hall -> Yard")
+                .withDescription("A door")
+                .withPlotA(hall)
+                .withPlotB(yard)
+                .withDirection(Direction.E)
+                .build());
+        for (int i = 0; i < itemIds.size(); i++) {
+            registry.register(new ItemBuilder()
+                    .withId(itemIds.get(i))
+                    .withLabel("Item " + i)
+                    .withDescription("Plain item " + i)
+                    .withOwnerId(i % 2 == 0 ? hall : yard)
+                    .withFixture(i < 2)
+                    .build());
+        }
+        return registry;
+    }
+
+    private static Plot plot(UUID id, String label) {
+        return new PlotBuilder()
+                .withId(id)
+                .withLabel(label)
+                .withDescription(label + " plot")
+                .withPlotRole(label.toUpperCase())
+                .build();
+    }
+}
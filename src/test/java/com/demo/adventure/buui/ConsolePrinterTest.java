@@ -4,6 +4,10 @@ import com.demo.adventure.test.ConsoleCaptureExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class ConsolePrinterTest {
@@ -90,4 +94,41 @@ class ConsolePrinterTest {
             }
         }
     }
+
+    @Test
+    void withOutputRedirectsAndScopesMutingToTheCallingThread() {
+        console.reset();
+        ByteArrayOutputStream scoped = new ByteArrayOutputStream();
+        boolean mutedBefore = ConsolePrinter.isMuted();
+
+        ConsolePrinter.withOutput(new PrintStream(scoped, true, StandardCharsets.UTF_8), () -> {
+            ConsolePrinter.println("alpha", 10, 0);
+            ConsolePrinter.setMuted(true);
+            ConsolePrinter.println("beta", 10, 0);
+            return null;
+        });
+        ConsolePrinter.println("gamma", 10, 0);
+
+        assertThat(scoped.toString(StandardCharsets.UTF_8)).contains("alpha").doesNotContain("beta", "gamma");
+        assertThat(console.output()).contains("gamma").doesNotContain("alpha");
+        assertThat(ConsolePrinter.isMuted()).isEqualTo(mutedBefore);
+    }
+
+    @Test
+    void bufferedOutputIsWrittenOnFlushAndWhenTheScopeEnds() {
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        PrintStream buffered = ConsolePrinter.buffered(sink, StandardCharsets.UTF_8);
+
+        ConsolePrinter.withOutput(buffered, () -> {
+            ConsolePrinter.println("alpha", 10, 0);
+            ConsolePrinter.print("beta", 10, 0);
+            assertThat(sink.size()).isZero();
+            ConsolePrinter.flush();
+            assertThat(sink.toString(StandardCharsets.UTF_8)).isEqualTo("  alpha\n  beta\n");
+            ConsolePrinter.println("gamma", 10, 0);
+            return null;
+        });
+
+        assertThat(sink.toString(StandardCharsets.UTF_8)).endsWith("  gamma\n");
+    }
 }
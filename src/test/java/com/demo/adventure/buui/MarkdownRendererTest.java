@@ -157,4 +157,34 @@ class MarkdownRendererTest {
                 "",
                 "Exits: EAST"));
     }
+
+    @Test
+    void repeatedRendersReuseTheCachedLines() {
+        MarkdownRenderer.clearCache();
+        String markdown = "# Old Camp\n\nExits: north, west";
+
+        List<String> first = MarkdownRenderer.renderLines(markdown, 40, 0);
+        List<String> second = MarkdownRenderer.renderLines(markdown, 40, 0);
+
+        assertThat(second).isSameAs(first);
+        assertThat(MarkdownRenderer.cachedEntries()).isEqualTo(1);
+        assertThatThrownBy(() -> first.add("extra")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void cacheIsKeyedByWidthStyleSheetAndAnsiSwitch() {
+        MarkdownRenderer.clearCache();
+        String markdown = "This is **bold** text that wraps.";
+        List<String> wide = MarkdownRenderer.renderLines(markdown, 60, 0);
+
+        assertThat(MarkdownRenderer.renderLines(markdown, 12, 0)).isNotEqualTo(wide);
+        assertThat(MarkdownRenderer.renderLines(markdown, 60, 0, MarkdownStyleSheet.plain())).isNotSameAs(wide);
+        AnsiStyle.setEnabledOverride(false);
+        try {
+            assertThat(MarkdownRenderer.renderLines(markdown, 60, 0)).noneMatch(AnsiStyle::containsAnsi);
+        } finally {
+            AnsiStyle.setEnabledOverride(null);
+        }
+        assertThat(MarkdownRenderer.cachedEntries()).isEqualTo(4);
+    }
 }
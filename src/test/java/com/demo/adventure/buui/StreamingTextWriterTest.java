@@ -0,0 +1,62 @@
+package com.demo.adventure.buui;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingTextWriterTest {
+
+    @Test
+    void writesCompletedWordsAndWrapsWithGutter() {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(buffer, true, StandardCharsets.UTF_8);
+        StreamingTextWriter writer = new StreamingTextWriter(out, 16, 0, 2);
+
+        writer.write("The lan");
+        assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo("  The");
+        writer.write("tern gutters out. ");
+        writer.write("Dark");
+        writer.finish();
+
+        assertThat(buffer.toString(StandardCharsets.UTF_8))
+                .isEqualTo("  The lantern\n  gutters out.\n  Dark" + System.lineSeparator());
+        assertThat(writer.text()).isEqualTo("The lantern gutters out. Dark");
+    }
+
+    @Test
+    void narrationWritesBulletedParagraphsLikePrintNarration() {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(buffer, true, StandardCharsets.UTF_8);
+        StreamingTextWriter writer = new StreamingTextWriter(out, 16, 0, 2, true);
+
+        writer.write("The lantern gutters out. ");
+        writer.paragraph();
+        writer.write("Dark.");
+        writer.finish();
+
+        String bullet = ListRenderer.BULLET + " ";
+        assertThat(AnsiStyle.strip(buffer.toString(StandardCharsets.UTF_8)))
+                .isEqualTo(bullet + "The lantern\n  gutters out.\n\n" + bullet + "Dark." + System.lineSeparator());
+        assertThat(writer.text()).isEqualTo("The lantern gutters out.\n\nDark.");
+    }
+
+    @Test
+    void mutedWriterRecordsTextWithoutPrinting() throws Exception {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(buffer, true, StandardCharsets.UTF_8);
+        StreamingTextWriter writer = ConsolePrinter.withOutput(out, () -> {
+            ConsolePrinter.setMuted(true);
+            return new StreamingTextWriter(out, 80, 0, 0);
+        });
+
+        writer.write("Quiet words.");
+        writer.finish();
+
+        assertThat(buffer.size()).isZero();
+        assertThat(writer.text()).isEqualTo("Quiet words.");
+    }
+}
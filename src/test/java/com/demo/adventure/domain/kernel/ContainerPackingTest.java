@@ -0,0 +1,103 @@
+package com.demo.adventure.domain.kernel;
+
+import com.demo.adventure.domain.model.Rectangle2D;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContainerPackingTest {
+
+    @Test
+    void fitDoesNotMutateAndInsertClaimsSpace() {
+        ContainerPacking packing = new ContainerPacking();
+
+        ContainerPacker.Placement probe = packing.fit(0.5, 1.0).orElseThrow();
+        assertThat(packing.size()).isZero();
+        assertThat(packing.freeRectangles()).containsExactly(new Rectangle2D(0.0, 0.0, 1.0, 1.0));
+
+        UUID left = UUID.randomUUID();
+        UUID right = UUID.randomUUID();
+        assertThat(packing.insert(left, 0.5, 1.0)).contains(probe);
+        assertThat(packing.insert(right, 0.5, 1.0)).isPresent();
+        assertThat(packing.fit(0.1, 0.1)).isEmpty();
+        assertThat(packing.fit(0.0, 0.5)).isEmpty();
+        assertThat(packing.fit(1.5, 0.5)).isEmpty();
+    }
+
+    @Test
+    void removeMergesAdjacentFreeSpaceBackTogether() {
+        ContainerPacking packing = new ContainerPacking();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        packing.occupy(a, new Rectangle2D(0.0, 0.0, 0.5, 0.5));
+        packing.occupy(b, new Rectangle2D(0.5, 0.5, 0.5, 0.5));
+        assertThat(packing.fit(0.6, 0.6)).isEmpty();
+
+        assertThat(packing.remove(a)).isTrue();
+        assertThat(packing.remove(a)).isFalse();
+        assertThat(packing.fit(1.0, 0.5)).isPresent();
+
+        packing.remove(b);
+        assertThat(packing.freeRectangles()).containsExactly(new Rectangle2D(0.0, 0.0, 1.0, 1.0));
+    }
+
+    @Test
+    void freeSetMatchesFreshPackingAfterRandomInsertsAndRemoves() {
+        Random random = new Random(42);
+        ContainerPacking packing = new ContainerPacking();
+        List<UUID> ids = new ArrayList<>();
+        for (int step = 0; step < 400; step++) {
+            if (!ids.isEmpty() && random.nextInt(3) == 0) {
+                UUID id = ids.remove(random.nextInt(ids.size()));
+                assertThat(packing.remove(id)).isTrue();
+            } else {
+                UUID id = new UUID(0L, step);
+                double width = 0.05 + random.nextInt(8) * 0.05;
+                double height = 0.05 + random.nextInt(8) * 0.05;
+                if (packing.insert(id, width, height).isPresent()) {
+                    ids.add(id);
+                }
+            }
+            Map<UUID, Rectangle2D> placements = packing.placements();
+            assertNoOverlaps(List.copyOf(placements.values()));
+            assertThat(normalized(packing.freeRectangles()))
+                    .as("step %d", step)
+                    .isEqualTo(normalized(ContainerPacking.of(placements).freeRectangles()));
+        }
+    }
+
+    @Test
+    void syncAppliesOnlyTheDifferences() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        ContainerPacking packing = ContainerPacking.of(Map.of(a, new Rectangle2D(0.0, 0.0, 0.5, 0.5)));
+
+        Map<UUID, Rectangle2D> target = Map.of(b, new Rectangle2D(0.5, 0.0, 0.5, 1.0));
+        assertThat(packing.matches(target)).isFalse();
+        packing.sync(target);
+
+        assertThat(packing.matches(target)).isTrue();
+        assertThat(normalized(packing.freeRectangles())).isEqualTo(normalized(ContainerPacking.of(target).freeRectangles()));
+    }
+
+    private static List<String> normalized(List<Rectangle2D> rectangles) {
+        return rectangles.stream()
+                .map(r -> String.format("%.6f,%.6f,%.6f,%.6f", r.x(), r.y(), r.width(), r.height()))
+                .sorted()
+                .toList();
+    }
+
+    private static void assertNoOverlaps(List<Rectangle2D> rectangles) {
+        for (int i = 0; i < rectangles.size(); i++) {
+            for (int j = i + 1; j < rectangles.size(); j++) {
+                assertThat(rectangles.get(i).intersects(rectangles.get(j), 1e-9)).isFalse();
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.demo.adventure.domain.kernel;
+
+import com.demo.adventure.domain.model.Actor;
+import com.demo.adventure.domain.model.ActorBuilder;
+import com.demo.adventure.domain.model.Direction;
+import com.demo.adventure.domain.model.Gate;
+import com.demo.adventure.domain.model.GateBuilder;
+import com.demo.adventure.domain.model.Item;
+import com.demo.adventure.domain.model.ItemBuilder;
+import com.demo.adventure.domain.model.Plot;
+import com.demo.adventure.domain.model.PlotBuilder;
+import com.demo.adventure.domain.model.ThingKind;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KernelRegistryIndexTest {
+
+    @Test
+    void indexesChildrenByOwnerAndKindOnRegister() {
+        KernelRegistry registry = new KernelRegistry();
+        Plot plot = plot("Hall");
+        registry.register(plot);
+        Item table = new ItemBuilder().withLabel("Table").withDescription("").withOwnerId(plot).withFixture(true).build();
+        Item cup = new ItemBuilder().withLabel("Cup").withDescription("").withOwnerId(plot).build();
+        Actor butler = new ActorBuilder().withLabel("Butler").withDescription("").withOwnerId(plot).build();
+        registry.register(table);
+        registry.register(cup);
+        registry.register(butler);
+
+        assertThat(registry.itemsOwnedBy(plot.getId(), true)).containsExactly(table);
+        assertThat(registry.itemsOwnedBy(plot.getId(), false)).containsExactly(cup);
+        assertThat(registry.actorsOwnedBy(plot.getId())).containsExactly(butler);
+        assertThat(registry.thingsOwnedBy(plot.getId(), ThingKind.ITEM)).containsExactly(table, cup);
+        assertThat(registry.childrenOf(plot.getId())).containsExactly(table, cup, butler);
+        assertThat(registry.getPlotInventoryIndex().get(plot.getId())).hasSize(3);
+    }
+
+    @Test
+    void moveOwnershipKeepsIndexesConsistent() {
+        KernelRegistry registry = new KernelRegistry();
+        Plot plot = plot("Hall");
+        registry.register(plot);
+        Actor player = new ActorBuilder().withLabel("Player").withDescription("").withOwnerId(plot).build();
+        Item cup = new ItemBuilder().withLabel("Cup").withDescription("").withOwnerId(plot).build();
+        registry.register(player);
+        registry.register(cup);
+
+        registry.moveOwnership(cup.getId(), player.getId());
+
+        assertThat(registry.itemsOwnedBy(plot.getId())).isEmpty();
+        assertThat(registry.itemsOwnedBy(player.getId(), false)).containsExactly(cup);
+        assertThat(registry.findByLabel("cup", player.getId())).containsExactly(cup);
+        assertThat(registry.findByLabel("cup", plot.getId())).isEmpty();
+
+        registry.moveOwnership(cup.getId(), null);
+
+        assertThat(registry.itemsOwnedBy(player.getId())).isEmpty();
+        assertThat(registry.findByLabel("CUP")).containsExactly(cup);
+    }
+
+    @Test
+    void labelLookupIsCaseInsensitiveAndFollowsRelabel() {
+        KernelRegistry registry = new KernelRegistry();
+        Plot plot = plot("Hall");
+        registry.register(plot);
+        Item lamp = new ItemBuilder().withLabel("Brass Lamp").withDescription("").withOwnerId(plot).build();
+        registry.register(lamp);
+
+        assertThat(registry.findByLabel("brass lamp")).containsExactly(lamp);
+
+        registry.relabel(lamp.getId(), "Lit Lamp");
+
+        assertThat(registry.findByLabel("Brass Lamp")).isEmpty();
+        assertThat(registry.findByLabel("LIT LAMP", plot.getId())).containsExactly(lamp);
+    }
+
+    @Test
+    void reRegisteringReplacesPreviousIndexEntries() {
+        KernelRegistry registry = new KernelRegistry();
+        Plot hall = plot("Hall");
+        Plot yard = plot("Yard");
+        registry.register(hall);
+        registry.register(yard);
+        UUID id = UUID.randomUUID();
+        registry.register(new ItemBuilder().withId(id).withLabel("Rope").withDescription("").withOwnerId(hall).build());
+        Item moved = new ItemBuilder().withId(id).withLabel("Rope").withDescription("").withOwnerId(yard).build();
+
+        registry.register(moved);
+
+        assertThat(registry.itemsOwnedBy(hall.getId())).isEmpty();
+        assertThat(registry.itemsOwnedBy(yard.getId())).containsExactly(moved);
+        assertThat(registry.findByLabel("rope")).containsExactly(moved);
+    }
+
+    @Test
+    void gateAdjacencyCoversBothEndpointsAndPortals() {
+        KernelRegistry registry = new KernelRegistry();
+        Plot hall = plot("Hall");
+        Plot yard = plot("Yard");
+        Plot vault = plot("Vault");
+        registry.register(hall);
+        registry.register(yard);
+        registry.register(vault);
+        Gate door = new GateBuilder().withLabel("Door").withDescription("").withPlotA(hall).withPlotB(yard)
+                .withDirection(Direction.E).build();
+        Gate portal = new GateBuilder().withLabel("Mirror").withDescription("").withPlotA(vault).withPlotB(hall)
+                .withDirection(Direction.PORTAL).build();
+        registry.register(door);
+        registry.register(portal);
+
+        assertThat(registry.gatesAt(hall.getId())).containsExactly(door, portal);
+        assertThat(registry.gatesAt(yard.getId())).containsExactly(door);
+        assertThat(registry.findGates(hall.getId(), Direction.E)).containsExactly(door, portal);
+        assertThat(registry.findGates(yard.getId(), Direction.W)).containsExactly(door);
+        assertThat(registry.findGates(yard.getId(), Direction.N)).isEmpty();
+        assertThat(registry.findGates(vault.getId(), Direction.S)).containsExactly(portal);
+    }
+
+    @Test
+    void ownerRevisionChangesOnlyWhenThatOwnersContentsChange() {
+        KernelRegistry registry = new KernelRegistry();
+        Plot hall = plot("Hall");
+        Plot yard = plot("Yard");
+        Plot vault = plot("Vault");
+        registry.register(hall);
+        registry.register(yard);
+        registry.register(vault);
+        Item cup = new ItemBuilder().withLabel("Cup").withDescription("").withOwnerId(hall).build();
+        registry.register(cup);
+        RegistrySnapshot snapshot = registry.snapshot();
+        long hallBefore = registry.revisionOf(hall.getId());
+        long yardBefore = registry.revisionOf(yard.getId());
+        long vaultBefore = registry.revisionOf(vault.getId());
+
+        registry.relabel(cup.getId(), "Mug");
+        assertThat(registry.revisionOf(hall.getId())).isGreaterThan(hallBefore);
+        assertThat(registry.revisionOf(yard.getId())).isEqualTo(yardBefore);
+        hallBefore = registry.revisionOf(hall.getId());
+
+        registry.moveOwnership(cup.getId(), yard.getId());
+        assertThat(registry.revisionOf(hall.getId())).isGreaterThan(hallBefore);
+        assertThat(registry.revisionOf(yard.getId())).isGreaterThan(yardBefore);
+        assertThat(registry.revisionOf(vault.getId())).isEqualTo(vaultBefore);
+
+        long yardAfterMove = registry.revisionOf(yard.getId());
+        registry.register(new GateBuilder().withLabel("Door").withDescription("").withPlotA(yard).withPlotB(vault)
+                .withDirection(Direction.N).build());
+        assertThat(registry.revisionOf(yard.getId())).isGreaterThan(yardAfterMove);
+        assertThat(registry.revisionOf(vault.getId())).isGreaterThan(vaultBefore);
+
+        long vaultAfterGate = registry.revisionOf(vault.getId());
+        registry.restore(snapshot);
+        assertThat(registry.revisionOf(vault.getId())).isGreaterThan(vaultAfterGate);
+    }
+
+    private static Plot plot(String label) {
+        return new PlotBuilder()
+                .withId(UUID.randomUUID())
+                .withLabel(label)
+                .withDescription(label)
+                .withRegion("TEST")
+                .withPlotRole("ROOM")
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.demo.adventure.domain.kernel;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReceiptJournalTest {
+
+    @Test
+    void keepsOnlyTheRetentionWindow() {
+        ReceiptJournal<String> journal = new ReceiptJournal<>("test", 3);
+        for (int i = 1; i <= 5; i++) {
+            journal.append("r" + i);
+        }
+
+        assertThat(journal.recent()).containsExactly("r3", "r4", "r5");
+        assertThat(journal.nextSequence()).isEqualTo(5);
+        assertThat(journal.firstRetainedSequence()).isEqualTo(2);
+    }
+
+    @Test
+    void cursorReadsPageThroughAndReportSkippedEntries() {
+        ReceiptJournal<String> journal = new ReceiptJournal<>("test", 3);
+        journal.append("a");
+        journal.append("b");
+
+        ReceiptJournal.Batch<String> first = journal.readSince(0, 10);
+        assertThat(first.entries()).containsExactly("a", "b");
+        assertThat(first.nextSequence()).isEqualTo(2);
+
+        journal.append("c");
+        journal.append("d");
+        journal.append("e");
+
+        ReceiptJournal.Batch<String> second = journal.readSince(first.nextSequence(), 2);
+        assertThat(second.entries()).containsExactly("c", "d");
+        assertThat(second.skipped()).isZero();
+
+        ReceiptJournal.Batch<String> stale = journal.readSince(0, 10);
+        assertThat(stale.entries()).containsExactly("c", "d", "e");
+        assertThat(stale.skipped()).isEqualTo(2);
+        assertThat(journal.readSince(stale.nextSequence(), 10).entries()).isEmpty();
+    }
+
+    @Test
+    void spillsEvictedEntriesToSegments(@TempDir Path dir) throws IOException {
+        ReceiptJournal<String> journal = new ReceiptJournal<>("spill", 2);
+        journal.spillTo(dir, 2);
+        for (int i = 1; i <= 5; i++) {
+            journal.append("r" + i);
+        }
+        journal.close();
+
+        assertThat(Files.readAllLines(dir.resolve("spill-00000.log"))).containsExactly("r1", "r2");
+        assertThat(Files.readAllLines(dir.resolve("spill-00001.log"))).containsExactly("r3");
+        assertThat(journal.recent()).isEqualTo(List.of("r4", "r5"));
+    }
+
+    @Test
+    void laterSpillsAppendAfterExistingSegments(@TempDir Path dir) throws IOException {
+        ReceiptJournal<String> first = new ReceiptJournal<>("spill", 1);
+        first.spillTo(dir, 2);
+        for (int i = 1; i <= 4; i++) {
+            first.append("a" + i);
+        }
+        first.close();
+
+        ReceiptJournal<String> second = new ReceiptJournal<>("spill", 1);
+        second.spillTo(dir, 2);
+        for (int i = 1; i <= 4; i++) {
+            second.append("b" + i);
+        }
+        second.close();
+
+        assertThat(Files.readAllLines(dir.resolve("spill-00000.log"))).containsExactly("a1", "a2");
+        assertThat(Files.readAllLines(dir.resolve("spill-00001.log"))).containsExactly("a3", "b1");
+        assertThat(Files.readAllLines(dir.resolve("spill-00002.log"))).containsExactly("b2", "b3");
+    }
+
+    @Test
+    void spillWriteErrorsDisableSpillingInsteadOfThrowing(@TempDir Path dir) throws IOException {
+        Path notADirectory = Files.writeString(dir.resolve("occupied"), "file");
+        ReceiptJournal<String> journal = new ReceiptJournal<>("spill", 1);
+        journal.spillTo(notADirectory, 2);
+
+        journal.append("r1");
+        journal.append("r2");
+        journal.append("r3");
+
+        assertThat(journal.recent()).containsExactly("r3");
+        assertThat(journal.nextSequence()).isEqualTo(3);
+    }
+
+    @Test
+    void registryAccessorsReturnRecentHistory() {
+        KernelRegistry registry = new KernelRegistry(2);
+        registry.recordReceipt("one");
+        registry.recordReceipt("two");
+        registry.recordReceipt("three");
+
+        assertThat(registry.getReceipts()).containsExactly("two", "three");
+        assertThat(registry.receiptJournal().nextSequence()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,119 @@
+package com.demo.adventure.domain.kernel;
+
+import com.demo.adventure.domain.model.Actor;
+import com.demo.adventure.domain.model.ActorBuilder;
+import com.demo.adventure.domain.model.Item;
+import com.demo.adventure.domain.model.ItemBuilder;
+import com.demo.adventure.domain.model.Plot;
+import com.demo.adventure.domain.model.PlotBuilder;
+import com.demo.adventure.engine.mechanics.cells.Cell;
+import com.demo.adventure.engine.mechanics.cells.CellOps;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RegistrySnapshotTest {
+
+    @Test
+    void restoreRollsBackThingStateAndIndexes() {
+        KernelRegistry registry = new KernelRegistry();
+        Plot hall = plot("Hall");
+        registry.register(hall);
+        Actor player = new ActorBuilder().withLabel("Player").withDescription("").withOwnerId(hall).build();
+        Item lamp = new ItemBuilder().withLabel("Lamp").withDescription("Dusty lamp").withOwnerId(hall).build();
+        lamp.setCell("fuel", new Cell(10, 4));
+        registry.register(player);
+        registry.register(lamp);
+
+        String originalKey = lamp.getKey();
+        RegistrySnapshot snapshot = registry.snapshot();
+
+        registry.moveOwnership(lamp.getId(), player.getId());
+        registry.relabel(lamp.getId(), "Lit Lamp");
+        lamp.setKey("HAS(\"Match\")");
+        lamp.setDescription("Glowing lamp");
+        CellOps.setAmount(lamp, "fuel", 9);
+        player.setEquippedMainHandItemId(lamp.getId());
+        Item crafted = new ItemBuilder().withLabel("Torch").withDescription("").withOwnerId(player).build();
+        registry.register(crafted);
+
+        registry.restore(snapshot);
+
+        assertThat(lamp.getOwnerId()).isEqualTo(hall.getId());
+        assertThat(lamp.getLabel()).isEqualTo("Lamp");
+        assertThat(lamp.getKey()).isEqualTo(originalKey);
+        assertThat(lamp.getDescription()).isEqualTo("Dusty lamp");
+        assertThat(lamp.getCell("fuel").getAmount()).isEqualTo(4);
+        assertThat(player.getEquippedMainHandItemId()).isNull();
+        assertThat(registry.get(crafted.getId())).isNull();
+        assertThat(registry.itemsOwnedBy(hall.getId())).containsExactly(lamp);
+        assertThat(registry.itemsOwnedBy(player.getId())).isEmpty();
+        assertThat(registry.findByLabel("lamp")).containsExactly(lamp);
+        assertThat(registry.findByLabel("torch")).isEmpty();
+    }
+
+    @Test
+    void snapshotCanBeRestoredRepeatedly() {
+        KernelRegistry registry = new KernelRegistry();
+        Plot hall = plot("Hall");
+        registry.register(hall);
+        Item jar = new ItemBuilder().withLabel("Jar").withDescription("").withOwnerId(hall).build();
+        jar.setCell("water", new Cell(5, 1));
+        registry.register(jar);
+        RegistrySnapshot snapshot = registry.snapshot();
+
+        CellOps.setAmount(jar, "water", 5);
+        registry.restore(snapshot);
+        CellOps.setAmount(jar, "water", 3);
+        registry.restore(snapshot);
+
+        assertThat(jar.getCell("water").getAmount()).isEqualTo(1);
+        assertThat(registry.snapshot().size()).isEqualTo(2);
+    }
+
+    @Test
+    void forkStartsFreshRegistryFromTemplate() {
+        KernelRegistry registry = new KernelRegistry(8);
+        Plot hall = plot("Hall");
+        registry.register(hall);
+        Item jar = new ItemBuilder().withLabel("Jar").withDescription("Empty jar").withOwnerId(hall).build();
+        registry.register(jar);
+        RegistrySnapshot template = registry.snapshot();
+
+        jar.setDescription("Full jar");
+        registry.relabel(jar.getId(), "Full Jar");
+        registry.recordReceipt("filled");
+
+        KernelRegistry fork = KernelRegistry.fork(template);
+
+        assertThat(fork).isNotSameAs(registry);
+        assertThat(fork.get(jar.getId())).isSameAs(jar);
+        assertThat(jar.getDescription()).isEqualTo("Empty jar");
+        assertThat(fork.findByLabel("jar")).containsExactly(jar);
+        assertThat(fork.itemsOwnedBy(hall.getId())).containsExactly(jar);
+        assertThat(fork.getReceipts()).isEmpty();
+        assertThat(fork.receiptJournal().retention()).isEqualTo(8);
+    }
+
+    @Test
+    void rejectsSnapshotFromAnotherRegistry() {
+        KernelRegistry registry = new KernelRegistry();
+        RegistrySnapshot foreign = new KernelRegistry().snapshot();
+
+        assertThatThrownBy(() -> registry.restore(foreign))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Plot plot(String label) {
+        return new PlotBuilder()
+                .withId(UUID.randomUUID())
+                .withLabel(label)
+                .withDescription(label)
+                .withRegion("TEST")
+                .withPlotRole("ROOM")
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.demo.adventure.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlotRevisionTest {
+
+    @Test
+    void everyPlotSetterAdvancesTheRevision() {
+        assertAdvances(plot -> plot.setPlotKind(PlotKind.LAND));
+        assertAdvances(plot -> plot.setPlotRole("camp"));
+        assertAdvances(plot -> plot.setHostThingId(UUID.randomUUID()));
+        assertAdvances(plot -> plot.setRegion("north"));
+        assertAdvances(plot -> plot.setLocationX(3));
+        assertAdvances(plot -> plot.setLocationY(-2));
+    }
+
+    private static void assertAdvances(Consumer<Plot> setter) {
+        Plot plot = new PlotBuilder()
+                .withLabel("Plot")
+                .withDescription("Desc")
+                .build();
+        long before = plot.revision();
+
+        setter.accept(plot);
+
+        assertThat(plot.revision()).isGreaterThan(before);
+    }
+}
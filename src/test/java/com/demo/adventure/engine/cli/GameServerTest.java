@@ -0,0 +1,109 @@
+package com.demo.adventure.engine.cli;
+
+import com.demo.adventure.test.ConsoleCaptureExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameServerTest {
+
+    @RegisterExtension
+    static ConsoleCaptureExtension console = new ConsoleCaptureExtension();
+
+    @Test
+    void servesIndependentSessionsOverLoopback() throws Exception {
+        try (GameServer server = new GameServer(GameCli.GameMode.Z1980, GameCli.loadGameOptions(), Duration.ofMinutes(5), Clock.systemUTC())) {
+            int port = server.start(0);
+            Thread acceptor = new Thread(() -> {
+                try {
+                    server.acceptLoop();
+                } catch (Exception ignored) {
+                    // Closed by the test.
+                }
+            });
+            acceptor.setDaemon(true);
+            acceptor.start();
+
+            String first = play(port, "1\nlook\nquit\nq\n");
+            String second = play(port, "x\nq\n");
+
+            assertThat(first).contains("Thanks for playing.", "Goodbye.");
+            assertThat(second).contains("Unknown selection: x", "Goodbye.").doesNotContain("Thanks for playing.");
+            assertThat(console.output()).doesNotContain("Goodbye.");
+        }
+    }
+
+    @Test
+    void reconnectingWithTheSessionTokenResumesCheckpointedGames(@TempDir Path dir) throws Exception {
+        List<GameCatalogEntry> catalog = GameCli.loadGameOptions();
+        GameSession.Storage storage = new GameSession.Storage(dir, null);
+        try (GameServer server = new GameServer(GameCli.GameMode.Z1980, catalog, Duration.ofMinutes(5), Clock.systemUTC(), storage)) {
+            int port = server.start(0);
+            Thread acceptor = new Thread(() -> {
+                try {
+                    server.acceptLoop();
+                } catch (Exception ignored) {
+                    // Closed by the test.
+                }
+            });
+            acceptor.setDaemon(true);
+            acceptor.start();
+
+            // The connection drops mid-game, leaving the checkpoint behind.
+            String first = play(port, "1\nlook\n");
+            Matcher session = Pattern.compile("~ session ([0-9a-f]{32})").matcher(first);
+            assertThat(session.find()).isTrue();
+            String token = session.group(1);
+            assertThat(dir.resolve(token + "-" + catalog.get(0).id() + ".session")).exists();
+
+            String second = play(port, "resume " + token + "\n1\nquit\nq\n");
+            String stranger = play(port, "resume ../" + token + "\nq\n");
+
+            assertThat(second).contains("~ session " + token + " resumed", "~ resumed saved session", "Thanks for playing.");
+            assertThat(stranger).contains("Cannot resume session: ../" + token).doesNotContain("resumed saved session");
+        }
+    }
+
+    @Test
+    void rejectsUnknownArguments() {
+        assertThat(GameServer.run(new String[]{"--bogus"})).isEqualTo(1);
+        assertThat(GameServer.run(new String[]{"--port"})).isEqualTo(1);
+        assertThat(GameServer.run(new String[]{"--help"})).isZero();
+    }
+
+    @Test
+    void rejectsNonNumericValues() {
+        assertThat(GameServer.run(new String[]{"--port", "abc"})).isEqualTo(1);
+        assertThat(GameServer.run(new String[]{"--idle-minutes", "soon"})).isEqualTo(1);
+
+        assertThat(console.error()).contains("Invalid value for --port: abc", "Invalid value for --idle-minutes: soon");
+    }
+
+    private static String play(int port, String script) throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setSoTimeout(60_000);
+            PrintWriter writer = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+            writer.print(script);
+            writer.flush();
+            socket.shutdownOutput();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            return reader.lines().collect(Collectors.joining("\n"));
+        }
+    }
+}
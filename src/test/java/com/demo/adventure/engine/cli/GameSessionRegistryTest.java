@@ -0,0 +1,111 @@
+package com.demo.adventure.engine.cli;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameSessionRegistryTest {
+
+    @Test
+    void evictsOnlySessionsIdlePastTimeout() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        GameSessionRegistry registry = new GameSessionRegistry(Duration.ofMinutes(10), clock);
+        GameSession stale = session(1, clock);
+        clock.advance(Duration.ofMinutes(8));
+        GameSession fresh = session(2, clock);
+        registry.register(stale);
+        registry.register(fresh);
+
+        clock.advance(Duration.ofMinutes(5));
+        int evicted = registry.evictIdle();
+
+        assertThat(evicted).isEqualTo(1);
+        assertThat(stale.isClosed()).isTrue();
+        assertThat(fresh.isClosed()).isFalse();
+        assertThat(registry.sessions()).containsExactly(fresh);
+    }
+
+    @Test
+    void dropsClosedSessionsAndClosesRemainingOnShutdown() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        GameSessionRegistry registry = new GameSessionRegistry(Duration.ofMinutes(10), clock);
+        GameSession closed = session(1, clock);
+        GameSession open = session(2, clock);
+        registry.register(closed);
+        registry.register(open);
+        closed.close();
+
+        assertThat(registry.evictIdle()).isEqualTo(1);
+        assertThat(registry.size()).isEqualTo(1);
+
+        registry.remove(closed);
+        registry.close();
+        assertThat(open.isClosed()).isTrue();
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    void tokenHeldByALiveSessionCannotBeResumedElsewhere() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        GameSessionRegistry registry = new GameSessionRegistry(Duration.ofMinutes(10), clock);
+        GameSession holder = session(1, clock);
+        GameSession other = session(2, clock);
+        registry.register(holder);
+        registry.register(other);
+
+        assertThat(registry.claim(other, holder.token())).isFalse();
+        assertThat(other.token()).isNotEqualTo(holder.token());
+
+        holder.close();
+        assertThat(registry.claim(other, holder.token())).isTrue();
+        assertThat(other.token()).isEqualTo(holder.token());
+    }
+
+    private static GameSession session(long id, Clock clock) {
+        return new GameSession(
+                id,
+                GameCli.GameMode.Z1980,
+                List.of(),
+                new ByteArrayInputStream(new byte[0]),
+                new ByteArrayOutputStream(),
+                null,
+                clock,
+                id
+        );
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
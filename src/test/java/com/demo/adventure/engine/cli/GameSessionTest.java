@@ -0,0 +1,76 @@
+package com.demo.adventure.engine.cli;
+
+import com.demo.adventure.test.ConsoleCaptureExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameSessionTest {
+
+    @RegisterExtension
+    static ConsoleCaptureExtension console = new ConsoleCaptureExtension();
+
+    @Test
+    void concurrentSessionsKeepOutputSeparate() throws Exception {
+        List<GameCatalogEntry> catalog = GameCli.loadGameOptions();
+        ByteArrayOutputStream firstOut = new ByteArrayOutputStream();
+        ByteArrayOutputStream secondOut = new ByteArrayOutputStream();
+        GameSession first = session(1, catalog, "1\nlook\nquit\nq\n", firstOut);
+        GameSession second = session(2, catalog, "2\ninventory\nquit\nq\n", secondOut);
+
+        Thread a = new Thread(first);
+        Thread b = new Thread(second);
+        a.start();
+        b.start();
+        a.join(60_000);
+        b.join(60_000);
+
+        String firstText = firstOut.toString(StandardCharsets.UTF_8);
+        String secondText = secondOut.toString(StandardCharsets.UTF_8);
+        assertThat(firstText).contains("=== " + catalog.get(0).name() + " ===", "Thanks for playing.", "Goodbye.");
+        assertThat(secondText).contains("=== " + catalog.get(1).name() + " ===", "Thanks for playing.", "Goodbye.");
+        assertThat(firstText).doesNotContain("=== " + catalog.get(1).name() + " ===");
+        assertThat(secondText).doesNotContain("=== " + catalog.get(0).name() + " ===");
+        assertThat(console.output()).doesNotContain("Thanks for playing.");
+        assertThat(first.isClosed()).isTrue();
+        assertThat(second.isClosed()).isTrue();
+    }
+
+    @Test
+    void closeEndsBlockedSession() throws Exception {
+        PipedOutputStream feed = new PipedOutputStream();
+        PipedInputStream in = new PipedInputStream(feed);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GameSession session = new GameSession(7, GameCli.GameMode.Z1980, GameCli.loadGameOptions(), in, out, feed, Clock.systemUTC(), 7L);
+
+        Thread thread = new Thread(session);
+        thread.start();
+        session.close();
+        thread.join(60_000);
+
+        assertThat(thread.isAlive()).isFalse();
+        assertThat(session.isClosed()).isTrue();
+    }
+
+    private static GameSession session(long id, List<GameCatalogEntry> catalog, String input, ByteArrayOutputStream out) {
+        return new GameSession(
+                id,
+                GameCli.GameMode.Z1980,
+                catalog,
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                out,
+                null,
+                Clock.systemUTC(),
+                id
+        );
+    }
+}
@@ -124,4 +124,17 @@ class CommandScannerTest {
                 TokenType.EOL
         );
     }
+
+    @Test
+    void keepsOriginalLexemeCaseAndUnterminatedStrings() {
+        List<Token> tokens = CommandScanner.scan("TaKe \"Brass Lamp");
+        assertThat(tokens).extracting(t -> t.type).containsExactly(
+                TokenType.TAKE,
+                TokenType.STRING,
+                TokenType.EOL
+        );
+        assertThat(tokens.get(0).lexeme).isEqualTo("TaKe");
+        assertThat(tokens.get(1).lexeme).isEqualTo("Brass Lamp");
+        assertThat(tokens.get(2).column).isEqualTo(16);
+    }
 }
@@ -0,0 +1,70 @@
+package com.demo.adventure.engine.command.interpreter;
+
+import com.demo.adventure.engine.command.TokenType;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordTableTest {
+
+    @Test
+    void looksUpRangesIgnoringCase() {
+        String source = "Go nOrTh with rope";
+
+        assertThat(KeywordTable.DEFAULT.lookup(source, 0, 2)).isEqualTo(TokenType.MOVE);
+        assertThat(KeywordTable.DEFAULT.lookup(source, 3, 8)).isEqualTo(TokenType.NORTH);
+        assertThat(KeywordTable.DEFAULT.lookup(source, 9, 13)).isEqualTo(TokenType.WITH);
+        assertThat(KeywordTable.DEFAULT.lookup(source, 14, 18)).isNull();
+        assertThat(KeywordTable.DEFAULT.lookup("north_west")).isEqualTo(TokenType.NORTH_WEST);
+        assertThat(KeywordTable.DEFAULT.lookup("")).isNull();
+        assertThat(KeywordTable.DEFAULT.lookup(null)).isNull();
+    }
+
+    @Test
+    void extraAliasesOverrideDefaultsAndTablesAreShared() {
+        Map<String, TokenType> extras = new HashMap<>();
+        extras.put(" pry ", TokenType.OPEN);
+        extras.put("run", TokenType.FLEE);
+        extras.put("", TokenType.LOOK);
+
+        KeywordTable table = KeywordTable.of(extras);
+
+        assertThat(table.lookup("PRY")).isEqualTo(TokenType.OPEN);
+        assertThat(table.lookup("Run")).isEqualTo(TokenType.FLEE);
+        assertThat(table.lookup("look")).isEqualTo(TokenType.LOOK);
+        assertThat(table.size()).isEqualTo(KeywordTable.DEFAULT.size() + 1);
+        assertThat(KeywordTable.of(new HashMap<>(extras))).isSameAs(table);
+        assertThat(KeywordTable.of(Map.of())).isSameAs(KeywordTable.DEFAULT);
+        assertThat(KeywordTable.DEFAULT.lookup("pry")).isNull();
+    }
+
+    @Test
+    void nullEntriesAreSkippedAndEquivalentAliasSetsShareATable() {
+        Map<String, TokenType> extras = new HashMap<>();
+        extras.put(null, TokenType.LOOK);
+        extras.put("shove", null);
+        extras.put("Yank", TokenType.TAKE);
+
+        KeywordTable table = KeywordTable.of(extras);
+
+        assertThat(table.lookup("yank")).isEqualTo(TokenType.TAKE);
+        assertThat(table.lookup("shove")).isNull();
+        assertThat(KeywordTable.of(Map.of(" yank", TokenType.TAKE))).isSameAs(table);
+        Map<String, TokenType> onlyNulls = new HashMap<>();
+        onlyNulls.put(null, null);
+        assertThat(KeywordTable.of(onlyNulls)).isSameAs(KeywordTable.DEFAULT);
+    }
+
+    @Test
+    void nonAsciiLexemesFoldLikeUpperCasedStrings() {
+        KeywordTable table = KeywordTable.of(Map.of("öffne", TokenType.OPEN));
+
+        assertThat(table.lookup("ÖFFNE")).isEqualTo(TokenType.OPEN);
+        assertThat(table.lookup("Öffne")).isEqualTo(TokenType.OPEN);
+        assertThat(CommandScanner.scan("öffne door", table).get(0).type).isEqualTo(TokenType.OPEN);
+        assertThat(table.lookup("öffnen")).isNull();
+    }
+}
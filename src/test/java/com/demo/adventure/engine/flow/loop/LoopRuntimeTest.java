@@ -4,6 +4,7 @@ import com.demo.adventure.engine.mechanics.cells.CellOps;
 import com.demo.adventure.domain.kernel.KernelRegistry;
 import com.demo.adventure.support.exceptions.GameBuilderException;
 import com.demo.adventure.domain.model.Item;
+import com.demo.adventure.domain.model.ItemBuilder;
 import com.demo.adventure.domain.model.WorldState;
 import com.demo.adventure.authoring.save.build.WorldBuildResult;
 import com.demo.adventure.authoring.save.io.StructuredGameSaveLoader;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -54,6 +56,36 @@ class LoopRuntimeTest {
         assertThat(runtime.state().loopCount()).isEqualTo(2);
     }
 
+    @Test
+    void resetForksPristineWorldWithoutRebuilding() throws Exception {
+        LoopConfig config = new LoopConfig(true, 3, List.of("Notebook"));
+        LoopRuntime runtime = new LoopRuntime(loadIslandSave(), config);
+        WorldBuildResult world = runtime.buildWorld();
+        KernelRegistry registry = world.registry();
+        int pristineSize = registry.getEverything().size();
+
+        Item notebook = findItemByLabel(registry, "Notebook");
+        UUID originalOwner = notebook.getOwnerId();
+        registry.moveOwnership(notebook.getId(), KernelRegistry.MILIARIUM);
+        registry.register(new ItemBuilder().withLabel("Scrap").withDescription("").withOwnerId(originalOwner).build());
+        registry.recordReceipt("scrap made");
+
+        LoopResetResult first = runtime.reset(registry, LoopResetReason.DEATH);
+        KernelRegistry next = first.world().registry();
+
+        assertThat(next).isNotSameAs(registry);
+        assertThat(first.world().startPlotId()).isEqualTo(world.startPlotId());
+        assertThat(next.getEverything()).hasSize(pristineSize);
+        assertThat(next.findByLabel("Scrap")).isEmpty();
+        assertThat(next.getReceipts()).doesNotContain("scrap made");
+        assertThat(findItemByLabel(next, "Notebook").getOwnerId()).isEqualTo(originalOwner);
+        assertThat(findWorldState(next).getCell(WorldState.LOOP_CELL).getAmount()).isEqualTo(2L);
+
+        LoopResetResult second = runtime.reset(next, LoopResetReason.TIMEOUT);
+        assertThat(second.world().registry().getEverything()).hasSize(pristineSize);
+        assertThat(findWorldState(second.world().registry()).getCell(WorldState.LOOP_CELL).getAmount()).isEqualTo(3L);
+    }
+
     @Test
     void syncsTickRateFromWorldState() throws Exception {
         LoopConfig config = new LoopConfig(true, 5, List.of());
@@ -113,6 +113,60 @@ class TriggerEngineTest {
         assertThat(outcome.messages()).containsExactly("You escape.");
     }
 
+    @Test
+    void matchingTriggersFireInAuthoringOrderAcrossWildcards() {
+        KernelRegistry registry = new KernelRegistry();
+        Plot plot = new PlotBuilder()
+                .withLabel("Cave")
+                .withDescription("Cave")
+                .build();
+        registry.register(plot);
+        Actor player = new ActorBuilder()
+                .withLabel("Player")
+                .withDescription("Player")
+                .withOwnerId(plot)
+                .build();
+        registry.register(player);
+        Item lever = new ItemBuilder()
+                .withLabel("Lever")
+                .withDescription("Lever")
+                .withOwnerId(plot)
+                .build();
+        registry.register(lever);
+
+        TriggerEngine engine = new TriggerEngine(List.of(
+                message("any-use", TriggerType.ON_USE, "", "", "", "any"),
+                message("lever-on-rope", TriggerType.ON_USE, " lever ", "Rope", "", "lever+rope"),
+                message("take-lever", TriggerType.ON_TAKE, "Lever", "", "", "take"),
+                message("lever-any", TriggerType.ON_USE, "LEVER", "", "", "lever"),
+                new TriggerDefinition("grab", TriggerType.ON_USE, "Lever", "", "", List.of(
+                        action(TriggerActionType.MOVE_OWNER, "Lever", "@PLAYER", null, null, null, null, null, null, null, null))),
+                message("holding", TriggerType.ON_USE, "", "", "HAS(\"Lever\")", "holding"),
+                message("use-on-rope", TriggerType.ON_USE, "", "rope", "", "rope"),
+                message("other", TriggerType.ON_USE, "Wheel", "", "", "wheel")
+        ));
+        TriggerContext context = new TriggerContext(registry, plot.getId(), player.getId(), null);
+
+        assertThat(engine.fire(new TriggerEvent(TriggerType.ON_USE, "Lever", "rope", lever.getId(), null), context)
+                .messages()).containsExactly("any", "lever+rope", "lever", "holding", "rope");
+        assertThat(engine.fire(new TriggerEvent(TriggerType.ON_USE, "", "", null, null), context).messages())
+                .containsExactly("any", "holding");
+        assertThat(engine.fire(new TriggerEvent(TriggerType.ON_ENTER, "Cave", "", plot.getId(), null), context)
+                .messages()).isEmpty();
+    }
+
+    private static TriggerDefinition message(
+            String id,
+            TriggerType type,
+            String target,
+            String object,
+            String key,
+            String text
+    ) {
+        return new TriggerDefinition(id, type, target, object, key, List.of(
+                action(TriggerActionType.MESSAGE, null, null, text, null, null, null, null, null, null, null)));
+    }
+
     private static TriggerAction action(
             TriggerActionType type,
             String target,
@@ -24,6 +24,26 @@ class GameIntegrityCheckCoverageTest {
         assertThat(codes).contains("E_CRAFTING_SKILL_MISSING");
     }
 
+    @Test
+    void concurrentDicePassesAndGamesMatchSequentialReports() throws Exception {
+        GameIntegrityCheck check = new GameIntegrityCheck();
+        List<String> games = List.of("src/test/resources/integrity/mini.yaml", "src/test/resources/integrity/mini.yaml");
+        GameIntegrityConfig sequential = new GameIntegrityConfig(2, 500, 50);
+
+        List<GameIntegrityReport> expected = check.evaluateAll(games, sequential);
+        List<GameIntegrityReport> actual = check.evaluateAll(games, sequential.withParallelism(2));
+        GameIntegrityReport single = check.evaluate(games.get(0), sequential.withParallelism(2));
+
+        assertThat(actual).hasSize(2);
+        for (int i = 0; i < games.size(); i++) {
+            assertThat(actual.get(i).possibleWin()).isEqualTo(expected.get(i).possibleWin());
+            assertThat(actual.get(i).guaranteedWin()).isEqualTo(expected.get(i).guaranteedWin());
+            assertThat(actual.get(i).issues()).containsExactlyElementsOf(expected.get(i).issues());
+        }
+        assertThat(single.possibleWin()).isEqualTo(expected.get(0).possibleWin());
+        assertThat(single.guaranteedWin()).isEqualTo(expected.get(0).guaranteedWin());
+    }
+
     @Test
     void utilityMethodsHandleLabelsAndTargets() throws Exception {
         String reversed = IntegrityLabels.reverseGateLabel("A -> B");
@@ -16,9 +16,12 @@ class GameIntegrityTest {
     void integrityChecksAllStructuredGames() throws Exception {
         Assumptions.assumeTrue(shouldRunIntegrity(), "Integrity checks disabled (set -DrunIntegrity=true to enable).");
         GameIntegrityCheck check = new GameIntegrityCheck();
-        GameIntegrityConfig config = GameIntegrityConfig.defaults();
-        for (Path game : listGameYamls()) {
-            GameIntegrityReport report = check.evaluate(game.toString(), config);
+        GameIntegrityConfig config = GameIntegrityConfig.defaults().withParallelism(integrityParallelism());
+        List<Path> games = listGameYamls();
+        List<GameIntegrityReport> reports = check.evaluateAll(games.stream().map(Path::toString).toList(), config);
+        for (int i = 0; i < games.size(); i++) {
+            Path game = games.get(i);
+            GameIntegrityReport report = reports.get(i);
             List<GameIntegrityIssue> errors = report.issues().stream()
                     .filter(issue -> issue.severity() == GameIntegritySeverity.ERROR)
                     .toList();
@@ -55,6 +58,18 @@ class GameIntegrityTest {
                 .collect(Collectors.joining(" | "));
     }
 
+    private static int integrityParallelism() {
+        String value = System.getProperty("integrityParallelism");
+        if (value == null || value.isBlank()) {
+            return 1;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            return 1;
+        }
+    }
+
     private static boolean shouldRunIntegrity() {
         String flag = System.getProperty("runIntegrity");
         if (flag == null || flag.isBlank()) {
@@ -0,0 +1,33 @@
+package com.demo.adventure.engine.integrity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntegritySimulationStateTest {
+    private static final long SEED_A = 0x9E3779B97F4A7C15L;
+    private static final long SEED_B = 0xC2B2AE3D27D4EB4FL;
+
+    @Test
+    void stringBitsSeparatesStringsWithEqualJavaHashCodes() {
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        assertThat("AaAa".hashCode()).isEqualTo("BBBB".hashCode());
+
+        assertThat(IntegritySimulationState.stringBits("Aa", SEED_A))
+                .isNotEqualTo(IntegritySimulationState.stringBits("BB", SEED_A));
+        assertThat(IntegritySimulationState.stringBits("AaAa", SEED_B))
+                .isNotEqualTo(IntegritySimulationState.stringBits("BBBB", SEED_B));
+    }
+
+    @Test
+    void stringBitsUsesIndependentLanesAndAllSixtyFourBits() {
+        long a = IntegritySimulationState.stringBits("HAS(\"Key\")", SEED_A);
+        long b = IntegritySimulationState.stringBits("HAS(\"Key\")", SEED_B);
+
+        assertThat(a).isNotEqualTo(b);
+        assertThat(a >>> 32).isNotZero();
+        assertThat(a & 0xFFFFFFFFL).isNotZero();
+        assertThat(IntegritySimulationState.stringBits(null, SEED_A)).isZero();
+        assertThat(IntegritySimulationState.stringBits("", SEED_A)).isNotZero();
+    }
+}
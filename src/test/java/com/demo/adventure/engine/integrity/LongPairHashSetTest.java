@@ -0,0 +1,35 @@
+package com.demo.adventure.engine.integrity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongPairHashSetTest {
+
+    @Test
+    void addsDistinctPairsAcrossGrowth() {
+        LongPairHashSet set = new LongPairHashSet(4);
+
+        for (long i = 0; i < 1000; i++) {
+            assertThat(set.add(i, -i)).isTrue();
+        }
+        for (long i = 0; i < 1000; i++) {
+            assertThat(set.add(i, -i)).isFalse();
+            assertThat(set.contains(i, -i)).isTrue();
+        }
+
+        assertThat(set.size()).isEqualTo(1000);
+        assertThat(set.contains(1, 1)).isFalse();
+    }
+
+    @Test
+    void pairsDifferingInOneHalfAreDistinct() {
+        LongPairHashSet set = new LongPairHashSet(16);
+
+        assertThat(set.add(7L, 1L)).isTrue();
+        assertThat(set.add(7L, 2L)).isTrue();
+        assertThat(set.add(8L, 1L)).isTrue();
+
+        assertThat(set.size()).isEqualTo(3);
+    }
+}
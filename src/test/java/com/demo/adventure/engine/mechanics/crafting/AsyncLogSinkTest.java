@@ -0,0 +1,102 @@
+package com.demo.adventure.engine.mechanics.crafting;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncLogSinkTest {
+
+    @Test
+    void writesStructuredEventsInBatches() {
+        StringWriter out = new StringWriter();
+        UUID owner = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        try (AsyncLogSink sink = new AsyncLogSink(out, 16, 4, 10_000L)) {
+            sink.submit(event("Register", "label", "Brass Lamp", "owner", owner));
+            sink.submit(event("Move", "label", "Rope", "source", null, "target", owner));
+            sink.flush();
+
+            String text = out.toString();
+            assertThat(text).contains("INFO KERNEL Register label=\"Brass Lamp\" owner=" + owner);
+            assertThat(text).contains("INFO KERNEL Move label=Rope source=null target=" + owner);
+            assertThat(sink.writtenCount()).isEqualTo(2);
+            assertThat(sink.droppedCount()).isZero();
+        }
+    }
+
+    @Test
+    void overwritesOldestEventsWhenRingIsFull() throws InterruptedException {
+        BlockingWriter out = new BlockingWriter();
+        try (AsyncLogSink sink = new AsyncLogSink(out, 2, 1, 10_000L)) {
+            sink.submit(event("first"));
+            out.awaitBlocked();
+            sink.submit(event("second"));
+            sink.submit(event("third"));
+            sink.submit(event("fourth"));
+            out.release();
+            sink.flush();
+
+            assertThat(sink.droppedCount()).isEqualTo(1);
+            assertThat(out.toString()).contains("first", "third", "fourth").doesNotContain("second");
+        }
+    }
+
+    @Test
+    void levelGatingDisablesCategories() {
+        CraftingLog.Level previous = CraftingLog.getLevel(CraftingLog.Category.CRAFTING);
+        try {
+            CraftingLog.setLevel(CraftingLog.Category.CRAFTING, CraftingLog.Level.OFF);
+            assertThat(CraftingLog.enabled(CraftingLog.Category.CRAFTING, CraftingLog.Level.WARN)).isFalse();
+
+            CraftingLog.setLevel(CraftingLog.Category.CRAFTING, CraftingLog.Level.INFO);
+            assertThat(CraftingLog.enabled(CraftingLog.Category.CRAFTING, CraftingLog.Level.INFO)).isTrue();
+            assertThat(CraftingLog.enabled(CraftingLog.Category.CRAFTING, CraftingLog.Level.DEBUG)).isFalse();
+        } finally {
+            CraftingLog.setLevel(CraftingLog.Category.CRAFTING, previous);
+        }
+    }
+
+    private static AsyncLogSink.Event event(String name, Object... fields) {
+        return new AsyncLogSink.Event(0L, CraftingLog.Category.KERNEL, CraftingLog.Level.INFO, name, fields);
+    }
+
+    private static final class BlockingWriter extends StringWriter {
+        private final Object gate = new Object();
+        private boolean blocked;
+        private boolean released;
+
+        @Override
+        public void write(String str) {
+            synchronized (gate) {
+                blocked = true;
+                gate.notifyAll();
+                while (!released) {
+                    try {
+                        gate.wait();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+            super.write(str);
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            synchronized (gate) {
+                while (!blocked) {
+                    gate.wait();
+                }
+            }
+        }
+
+        void release() {
+            synchronized (gate) {
+                released = true;
+                gate.notifyAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.demo.adventure.engine.mechanics.keyexpr;
+
+import com.demo.adventure.domain.model.Item;
+import com.demo.adventure.domain.model.ItemBuilder;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.KeyExpressionNode;
+import com.demo.adventure.support.exceptions.KeyExpressionCompileException;
+import com.demo.adventure.support.exceptions.KeyExpressionEvaluationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeyExpressionCacheTest {
+
+    @Test
+    void reusesCompiledAstAndCountsHitsAndMisses() throws KeyExpressionCompileException {
+        KeyExpressionCache cache = new KeyExpressionCache(8);
+
+        KeyExpressionNode first = cache.compile("HAS(\"Torch\") && true");
+        KeyExpressionNode second = cache.compile("HAS(\"Torch\") && true");
+
+        assertThat(second).isSameAs(first);
+        KeyExpressionCache.Stats stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.size()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntriesPastCapacity() throws KeyExpressionCompileException {
+        KeyExpressionCache cache = new KeyExpressionCache(2);
+
+        KeyExpressionNode a = cache.compile("1 == 1");
+        cache.compile("2 == 2");
+        cache.compile("1 == 1");
+        cache.compile("3 == 3");
+
+        assertThat(cache.stats().size()).isEqualTo(2);
+        assertThat(cache.compile("1 == 1")).isSameAs(a);
+        long missesBefore = cache.stats().misses();
+        cache.compile("2 == 2");
+        assertThat(cache.stats().misses()).isEqualTo(missesBefore + 1);
+    }
+
+    @Test
+    void compiledHandleCarriesCompileErrorsToEvaluation() {
+        CompiledKeyExpression broken = CompiledKeyExpression.compile("HAS(");
+
+        assertThat(broken.isValid()).isFalse();
+        KeyExpressionResult result = KeyExpressionEvaluator.evaluateResult(broken, null, null, null, null, null);
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.error().phase()).isEqualTo(KeyExpressionError.Phase.COMPILE);
+        assertThatThrownBy(() -> KeyExpressionEvaluator.evaluate(broken))
+                .isInstanceOf(KeyExpressionEvaluationException.class);
+    }
+
+    @Test
+    void nullSourceEvaluatesFalse() {
+        CompiledKeyExpression none = CompiledKeyExpression.compile(null);
+
+        assertThat(none.isEmpty()).isTrue();
+        assertThat(KeyExpressionEvaluator.evaluate(none)).isFalse();
+    }
+
+    @Test
+    void thingCompilesKeysOnAssignment() {
+        Item item = new ItemBuilder()
+                .withLabel("Lantern")
+                .withDescription("A lantern")
+                .withOwnerId(UUID.randomUUID())
+                .build();
+
+        item.setKey("1 + 1 == 2");
+        item.setVisibilityKey("false");
+
+        assertThat(item.getKey()).isEqualTo("1 + 1 == 2");
+        assertThat(item.getCompiledKey().isValid()).isTrue();
+        assertThat(item.isOpen()).isTrue();
+        assertThat(item.getVisibilityKey()).isEqualTo("false");
+        assertThat(item.isVisible()).isFalse();
+    }
+}
@@ -25,6 +25,24 @@ class KeyExpressionEvaluatorAdditionalTest {
         assertThat(KeyExpressionEvaluator.evaluate("SKILL(\"Swimming\")", null, null, resolver)).isFalse();
     }
 
+    @Test
+    void scopedDiceRollerAppliesToCallingThreadAndIsRestored() throws Exception {
+        KeyExpressionEvaluator.DiceRoller outer = KeyExpressionEvaluator.currentDiceRoller();
+
+        boolean inside = KeyExpressionEvaluator.withDiceRoller(sides -> sides, () -> {
+            Thread other = new Thread(() ->
+                    assertThat(KeyExpressionEvaluator.currentDiceRoller()).isSameAs(outer));
+            other.start();
+            other.join();
+            boolean nested = KeyExpressionEvaluator.withDiceRoller(sides -> 1, () ->
+                    KeyExpressionEvaluator.evaluate("DICE(20) == 1"));
+            return nested && KeyExpressionEvaluator.evaluate("DICE(20) == 20");
+        });
+
+        assertThat(inside).isTrue();
+        assertThat(KeyExpressionEvaluator.currentDiceRoller()).isSameAs(outer);
+    }
+
     @Test
     void evaluatesArithmeticAndComparisons() {
         assertThat(KeyExpressionEvaluator.evaluate("1 + 2 * 3 == 7")).isTrue();
@@ -0,0 +1,174 @@
+package com.demo.adventure.engine.mechanics.keyexpr;
+
+import com.demo.adventure.domain.kernel.KernelRegistry;
+import com.demo.adventure.domain.model.Item;
+import com.demo.adventure.domain.model.Plot;
+import com.demo.adventure.engine.mechanics.cells.Cell;
+import com.demo.adventure.engine.mechanics.cells.CellOps;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator.AttributeResolutionPolicy;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator.HasResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionTestSupport.item;
+import static com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionTestSupport.plot;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyExpressionMemoTest {
+    private boolean debugBefore;
+    private KernelRegistry registry;
+    private Plot hall;
+    private Item player;
+    private Item bag;
+    private Item torch;
+
+    @BeforeEach
+    void setUp() {
+        debugBefore = KeyExpressionEvaluator.isDebugOutput();
+        KeyExpressionEvaluator.setDebugOutput(false);
+        registry = new KernelRegistry();
+        hall = plot(UUID.randomUUID(), "Hall", "Hall");
+        player = item("Player", "", hall);
+        bag = item("Bag", "", player);
+        torch = item("Torch", "", bag);
+        registry.register(hall);
+        registry.register(player);
+        registry.register(bag);
+        registry.register(torch);
+    }
+
+    @AfterEach
+    void tearDown() {
+        KeyExpressionEvaluator.setDebugOutput(debugBefore);
+    }
+
+    @Test
+    void reusesResultUntilAThingItReadChanges() {
+        CountingHas has = new CountingHas(torch);
+        KeyExpressionMemo memo = new KeyExpressionMemo();
+        CompiledKeyExpression key = CompiledKeyExpression.compile("HAS(\"Torch\")");
+
+        assertThat(evaluate(memo, key, has)).isTrue();
+        assertThat(evaluate(memo, key, has)).isTrue();
+        assertThat(has.calls).isEqualTo(1);
+
+        torch.setLabel("Lit Torch");
+        assertThat(evaluate(memo, key, has)).isFalse();
+        assertThat(has.calls).isEqualTo(2);
+
+        assertThat(evaluate(memo, CompiledKeyExpression.compile("HAS(\"Torch\")"), has)).isFalse();
+        assertThat(has.calls).isEqualTo(3);
+    }
+
+    @Test
+    void untrackedResolversDiceAndDebugTracesAreNeverCached() {
+        int[] calls = {0};
+        HasResolver untracked = label -> ++calls[0] > 0;
+        KeyExpressionMemo memo = new KeyExpressionMemo();
+        CompiledKeyExpression has = CompiledKeyExpression.compile("HAS(\"Torch\")");
+
+        evaluate(memo, has, untracked);
+        evaluate(memo, has, untracked);
+        assertThat(calls[0]).isEqualTo(2);
+
+        int[] rolls = {0};
+        CompiledKeyExpression dice = CompiledKeyExpression.compile("DICE(6) > 0");
+        KeyExpressionEvaluator.withDiceRoller(sides -> ++rolls[0], () -> {
+            memo.evaluate(dice);
+            return memo.evaluate(dice);
+        });
+        assertThat(rolls[0]).isEqualTo(2);
+
+        CountingHas tracked = new CountingHas(torch);
+        KeyExpressionEvaluator.setDebugOutput(true);
+        evaluate(memo, has, tracked);
+        evaluate(memo, has, tracked);
+        assertThat(tracked.calls).isEqualTo(2);
+    }
+
+    @Test
+    void registryLookupsFollowOwnershipAndLabels() {
+        KeyExpressionMemo memo = new KeyExpressionMemo();
+        CompiledKeyExpression key = CompiledKeyExpression.compile("HAS(\"Torch\")");
+        HasResolver has = KeyExpressionEvaluator.registryHasResolver(registry, player.getId());
+
+        assertThat(evaluate(memo, key, has)).isTrue();
+
+        registry.moveOwnership(torch.getId(), hall.getId());
+        assertThat(evaluate(memo, key, KeyExpressionEvaluator.registryHasResolver(registry, player.getId())))
+                .isFalse();
+
+        registry.moveOwnership(torch.getId(), bag.getId());
+        assertThat(evaluate(memo, key, has)).isTrue();
+
+        registry.relabel(torch.getId(), "Stick");
+        assertThat(evaluate(memo, key, has)).isFalse();
+    }
+
+    @Test
+    void cellReadsInvalidateOnCellOpsWrites() {
+        torch.setCell("fuel", new Cell(10, 2));
+        KeyExpressionMemo memo = new KeyExpressionMemo();
+        CompiledKeyExpression key = CompiledKeyExpression.compile("Torch.fuel.amount > 0");
+        var attributes = KeyExpressionEvaluator.registryAttributeResolver(registry, player.getId());
+
+        assertThat(memo.evaluate(key, null, null, null, attributes, AttributeResolutionPolicy.QUERY_STRICT)).isTrue();
+
+        CellOps.consume(torch, "fuel", 2);
+        assertThat(memo.evaluate(key, null, null, null, attributes, AttributeResolutionPolicy.QUERY_STRICT)).isFalse();
+
+        CellOps.replenish(torch, "fuel", 1);
+        assertThat(memo.evaluate(key, null, null, null, attributes, AttributeResolutionPolicy.QUERY_STRICT)).isTrue();
+    }
+
+    @Test
+    void missingCellsKeepRecordingReceipts() {
+        KeyExpressionMemo memo = new KeyExpressionMemo();
+        CompiledKeyExpression key = CompiledKeyExpression.compile("Torch.fuel.amount > 0");
+        var attributes = KeyExpressionEvaluator.registryAttributeResolver(registry, player.getId());
+
+        memo.evaluate(key, null, null, null, attributes, AttributeResolutionPolicy.COMPUTE_FALLBACK_ZERO);
+        memo.evaluate(key, null, null, null, attributes, AttributeResolutionPolicy.COMPUTE_FALLBACK_ZERO);
+
+        assertThat(registry.getCellReferenceReceipts()).hasSize(2);
+    }
+
+    @Test
+    void thingVisibilityFollowsItsKey() {
+        HasResolver has = KeyExpressionEvaluator.registryHasResolver(registry, player.getId());
+        Item mural = item("Mural", "", hall);
+        mural.setVisibilityKey("HAS(\"Torch\")");
+
+        assertThat(mural.isVisible(has, null, null, AttributeResolutionPolicy.QUERY_STRICT)).isTrue();
+        registry.moveOwnership(torch.getId(), hall.getId());
+        assertThat(mural.isVisible(has, null, null, AttributeResolutionPolicy.QUERY_STRICT)).isFalse();
+
+        mural.setVisibilityKey("true");
+        assertThat(mural.isVisible()).isTrue();
+        mural.setVisible(false);
+        assertThat(mural.isVisible()).isFalse();
+    }
+
+    private static boolean evaluate(KeyExpressionMemo memo, CompiledKeyExpression key, HasResolver has) {
+        return memo.evaluate(key, has, null, null, null, AttributeResolutionPolicy.QUERY_STRICT);
+    }
+
+    private static final class CountingHas implements HasResolver, KeyExpressionDependencies.Tracked {
+        private final Item item;
+        private int calls;
+
+        private CountingHas(Item item) {
+            this.item = item;
+        }
+
+        @Override
+        public boolean has(String label) {
+            calls++;
+            KeyExpressionDependencies.thing(item);
+            return label.equals(item.getLabel());
+        }
+    }
+}
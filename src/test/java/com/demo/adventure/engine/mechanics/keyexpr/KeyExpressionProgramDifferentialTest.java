@@ -0,0 +1,209 @@
+package com.demo.adventure.engine.mechanics.keyexpr;
+
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator.AttributeResolutionPolicy;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator.AttributeResolver;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator.DiceRoller;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator.HasResolver;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator.SearchResolver;
+import com.demo.adventure.engine.mechanics.keyexpr.KeyExpressionEvaluator.SkillResolver;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.AccessSegment;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.AttributeAccessNode;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.BinaryNode;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.BinaryOperator;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.BooleanLiteralNode;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.FunctionCallNode;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.IdentifierNode;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.KeyExpressionNode;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.NumberLiteralNode;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.StringLiteralNode;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.UnaryNode;
+import com.demo.adventure.engine.mechanics.keyexpr.ast.UnaryOperator;
+import com.demo.adventure.support.exceptions.KeyExpressionEvaluationException;
+import com.demo.adventure.test.ConsoleCaptureExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the same expressions through {@link KeyExpressionAstEvaluator} and {@link KeyExpressionProgram} and
+ * requires identical results, errors, resolver calls, dice rolls and debug output.
+ */
+class KeyExpressionProgramDifferentialTest {
+    private static final List<String> CORPUS = List.of(
+            "true",
+            "false",
+            "HAS(\"Lit Torch\")",
+            "HAS(\"Key\") && !SEARCH(\"Trap\")",
+            "SKILL(\"Lockpicking\") || DICE(20) >= 15",
+            "DICE(\"d6\") + 1 > 3",
+            "DICE(7) > 1",
+            "DICE(2.5) > 1",
+            "DICE(\"dx\") > 1",
+            "DICE(true) > 1",
+            "DICE(6, 8) > 1",
+            "HAS()",
+            "FOO(1)",
+            "FOO(1, \"two\")",
+            "1 / 0 > 1",
+            "-\"text\" < 1",
+            "\"abc\" < \"abd\"",
+            "true < false",
+            "true == HAS(\"Key\")",
+            "1 == \"1\"",
+            "2 * 3 - 4 / 2 == 4",
+            "-(1 - 3) == 2",
+            "\"text\"",
+            "0",
+            "0.5",
+            "unknownThing",
+            "unknownThing || true",
+            "false && unknownThing",
+            "HAS(3)",
+            "SEARCH(true)"
+    );
+
+    @RegisterExtension
+    final ConsoleCaptureExtension console = new ConsoleCaptureExtension();
+
+    @Test
+    void corpusMatchesReferenceEvaluator() throws Exception {
+        for (boolean debug : new boolean[]{false, true}) {
+            for (String source : CORPUS) {
+                KeyExpressionNode ast = new KeyExpressionCompiler().compile(source);
+                assertSameOutcome(source, ast, AttributeResolutionPolicy.QUERY_STRICT, debug);
+                assertSameOutcome(source, ast, AttributeResolutionPolicy.COMPUTE_FALLBACK_ZERO, debug);
+            }
+        }
+    }
+
+    @Test
+    void randomTreesMatchReferenceEvaluator() {
+        Random random = new Random(20240917L);
+        for (int i = 0; i < 5_000; i++) {
+            KeyExpressionNode ast = randomNode(random, 4);
+            AttributeResolutionPolicy policy = random.nextBoolean()
+                    ? AttributeResolutionPolicy.QUERY_STRICT
+                    : AttributeResolutionPolicy.COMPUTE_FALLBACK_ZERO;
+            assertSameOutcome(ast.toString(), ast, policy, i % 10 == 0);
+        }
+    }
+
+    @Test
+    void nestedEvaluationFromAResolverGetsItsOwnFrame() {
+        CompiledKeyExpression inner = CompiledKeyExpression.compile("HAS(\"Lamp\")");
+        CompiledKeyExpression outer = CompiledKeyExpression.compile("HAS(\"Key\") && door.open == 1");
+        HasResolver has = label -> !label.equals("Missing");
+        AttributeResolver attributes = (access, context) ->
+                KeyExpressionEvaluator.evaluate(inner, label -> false, null, null, null,
+                        AttributeResolutionPolicy.QUERY_STRICT) ? 0.0 : 1.0;
+
+        assertThat(KeyExpressionEvaluator.evaluate(outer, has, null, null, attributes,
+                AttributeResolutionPolicy.QUERY_STRICT)).isTrue();
+    }
+
+    private void assertSameOutcome(String label, KeyExpressionNode ast, AttributeResolutionPolicy policy, boolean debug) {
+        Outcome expected = run(ast, policy, debug, (ctx, dice) ->
+                new KeyExpressionAstEvaluator(dice, debug).evaluateBoolean(ast, ctx));
+        KeyExpressionProgram program = KeyExpressionProgram.compile(ast);
+        Outcome actual = run(ast, policy, debug, (ctx, dice) -> program.evaluate(
+                ctx.input(),
+                ctx.hasResolver(),
+                ctx.searchResolver(),
+                ctx.skillResolver(),
+                ctx.attributeResolver(),
+                ctx.attributePolicy(),
+                dice,
+                debug
+        ));
+        assertThat(actual).as(label + " [" + policy + ", debug=" + debug + "]").isEqualTo(expected);
+    }
+
+    private Outcome run(KeyExpressionNode ast, AttributeResolutionPolicy policy, boolean debug, Evaluation evaluation) {
+        List<String> calls = new ArrayList<>();
+        int[] rolls = {0};
+        HasResolver has = label -> {
+            calls.add("HAS " + label);
+            return label.length() % 2 == 0;
+        };
+        SearchResolver search = label -> {
+            calls.add("SEARCH " + label);
+            return label.contains("a");
+        };
+        SkillResolver skill = tag -> {
+            calls.add("SKILL " + tag);
+            return tag.startsWith("L");
+        };
+        AttributeResolver attributes = (access, context) -> {
+            calls.add("ATTR " + access.root());
+            return switch (access.root()) {
+                case "num" -> 3;
+                case "zero" -> 0L;
+                case "str" -> "abc";
+                case "bool" -> Boolean.TRUE;
+                case "odd" -> List.of();
+                default -> null;
+            };
+        };
+        DiceRoller dice = sides -> {
+            calls.add("DICE " + sides);
+            return (rolls[0]++ % sides) + 1;
+        };
+        KeyExpressionEvaluationContext ctx = new KeyExpressionEvaluationContext(
+                String.valueOf(ast), has, search, skill, attributes, policy);
+        console.reset();
+        String result;
+        try {
+            result = String.valueOf(evaluation.evaluate(ctx, dice));
+        } catch (KeyExpressionEvaluationException ex) {
+            result = ex.getClass().getSimpleName() + " " + ex.getError();
+        }
+        return new Outcome(result, calls, debug ? console.output() : "");
+    }
+
+    private static KeyExpressionNode randomNode(Random random, int depth) {
+        int choice = depth <= 0 ? random.nextInt(5) : random.nextInt(10);
+        return switch (choice) {
+            case 0 -> new NumberLiteralNode(pick(random, 0.0, 1.0, 2.5, 6.0, 7.0, -3.0));
+            case 1 -> new StringLiteralNode(pick(random, "Torch", "d6", "Key", "", "abc"));
+            case 2 -> new BooleanLiteralNode(random.nextBoolean());
+            case 3 -> new AttributeAccessNode(pick(random, "num", "zero", "str", "bool", "odd", "missing"),
+                    List.of(new AccessSegment.PropertySegment("value")));
+            case 4 -> random.nextInt(8) == 0
+                    ? new IdentifierNode("ghost")
+                    : new NumberLiteralNode(random.nextInt(21));
+            case 5, 6 -> new BinaryNode(randomNode(random, depth - 1),
+                    BinaryOperator.values()[random.nextInt(BinaryOperator.values().length)],
+                    randomNode(random, depth - 1));
+            case 7 -> new UnaryNode(UnaryOperator.values()[random.nextInt(2)], randomNode(random, depth - 1));
+            default -> {
+                String name = pick(random, "DICE", "HAS", "SEARCH", "SKILL", "DICE", "ROLL");
+                int arity = random.nextInt(6) == 0 ? random.nextInt(3) : 1;
+                List<KeyExpressionNode> args = new ArrayList<>();
+                for (int i = 0; i < arity; i++) {
+                    args.add(name.equals("DICE") && random.nextBoolean()
+                            ? new NumberLiteralNode(pick(random, 4.0, 6.0, 20.0))
+                            : randomNode(random, depth - 1));
+                }
+                yield new FunctionCallNode(name, args);
+            }
+        };
+    }
+
+    @SafeVarargs
+    private static <T> T pick(Random random, T... options) {
+        return options[random.nextInt(options.length)];
+    }
+
+    @FunctionalInterface
+    private interface Evaluation {
+        boolean evaluate(KeyExpressionEvaluationContext ctx, DiceRoller dice);
+    }
+
+    private record Outcome(String result, List<String> calls, String debugOutput) {
+    }
+}
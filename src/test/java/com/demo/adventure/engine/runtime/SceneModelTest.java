@@ -0,0 +1,150 @@
+package com.demo.adventure.engine.runtime;
+
+import com.demo.adventure.domain.kernel.KernelRegistry;
+import com.demo.adventure.domain.model.Actor;
+import com.demo.adventure.domain.model.ActorBuilder;
+import com.demo.adventure.domain.model.Direction;
+import com.demo.adventure.domain.model.GateBuilder;
+import com.demo.adventure.domain.model.Item;
+import com.demo.adventure.domain.model.ItemBuilder;
+import com.demo.adventure.domain.model.Plot;
+import com.demo.adventure.domain.model.PlotBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SceneModelTest {
+    private final Set<UUID> openFixtures = new HashSet<>();
+    private final SceneModel.OpenCheck openCheck = fixture -> openFixtures.contains(fixture.getId());
+
+    private KernelRegistry registry;
+    private Plot hall;
+    private Plot yard;
+    private Actor player;
+    private Item chest;
+    private Item coin;
+    private Item lamp;
+
+    @BeforeEach
+    void setUp() {
+        registry = new KernelRegistry();
+        hall = plot("Hall");
+        yard = plot("Yard");
+        registry.register(hall);
+        registry.register(yard);
+        player = new ActorBuilder().withLabel("Player").withDescription("").withOwnerId(hall).build();
+        Actor butler = new ActorBuilder().withLabel("Butler").withDescription("").withOwnerId(hall).build();
+        chest = new ItemBuilder().withLabel("Chest").withDescription("").withOwnerId(hall).withFixture(true).build();
+        coin = new ItemBuilder().withLabel("Coin").withDescription("").withOwnerId(chest).build();
+        lamp = new ItemBuilder().withLabel("Lamp").withDescription("").withOwnerId(hall).build();
+        registry.register(player);
+        registry.register(butler);
+        registry.register(chest);
+        registry.register(coin);
+        registry.register(lamp);
+        registry.register(new GateBuilder().withLabel("Door").withDescription("").withPlotA(hall).withPlotB(yard)
+                .withDirection(Direction.E).build());
+    }
+
+    @Test
+    void buildsSceneTextAndLabelListsOnce() {
+        SceneModel model = build();
+
+        assertThat(model.text()).isEqualTo("""
+                # Hall
+                Hall
+                Fixtures:
+                - Chest
+                Items:
+                - Lamp
+                You see:
+                - Butler
+                Exits: EAST""");
+        assertThat(model.fixtureLabels()).containsExactly("Chest");
+        assertThat(model.itemLabels()).containsExactly("Lamp");
+        assertThat(model.actorLabels(player.getId())).containsExactly("Butler");
+        assertThat(model.isCurrent(registry, openCheck)).isTrue();
+    }
+
+    @Test
+    void changesElsewhereKeepTheModelCurrent() {
+        SceneModel model = build();
+        Item rock = new ItemBuilder().withLabel("Rock").withDescription("").withOwnerId(yard).build();
+
+        registry.register(rock);
+        coin.setVisible(false);
+
+        assertThat(model.isCurrent(registry, openCheck)).isTrue();
+    }
+
+    @Test
+    void ownershipMovesInOrOutOfThePlotInvalidate() {
+        SceneModel model = build();
+
+        registry.moveOwnership(lamp.getId(), player.getId());
+
+        assertThat(model.isCurrent(registry, openCheck)).isFalse();
+        assertThat(build().itemLabels()).isEmpty();
+    }
+
+    @Test
+    void visibilityAndLabelChangesInvalidate() {
+        SceneModel model = build();
+        lamp.setVisible(false);
+        assertThat(model.isCurrent(registry, openCheck)).isFalse();
+
+        model = build();
+        registry.relabel(chest.getId(), "Iron Chest");
+        assertThat(model.isCurrent(registry, openCheck)).isFalse();
+        assertThat(build().fixtureLabels()).containsExactly("Iron Chest");
+    }
+
+    @Test
+    void openingAFixtureRevealsItsContents() {
+        SceneModel closed = build();
+        openFixtures.add(chest.getId());
+
+        assertThat(closed.isCurrent(registry, openCheck)).isFalse();
+        SceneModel open = build();
+        assertThat(open.itemLabels()).containsExactly("Coin", "Lamp");
+        assertThat(open.openFixtureItems()).containsExactly(coin);
+
+        registry.moveOwnership(coin.getId(), player.getId());
+        assertThat(open.isCurrent(registry, openCheck)).isFalse();
+    }
+
+    @Test
+    void gateChangesAndRestoresInvalidate() {
+        SceneModel model = build();
+        var snapshot = registry.snapshot();
+        registry.register(new GateBuilder().withLabel("Stairs").withDescription("").withPlotA(hall).withPlotB(yard)
+                .withDirection(Direction.UP).build());
+
+        assertThat(model.isCurrent(registry, openCheck)).isFalse();
+        assertThat(build().text()).endsWith("Exits: EAST • UP");
+
+        model = build();
+        registry.restore(snapshot);
+        assertThat(model.isCurrent(registry, openCheck)).isFalse();
+        assertThat(model.isCurrent(new KernelRegistry(), openCheck)).isFalse();
+    }
+
+    private SceneModel build() {
+        return SceneModel.build(registry, hall.getId(), player.getId(), openCheck);
+    }
+
+    private static Plot plot(String label) {
+        return new PlotBuilder()
+                .withId(UUID.randomUUID())
+                .withLabel(label)
+                .withDescription(label)
+                .withRegion("TEST")
+                .withPlotRole("ROOM")
+                .build();
+    }
+}
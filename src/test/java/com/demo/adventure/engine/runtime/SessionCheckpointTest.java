@@ -0,0 +1,220 @@
+package com.demo.adventure.engine.runtime;
+
+import com.demo.adventure.ai.runtime.NarrationService;
+import com.demo.adventure.authoring.save.build.WorldBuildResult;
+import com.demo.adventure.domain.kernel.KernelRegistry;
+import com.demo.adventure.domain.model.Gate;
+import com.demo.adventure.domain.model.Item;
+import com.demo.adventure.domain.model.Plot;
+import com.demo.adventure.domain.model.Rectangle2D;
+import com.demo.adventure.domain.model.Thing;
+import com.demo.adventure.domain.save.GameSave;
+import com.demo.adventure.engine.cli.RuntimeLoader;
+import com.demo.adventure.engine.flow.loop.LoopRuntime;
+import com.demo.adventure.engine.mechanics.cells.CellOps;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionCheckpointTest {
+    private static final String GAME = "src/test/resources/games/island-adventure-test/game.yaml";
+    private static final String FINGERPRINT = "island-test";
+
+    private static GameSave save;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void loadGame() throws Exception {
+        save = RuntimeLoader.loadSave(GAME);
+    }
+
+    @Test
+    void resumeReplaysCommittedTurnsOntoAPristineWorld() throws Exception {
+        Path file = tempDir.resolve("island.session");
+        GameRuntime played = pristineRuntime();
+        KernelRegistry registry = played.registry();
+        Item loot = firstLooseItem(registry, played.currentPlotId());
+        Thing fueled = firstThingWithCells(registry);
+        String cellName = fueled.getCells().keySet().iterator().next();
+        Plot elsewhere = otherPlot(registry, played.currentPlotId());
+
+        try (SessionCheckpoint checkpoint = SessionCheckpoint.open(file, FINGERPRINT)) {
+            assertThat(checkpoint.resume(played)).isFalse();
+
+            registry.moveOwnership(loot.getId(), played.playerId());
+            played.inventory().add(loot);
+            registry.recordCellMutation(CellOps.setAmount(fueled, cellName, 0));
+            checkpoint.record(played);
+
+            played.setCurrentPlot(elsewhere.getId());
+            loot.setVisible(false);
+            played.loopRuntime().advanceTurn(registry);
+            played.loopRuntime().advanceTurn(registry);
+            checkpoint.record(played);
+            assertThat(checkpoint.turn()).isEqualTo(3);
+        }
+        // A turn cut short by a crash has no marker and is ignored.
+        Files.writeString(file, "S\t-\t-\t-\t-\t\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        GameRuntime resumed = pristineRuntime();
+        try (SessionCheckpoint checkpoint = SessionCheckpoint.open(file, FINGERPRINT)) {
+            assertThat(checkpoint.resume(resumed)).isTrue();
+        }
+        KernelRegistry restored = resumed.registry();
+        assertThat(resumed.currentPlotId()).isEqualTo(elsewhere.getId());
+        assertThat(resumed.inventory()).extracting(Item::getId).contains(loot.getId());
+        assertThat(restored.get(loot.getId()).getOwnerId()).isEqualTo(resumed.playerId());
+        assertThat(restored.get(loot.getId()).isVisibleFlag()).isFalse();
+        assertThat(restored.get(fueled.getId()).getCell(cellName).getAmount()).isZero();
+        assertThat(resumed.loopRuntime().state().clock()).isEqualTo(played.loopRuntime().state().clock()).isPositive();
+        assertThat(Files.readString(file)).doesNotContain("S\t-\t-\t-\t-\t\n");
+    }
+
+    @Test
+    void compactionKeepsOnlyTheLatestStateOfEachThing() throws Exception {
+        Path file = tempDir.resolve("island.session");
+        GameRuntime played = pristineRuntime();
+        Thing fueled = firstThingWithCells(played.registry());
+        String cellName = fueled.getCells().keySet().iterator().next();
+        long capacity = fueled.getCell(cellName).getCapacity();
+        SessionCheckpointLog.Policy policy = new SessionCheckpointLog.Policy(100, 60_000L, 8);
+
+        try (SessionCheckpoint checkpoint = SessionCheckpoint.open(file, FINGERPRINT, policy)) {
+            checkpoint.resume(played);
+            for (int turn = 0; turn < 40; turn++) {
+                played.registry().recordCellMutation(CellOps.setAmount(fueled, cellName, turn % capacity));
+                fueled.setVisible(turn % 2 == 0);
+                checkpoint.record(played);
+            }
+        }
+        assertThat(Files.readAllLines(file)).hasSizeLessThan(20);
+
+        GameRuntime resumed = pristineRuntime();
+        try (SessionCheckpoint checkpoint = SessionCheckpoint.open(file, FINGERPRINT, policy)) {
+            assertThat(checkpoint.resume(resumed)).isTrue();
+        }
+        Thing restored = resumed.registry().get(fueled.getId());
+        assertThat(restored.getCell(cellName).getAmount()).isEqualTo(39 % capacity);
+        assertThat(restored.isVisibleFlag()).isFalse();
+    }
+
+    @Test
+    void registryReplacementRecapturesEveryThing() throws Exception {
+        Path file = tempDir.resolve("island.session");
+        GameRuntime played = pristineRuntime();
+        try (SessionCheckpoint checkpoint = SessionCheckpoint.open(file, FINGERPRINT)) {
+            checkpoint.resume(played);
+            var reset = played.loopRuntime().reset(played.registry(), null);
+            played.updateState(new ResetContext(reset.world().registry(), reset.world().startPlotId(),
+                    played.playerId(), new ArrayList<>()));
+            checkpoint.record(played);
+        }
+        long things = played.registry().getEverything().size();
+        assertThat(Files.readAllLines(file).stream().filter(line -> line.startsWith("H\t")).count())
+                .isEqualTo(things);
+
+        GameRuntime resumed = pristineRuntime();
+        try (SessionCheckpoint checkpoint = SessionCheckpoint.open(file, FINGERPRINT)) {
+            assertThat(checkpoint.resume(resumed)).isTrue();
+        }
+        assertThat(resumed.loopRuntime().state().loopCount()).isEqualTo(2);
+    }
+
+    @Test
+    void gateChangesResumeOntoASeparatelyBuiltWorld() throws Exception {
+        Path file = tempDir.resolve("island.session");
+        GameRuntime played = pristineRuntime();
+        Gate gate = played.registry().getEverything().values().stream()
+                .filter(Gate.class::isInstance)
+                .map(Gate.class::cast)
+                .findFirst()
+                .orElseThrow();
+        boolean visible = gate.isVisibleFlag();
+        try (SessionCheckpoint checkpoint = SessionCheckpoint.open(file, FINGERPRINT)) {
+            checkpoint.resume(played);
+            gate.setVisible(!visible);
+            checkpoint.record(played);
+        }
+
+        GameRuntime resumed = pristineRuntime();
+        try (SessionCheckpoint checkpoint = SessionCheckpoint.open(file, FINGERPRINT)) {
+            assertThat(checkpoint.resume(resumed)).isTrue();
+        }
+        // Gates get no id from the save; the rebuilt world must still derive the same one.
+        assertThat(resumed.registry().get(gate.getId())).isInstanceOf(Gate.class);
+        assertThat(resumed.registry().get(gate.getId()).isVisibleFlag()).isEqualTo(!visible);
+    }
+
+    @Test
+    void logForAnotherWorldIsDiscarded() throws Exception {
+        Path file = tempDir.resolve("island.session");
+        GameRuntime played = pristineRuntime();
+        try (SessionCheckpoint checkpoint = SessionCheckpoint.open(file, FINGERPRINT)) {
+            checkpoint.resume(played);
+            played.setCurrentPlot(otherPlot(played.registry(), played.currentPlotId()).getId());
+            checkpoint.record(played);
+        }
+
+        GameRuntime other = pristineRuntime();
+        UUID start = other.currentPlotId();
+        try (SessionCheckpoint checkpoint = SessionCheckpoint.open(file, "another-world")) {
+            assertThat(checkpoint.resume(other)).isFalse();
+        }
+        assertThat(other.currentPlotId()).isEqualTo(start);
+        assertThat(Files.readString(file)).contains("W\tanother-world", "S\t" + start);
+    }
+
+    private static GameRuntime pristineRuntime() throws Exception {
+        LoopRuntime loop = new LoopRuntime(save, RuntimeLoader.loadLoopConfig(GAME));
+        WorldBuildResult world = loop.buildWorld();
+        KernelRegistry registry = world.registry();
+        GameRuntime runtime = new GameRuntime(new SceneNarrator(new NarrationService(false, null, false)),
+                text -> { }, false);
+        UUID playerId = runtime.findPlayerActor(registry, world.startPlotId());
+        Map<UUID, Map<UUID, Rectangle2D>> placements = new HashMap<>();
+        ArrayList<Item> inventory = new ArrayList<>(runtime.startingInventory(registry, playerId));
+        runtime.configure(registry, world.startPlotId(), playerId, inventory, placements, loop, null, Map.of(),
+                Map.of());
+        return runtime;
+    }
+
+    private static Item firstLooseItem(KernelRegistry registry, UUID plotId) {
+        return registry.getEverything().values().stream()
+                .filter(Item.class::isInstance)
+                .map(Item.class::cast)
+                .filter(item -> !item.isFixture() && !plotId.equals(item.getOwnerId()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Thing firstThingWithCells(KernelRegistry registry) {
+        return registry.getEverything().values().stream()
+                .filter(Item.class::isInstance)
+                .filter(thing -> thing.getCells().values().stream().anyMatch(cell -> cell.getCapacity() > 1
+                        && cell.getAmount() > 0))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Plot otherPlot(KernelRegistry registry, UUID plotId) {
+        return registry.getEverything().values().stream()
+                .filter(Plot.class::isInstance)
+                .map(Plot.class::cast)
+                .filter(plot -> !plot.getId().equals(plotId))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,131 @@
+package com.demo.adventure.engine.runtime;
+
+import com.demo.adventure.ai.runtime.smart.SmartActorDecisionParser;
+import com.demo.adventure.ai.runtime.smart.SmartActorPrompt;
+import com.demo.adventure.buui.ConsolePrinter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SmartActorTurnPlannerTest {
+
+    @Test
+    void returnsResultsInPromptOrderRegardlessOfCompletionOrder() {
+        SmartActorTurnPlanner planner = new SmartActorTurnPlanner(prompt -> {
+            // Earlier prompts take longer, so they finish last.
+            sleep(Long.parseLong(prompt.userPrompt()));
+            return SmartActorDecisionParser.Result.error(prompt.userPrompt());
+        }, 3, 5_000L);
+
+        List<SmartActorDecisionParser.Result> results = planner.decideAll(List.of(prompt("120"), prompt("60"), prompt("0")));
+
+        assertThat(results).extracting(SmartActorDecisionParser.Result::error).containsExactly("120", "60", "0");
+    }
+
+    @Test
+    void keepsInFlightCallsWithinTheCap() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        SmartActorTurnPlanner planner = new SmartActorTurnPlanner(prompt -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep(20);
+            inFlight.decrementAndGet();
+            return SmartActorDecisionParser.Result.error("done");
+        }, 2, 5_000L);
+
+        List<SmartActorDecisionParser.Result> results = planner.decideAll(
+                List.of(prompt("a"), prompt("b"), prompt("c"), prompt("d"), prompt("e"))
+        );
+
+        assertThat(results).hasSize(5).doesNotContainNull();
+        assertThat(peak.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void returnsNullForPromptsThatMissTheDeadline() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        SmartActorTurnPlanner planner = new SmartActorTurnPlanner(prompt -> {
+            if (prompt.userPrompt().equals("slow")) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return SmartActorDecisionParser.Result.error(prompt.userPrompt());
+        }, 2, 100L);
+
+        long started = System.nanoTime();
+        List<SmartActorDecisionParser.Result> results = planner.decideAll(List.of(prompt("fast"), prompt("slow")));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        release.countDown();
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).error()).isEqualTo("fast");
+        assertThat(results.get(1)).isNull();
+        assertThat(elapsedMillis).isLessThan(2_000L);
+    }
+
+    @Test
+    void dropsOutputFromCallsThatMissTheDeadline() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch lateCallDone = new CountDownLatch(1);
+        SmartActorTurnPlanner planner = new SmartActorTurnPlanner(prompt -> {
+            if (prompt.userPrompt().equals("slow")) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    // Keep going like a planner that ignores interrupts.
+                }
+                ConsolePrinter.println("late debug");
+                ConsolePrinter.flush();
+                lateCallDone.countDown();
+            } else {
+                ConsolePrinter.println("on time debug");
+            }
+            return SmartActorDecisionParser.Result.error(prompt.userPrompt());
+        }, 2, 100L);
+        ByteArrayOutputStream session = new ByteArrayOutputStream();
+        PrintStream sessionOut = new PrintStream(session, true, StandardCharsets.UTF_8);
+
+        List<SmartActorDecisionParser.Result> results = ConsolePrinter.withOutput(
+                sessionOut,
+                () -> planner.decideAll(List.of(prompt("fast"), prompt("slow")))
+        );
+        release.countDown();
+        assertThat(lateCallDone.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(results.get(1)).isNull();
+        assertThat(session.toString(StandardCharsets.UTF_8)).contains("on time debug").doesNotContain("late debug");
+    }
+
+    @Test
+    void treatsPlannerExceptionsAsMissingDecisions() {
+        SmartActorTurnPlanner planner = new SmartActorTurnPlanner(prompt -> {
+            throw new IllegalStateException("boom");
+        }, 1, 1_000L);
+
+        assertThat(planner.decideAll(List.of(prompt("x")))).containsExactly((SmartActorDecisionParser.Result) null);
+        assertThat(planner.decideAll(List.of())).isEmpty();
+    }
+
+    private static SmartActorPrompt prompt(String user) {
+        return new SmartActorPrompt("system", user);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
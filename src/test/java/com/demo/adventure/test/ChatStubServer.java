@@ -0,0 +1,209 @@
+package com.demo.adventure.test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Loopback chat-completions endpoint for client tests.
+ *
+ * In plain mode each request is answered with a non-streamed completion built from the request body; in streaming
+ * mode with canned server-sent events, one flushed write per event. A scripted server answers requests with a
+ * fixed sequence of replies, such as a throttle before a success. Requests are served concurrently; their arrival
+ * times and the peak number in flight are recorded.
+ */
+public final class ChatStubServer implements AutoCloseable {
+    private enum Mode { PLAIN, STREAMING }
+
+    /**
+     * One scripted answer: a status, an optional {@code Retry-After} header and, for 2xx, the completion content.
+     */
+    public record Reply(int status, String retryAfter, String content) {
+        public static Reply ok(String content) {
+            return new Reply(200, null, content);
+        }
+
+        public static Reply status(int status) {
+            return new Reply(status, null, null);
+        }
+
+        public static Reply throttled(String retryAfter) {
+            return new Reply(429, retryAfter, null);
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Mode mode;
+    private final Function<String, Reply> replies;
+    private final List<String> events;
+    private final long delayMillis;
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final List<Long> arrivals = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private ChatStubServer(Mode mode, Function<String, Reply> replies, List<String> events, long delayMillis)
+            throws IOException {
+        this.mode = mode;
+        this.replies = replies;
+        this.events = List.copyOf(events);
+        this.delayMillis = delayMillis;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/v1/chat/completions", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    /**
+     * Replies with {@code responder(requestBody)} as the message content after {@code delayMillis}; a null
+     * content answers 400 instead.
+     */
+    public static ChatStubServer replying(long delayMillis, Function<String, String> responder) throws IOException {
+        return new ChatStubServer(Mode.PLAIN, body -> {
+            String content = responder.apply(body);
+            return content == null ? Reply.status(400) : Reply.ok(content);
+        }, List.of(), delayMillis);
+    }
+
+    /**
+     * Answers the n-th request with the n-th reply; requests past the end get the last one again.
+     */
+    public static ChatStubServer scripted(Reply... script) throws IOException {
+        List<Reply> replies = List.of(script);
+        AtomicInteger next = new AtomicInteger();
+        return new ChatStubServer(Mode.PLAIN,
+                body -> replies.get(Math.min(next.getAndIncrement(), replies.size() - 1)), List.of(), 0);
+    }
+
+    /**
+     * Streams one chunk per fragment, then {@code [DONE]}.
+     */
+    public static ChatStubServer streaming(String... fragments) throws IOException {
+        List<String> events = chunks(fragments);
+        events.add("{\"choices\":[{\"index\":0,\"delta\":{},\"finish_reason\":\"stop\"}]}");
+        events.add("[DONE]");
+        return new ChatStubServer(Mode.STREAMING, body -> Reply.ok(null), events, 0);
+    }
+
+    /**
+     * Streams one chunk per fragment and then closes the connection without {@code [DONE]}, like a dropped reply.
+     */
+    public static ChatStubServer truncated(String... fragments) throws IOException {
+        return new ChatStubServer(Mode.STREAMING, body -> Reply.ok(null), chunks(fragments), 0);
+    }
+
+    /**
+     * Answers every request with {@code status} and an empty body.
+     */
+    public static ChatStubServer failing(int status) throws IOException {
+        return new ChatStubServer(Mode.PLAIN, body -> Reply.status(status), List.of(), 0);
+    }
+
+    public URI endpoint() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions");
+    }
+
+    public List<String> requests() {
+        return List.copyOf(requests);
+    }
+
+    /**
+     * {@link System#nanoTime()} at which each request arrived, in arrival order.
+     */
+    public List<Long> arrivals() {
+        return List.copyOf(arrivals);
+    }
+
+    public int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        arrivals.add(System.nanoTime());
+        int now = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(now, Math::max);
+        try {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            requests.add(body);
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+            Reply reply = replies.apply(body);
+            if (reply.status() / 100 != 2) {
+                if (reply.retryAfter() != null) {
+                    exchange.getResponseHeaders().add("Retry-After", reply.retryAfter());
+                }
+                exchange.sendResponseHeaders(reply.status(), -1);
+            } else if (mode == Mode.STREAMING) {
+                stream(exchange);
+            } else {
+                reply(exchange, reply.content());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private static void reply(HttpExchange exchange, String content) throws IOException {
+        byte[] reply = ("{\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\",\"content\":"
+                + json(content) + "},\"finish_reason\":\"stop\"}]}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, reply.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(reply);
+        }
+    }
+
+    private void stream(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(": stub stream\n\n".getBytes(StandardCharsets.UTF_8));
+            for (String event : events) {
+                body.write(("data: " + event + "\n\n").getBytes(StandardCharsets.UTF_8));
+                body.flush();
+            }
+        } catch (IOException ex) {
+            // Client stopped reading.
+        }
+    }
+
+    private static List<String> chunks(String... fragments) {
+        List<String> events = new ArrayList<>();
+        events.add("{\"choices\":[{\"index\":0,\"delta\":{\"role\":\"assistant\",\"content\":\"\"}}]}");
+        for (String fragment : fragments) {
+            events.add("{\"choices\":[{\"index\":0,\"delta\":{\"content\":" + json(fragment) + "}}]}");
+        }
+        return events;
+    }
+
+    private static String json(String text) {
+        return "\"" + text
+                .replace("\\", "\\\\")
+                .replace("\"", "\\\"")
+                .replace("\n", "\\n") + "\"";
+    }
+}